@@ -0,0 +1,48 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.core.bean.BeanUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BeanUtil#copyProperties(Object, Class, String...)}等Bean拷贝基准测试
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BeanCopyBenchmark {
+
+	private final BenchmarkBean bean = BenchmarkBean.create();
+	private final Map<String, Object> map = BeanUtil.beanToMap(bean);
+
+	@Benchmark
+	public BenchmarkBean beanToBean() {
+		return BeanUtil.copyProperties(bean, BenchmarkBean.class);
+	}
+
+	@Benchmark
+	public Map<String, Object> beanToMap() {
+		return BeanUtil.beanToMap(bean);
+	}
+
+	@Benchmark
+	public BenchmarkBean mapToBean() {
+		return BeanUtil.toBean(map, BenchmarkBean.class);
+	}
+}
@@ -0,0 +1,95 @@
+package cn.hutool.benchmark;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 基准测试使用的Bean
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+public class BenchmarkBean {
+	private long id;
+	private String name;
+	private int age;
+	private boolean active;
+	private BigDecimal balance;
+	private Date createTime;
+	private List<String> tags;
+
+	public long getId() {
+		return id;
+	}
+
+	public void setId(long id) {
+		this.id = id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public int getAge() {
+		return age;
+	}
+
+	public void setAge(int age) {
+		this.age = age;
+	}
+
+	public boolean isActive() {
+		return active;
+	}
+
+	public void setActive(boolean active) {
+		this.active = active;
+	}
+
+	public BigDecimal getBalance() {
+		return balance;
+	}
+
+	public void setBalance(BigDecimal balance) {
+		this.balance = balance;
+	}
+
+	public Date getCreateTime() {
+		return createTime;
+	}
+
+	public void setCreateTime(Date createTime) {
+		this.createTime = createTime;
+	}
+
+	public List<String> getTags() {
+		return tags;
+	}
+
+	public void setTags(List<String> tags) {
+		this.tags = tags;
+	}
+
+	/**
+	 * 创建填充了数据的Bean
+	 *
+	 * @return Bean
+	 */
+	public static BenchmarkBean create() {
+		final BenchmarkBean bean = new BenchmarkBean();
+		bean.setId(10086L);
+		bean.setName("hutool");
+		bean.setAge(18);
+		bean.setActive(true);
+		bean.setBalance(new BigDecimal("1024.50"));
+		bean.setCreateTime(new Date(1683590400000L));
+		bean.setTags(Arrays.asList("java", "util", "tool"));
+		return bean;
+	}
+}
@@ -0,0 +1,101 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.cache.Cache;
+import cn.hutool.cache.CacheUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * hutool-cache各实现在多线程竞争下的读写基准测试<br>
+ * 读写组为6个读线程和2个写线程，键空间为容量的2倍，因此写入会持续触发淘汰。
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class CacheBenchmark {
+
+	private static final int CAPACITY = 1024;
+	private static final int KEY_MASK = CAPACITY * 2 - 1;
+
+	@Param({"LRU", "ConcurrentLRU", "LFU", "BucketLFU", "FIFO", "Timed"})
+	private String type;
+
+	private Cache<Integer, Integer> cache;
+	private Integer[] keys;
+
+	@Setup
+	public void setup() {
+		switch (type) {
+			case "LRU":
+				cache = CacheUtil.newLRUCache(CAPACITY);
+				break;
+			case "ConcurrentLRU":
+				cache = CacheUtil.newConcurrentLRUCache(CAPACITY);
+				break;
+			case "LFU":
+				cache = CacheUtil.newLFUCache(CAPACITY);
+				break;
+			case "BucketLFU":
+				cache = CacheUtil.newBucketLFUCache(CAPACITY);
+				break;
+			case "FIFO":
+				cache = CacheUtil.newFIFOCache(CAPACITY);
+				break;
+			case "Timed":
+				cache = CacheUtil.newTimedCache(60_000);
+				break;
+			default:
+				throw new IllegalArgumentException("Unsupported cache type: " + type);
+		}
+
+		keys = new Integer[KEY_MASK + 1];
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = i;
+			if (i < CAPACITY) {
+				cache.put(keys[i], i);
+			}
+		}
+	}
+
+	@Benchmark
+	@Group("readWrite")
+	@GroupThreads(6)
+	public Integer read() {
+		return cache.get(keys[ThreadLocalRandom.current().nextInt() & KEY_MASK]);
+	}
+
+	@Benchmark
+	@Group("readWrite")
+	@GroupThreads(2)
+	public void write() {
+		final Integer key = keys[ThreadLocalRandom.current().nextInt() & KEY_MASK];
+		cache.put(key, key);
+	}
+
+	@Benchmark
+	@Group("readOnly")
+	@GroupThreads(8)
+	public Integer readOnly() {
+		return cache.get(keys[ThreadLocalRandom.current().nextInt() & (CAPACITY - 1)]);
+	}
+}
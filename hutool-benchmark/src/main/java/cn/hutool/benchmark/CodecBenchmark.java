@@ -0,0 +1,62 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.core.codec.Base64;
+import cn.hutool.core.util.RandomUtil;
+import cn.hutool.crypto.SecureUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Base64}编解码及{@link SecureUtil#md5(String)}摘要基准测试
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CodecBenchmark {
+
+	@Param({"64", "4096"})
+	private int size;
+
+	private byte[] data;
+	private String str;
+	private String base64;
+
+	@Setup
+	public void setup() {
+		this.data = RandomUtil.randomBytes(size);
+		this.str = RandomUtil.randomString(size);
+		this.base64 = Base64.encode(data);
+	}
+
+	@Benchmark
+	public String base64Encode() {
+		return Base64.encode(data);
+	}
+
+	@Benchmark
+	public byte[] base64Decode() {
+		return Base64.decode(base64);
+	}
+
+	@Benchmark
+	public String md5Hex() {
+		return SecureUtil.md5(str);
+	}
+}
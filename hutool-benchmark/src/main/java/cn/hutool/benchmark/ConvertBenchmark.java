@@ -0,0 +1,61 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.core.convert.Convert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Convert#convert(Class, Object)}基准测试
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConvertBenchmark {
+
+	private final String intStr = "10086";
+	private final String decimalStr = "1024.50";
+	private final String dateStr = "2023-05-09 12:00:00";
+	private final Long longValue = 10086L;
+
+	@Benchmark
+	public Integer stringToInteger() {
+		return Convert.convert(Integer.class, intStr);
+	}
+
+	@Benchmark
+	public int stringToPrimitiveInt() {
+		return Convert.convert(int.class, intStr);
+	}
+
+	@Benchmark
+	public BigDecimal stringToBigDecimal() {
+		return Convert.convert(BigDecimal.class, decimalStr);
+	}
+
+	@Benchmark
+	public String longToString() {
+		return Convert.convert(String.class, longValue);
+	}
+
+	@Benchmark
+	public Date stringToDate() {
+		return Convert.convert(Date.class, dateStr);
+	}
+}
@@ -0,0 +1,91 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.text.csv.CsvData;
+import cn.hutool.core.text.csv.CsvReader;
+import cn.hutool.core.text.csv.CsvRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CsvReader}基准测试
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CsvReadBenchmark {
+
+	@Param({"1000", "200000"})
+	private int rows;
+
+	private String csv;
+	private File file;
+
+	@Setup
+	public void setup() {
+		final StringBuilder builder = new StringBuilder("id,name,age,remark\n");
+		for (int i = 0; i < rows; i++) {
+			builder.append(i).append(",name").append(i).append(',').append(i % 100)
+					.append(",\"quoted, remark ").append(i).append("\"\n");
+		}
+		this.csv = builder.toString();
+		this.file = FileUtil.writeUtf8String(csv, FileUtil.createTempFile("benchmark", ".csv", null, true));
+	}
+
+	@TearDown
+	public void tearDown() {
+		FileUtil.del(this.file);
+	}
+
+	@Benchmark
+	public CsvData read() {
+		return new CsvReader().read(new StringReader(csv));
+	}
+
+	@Benchmark
+	public void iterate(Blackhole blackhole) throws IOException {
+		try (CsvReader reader = new CsvReader(new StringReader(csv), null)) {
+			for (CsvRow row : reader) {
+				blackhole.consume(row);
+			}
+		}
+	}
+
+	@Benchmark
+	public CsvData readFile() {
+		return new CsvReader().read(file.toPath(), StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public long parallelStream() {
+		return new CsvReader().parallelStream(file.toPath(), StandardCharsets.UTF_8, true).count();
+	}
+
+	@Benchmark
+	public long parallelStreamUnordered() {
+		return new CsvReader().parallelStream(file.toPath(), StandardCharsets.UTF_8, false).count();
+	}
+}
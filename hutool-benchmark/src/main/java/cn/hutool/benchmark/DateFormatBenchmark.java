@@ -0,0 +1,68 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.core.date.DatePattern;
+import cn.hutool.core.date.format.FastDateFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Calendar;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link cn.hutool.core.date.format.FastDatePrinter}格式化基准测试，模拟逐行格式化相近时间戳的场景
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DateFormatBenchmark {
+
+	private final FastDateFormat format = DatePattern.NORM_DATETIME_MS_FORMAT;
+	private final StringBuilder builder = new StringBuilder(32);
+	private final char[] chars = new char[32];
+	private long millis = 1683606896000L;
+
+	@Benchmark
+	public String formatCalendar() {
+		final Calendar calendar = Calendar.getInstance(format.getTimeZone(), format.getLocale());
+		calendar.setTimeInMillis(nextMillis());
+		return format.format(calendar);
+	}
+
+	@Benchmark
+	public String formatToString() {
+		return format.format(nextMillis());
+	}
+
+	@Benchmark
+	public StringBuilder formatToBuilder() {
+		builder.setLength(0);
+		return format.format(nextMillis(), builder);
+	}
+
+	@Benchmark
+	public int formatToChars() {
+		return format.format(nextMillis(), chars, 0);
+	}
+
+	/**
+	 * 每次递增10毫秒，约每100次跨越一秒
+	 *
+	 * @return 毫秒数
+	 */
+	private long nextMillis() {
+		return millis += 10;
+	}
+}
@@ -0,0 +1,65 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.core.date.DateTime;
+import cn.hutool.core.date.DateUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DateUtil#parse(CharSequence)}及{@link DateUtil#parseToEpochMillis(CharSequence)}基准测试
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DateParseBenchmark {
+
+	@Benchmark
+	public DateTime parseNormDateTime() {
+		return DateUtil.parse("2023-05-09 12:34:56");
+	}
+
+	@Benchmark
+	public DateTime parseNormDate() {
+		return DateUtil.parse("2023-05-09");
+	}
+
+	@Benchmark
+	public DateTime parseUtc() {
+		return DateUtil.parse("2023-05-09T12:34:56.789+08:00");
+	}
+
+	@Benchmark
+	public DateTime parsePure() {
+		return DateUtil.parse("20230509123456");
+	}
+
+	@Benchmark
+	public DateTime parseChinese() {
+		return DateUtil.parse("2023年05月09日 12时34分56秒");
+	}
+
+	@Benchmark
+	public DateTime parseCst() {
+		return DateUtil.parse("Tue May 09 12:34:56 CST 2023");
+	}
+
+	@Benchmark
+	public long parseToEpochMillis() {
+		return DateUtil.parseToEpochMillis("2023-05-09 12:34:56.789");
+	}
+}
@@ -0,0 +1,48 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.JSONUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JSONUtil#toJsonStr(Object)}和{@link JSONUtil#parseObj(String)}基准测试
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JSONBenchmark {
+
+	private final BenchmarkBean bean = BenchmarkBean.create();
+	private final String jsonStr = JSONUtil.toJsonStr(bean);
+
+	@Benchmark
+	public String toJsonStr() {
+		return JSONUtil.toJsonStr(bean);
+	}
+
+	@Benchmark
+	public JSONObject parseObj() {
+		return JSONUtil.parseObj(jsonStr);
+	}
+
+	@Benchmark
+	public BenchmarkBean toBean() {
+		return JSONUtil.toBean(jsonStr, BenchmarkBean.class);
+	}
+}
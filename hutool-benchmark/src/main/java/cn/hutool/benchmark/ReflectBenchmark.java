@@ -0,0 +1,65 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.core.lang.reflect.MethodHandleUtil;
+import cn.hutool.core.util.ReflectUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ReflectUtil}方法查找和按方法名执行基准测试
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReflectBenchmark {
+
+	private final BenchmarkBean bean = new BenchmarkBean();
+	private final Method defaultMethod = ReflectUtil.getMethod(Named.class, "named", String.class);
+	private final Named named = new Named() {
+	};
+
+	@Benchmark
+	public Method getMethod() {
+		return ReflectUtil.getMethod(BenchmarkBean.class, "setName", String.class);
+	}
+
+	@Benchmark
+	public Method getMethodNotFound() {
+		return ReflectUtil.getMethod(BenchmarkBean.class, "setName", Integer.class);
+	}
+
+	@Benchmark
+	public Object invokeByName() {
+		return ReflectUtil.invoke(bean, "setName", "hutool");
+	}
+
+	@Benchmark
+	public Object invokeDefaultMethod() {
+		return MethodHandleUtil.invokeSpecial(named, defaultMethod, "hutool");
+	}
+
+	/**
+	 * 带默认方法的接口
+	 */
+	public interface Named {
+		default String named(String name) {
+			return name;
+		}
+	}
+}
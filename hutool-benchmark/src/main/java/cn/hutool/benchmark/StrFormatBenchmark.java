@@ -0,0 +1,68 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.core.text.StrFormatter;
+import cn.hutool.core.text.StrTemplate;
+import cn.hutool.core.util.StrUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link StrUtil#format(CharSequence, Object...)}、{@link StrFormatter}和{@link StrTemplate}基准测试
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StrFormatBenchmark {
+
+	private final String template = "user {} did {} at {}, cost {}ms";
+	private final Object[] params = {"hutool", "login", "2023-05-09 12:00:00", 128};
+	private final StrTemplate compiled = StrTemplate.compile(template);
+	private final StringBuilder builder = new StringBuilder(64);
+
+	@Benchmark
+	public String strUtilFormat() {
+		return StrUtil.format(template, params);
+	}
+
+	@Benchmark
+	public String strFormatterFormat() {
+		return StrFormatter.format(template, params);
+	}
+
+	@Benchmark
+	public String strFormatterEscaped() {
+		return StrFormatter.format("escape \\{} and {} with {}", "hutool", 1);
+	}
+
+	@Benchmark
+	public String strTemplateFormat() {
+		return compiled.format(params);
+	}
+
+	@Benchmark
+	public StringBuilder strTemplateFormatTo() {
+		builder.setLength(0);
+		return compiled.formatTo(builder, params);
+	}
+
+	@Benchmark
+	public String stringFormat() {
+		// 对照组
+		return String.format("user %s did %s at %s, cost %sms", params);
+	}
+}
@@ -0,0 +1,8 @@
+/**
+ * Hutool JMH性能基准测试，覆盖常用工具方法的热点路径<br>
+ * 打包后执行：{@code java -jar target/benchmarks.jar -rf json -rff results/baseline.json}
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+package cn.hutool.benchmark;
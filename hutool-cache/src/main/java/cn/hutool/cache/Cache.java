@@ -2,9 +2,11 @@ package cn.hutool.cache;
 
 import cn.hutool.cache.impl.CacheObj;
 import cn.hutool.core.lang.func.Func0;
+import cn.hutool.core.thread.GlobalThreadPool;
 
 import java.io.Serializable;
 import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 缓存接口
@@ -105,6 +107,39 @@ public interface Cache<K, V> extends Iterable<V>, Serializable {
 	 */
 	V get(K key, boolean isUpdateLastAccess);
 
+	/**
+	 * 异步从缓存中获得对象，当对象不在缓存中或已经过期时，在后台线程中调用Func0回调产生对象并放入缓存
+	 * <p>
+	 * 每次调用此方法会刷新最后访问时间，也就是说会重新计算超时时间。
+	 *
+	 * @param key      键
+	 * @param supplier 如果不存在回调方法，用于生产值对象
+	 * @return 值对象的{@link CompletableFuture}，命中时为已完成状态
+	 * @since 5.8.19
+	 */
+	default CompletableFuture<V> getAsync(K key, Func0<V> supplier) {
+		return getAsync(key, true, supplier);
+	}
+
+	/**
+	 * 异步从缓存中获得对象，当对象不在缓存中或已经过期时，在后台线程中调用Func0回调产生对象并放入缓存
+	 * <p>
+	 * 每次调用此方法会可选是否刷新最后访问时间，{@code true}表示会重新计算超时时间。
+	 *
+	 * @param key                键
+	 * @param isUpdateLastAccess 是否更新最后访问时间，即重新计算超时时间。
+	 * @param supplier           如果不存在回调方法，用于生产值对象
+	 * @return 值对象的{@link CompletableFuture}，命中时为已完成状态
+	 * @since 5.8.19
+	 */
+	default CompletableFuture<V> getAsync(K key, boolean isUpdateLastAccess, Func0<V> supplier) {
+		final V v = get(key, isUpdateLastAccess);
+		if (null != v || null == supplier) {
+			return CompletableFuture.completedFuture(v);
+		}
+		return CompletableFuture.supplyAsync(() -> get(key, isUpdateLastAccess, supplier), GlobalThreadPool.getExecutor());
+	}
+
 	/**
 	 * 返回包含键和值得迭代器
 	 *
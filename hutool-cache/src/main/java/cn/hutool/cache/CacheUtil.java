@@ -1,5 +1,7 @@
 package cn.hutool.cache;
 
+import cn.hutool.cache.impl.BucketLFUCache;
+import cn.hutool.cache.impl.ConcurrentLRUCache;
 import cn.hutool.cache.impl.FIFOCache;
 import cn.hutool.cache.impl.LFUCache;
 import cn.hutool.cache.impl.LRUCache;
@@ -64,6 +66,34 @@ public class CacheUtil {
 		return new LFUCache<>(capacity);
 	}
 
+	/**
+	 * 创建基于频率桶的LFU(least frequently used) 最少使用率缓存，访问和淘汰的时间复杂度均为O(1).
+	 *
+	 * @param <K> Key类型
+	 * @param <V> Value类型
+	 * @param capacity 容量
+	 * @param timeout 过期时长，单位：毫秒
+	 * @param aging 是否开启动态老化
+	 * @return {@link BucketLFUCache}
+	 * @since 5.8.19
+	 */
+	public static <K, V> BucketLFUCache<K, V> newBucketLFUCache(int capacity, long timeout, boolean aging){
+		return new BucketLFUCache<>(capacity, timeout, aging);
+	}
+
+	/**
+	 * 创建基于频率桶的LFU(least frequently used) 最少使用率缓存，访问和淘汰的时间复杂度均为O(1).
+	 *
+	 * @param <K> Key类型
+	 * @param <V> Value类型
+	 * @param capacity 容量
+	 * @return {@link BucketLFUCache}
+	 * @since 5.8.19
+	 */
+	public static <K, V> BucketLFUCache<K, V> newBucketLFUCache(int capacity){
+		return new BucketLFUCache<>(capacity);
+	}
+
 
 	/**
 	 * 创建LRU (least recently used)最近最久未使用缓存.
@@ -90,6 +120,33 @@ public class CacheUtil {
 		return new LRUCache<>(capacity);
 	}
 
+	/**
+	 * 创建并发LRU (least recently used)最近最久未使用缓存，读操作不加锁，适用于高并发读场景.
+	 *
+	 * @param <K> Key类型
+	 * @param <V> Value类型
+	 * @param capacity 容量
+	 * @param timeout 过期时长，单位：毫秒
+	 * @return {@link ConcurrentLRUCache}
+	 * @since 5.8.19
+	 */
+	public static <K, V> ConcurrentLRUCache<K, V> newConcurrentLRUCache(int capacity, long timeout){
+		return new ConcurrentLRUCache<>(capacity, timeout);
+	}
+
+	/**
+	 * 创建并发LRU (least recently used)最近最久未使用缓存，读操作不加锁，适用于高并发读场景.
+	 *
+	 * @param <K> Key类型
+	 * @param <V> Value类型
+	 * @param capacity 容量
+	 * @return {@link ConcurrentLRUCache}
+	 * @since 5.8.19
+	 */
+	public static <K, V> ConcurrentLRUCache<K, V> newConcurrentLRUCache(int capacity){
+		return new ConcurrentLRUCache<>(capacity);
+	}
+
 	/**
 	 * 创建定时缓存.
 	 *
@@ -0,0 +1,22 @@
+package cn.hutool.cache;
+
+/**
+ * 缓存对象权重计算器，用于按照总权重（如占用的字节数）而非对象个数限制缓存大小
+ *
+ * @param <K> 缓存键
+ * @param <V> 缓存值
+ * @author looly
+ * @since 5.8.19
+ */
+@FunctionalInterface
+public interface CacheWeigher<K, V> {
+
+	/**
+	 * 计算缓存对象的权重，对象放入缓存时调用一次
+	 *
+	 * @param key   键
+	 * @param value 被缓存的对象
+	 * @return 权重，不能为负数
+	 */
+	long weigh(K key, V value);
+}
@@ -0,0 +1,71 @@
+package cn.hutool.cache.file;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * 直接内存和映射内存释放工具<br>
+ * JDK9及以上使用{@code sun.misc.Unsafe#invokeCleaner}，JDK8使用{@code DirectBuffer#cleaner()}，
+ * 都不可用时不做处理，由JVM在ByteBuffer被回收后释放。
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+final class BufferCleaner {
+
+	/**
+	 * JDK9及以上的Unsafe实例
+	 */
+	private static final Object UNSAFE;
+	/**
+	 * JDK9及以上的{@code Unsafe#invokeCleaner}方法
+	 */
+	private static final Method INVOKE_CLEANER;
+
+	static {
+		Object unsafe = null;
+		Method invokeCleaner = null;
+		try {
+			final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+			invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+			final Field field = unsafeClass.getDeclaredField("theUnsafe");
+			field.setAccessible(true);
+			unsafe = field.get(null);
+		} catch (Throwable e) {
+			// JDK8，使用cleaner()
+			invokeCleaner = null;
+		}
+		UNSAFE = unsafe;
+		INVOKE_CLEANER = invokeCleaner;
+	}
+
+	/**
+	 * 立即释放直接内存或解除内存映射，非直接内存或释放失败时忽略<br>
+	 * 释放后不可再访问此ByteBuffer及其所有视图
+	 *
+	 * @param buffer 通过{@link ByteBuffer#allocateDirect(int)}或内存映射创建的原始ByteBuffer，不能为视图
+	 */
+	static void clean(ByteBuffer buffer) {
+		if (null == buffer || false == buffer.isDirect()) {
+			return;
+		}
+		try {
+			if (null != INVOKE_CLEANER) {
+				INVOKE_CLEANER.invoke(UNSAFE, buffer);
+				return;
+			}
+			final Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+			cleanerMethod.setAccessible(true);
+			final Object cleaner = cleanerMethod.invoke(buffer);
+			if (null != cleaner) {
+				cleaner.getClass().getMethod("clean").invoke(cleaner);
+			}
+		} catch (Throwable e) {
+			// 无法主动释放，由JVM回收
+		}
+	}
+
+	private BufferCleaner() {
+	}
+}
@@ -0,0 +1,395 @@
+package cn.hutool.cache.file;
+
+import cn.hutool.core.io.IORuntimeException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 堆外文件缓存，文件内容不占用堆内存，以解决大量缓存文件引起的GC压力问题<br>
+ * <ul>
+ *     <li>小于{@code mapThreshold}的文件读入直接内存（{@link ByteBuffer#allocateDirect(int)}）</li>
+ *     <li>不小于{@code mapThreshold}的文件使用内存映射（{@link FileChannel#map(FileChannel.MapMode, long, long)}）</li>
+ *     <li>按照缓存文件的总字节数限制容量，超出时淘汰最久未使用的文件</li>
+ *     <li>返回只读的{@link ByteBuffer}视图，可直接写出到{@link WritableByteChannel}</li>
+ *     <li>文件的修改时间或大小变化后，缓存失效并重新加载</li>
+ * </ul>
+ * 注意：只通过{@link #writeTo(File, WritableByteChannel)}访问的文件，淘汰时立即释放直接内存或解除内存映射，
+ * 因此堆外内存占用不超过缓存容量；通过{@link #getFileBuffer(File)}返回给调用者的内存无法确定何时不再使用，
+ * 淘汰后由JVM在对应的ByteBuffer被回收后释放。
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+public class DirectFileCache {
+
+	/**
+	 * 默认内存映射阈值，1MB
+	 */
+	public static final int DEFAULT_MAP_THRESHOLD = 1024 * 1024;
+
+	/** 容量，即缓存的最大字节数 */
+	private final long capacity;
+	/** 缓存的最大文件大小，文件大于此大小时将不被缓存，0表示不限制 */
+	private final long maxFileSize;
+	/** 默认超时时间，0表示无默认超时 */
+	private final long timeout;
+	/** 文件大小不小于此值时使用内存映射 */
+	private final int mapThreshold;
+
+	/** 按访问顺序排列的缓存，由{@link #lock}保护 */
+	private final LinkedHashMap<File, BufferObj> cacheMap = new LinkedHashMap<>(16, 0.75f, true);
+	private final ReentrantLock lock = new ReentrantLock();
+	/** 已使用缓存空间，由{@link #lock}保护 */
+	private long usedSize;
+
+	/**
+	 * 构造<br>
+	 * 最大文件大小为缓存容量的一半<br>
+	 * 默认无超时
+	 *
+	 * @param capacity 缓存容量（byte数）
+	 */
+	public DirectFileCache(long capacity) {
+		this(capacity, capacity / 2, 0);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param capacity    缓存容量（byte数）
+	 * @param maxFileSize 最大文件大小，0表示不限制
+	 * @param timeout     默认超时时间，0表示无默认超时
+	 */
+	public DirectFileCache(long capacity, long maxFileSize, long timeout) {
+		this(capacity, maxFileSize, timeout, DEFAULT_MAP_THRESHOLD);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param capacity     缓存容量（byte数）
+	 * @param maxFileSize  最大文件大小，0表示不限制
+	 * @param timeout      默认超时时间，0表示无默认超时
+	 * @param mapThreshold 文件大小不小于此值时使用内存映射，否则读入直接内存
+	 */
+	public DirectFileCache(long capacity, long maxFileSize, long timeout, int mapThreshold) {
+		this.capacity = capacity;
+		this.maxFileSize = maxFileSize;
+		this.timeout = timeout;
+		this.mapThreshold = mapThreshold;
+	}
+
+	/**
+	 * @return 缓存容量（byte数）
+	 */
+	public long capacity() {
+		return capacity;
+	}
+
+	/**
+	 * @return 已使用空间大小（byte数）
+	 */
+	public long getUsedSize() {
+		lock.lock();
+		try {
+			return usedSize;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return 允许被缓存文件的最大byte数
+	 */
+	public long maxFileSize() {
+		return maxFileSize;
+	}
+
+	/**
+	 * @return 缓存的文件数
+	 */
+	public int getCachedFilesCount() {
+		lock.lock();
+		try {
+			return cacheMap.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return 超时时间
+	 */
+	public long timeout() {
+		return this.timeout;
+	}
+
+	/**
+	 * 移除缓存的文件
+	 *
+	 * @param file 文件
+	 */
+	public void remove(File file) {
+		lock.lock();
+		try {
+			final BufferObj removed = cacheMap.remove(file);
+			if (null != removed) {
+				discard(removed);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 清空缓存
+	 */
+	public void clear() {
+		lock.lock();
+		try {
+			for (BufferObj co : cacheMap.values()) {
+				discard(co);
+			}
+			cacheMap.clear();
+			usedSize = 0;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// ---------------------------------------------------------------- get
+
+	/**
+	 * 获得缓存过的文件内容
+	 *
+	 * @param path 文件路径
+	 * @return 只读的文件内容，position为0
+	 * @throws IORuntimeException IO异常
+	 */
+	public ByteBuffer getFileBuffer(String path) throws IORuntimeException {
+		return getFileBuffer(new File(path));
+	}
+
+	/**
+	 * 获得缓存过的文件内容，返回的{@link ByteBuffer}为独立的只读视图，调用者可任意修改其position和limit<br>
+	 * 返回的内存在文件被淘汰后不会立即释放，而是在ByteBuffer被回收后释放
+	 *
+	 * @param file 文件
+	 * @return 只读的文件内容，position为0
+	 * @throws IORuntimeException IO异常
+	 */
+	public ByteBuffer getFileBuffer(File file) throws IORuntimeException {
+		return acquire(file, true).buffer.duplicate();
+	}
+
+	/**
+	 * 将缓存的文件内容写出到{@link WritableByteChannel}，如文件未缓存则先加载<br>
+	 * 写出期间文件内容不会被释放，写出完成后如文件已被淘汰则立即释放
+	 *
+	 * @param file    文件
+	 * @param channel 目标Channel
+	 * @return 写出的字节数
+	 * @throws IORuntimeException IO异常
+	 */
+	public long writeTo(File file, WritableByteChannel channel) throws IORuntimeException {
+		final BufferObj co = acquire(file, false);
+		try {
+			final ByteBuffer buffer = co.buffer.duplicate();
+			long count = 0;
+			while (buffer.hasRemaining()) {
+				count += channel.write(buffer);
+			}
+			return count;
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		} finally {
+			lock.lock();
+			try {
+				co.pins--;
+				freeIfUnused(co);
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	// ---------------------------------------------------------------- private method start
+
+	/**
+	 * 获取文件内容，不存在、过期或文件已修改时重新加载
+	 *
+	 * @param file   文件
+	 * @param escape 内容是否返回给调用者，返回给调用者的内容不再主动释放，否则占用一次，使用完毕后需释放
+	 * @return 缓存的文件内容
+	 */
+	private BufferObj acquire(File file, boolean escape) {
+		lock.lock();
+		try {
+			final BufferObj co = cacheMap.get(file);
+			if (null != co) {
+				if (false == co.isExpired(timeout) && false == co.isModified(file)) {
+					co.lastAccess = System.currentTimeMillis();
+					return co.use(escape);
+				}
+				cacheMap.remove(file);
+				discard(co);
+			}
+		} finally {
+			lock.unlock();
+		}
+
+		// 加载文件不持有锁，先读取修改时间，加载期间文件被修改时下次访问可以发现
+		final long lastModified = file.lastModified();
+		final BufferObj loaded = load(file, file.length(), lastModified);
+		final long length = loaded.size();
+		if (((maxFileSize != 0) && (length > maxFileSize)) || length > capacity) {
+			//大于缓存空间，不缓存，使用完毕后释放
+			loaded.evicted = true;
+			return loaded.use(escape);
+		}
+
+		lock.lock();
+		try {
+			final BufferObj old = cacheMap.put(file, loaded);
+			if (null != old) {
+				discard(old);
+			}
+			usedSize += length;
+			loaded.use(escape);
+			evict();
+		} finally {
+			lock.unlock();
+		}
+		return loaded;
+	}
+
+	/**
+	 * 超出容量时淘汰最久未使用的文件，调用此方法需持有锁
+	 */
+	private void evict() {
+		final Iterator<BufferObj> values = cacheMap.values().iterator();
+		BufferObj co;
+		while (usedSize > capacity && values.hasNext()) {
+			co = values.next();
+			values.remove();
+			discard(co);
+		}
+	}
+
+	/**
+	 * 移出缓存后扣减已使用空间，并在未被使用时释放内存，调用此方法需持有锁
+	 *
+	 * @param co 已移出缓存的文件内容
+	 */
+	private void discard(BufferObj co) {
+		usedSize -= co.size();
+		co.evicted = true;
+		freeIfUnused(co);
+	}
+
+	/**
+	 * 已淘汰、未被占用且未返回给调用者的内容立即释放内存，调用此方法需持有锁
+	 *
+	 * @param co 文件内容
+	 */
+	private static void freeIfUnused(BufferObj co) {
+		if (co.evicted && 0 == co.pins && false == co.escaped && false == co.freed) {
+			co.freed = true;
+			BufferCleaner.clean(co.raw);
+		}
+	}
+
+	/**
+	 * 加载文件内容到堆外
+	 *
+	 * @param file         文件
+	 * @param length       文件长度
+	 * @param lastModified 文件修改时间
+	 * @return 文件内容
+	 */
+	private BufferObj load(File file, long length, long lastModified) {
+		if (length > Integer.MAX_VALUE) {
+			throw new IORuntimeException("File [{}] is too large to buffer: {} bytes", file, length);
+		}
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			if (length >= mapThreshold) {
+				return new BufferObj(channel.map(FileChannel.MapMode.READ_ONLY, 0, length), lastModified);
+			}
+
+			final ByteBuffer buffer = ByteBuffer.allocateDirect((int) length);
+			while (buffer.hasRemaining()) {
+				if (channel.read(buffer) < 0) {
+					break;
+				}
+			}
+			buffer.flip();
+			return new BufferObj(buffer, lastModified);
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+	// ---------------------------------------------------------------- private method end
+
+	/**
+	 * 缓存的文件内容，除{@link #raw}和{@link #buffer}外的字段由{@link #lock}保护
+	 */
+	private static class BufferObj {
+		/** 直接内存或映射内存，用于释放 */
+		private final ByteBuffer raw;
+		/** 只读视图 */
+		private final ByteBuffer buffer;
+		/** 加载时文件的修改时间 */
+		private final long lastModified;
+		private long lastAccess;
+		/** 正在写出的次数 */
+		private int pins;
+		/** 是否返回给了调用者 */
+		private boolean escaped;
+		/** 是否已移出缓存 */
+		private boolean evicted;
+		/** 是否已释放 */
+		private boolean freed;
+
+		BufferObj(ByteBuffer raw, long lastModified) {
+			this.raw = raw;
+			this.buffer = raw.asReadOnlyBuffer();
+			this.lastModified = lastModified;
+			this.lastAccess = System.currentTimeMillis();
+		}
+
+		long size() {
+			return buffer.capacity();
+		}
+
+		/**
+		 * 标记使用
+		 *
+		 * @param escape 是否返回给调用者
+		 * @return this
+		 */
+		BufferObj use(boolean escape) {
+			if (escape) {
+				this.escaped = true;
+			} else {
+				this.pins++;
+			}
+			return this;
+		}
+
+		boolean isModified(File file) {
+			return file.lastModified() != this.lastModified || file.length() != size();
+		}
+
+		boolean isExpired(long timeout) {
+			return timeout > 0 && (System.currentTimeMillis() - this.lastAccess) > timeout;
+		}
+	}
+}
@@ -2,17 +2,26 @@ package cn.hutool.cache.impl;
 
 import cn.hutool.cache.Cache;
 import cn.hutool.cache.CacheListener;
+import cn.hutool.cache.CacheWeigher;
+import cn.hutool.cache.stats.CacheStats;
+import cn.hutool.cache.stats.RemovalCause;
+import cn.hutool.cache.stats.StatsCounter;
 import cn.hutool.core.lang.func.Func0;
 import cn.hutool.core.lang.mutable.Mutable;
 import cn.hutool.core.lang.mutable.MutableObj;
 import cn.hutool.core.map.SafeConcurrentHashMap;
+import cn.hutool.core.thread.GlobalThreadPool;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 /**
@@ -34,8 +43,15 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 
 	/**
 	 * 写的时候每个key一把锁，降低锁的粒度
+	 *
+	 * @deprecated 同步和异步加载统一使用加载任务表合并同一个key的并发加载，此字段不再使用
 	 */
+	@Deprecated
 	protected final SafeConcurrentHashMap<K, Lock> keyLockMap = new SafeConcurrentHashMap<>();
+	/**
+	 * 正在加载的key，同一个key的同步和异步并发加载共享一个加载任务，反序列化后在{@link #readObject(ObjectInputStream)}中重建
+	 */
+	private transient SafeConcurrentHashMap<K, LoadingFuture<V>> loadingMap = new SafeConcurrentHashMap<>();
 
 	/**
 	 * 返回缓存容量，{@code 0}表示无大小限制
@@ -50,6 +66,14 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 	 * 每个对象是否有单独的失效时长，用于决定清理过期对象是否有必要。
 	 */
 	protected boolean existCustomTimeout;
+	/**
+	 * 写入多久后在后台异步刷新，刷新完成前继续返回旧值，{@code 0} 表示不刷新，单位毫秒
+	 */
+	protected long refreshAfterWrite;
+	/**
+	 * 异步加载和刷新使用的执行器，{@code null}表示使用{@link GlobalThreadPool}
+	 */
+	protected transient Executor loadExecutor;
 
 	/**
 	 * 命中数，即命中缓存计数
@@ -65,6 +89,28 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 	 */
 	protected CacheListener<K, V> listener;
 
+	/**
+	 * 统计计数器，{@code null}表示只统计命中数和丢失数
+	 */
+	protected StatsCounter statsCounter;
+
+	/**
+	 * 权重计算器，{@code null}表示不按权重限制
+	 */
+	protected CacheWeigher<K, V> weigher;
+	/**
+	 * 最大总权重，{@code 0}表示不按权重限制
+	 */
+	protected long maxWeight;
+	/**
+	 * 当前总权重，只在写锁内修改
+	 */
+	protected volatile long weight;
+	/**
+	 * 正在放入的对象权重，用于放入前判断是否需要淘汰，只在写锁内修改
+	 */
+	protected long pendingWeight;
+
 	// ---------------------------------------------------------------- put start
 	@Override
 	public void put(K key, V object) {
@@ -84,10 +130,34 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 		if (timeout != 0) {
 			existCustomTimeout = true;
 		}
-		if (isFull()) {
-			pruneCache();
+		final Mutable<K> mKey = MutableObj.of(key);
+		CacheObj<K, V> old = null;
+		if (null != weigher) {
+			co.weight = weigher.weigh(key, object);
+			// 覆盖已有对象时，被替换对象的权重会被释放，不应为此淘汰其它对象
+			old = cacheMap.get(mKey);
+			this.pendingWeight = (null == old) ? co.weight : co.weight - old.weight;
+		}
+		try {
+			if (isFull()) {
+				pruneCache();
+				// 按权重限制时，可能需要淘汰多个对象才能放入新对象
+				while (true) {
+					if (null != old && false == cacheMap.containsKey(mKey)) {
+						// 被替换的对象已被清理，其权重已释放
+						this.pendingWeight = co.weight;
+						old = null;
+					}
+					if (false == isOverWeight() || cacheMap.isEmpty() || 0 == pruneCache()) {
+						break;
+					}
+				}
+			}
+		} finally {
+			this.pendingWeight = 0;
 		}
-		cacheMap.put(MutableObj.of(key), co);
+		releaseWeight(cacheMap.put(mKey, co));
+		this.weight += co.weight;
 	}
 	// ---------------------------------------------------------------- put end
 
@@ -106,34 +176,102 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 		return missCount.sum();
 	}
 
+	/**
+	 * @return 当前总权重，未设置权重计算器时为0
+	 * @since 5.8.19
+	 */
+	public long getWeight() {
+		return this.weight;
+	}
+
+	/**
+	 * 获取统计计数器
+	 *
+	 * @return 统计计数器，未设置返回{@code null}
+	 * @since 5.8.19
+	 */
+	public StatsCounter getStatsCounter() {
+		return this.statsCounter;
+	}
+
+	/**
+	 * 获取统计信息快照<br>
+	 * 未设置{@link StatsCounter}时只包含命中数和丢失数
+	 *
+	 * @return {@link CacheStats}
+	 * @since 5.8.19
+	 */
+	public CacheStats stats() {
+		final StatsCounter statsCounter = this.statsCounter;
+		if (null != statsCounter) {
+			return statsCounter.snapshot();
+		}
+		return CacheStats.of(hitCount.sum(), missCount.sum());
+	}
+
 	@Override
 	public V get(K key, boolean isUpdateLastAccess, Func0<V> supplier) {
 		V v = get(key, isUpdateLastAccess);
 		if (null == v && null != supplier) {
-			//每个key单独获取一把锁，降低锁的粒度提高并发能力，see pr#1385@Github
-			final Lock keyLock = keyLockMap.computeIfAbsent(key, k -> new ReentrantLock());
-			keyLock.lock();
+			//每个key同时只有一个加载任务，其它线程（包括异步加载）等待此任务的结果，see pr#1385@Github
+			final LoadingFuture<V> future = new LoadingFuture<>(Thread.currentThread());
+			final LoadingFuture<V> loading = loadingMap.putIfAbsent(key, future);
+			if (null != loading && loading.loader != Thread.currentThread()) {
+				return awaitLoading(loading);
+			}
+
 			try {
-				// 双重检查锁，防止在竞争锁的过程中已经有其它线程写入
+				// 双重检查，防止在竞争加载的过程中已经有其它线程写入
 				final CacheObj<K, V> co = getWithoutLock(key);
 				if (null == co || co.isExpired()) {
-					try {
-						v = supplier.call();
-					} catch (Exception e) {
-						throw new RuntimeException(e);
-					}
+					v = load(supplier);
 					put(key, v, this.timeout);
 				} else {
 					v = co.get(isUpdateLastAccess);
 				}
-			} finally {
-				keyLock.unlock();
-				keyLockMap.remove(key);
+			} catch (Exception e) {
+				if (null == loading) {
+					loadingMap.remove(key, future);
+					future.completeExceptionally(e);
+				}
+				throw new RuntimeException(e);
 			}
+			if (null == loading) {
+				loadingMap.remove(key, future);
+				future.complete(v);
+			}
+		} else if (null != v && null != supplier) {
+			refreshIfNecessary(key, supplier);
 		}
 		return v;
 	}
 
+	@Override
+	public CompletableFuture<V> getAsync(K key, boolean isUpdateLastAccess, Func0<V> supplier) {
+		final V v = get(key, isUpdateLastAccess);
+		if (null != v) {
+			if (null != supplier) {
+				refreshIfNecessary(key, supplier);
+			}
+			return CompletableFuture.completedFuture(v);
+		}
+		if (null == supplier) {
+			return CompletableFuture.completedFuture(null);
+		}
+		return loadAsync(key, supplier, null);
+	}
+
+	/**
+	 * 获取键对应的{@link CacheObj}，子类根据自身的锁实现保证线程安全，不计入命中数
+	 *
+	 * @param key 键
+	 * @return {@link CacheObj}
+	 * @since 5.8.19
+	 */
+	protected CacheObj<K, V> getCacheObj(K key) {
+		return getWithoutLock(key);
+	}
+
 	/**
 	 * 获取键对应的{@link CacheObj}
 	 * @param key 键，实际使用时会被包装为{@link MutableObj}
@@ -145,6 +283,159 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 	}
 	// ---------------------------------------------------------------- get end
 
+	// ---------------------------------------------------------------- load start
+	/**
+	 * 设置写入后异步刷新的时长<br>
+	 * 通过{@link #get(Object, Func0)}或{@link #getAsync(Object, Func0)}获取的对象写入超过此时长后，
+	 * 在后台调用supplier重新加载，加载完成前继续返回旧值，同一个key同时只有一个加载任务。
+	 *
+	 * @param refreshAfterWrite 写入后刷新时长，{@code 0} 表示不刷新，单位毫秒
+	 * @return this
+	 * @since 5.8.19
+	 */
+	public AbstractCache<K, V> setRefreshAfterWrite(long refreshAfterWrite) {
+		this.refreshAfterWrite = refreshAfterWrite;
+		return this;
+	}
+
+	/**
+	 * 设置异步加载和刷新使用的执行器
+	 *
+	 * @param loadExecutor 执行器，{@code null}表示使用{@link GlobalThreadPool}
+	 * @return this
+	 * @since 5.8.19
+	 */
+	public AbstractCache<K, V> setLoadExecutor(Executor loadExecutor) {
+		this.loadExecutor = loadExecutor;
+		return this;
+	}
+
+	/**
+	 * 调用supplier加载对象，并记录加载耗时
+	 *
+	 * @param supplier 值生产者
+	 * @return 加载的对象
+	 * @throws Exception 加载异常
+	 */
+	private V load(Func0<V> supplier) throws Exception {
+		final StatsCounter statsCounter = this.statsCounter;
+		if (null == statsCounter) {
+			return supplier.call();
+		}
+		final long start = System.nanoTime();
+		final V v;
+		try {
+			v = supplier.call();
+		} catch (Exception e) {
+			statsCounter.recordLoadFailure(System.nanoTime() - start);
+			throw e;
+		}
+		statsCounter.recordLoadSuccess(System.nanoTime() - start);
+		return v;
+	}
+
+	/**
+	 * 写入时间超过{@link #refreshAfterWrite}时，异步重新加载
+	 *
+	 * @param key      键
+	 * @param supplier 值生产者
+	 */
+	private void refreshIfNecessary(K key, Func0<V> supplier) {
+		final long refreshAfterWrite = this.refreshAfterWrite;
+		if (refreshAfterWrite <= 0 || loadingMap.containsKey(key)) {
+			return;
+		}
+		final CacheObj<K, V> co = getCacheObj(key);
+		if (null != co && System.currentTimeMillis() - co.writeTime > refreshAfterWrite) {
+			loadAsync(key, supplier, co);
+		}
+	}
+
+	/**
+	 * 异步加载对象并放入缓存，同一个key并发调用时只加载一次
+	 *
+	 * @param key       键
+	 * @param supplier  值生产者
+	 * @param refreshed 被刷新的对象，{@code null}表示加载不存在的对象；刷新完成时如对象已被移除或替换，则不放入缓存
+	 * @return 加载结果
+	 */
+	private CompletableFuture<V> loadAsync(K key, Func0<V> supplier, CacheObj<K, V> refreshed) {
+		final LoadingFuture<V> future = new LoadingFuture<>(null);
+		final LoadingFuture<V> loading = loadingMap.putIfAbsent(key, future);
+		if (null != loading) {
+			return loading;
+		}
+
+		final Executor executor = null == this.loadExecutor ? GlobalThreadPool.getExecutor() : this.loadExecutor;
+		try {
+			executor.execute(() -> {
+				final V v;
+				try {
+					v = load(supplier);
+					// 刷新期间对象被移除或替换时，不恢复旧的映射
+					if (null == refreshed || getCacheObj(key) == refreshed) {
+						put(key, v, this.timeout);
+					}
+				} catch (Throwable e) {
+					loadingMap.remove(key, future);
+					future.completeExceptionally(e);
+					return;
+				}
+				// 先移除加载标记再完成，保证回调中再次获取时能读到新值
+				loadingMap.remove(key, future);
+				future.complete(v);
+			});
+		} catch (RuntimeException e) {
+			// 执行器拒绝任务
+			loadingMap.remove(key, future);
+			future.completeExceptionally(e);
+		}
+		return future;
+	}
+
+	/**
+	 * 等待其它线程的加载任务完成，加载失败时与自身加载一样抛出{@link RuntimeException}
+	 *
+	 * @param loading 加载任务
+	 * @return 加载的对象
+	 */
+	private V awaitLoading(CompletableFuture<V> loading) {
+		try {
+			return loading.join();
+		} catch (CompletionException e) {
+			throw new RuntimeException(e.getCause());
+		}
+	}
+
+	/**
+	 * 反序列化后重建加载任务表
+	 *
+	 * @param in 输入流
+	 * @throws IOException            IO异常
+	 * @throws ClassNotFoundException 类不存在
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		this.loadingMap = new SafeConcurrentHashMap<>();
+	}
+
+	/**
+	 * 加载任务，记录同步加载的线程，同一线程在加载过程中再次加载同一个key时直接加载，避免等待自身
+	 *
+	 * @param <V> 值类型
+	 */
+	private static class LoadingFuture<V> extends CompletableFuture<V> {
+		/**
+		 * 同步加载的线程，异步加载为{@code null}
+		 */
+		private final Thread loader;
+
+		LoadingFuture(Thread loader) {
+			this.loader = loader;
+		}
+	}
+	// ---------------------------------------------------------------- load end
+
 	@Override
 	public Iterator<V> iterator() {
 		CacheObjIterator<K, V> copiedIterator = (CacheObjIterator<K, V>) this.cacheObjIterator();
@@ -186,7 +477,25 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 
 	@Override
 	public boolean isFull() {
-		return (capacity > 0) && (cacheMap.size() >= capacity);
+		return ((capacity > 0) && (cacheMap.size() >= capacity)) || isOverWeight();
+	}
+
+	/**
+	 * 放入正在放入的对象后，总权重是否超出最大总权重
+	 *
+	 * @return 是否超出最大总权重
+	 * @since 5.8.19
+	 */
+	protected boolean isOverWeight() {
+		return (maxWeight > 0) && (weight + pendingWeight > maxWeight);
+	}
+
+	/**
+	 * @return 最大总权重，{@code 0}表示不按权重限制
+	 * @since 5.8.19
+	 */
+	public long maxWeight() {
+		return this.maxWeight;
 	}
 
 	@Override
@@ -218,6 +527,34 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 		return this;
 	}
 
+	/**
+	 * 设置统计计数器，设置后记录加载耗时、移除原因等统计信息，通过{@link #stats()}获取
+	 *
+	 * @param statsCounter 统计计数器，如{@link cn.hutool.cache.stats.ConcurrentStatsCounter}
+	 * @return this
+	 * @since 5.8.19
+	 */
+	public AbstractCache<K, V> setStatsCounter(StatsCounter statsCounter) {
+		this.statsCounter = statsCounter;
+		return this;
+	}
+
+	/**
+	 * 设置权重计算器，设置后缓存按照对象的总权重（如字节数）限制大小，超出时按照缓存策略淘汰对象<br>
+	 * 需在放入对象前设置，已存在对象的权重视为0<br>
+	 * 没有淘汰策略的缓存（如{@link TimedCache}）不支持此设置
+	 *
+	 * @param weigher   权重计算器
+	 * @param maxWeight 最大总权重，{@code 0}表示不按权重限制
+	 * @return this
+	 * @since 5.8.19
+	 */
+	public AbstractCache<K, V> setWeigher(CacheWeigher<K, V> weigher, long maxWeight) {
+		this.weigher = weigher;
+		this.maxWeight = maxWeight;
+		return this;
+	}
+
 	/**
 	 * 返回所有键
 	 *
@@ -251,13 +588,66 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 	 */
 	protected CacheObj<K, V> removeWithoutLock(K key, boolean withMissCount) {
 		final CacheObj<K, V> co = cacheMap.remove(MutableObj.of(key));
+		releaseWeight(co);
 		if (withMissCount) {
 			// 在丢失计数有效的情况下，移除一般为get时的超时操作，此处应该丢失数+1
-			this.missCount.increment();
+			recordMiss();
 		}
 		return co;
 	}
 
+	/**
+	 * 记录命中
+	 *
+	 * @since 5.8.19
+	 */
+	protected void recordHit() {
+		this.hitCount.increment();
+		final StatsCounter statsCounter = this.statsCounter;
+		if (null != statsCounter) {
+			statsCounter.recordHit();
+		}
+	}
+
+	/**
+	 * 记录未命中
+	 *
+	 * @since 5.8.19
+	 */
+	protected void recordMiss() {
+		this.missCount.increment();
+		final StatsCounter statsCounter = this.statsCounter;
+		if (null != statsCounter) {
+			statsCounter.recordMiss();
+		}
+	}
+
+	/**
+	 * 记录对象移除
+	 *
+	 * @param co    被移除的对象
+	 * @param cause 移除原因
+	 * @since 5.8.19
+	 */
+	protected void recordRemoval(CacheObj<K, V> co, RemovalCause cause) {
+		final StatsCounter statsCounter = this.statsCounter;
+		if (null != statsCounter) {
+			statsCounter.recordRemoval(cause, System.currentTimeMillis() - co.writeTime);
+		}
+	}
+
+	/**
+	 * 对象从{@link #cacheMap}中移除后，减去其权重，调用此方法需持有写锁
+	 *
+	 * @param co 被移除的对象，{@code null}时忽略
+	 * @since 5.8.19
+	 */
+	protected void releaseWeight(CacheObj<K, V> co) {
+		if (null != co && 0 != co.weight) {
+			this.weight -= co.weight;
+		}
+	}
+
 	/**
 	 * 获取所有{@link CacheObj}值的{@link Iterator}形式
 	 * @return {@link Iterator}
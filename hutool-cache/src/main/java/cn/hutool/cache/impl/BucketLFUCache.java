@@ -0,0 +1,412 @@
+package cn.hutool.cache.impl;
+
+import cn.hutool.cache.stats.RemovalCause;
+import cn.hutool.core.lang.mutable.MutableObj;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 基于频率桶的LFU(least frequently used) 最少使用率缓存<br>
+ * 与{@link LFUCache}每次清理都需遍历全部对象不同，此缓存将相同访问次数的对象放在同一个频率桶中，
+ * 频率桶按访问次数从小到大组成双向链表，桶内对象按加入顺序排列，因此：
+ * <ul>
+ *     <li>访问对象时将其移动到下一个频率桶，时间复杂度O(1)</li>
+ *     <li>缓存满时淘汰第一个频率桶中最早加入的对象，时间复杂度O(1)</li>
+ * </ul>
+ * 可选开启动态老化（LFU-DA）：新加入对象的访问次数从最近一次被淘汰对象的访问次数开始计算，
+ * 使历史上访问多但已不再访问的对象最终也能被淘汰，且无需遍历全部对象衰减计数。<br>
+ * 过期对象在访问时移除，或通过{@link #prune()}主动清理。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.19
+ */
+public class BucketLFUCache<K, V> extends ReentrantCache<K, V> {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 是否开启动态老化
+	 */
+	private final boolean aging;
+	/**
+	 * 缓存年龄，即最近一次淘汰对象的访问次数，仅在开启老化时使用
+	 */
+	private long age;
+	/**
+	 * 访问次数最少的频率桶，频率桶不序列化，反序列化后在{@link #readObject(ObjectInputStream)}中按照对象的访问次数重建
+	 */
+	private transient Bucket<K, V> head;
+
+	/**
+	 * 构造，默认不过期，不开启老化
+	 *
+	 * @param capacity 容量
+	 */
+	public BucketLFUCache(int capacity) {
+		this(capacity, 0);
+	}
+
+	/**
+	 * 构造，不开启老化
+	 *
+	 * @param capacity 容量
+	 * @param timeout  过期时长
+	 */
+	public BucketLFUCache(int capacity, long timeout) {
+		this(capacity, timeout, false);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param capacity 容量
+	 * @param timeout  过期时长
+	 * @param aging    是否开启动态老化，开启后新对象的访问次数从最近一次被淘汰对象的访问次数开始计算
+	 */
+	public BucketLFUCache(int capacity, long timeout, boolean aging) {
+		if (Integer.MAX_VALUE == capacity) {
+			capacity -= 1;
+		}
+
+		this.capacity = capacity;
+		this.timeout = timeout;
+		this.aging = aging;
+		cacheMap = new HashMap<>(capacity + 1, 1.0f);
+	}
+
+	@Override
+	protected void putWithoutLock(K key, V object, long timeout) {
+		final Node<K, V> node = new Node<>(key, object, timeout);
+		if (timeout != 0) {
+			existCustomTimeout = true;
+		}
+
+		final Node<K, V> old = (Node<K, V>) cacheMap.remove(MutableObj.of(key));
+		if (null != old) {
+			unlink(old);
+			releaseWeight(old);
+		}
+		if (null != weigher) {
+			node.weight = weigher.weigh(key, object);
+			this.pendingWeight = node.weight;
+		}
+		try {
+			// 按权重限制时，可能需要淘汰多个对象才能放入新对象
+			while (isFull() && evict()) {
+				// 继续淘汰
+			}
+		} finally {
+			this.pendingWeight = 0;
+		}
+		cacheMap.put(MutableObj.of(key), node);
+		linkNew(node);
+		this.weight += node.weight;
+	}
+
+	@Override
+	public V get(K key, boolean isUpdateLastAccess) {
+		CacheObj<K, V> removed;
+		lock.lock();
+		try {
+			final Node<K, V> node = (Node<K, V>) getWithoutLock(key);
+			// 未命中
+			if (null == node) {
+				recordMiss();
+				return null;
+			} else if (false == node.isExpired()) {
+				recordHit();
+				increment(node);
+				return node.get(isUpdateLastAccess);
+			}
+
+			// 过期，既不算命中也不算非命中
+			removed = removeWithoutLock(key, true);
+		} finally {
+			lock.unlock();
+		}
+		if (null != removed) {
+			recordRemoval(removed, RemovalCause.EXPIRED);
+			onRemove(removed.key, removed.obj);
+		}
+		return null;
+	}
+
+	@Override
+	public void clear() {
+		lock.lock();
+		try {
+			super.clear();
+			head = null;
+			age = 0;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 获取指定键当前的访问次数（开启老化时包含缓存年龄），不存在返回{@code -1}，不计入访问
+	 *
+	 * @param key 键
+	 * @return 访问次数
+	 */
+	public long getFrequency(K key) {
+		lock.lock();
+		try {
+			final Node<K, V> node = (Node<K, V>) getWithoutLock(key);
+			return null == node ? -1 : node.bucket.frequency;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	protected CacheObj<K, V> removeWithoutLock(K key, boolean withMissCount) {
+		final Node<K, V> node = (Node<K, V>) super.removeWithoutLock(key, withMissCount);
+		if (null != node) {
+			unlink(node);
+		}
+		return node;
+	}
+
+	// ---------------------------------------------------------------- prune
+
+	/**
+	 * 清理过期对象，清理后依旧满的情况下淘汰访问次数最少的对象<br>
+	 * 由于过期对象需要遍历查找，此方法只在主动调用{@link #prune()}时执行，put时只淘汰访问次数最少的对象。
+	 *
+	 * @return 清理个数
+	 */
+	@Override
+	protected int pruneCache() {
+		int count = 0;
+		if (isPruneExpiredActive()) {
+			final Iterator<CacheObj<K, V>> values = cacheObjIter();
+			Node<K, V> node;
+			while (values.hasNext()) {
+				node = (Node<K, V>) values.next();
+				if (node.isExpired()) {
+					values.remove();
+					unlink(node);
+					releaseWeight(node);
+					recordRemoval(node, RemovalCause.EXPIRED);
+					onRemove(node.key, node.obj);
+					count++;
+				}
+			}
+		}
+
+		if (isFull() && evict()) {
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * 淘汰访问次数最少的频率桶中最早加入的对象
+	 *
+	 * @return 是否有对象被淘汰
+	 */
+	private boolean evict() {
+		final Bucket<K, V> bucket = this.head;
+		if (null == bucket) {
+			return false;
+		}
+		final Node<K, V> node = bucket.first;
+		if (aging) {
+			this.age = bucket.frequency;
+		}
+		cacheMap.remove(MutableObj.of(node.key));
+		unlink(node);
+		releaseWeight(node);
+		recordRemoval(node, RemovalCause.SIZE);
+		onRemove(node.key, node.obj);
+		return true;
+	}
+
+	/**
+	 * 反序列化，按照对象的访问次数重建频率桶，同一频率桶中的对象按照最后访问时间排列
+	 *
+	 * @param in 输入流
+	 * @throws IOException            IO异常
+	 * @throws ClassNotFoundException 类不存在
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+
+		final List<Node<K, V>> nodes = new ArrayList<>(cacheMap.size());
+		for (CacheObj<K, V> co : cacheMap.values()) {
+			nodes.add((Node<K, V>) co);
+		}
+		nodes.sort(Comparator.<Node<K, V>>comparingLong(node -> node.frequency).thenComparingLong(node -> node.lastAccess));
+
+		Bucket<K, V> last = null;
+		Bucket<K, V> bucket;
+		for (Node<K, V> node : nodes) {
+			if (null == last || last.frequency != node.frequency) {
+				bucket = new Bucket<>(node.frequency);
+				if (null == last) {
+					this.head = bucket;
+				} else {
+					last.next = bucket;
+					bucket.prev = last;
+				}
+				last = bucket;
+			}
+			last.add(node);
+		}
+	}
+
+	// ---------------------------------------------------------------- bucket
+
+	/**
+	 * 新对象加入初始频率桶，初始频率为缓存年龄，此频率不大于已有的最小频率
+	 *
+	 * @param node 新对象
+	 */
+	private void linkNew(Node<K, V> node) {
+		Bucket<K, V> bucket = this.head;
+		if (null == bucket || bucket.frequency != this.age) {
+			bucket = new Bucket<>(this.age);
+			bucket.next = this.head;
+			if (null != this.head) {
+				this.head.prev = bucket;
+			}
+			this.head = bucket;
+		}
+		bucket.add(node);
+	}
+
+	/**
+	 * 对象被访问，移动到下一个频率桶
+	 *
+	 * @param node 对象
+	 */
+	private void increment(Node<K, V> node) {
+		final Bucket<K, V> bucket = node.bucket;
+		final long frequency = bucket.frequency + 1;
+		Bucket<K, V> next = bucket.next;
+		if (null == next || next.frequency != frequency) {
+			next = new Bucket<>(frequency);
+			next.prev = bucket;
+			next.next = bucket.next;
+			if (null != bucket.next) {
+				bucket.next.prev = next;
+			}
+			bucket.next = next;
+		}
+		bucket.remove(node);
+		next.add(node);
+		if (bucket.isEmpty()) {
+			removeBucket(bucket);
+		}
+	}
+
+	/**
+	 * 从所在频率桶中移除对象，桶为空时移除桶
+	 *
+	 * @param node 对象
+	 */
+	private void unlink(Node<K, V> node) {
+		final Bucket<K, V> bucket = node.bucket;
+		if (null == bucket) {
+			return;
+		}
+		bucket.remove(node);
+		if (bucket.isEmpty()) {
+			removeBucket(bucket);
+		}
+	}
+
+	private void removeBucket(Bucket<K, V> bucket) {
+		if (null == bucket.prev) {
+			this.head = bucket.next;
+		} else {
+			bucket.prev.next = bucket.next;
+		}
+		if (null != bucket.next) {
+			bucket.next.prev = bucket.prev;
+		}
+		bucket.prev = null;
+		bucket.next = null;
+	}
+
+	/**
+	 * 带频率桶指针的缓存对象
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 */
+	private static class Node<K, V> extends CacheObj<K, V> {
+		private static final long serialVersionUID = 1L;
+
+		private transient Bucket<K, V> bucket;
+		private transient Node<K, V> prev;
+		private transient Node<K, V> next;
+		/**
+		 * 访问次数，与所在频率桶一致，用于反序列化后重建频率桶
+		 */
+		private long frequency;
+
+		Node(K key, V obj, long ttl) {
+			super(key, obj, ttl);
+		}
+	}
+
+	/**
+	 * 频率桶，存放访问次数相同的对象
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 */
+	private static class Bucket<K, V> {
+		private final long frequency;
+		private Bucket<K, V> prev;
+		private Bucket<K, V> next;
+		private Node<K, V> first;
+		private Node<K, V> last;
+
+		Bucket(long frequency) {
+			this.frequency = frequency;
+		}
+
+		boolean isEmpty() {
+			return null == first;
+		}
+
+		void add(Node<K, V> node) {
+			node.bucket = this;
+			node.frequency = this.frequency;
+			node.next = null;
+			node.prev = last;
+			if (null == last) {
+				first = node;
+			} else {
+				last.next = node;
+			}
+			last = node;
+		}
+
+		void remove(Node<K, V> node) {
+			if (null == node.prev) {
+				first = node.next;
+			} else {
+				node.prev.next = node.next;
+			}
+			if (null == node.next) {
+				last = node.prev;
+			} else {
+				node.next.prev = node.prev;
+			}
+			node.bucket = null;
+			node.prev = null;
+			node.next = null;
+		}
+	}
+}
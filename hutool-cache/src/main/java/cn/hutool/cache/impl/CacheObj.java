@@ -19,6 +19,10 @@ public class CacheObj<K, V> implements Serializable {
 	protected final K key;
 	protected final V obj;
 
+	/**
+	 * 写入时间
+	 */
+	protected final long writeTime;
 	/**
 	 * 上次访问时间
 	 */
@@ -31,6 +35,10 @@ public class CacheObj<K, V> implements Serializable {
 	 * 对象存活时长，0表示永久存活
 	 */
 	protected final long ttl;
+	/**
+	 * 权重，未设置权重计算器时为0
+	 */
+	protected long weight;
 
 	/**
 	 * 构造
@@ -43,7 +51,8 @@ public class CacheObj<K, V> implements Serializable {
 		this.key = key;
 		this.obj = obj;
 		this.ttl = ttl;
-		this.lastAccess = System.currentTimeMillis();
+		this.writeTime = System.currentTimeMillis();
+		this.lastAccess = this.writeTime;
 	}
 
 	/**
@@ -99,6 +108,26 @@ public class CacheObj<K, V> implements Serializable {
 		return this.lastAccess;
 	}
 
+	/**
+	 * 获取权重
+	 *
+	 * @return 权重，未设置权重计算器时为0
+	 * @since 5.8.19
+	 */
+	public long getWeight() {
+		return this.weight;
+	}
+
+	/**
+	 * 获取写入时间
+	 *
+	 * @return 写入时间
+	 * @since 5.8.19
+	 */
+	public long getWriteTime() {
+		return this.writeTime;
+	}
+
 	@Override
 	public String toString() {
 		return "CacheObj [key=" + key + ", obj=" + obj + ", lastAccess=" + lastAccess + ", accessCount=" + accessCount + ", ttl=" + ttl + "]";
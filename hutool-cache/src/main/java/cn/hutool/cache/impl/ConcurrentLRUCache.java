@@ -0,0 +1,492 @@
+package cn.hutool.cache.impl;
+
+import cn.hutool.cache.stats.RemovalCause;
+import cn.hutool.core.collection.CopiedIter;
+import cn.hutool.core.lang.mutable.MutableObj;
+import cn.hutool.core.map.SafeConcurrentHashMap;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 并发LRU (least recently used)最近最久未使用缓存<br>
+ * 与{@link LRUCache}不同，此缓存读操作不加锁：
+ * <ul>
+ *     <li>缓存对象存放在{@link SafeConcurrentHashMap}中，get直接读取，不会阻塞</li>
+ *     <li>访问顺序的变更先记录在按线程分段的环形缓冲区中，缓冲区达到阈值时尝试获取锁批量回放到访问链表</li>
+ *     <li>缓冲区已满时直接丢弃本次访问记录，只影响淘汰的精确度，不影响正确性</li>
+ * </ul>
+ * 写操作（put、remove、prune）使用同一把锁维护访问链表，超过容量时淘汰链表头部（最久未使用）的对象。<br>
+ * 此设计参考了Caffeine等W-TinyLFU缓存的读缓冲区实现。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.19
+ */
+public class ConcurrentLRUCache<K, V> extends AbstractCache<K, V> {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 分段数，取不小于CPU核数的2的幂
+	 */
+	private static final int BUFFER_COUNT = ceilingPowerOfTwo(Runtime.getRuntime().availableProcessors());
+	/**
+	 * 分段掩码
+	 */
+	private static final int BUFFER_MASK = BUFFER_COUNT - 1;
+
+	/**
+	 * 按线程分段的访问记录缓冲区，反序列化后在{@link #readObject(ObjectInputStream)}中重建
+	 */
+	private transient ReadBuffer<K, V>[] readBuffers;
+	/**
+	 * 访问链表和所有写操作的锁，读操作只尝试获取
+	 */
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	/**
+	 * 访问链表头部，即最久未使用的对象，由{@link #evictionLock}保护<br>
+	 * 节点的链表指针不序列化，反序列化后在{@link #readObject(ObjectInputStream)}中重建链表
+	 */
+	private transient Node<K, V> head;
+	/**
+	 * 访问链表尾部，即最近使用的对象，由{@link #evictionLock}保护
+	 */
+	private transient Node<K, V> tail;
+
+	/**
+	 * 构造<br>
+	 * 默认无超时
+	 *
+	 * @param capacity 容量
+	 */
+	public ConcurrentLRUCache(int capacity) {
+		this(capacity, 0);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param capacity 容量
+	 * @param timeout  默认超时时间，单位：毫秒
+	 */
+	public ConcurrentLRUCache(int capacity, long timeout) {
+		if (Integer.MAX_VALUE == capacity) {
+			capacity -= 1;
+		}
+
+		this.capacity = capacity;
+		this.timeout = timeout;
+		this.cacheMap = new SafeConcurrentHashMap<>(capacity + 1, 1.0f);
+		this.readBuffers = createReadBuffers();
+	}
+
+	// ---------------------------------------------------------------- put start
+	@Override
+	public void put(K key, V object, long timeout) {
+		final Node<K, V> node = new Node<>(key, object, timeout);
+		if (timeout != 0) {
+			existCustomTimeout = true;
+		}
+		if (null != weigher) {
+			node.weight = weigher.weigh(key, object);
+		}
+
+		final List<CacheObj<K, V>> evicted = new ArrayList<>(1);
+		evictionLock.lock();
+		try {
+			drainReadBuffers();
+			final Node<K, V> old = (Node<K, V>) cacheMap.put(MutableObj.of(key), node);
+			if (null != old) {
+				unlink(old);
+				releaseWeight(old);
+			}
+			this.weight += node.weight;
+			linkLast(node);
+			evict(evicted);
+		} finally {
+			evictionLock.unlock();
+		}
+		fireRemove(evicted);
+	}
+	// ---------------------------------------------------------------- put end
+
+	// ---------------------------------------------------------------- get start
+	@Override
+	public V get(K key, boolean isUpdateLastAccess) {
+		final Node<K, V> node = (Node<K, V>) getWithoutLock(key);
+
+		// 未命中
+		if (null == node) {
+			recordMiss();
+			return null;
+		} else if (false == node.isExpired()) {
+			recordHit();
+			afterRead(node);
+			return node.get(isUpdateLastAccess);
+		}
+
+		// 过期，既不算命中也不算非命中
+		remove(key, true);
+		return null;
+	}
+
+	@Override
+	public boolean containsKey(K key) {
+		final CacheObj<K, V> co = getWithoutLock(key);
+		if (co == null) {
+			return false;
+		}
+		if (false == co.isExpired()) {
+			return true;
+		}
+
+		// 过期
+		remove(key, true);
+		return false;
+	}
+	// ---------------------------------------------------------------- get end
+
+	@Override
+	public Iterator<CacheObj<K, V>> cacheObjIterator() {
+		// ConcurrentHashMap的迭代器是弱一致的，无需加锁
+		return new CacheObjIterator<>(CopiedIter.copyOf(cacheObjIter()));
+	}
+
+	@Override
+	public int prune() {
+		evictionLock.lock();
+		try {
+			drainReadBuffers();
+			return pruneCache();
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * 只清理超时对象，容量的淘汰在put时完成<br>
+	 * 调用此方法需持有{@link #evictionLock}
+	 *
+	 * @return 清理数
+	 */
+	@Override
+	protected int pruneCache() {
+		if (isPruneExpiredActive() == false) {
+			return 0;
+		}
+		int count = 0;
+		Node<K, V> node = head;
+		Node<K, V> next;
+		while (null != node) {
+			next = node.next;
+			if (node.isExpired() && cacheMap.remove(MutableObj.of(node.key), node)) {
+				unlink(node);
+				releaseWeight(node);
+				recordRemoval(node, RemovalCause.EXPIRED);
+				onRemove(node.key, node.obj);
+				count++;
+			}
+			node = next;
+		}
+		return count;
+	}
+
+	@Override
+	public void remove(K key) {
+		remove(key, false);
+	}
+
+	@Override
+	public void clear() {
+		evictionLock.lock();
+		try {
+			drainReadBuffers();
+			cacheMap.clear();
+			Node<K, V> node = head;
+			Node<K, V> next;
+			while (null != node) {
+				next = node.next;
+				node.prev = null;
+				node.next = null;
+				node.linked = false;
+				node = next;
+			}
+			head = null;
+			tail = null;
+			weight = 0;
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * 移除key对应的对象
+	 *
+	 * @param key           键
+	 * @param withMissCount 是否计数丢失数
+	 */
+	private void remove(K key, boolean withMissCount) {
+		final Node<K, V> node;
+		evictionLock.lock();
+		try {
+			node = (Node<K, V>) removeWithoutLock(key, withMissCount);
+			if (null != node) {
+				unlink(node);
+			}
+		} finally {
+			evictionLock.unlock();
+		}
+		if (null != node) {
+			recordRemoval(node, withMissCount ? RemovalCause.EXPIRED : RemovalCause.EXPLICIT);
+			onRemove(node.key, node.obj);
+		}
+	}
+
+	// ---------------------------------------------------------------- private start
+
+	/**
+	 * 反序列化，重建访问记录缓冲区，并按照最后访问时间重建访问链表
+	 *
+	 * @param in 输入流
+	 * @throws IOException            IO异常
+	 * @throws ClassNotFoundException 类不存在
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		this.readBuffers = createReadBuffers();
+
+		final List<Node<K, V>> nodes = new ArrayList<>(cacheMap.size());
+		for (CacheObj<K, V> co : cacheMap.values()) {
+			nodes.add((Node<K, V>) co);
+		}
+		nodes.sort(Comparator.comparingLong(node -> node.lastAccess));
+		for (Node<K, V> node : nodes) {
+			linkLast(node);
+		}
+	}
+
+	/**
+	 * 创建按线程分段的访问记录缓冲区
+	 *
+	 * @return 缓冲区
+	 */
+	@SuppressWarnings("unchecked")
+	private static <K, V> ReadBuffer<K, V>[] createReadBuffers() {
+		final ReadBuffer<K, V>[] readBuffers = new ReadBuffer[BUFFER_COUNT];
+		for (int i = 0; i < BUFFER_COUNT; i++) {
+			readBuffers[i] = new ReadBuffer<>();
+		}
+		return readBuffers;
+	}
+
+	/**
+	 * 读取后记录访问，缓冲区达到阈值时尝试批量回放，获取锁失败则交给下一个线程回放
+	 *
+	 * @param node 被访问的节点
+	 */
+	private void afterRead(Node<K, V> node) {
+		final ReadBuffer<K, V> buffer = readBuffers[(int) mix(Thread.currentThread().getId()) & BUFFER_MASK];
+		if (buffer.offer(node) && evictionLock.tryLock()) {
+			try {
+				drainReadBuffers();
+			} finally {
+				evictionLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * 将所有缓冲区中的访问记录回放到访问链表，调用此方法需持有{@link #evictionLock}
+	 */
+	private void drainReadBuffers() {
+		for (ReadBuffer<K, V> buffer : readBuffers) {
+			buffer.drainTo(this::moveToTail);
+		}
+	}
+
+	/**
+	 * 超过容量或最大总权重时淘汰链表头部对象，刚放入的对象（链表尾部）不被淘汰，调用此方法需持有{@link #evictionLock}
+	 *
+	 * @param evicted 被淘汰的对象，用于在锁外回调监听
+	 */
+	private void evict(List<CacheObj<K, V>> evicted) {
+		Node<K, V> node;
+		while (((capacity > 0 && cacheMap.size() > capacity) || isOverWeight())
+				&& null != (node = head) && node != tail) {
+			unlink(node);
+			if (cacheMap.remove(MutableObj.of(node.key), node)) {
+				releaseWeight(node);
+				evicted.add(node);
+			}
+		}
+	}
+
+	/**
+	 * 记录淘汰并回调移除监听
+	 *
+	 * @param removed 被移除的对象
+	 */
+	private void fireRemove(List<CacheObj<K, V>> removed) {
+		for (CacheObj<K, V> co : removed) {
+			recordRemoval(co, RemovalCause.SIZE);
+			onRemove(co.key, co.obj);
+		}
+	}
+
+	private void moveToTail(Node<K, V> node) {
+		// 已经被移除的节点，忽略其过期的访问记录
+		if (node.linked && node != tail) {
+			unlink(node);
+			linkLast(node);
+		}
+	}
+
+	private void linkLast(Node<K, V> node) {
+		node.prev = tail;
+		node.next = null;
+		if (null == tail) {
+			head = node;
+		} else {
+			tail.next = node;
+		}
+		tail = node;
+		node.linked = true;
+	}
+
+	private void unlink(Node<K, V> node) {
+		if (false == node.linked) {
+			return;
+		}
+		final Node<K, V> prev = node.prev;
+		final Node<K, V> next = node.next;
+		if (null == prev) {
+			head = next;
+		} else {
+			prev.next = next;
+		}
+		if (null == next) {
+			tail = prev;
+		} else {
+			next.prev = prev;
+		}
+		node.prev = null;
+		node.next = null;
+		node.linked = false;
+	}
+
+	/**
+	 * 打散线程ID，避免连续ID集中在少数分段
+	 *
+	 * @param id 线程ID
+	 * @return 打散后的值
+	 */
+	private static long mix(long id) {
+		id = (id ^ (id >>> 33)) * 0xff51afd7ed558ccdL;
+		return id ^ (id >>> 33);
+	}
+
+	private static int ceilingPowerOfTwo(int x) {
+		return 1 << -Integer.numberOfLeadingZeros(Math.max(x, 2) - 1);
+	}
+	// ---------------------------------------------------------------- private end
+
+	/**
+	 * 带访问链表指针的缓存对象，链表指针由{@link #evictionLock}保护
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 */
+	private static class Node<K, V> extends CacheObj<K, V> {
+		private static final long serialVersionUID = 1L;
+
+		private transient Node<K, V> prev;
+		private transient Node<K, V> next;
+		/**
+		 * 是否在访问链表中
+		 */
+		private transient boolean linked;
+
+		Node(K key, V obj, long ttl) {
+			super(key, obj, ttl);
+		}
+	}
+
+	/**
+	 * 有界环形访问记录缓冲区，多线程写入，持锁线程单线程读取
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 */
+	private static class ReadBuffer<K, V> {
+
+		/**
+		 * 缓冲区大小，2的幂
+		 */
+		private static final int SIZE = 16;
+		private static final int MASK = SIZE - 1;
+		/**
+		 * 缓冲区积累到此数量时触发回放
+		 */
+		private static final int DRAIN_THRESHOLD = SIZE / 2;
+
+		private final AtomicReferenceArray<Node<K, V>> buffer = new AtomicReferenceArray<>(SIZE);
+		private final AtomicLong writeCounter = new AtomicLong();
+		/**
+		 * 只在持锁时修改
+		 */
+		private volatile long readCounter;
+
+		/**
+		 * 记录一次访问，缓冲区满或竞争失败时丢弃
+		 *
+		 * @param node 节点
+		 * @return 是否需要回放
+		 */
+		boolean offer(Node<K, V> node) {
+			final long head = readCounter;
+			final long tail = writeCounter.get();
+			final long size = tail - head;
+			if (size >= SIZE) {
+				// 已满，丢弃并要求回放
+				return true;
+			}
+			if (writeCounter.compareAndSet(tail, tail + 1)) {
+				buffer.lazySet((int) (tail & MASK), node);
+				return size + 1 >= DRAIN_THRESHOLD;
+			}
+			return false;
+		}
+
+		/**
+		 * 回放缓冲区中的记录，调用者需持有锁
+		 *
+		 * @param consumer 节点消费者
+		 */
+		void drainTo(Consumer<Node<K, V>> consumer) {
+			long head = readCounter;
+			final long tail = writeCounter.get();
+			int index;
+			Node<K, V> node;
+			for (; head < tail; head++) {
+				index = (int) (head & MASK);
+				node = buffer.get(index);
+				if (null == node) {
+					// 写入方已占位但尚未发布，下一次再回放
+					break;
+				}
+				buffer.lazySet(index, null);
+				consumer.accept(node);
+			}
+			readCounter = head;
+		}
+	}
+}
@@ -0,0 +1,253 @@
+package cn.hutool.cache.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 缓存过期索引，多层时间轮实现，设计参考hutool-cron中的TimingWheel。<br>
+ * 缓存对象按照过期时间放入对应层级的时间槽中，推进时间时只处理到期的时间槽：
+ * <ul>
+ *     <li>最底层时间槽到期时，槽中已过期的对象交给处理器移除</li>
+ *     <li>上层时间槽到期时，槽中对象降级到下层时间轮重新分配</li>
+ *     <li>对象被访问后过期时间会延后，此类对象在所在时间槽到期时按新的过期时间重新分配</li>
+ * </ul>
+ * 因此每次推进的开销只与到期的对象数量相关，与缓存总量无关。<br>
+ * 此类非线程安全，由缓存的写锁保护；不参与序列化，由缓存反序列化时重建。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.19
+ */
+class ExpirationWheel<K, V> {
+
+	/**
+	 * 每层时间轮的槽数，2的幂
+	 */
+	private static final int WHEEL_SIZE = 64;
+	private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+	/**
+	 * 最大层数，最上层不再溢出
+	 */
+	private static final int MAX_LEVEL = 6;
+
+	/**
+	 * 各层时间轮，下标0为最底层
+	 */
+	private final List<Level<K, V>> levels = new ArrayList<>(MAX_LEVEL);
+
+	/**
+	 * 构造
+	 *
+	 * @param tickMs      最底层一个时间槽的范围，单位毫秒
+	 * @param currentTime 当前时间
+	 */
+	ExpirationWheel(long tickMs, long currentTime) {
+		levels.add(new Level<>(tickMs, currentTime));
+	}
+
+	/**
+	 * 按照对象的过期时间加入对应时间槽，已到期的对象放入下一个时间槽
+	 *
+	 * @param co 缓存对象
+	 */
+	void schedule(TimedCacheObj<K, V> co) {
+		final Level<K, V> first = levels.get(0);
+		final long expire = Math.max(co.expireTime(), first.currentTime + first.tickMs);
+
+		Level<K, V> level;
+		for (int i = 0; ; i++) {
+			level = getLevel(i);
+			if (expire - level.currentTime < level.interval) {
+				level.bucket(expire).add(co);
+				return;
+			}
+			if (i == MAX_LEVEL - 1) {
+				// 超出最上层范围，放入最远的槽，到期后重新分配
+				level.bucket(level.currentTime + level.interval - level.tickMs).add(co);
+				return;
+			}
+		}
+	}
+
+	/**
+	 * 从时间轮中移除对象
+	 *
+	 * @param co 缓存对象
+	 */
+	void remove(TimedCacheObj<K, V> co) {
+		if (null != co.bucket) {
+			co.bucket.remove(co);
+		}
+	}
+
+	/**
+	 * 推进时间，处理所有到期的时间槽
+	 *
+	 * @param now     当前时间
+	 * @param remover 过期对象处理器，返回对象是否被移除
+	 * @return 移除的对象数
+	 */
+	int advance(long now, Predicate<TimedCacheObj<K, V>> remover) {
+		final List<TimedCacheObj<K, V>> due = new ArrayList<>();
+		for (Level<K, V> level : levels) {
+			if (false == level.advance(now, due)) {
+				// 下层时间轮未跨越时间槽时，上层时间轮也不会跨越
+				break;
+			}
+		}
+
+		int count = 0;
+		for (TimedCacheObj<K, V> co : due) {
+			if (co.isExpired()) {
+				if (remover.test(co)) {
+					count++;
+				}
+			} else {
+				// 被访问后延期的对象，或需要降级到下层的对象
+				schedule(co);
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * 清空时间轮
+	 */
+	void clear() {
+		for (Level<K, V> level : levels) {
+			level.clear();
+		}
+	}
+
+	/**
+	 * 获取或创建指定层级的时间轮
+	 *
+	 * @param index 层级
+	 * @return 时间轮
+	 */
+	private Level<K, V> getLevel(int index) {
+		if (index < levels.size()) {
+			return levels.get(index);
+		}
+		final Level<K, V> lower = levels.get(index - 1);
+		final Level<K, V> level = new Level<>(lower.interval, lower.currentTime);
+		levels.add(level);
+		return level;
+	}
+
+	/**
+	 * 单层时间轮
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 */
+	private static class Level<K, V> {
+		/**
+		 * 一个时间槽的范围
+		 */
+		private final long tickMs;
+		/**
+		 * 时间跨度，即单个槽的跨度*槽个数
+		 */
+		private final long interval;
+		/**
+		 * 当前时间，为tickMs的整数倍
+		 */
+		private long currentTime;
+		private final Bucket<K, V>[] buckets;
+
+		@SuppressWarnings("unchecked")
+		Level(long tickMs, long currentTime) {
+			this.tickMs = tickMs;
+			this.interval = tickMs * WHEEL_SIZE;
+			this.currentTime = currentTime - (currentTime % tickMs);
+			this.buckets = new Bucket[WHEEL_SIZE];
+			for (int i = 0; i < WHEEL_SIZE; i++) {
+				this.buckets[i] = new Bucket<>();
+			}
+		}
+
+		Bucket<K, V> bucket(long expire) {
+			return buckets[(int) ((expire / tickMs) & WHEEL_MASK)];
+		}
+
+		/**
+		 * 推进当前层时间，将跨越的时间槽中的对象取出
+		 *
+		 * @param now 当前时间
+		 * @param due 取出的对象
+		 * @return 是否跨越了时间槽
+		 */
+		boolean advance(long now, List<TimedCacheObj<K, V>> due) {
+			if (now < currentTime + tickMs) {
+				return false;
+			}
+			final long target = now - (now % tickMs);
+			final long steps = Math.min((target - currentTime) / tickMs, WHEEL_SIZE);
+			final long virtualId = currentTime / tickMs;
+			for (long i = 1; i <= steps; i++) {
+				buckets[(int) ((virtualId + i) & WHEEL_MASK)].drainTo(due);
+			}
+			currentTime = target;
+			return true;
+		}
+
+		void clear() {
+			final List<TimedCacheObj<K, V>> ignore = new ArrayList<>();
+			for (Bucket<K, V> bucket : buckets) {
+				bucket.drainTo(ignore);
+				ignore.clear();
+			}
+		}
+	}
+
+	/**
+	 * 时间槽，槽内对象组成双向链表
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 */
+	static class Bucket<K, V> {
+		private TimedCacheObj<K, V> head;
+
+		void add(TimedCacheObj<K, V> co) {
+			co.bucket = this;
+			co.prev = null;
+			co.next = head;
+			if (null != head) {
+				head.prev = co;
+			}
+			head = co;
+		}
+
+		void remove(TimedCacheObj<K, V> co) {
+			if (null == co.prev) {
+				head = co.next;
+			} else {
+				co.prev.next = co.next;
+			}
+			if (null != co.next) {
+				co.next.prev = co.prev;
+			}
+			co.bucket = null;
+			co.prev = null;
+			co.next = null;
+		}
+
+		void drainTo(List<TimedCacheObj<K, V>> list) {
+			TimedCacheObj<K, V> co = head;
+			TimedCacheObj<K, V> next;
+			while (null != co) {
+				next = co.next;
+				co.bucket = null;
+				co.prev = null;
+				co.next = null;
+				list.add(co);
+				co = next;
+			}
+			head = null;
+		}
+	}
+}
@@ -1,5 +1,7 @@
 package cn.hutool.cache.impl;
 
+import cn.hutool.cache.stats.RemovalCause;
+
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 
@@ -57,6 +59,8 @@ public class FIFOCache<K, V> extends StampedCache<K, V> {
 				CacheObj<K, V> co = values.next();
 				if (co.isExpired()) {
 					values.remove();
+					releaseWeight(co);
+					recordRemoval(co, RemovalCause.EXPIRED);
 					onRemove(co.key, co.obj);
 					count++;
 					continue;
@@ -72,6 +76,7 @@ public class FIFOCache<K, V> extends StampedCache<K, V> {
 		// 清理结束后依旧是满的，则删除第一个被缓存的对象
 		if (isFull() && null != first) {
 			removeWithoutLock(first.key, false);
+			recordRemoval(first, RemovalCause.SIZE);
 			onRemove(first.key, first.obj);
 			count++;
 		}
@@ -1,5 +1,7 @@
 package cn.hutool.cache.impl;
 
+import cn.hutool.cache.stats.RemovalCause;
+
 import java.util.HashMap;
 import java.util.Iterator;
 
@@ -63,6 +65,8 @@ public class LFUCache<K, V> extends StampedCache<K, V> {
 			co = values.next();
 			if (co.isExpired() == true) {
 				values.remove();
+				releaseWeight(co);
+				recordRemoval(co, RemovalCause.EXPIRED);
 				onRemove(co.key, co.obj);
 				count++;
 				continue;
@@ -84,6 +88,8 @@ public class LFUCache<K, V> extends StampedCache<K, V> {
 				co1 = values.next();
 				if (co1.accessCount.addAndGet(-minAccessCount) <= 0) {
 					values.remove();
+					releaseWeight(co1);
+					recordRemoval(co1, RemovalCause.SIZE);
 					onRemove(co1.key, co1.obj);
 					count++;
 				}
@@ -1,5 +1,6 @@
 package cn.hutool.cache.impl;
 
+import cn.hutool.cache.stats.RemovalCause;
 import cn.hutool.core.lang.mutable.Mutable;
 import cn.hutool.core.map.FixedLinkedHashMap;
 
@@ -45,6 +46,8 @@ public class LRUCache<K, V> extends ReentrantCache<K, V> {
 		//链表key按照访问顺序排序，调用get方法后，会将这次访问的元素移至头部
 		final FixedLinkedHashMap<Mutable<K>, CacheObj<K, V>> fixedLinkedHashMap = new FixedLinkedHashMap<>(capacity);
 		fixedLinkedHashMap.setRemoveListener(entry -> {
+			releaseWeight(entry.getValue());
+			recordRemoval(entry.getValue(), RemovalCause.SIZE);
 			if(null != listener){
 				listener.onRemove(entry.getKey().get(), entry.getValue().getValue());
 			}
@@ -55,24 +58,38 @@ public class LRUCache<K, V> extends ReentrantCache<K, V> {
 	// ---------------------------------------------------------------- prune
 
 	/**
-	 * 只清理超时对象，LRU的实现会交给{@code LinkedHashMap}
+	 * 清理超时对象，按数量的LRU淘汰会交给{@code LinkedHashMap}<br>
+	 * 设置了权重计算器时，清理后总权重依旧超出则淘汰最久未使用的对象
 	 */
 	@Override
 	protected int pruneCache() {
-		if (isPruneExpiredActive() == false) {
-			return 0;
-		}
 		int count = 0;
-		Iterator<CacheObj<K, V>> values = cacheObjIter();
+		Iterator<CacheObj<K, V>> values;
 		CacheObj<K, V> co;
-		while (values.hasNext()) {
-			co = values.next();
-			if (co.isExpired()) {
-				values.remove();
-				onRemove(co.key, co.obj);
-				count++;
+		if (isPruneExpiredActive()) {
+			values = cacheObjIter();
+			while (values.hasNext()) {
+				co = values.next();
+				if (co.isExpired()) {
+					values.remove();
+					releaseWeight(co);
+					recordRemoval(co, RemovalCause.EXPIRED);
+					onRemove(co.key, co.obj);
+					count++;
+				}
 			}
 		}
+
+		// 链表头部为最久未使用的对象
+		values = cacheObjIter();
+		while (isOverWeight() && values.hasNext()) {
+			co = values.next();
+			values.remove();
+			releaseWeight(co);
+			recordRemoval(co, RemovalCause.SIZE);
+			onRemove(co.key, co.obj);
+			count++;
+		}
 		return count;
 	}
 }
@@ -1,5 +1,6 @@
 package cn.hutool.cache.impl;
 
+import cn.hutool.cache.stats.RemovalCause;
 import cn.hutool.core.collection.CopiedIter;
 
 import java.util.Iterator;
@@ -66,10 +67,10 @@ public abstract class ReentrantCache<K, V> extends AbstractCache<K, V> {
 
 		// 未命中
 		if (null == co) {
-			missCount.increment();
+			recordMiss();
 			return null;
 		} else if (false == co.isExpired()) {
-			hitCount.increment();
+			recordHit();
 			return co.get(isUpdateLastAccess);
 		}
 
@@ -78,6 +79,16 @@ public abstract class ReentrantCache<K, V> extends AbstractCache<K, V> {
 		return null;
 	}
 
+	@Override
+	protected CacheObj<K, V> getCacheObj(K key) {
+		lock.lock();
+		try {
+			return getWithoutLock(key);
+		} finally {
+			lock.unlock();
+		}
+	}
+
 	@Override
 	public Iterator<CacheObj<K, V>> cacheObjIterator() {
 		CopiedIter<CacheObj<K, V>> copiedIterator;
@@ -110,6 +121,7 @@ public abstract class ReentrantCache<K, V> extends AbstractCache<K, V> {
 		lock.lock();
 		try {
 			cacheMap.clear();
+			weight = 0;
 		} finally {
 			lock.unlock();
 		}
@@ -140,6 +152,7 @@ public abstract class ReentrantCache<K, V> extends AbstractCache<K, V> {
 			lock.unlock();
 		}
 		if (null != co) {
+			recordRemoval(co, withMissCount ? RemovalCause.EXPIRED : RemovalCause.EXPLICIT);
 			onRemove(co.key, co.obj);
 		}
 	}
@@ -1,5 +1,6 @@
 package cn.hutool.cache.impl;
 
+import cn.hutool.cache.stats.RemovalCause;
 import cn.hutool.core.collection.CopiedIter;
 
 import java.util.Iterator;
@@ -71,10 +72,10 @@ public abstract class StampedCache<K, V> extends AbstractCache<K, V>{
 
 		// 未命中
 		if (null == co) {
-			missCount.increment();
+			recordMiss();
 			return null;
 		} else if (false == co.isExpired()) {
-			hitCount.increment();
+			recordHit();
 			return co.get(isUpdateLastAccess);
 		}
 
@@ -83,6 +84,16 @@ public abstract class StampedCache<K, V> extends AbstractCache<K, V>{
 		return null;
 	}
 
+	@Override
+	protected CacheObj<K, V> getCacheObj(K key) {
+		final long stamp = lock.readLock();
+		try {
+			return getWithoutLock(key);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
 	@Override
 	public Iterator<CacheObj<K, V>> cacheObjIterator() {
 		CopiedIter<CacheObj<K, V>> copiedIterator;
@@ -115,6 +126,7 @@ public abstract class StampedCache<K, V> extends AbstractCache<K, V>{
 		final long stamp = lock.writeLock();
 		try {
 			cacheMap.clear();
+			weight = 0;
 		} finally {
 			lock.unlockWrite(stamp);
 		}
@@ -135,6 +147,7 @@ public abstract class StampedCache<K, V> extends AbstractCache<K, V>{
 			lock.unlockWrite(stamp);
 		}
 		if (null != co) {
+			recordRemoval(co, withMissCount ? RemovalCause.EXPIRED : RemovalCause.EXPLICIT);
 			onRemove(co.key, co.obj);
 		}
 	}
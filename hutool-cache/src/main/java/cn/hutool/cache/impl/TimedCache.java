@@ -1,8 +1,13 @@
 package cn.hutool.cache.impl;
 
+import cn.hutool.cache.CacheWeigher;
 import cn.hutool.cache.GlobalPruneTimer;
+import cn.hutool.cache.stats.RemovalCause;
 import cn.hutool.core.lang.mutable.Mutable;
+import cn.hutool.core.lang.mutable.MutableObj;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -10,7 +15,9 @@ import java.util.concurrent.ScheduledFuture;
 
 /**
  * 定时缓存<br>
- * 此缓存没有容量限制，对象只有在过期后才会被移除
+ * 此缓存没有容量限制，对象只有在过期后才会被移除<br>
+ * 设置了过期时长的对象会加入过期时间轮（{@link ExpirationWheel}），清理时只处理到期的对象，而非遍历全部缓存<br>
+ * 时间轮强引用缓存对象，因此弱引用缓存（{@link WeakCache}）不使用时间轮，清理时遍历全部缓存
  *
  * @author Looly
  *
@@ -20,8 +27,17 @@ import java.util.concurrent.ScheduledFuture;
 public class TimedCache<K, V> extends StampedCache<K, V> {
 	private static final long serialVersionUID = 1L;
 
+	/**
+	 * 默认过期时间轮最底层时间槽的范围，单位毫秒
+	 */
+	private static final long DEFAULT_TICK_MS = 1;
+
 	/** 正在执行的定时任务 */
 	private ScheduledFuture<?> pruneJobFuture;
+	/** 是否使用过期时间轮 */
+	private final boolean useExpirationWheel;
+	/** 过期索引，由写锁保护，{@code null}表示不使用时间轮，反序列化时根据缓存对象重建 */
+	private transient ExpirationWheel<K, V> expirationWheel;
 
 	/**
 	 * 构造
@@ -39,31 +55,114 @@ public class TimedCache<K, V> extends StampedCache<K, V> {
 	 * @param map 存储缓存对象的map
 	 */
 	public TimedCache(long timeout, Map<Mutable<K>, CacheObj<K, V>> map) {
+		this(timeout, map, true);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param timeout           过期时长
+	 * @param map               存储缓存对象的map
+	 * @param useExpirationWheel 是否使用过期时间轮，不使用时清理遍历全部缓存
+	 * @since 5.8.19
+	 */
+	TimedCache(long timeout, Map<Mutable<K>, CacheObj<K, V>> map, boolean useExpirationWheel) {
 		this.capacity = 0;
 		this.timeout = timeout;
 		this.cacheMap = map;
+		this.useExpirationWheel = useExpirationWheel;
+		this.expirationWheel = useExpirationWheel ? new ExpirationWheel<>(DEFAULT_TICK_MS, System.currentTimeMillis()) : null;
+	}
+
+	/**
+	 * 定时缓存没有容量限制，只按过期时间移除对象，不支持按权重限制
+	 *
+	 * @param weigher   权重计算器
+	 * @param maxWeight 最大总权重
+	 * @return 不返回
+	 * @throws UnsupportedOperationException 总是抛出
+	 * @since 5.8.19
+	 */
+	@Override
+	public TimedCache<K, V> setWeigher(CacheWeigher<K, V> weigher, long maxWeight) {
+		throw new UnsupportedOperationException("TimedCache is not support weight limit.");
+	}
+
+	@Override
+	protected void putWithoutLock(K key, V object, long timeout) {
+		final TimedCacheObj<K, V> co = new TimedCacheObj<>(key, object, timeout);
+		if (timeout != 0) {
+			existCustomTimeout = true;
+		}
+		final CacheObj<K, V> old = cacheMap.put(MutableObj.of(key), co);
+		if (null == expirationWheel) {
+			return;
+		}
+		if (old instanceof TimedCacheObj) {
+			expirationWheel.remove((TimedCacheObj<K, V>) old);
+		}
+		if (timeout > 0) {
+			expirationWheel.schedule(co);
+		}
+	}
+
+	@Override
+	protected CacheObj<K, V> removeWithoutLock(K key, boolean withMissCount) {
+		final CacheObj<K, V> co = super.removeWithoutLock(key, withMissCount);
+		if (null != expirationWheel && co instanceof TimedCacheObj) {
+			expirationWheel.remove((TimedCacheObj<K, V>) co);
+		}
+		return co;
+	}
+
+	@Override
+	public void clear() {
+		final long stamp = lock.writeLock();
+		try {
+			cacheMap.clear();
+			if (null != expirationWheel) {
+				expirationWheel.clear();
+			}
+		} finally {
+			lock.unlockWrite(stamp);
+		}
 	}
 
 	// ---------------------------------------------------------------- prune
 	/**
-	 * 清理过期对象
+	 * 清理过期对象<br>
+	 * 推进过期时间轮，只处理到期时间槽中的对象，开销与过期对象数量相关，与缓存大小无关<br>
+	 * 未使用时间轮时遍历全部缓存
 	 *
 	 * @return 清理数
 	 */
 	@Override
 	protected int pruneCache() {
-		int count = 0;
-		final Iterator<CacheObj<K, V>> values = cacheObjIter();
-		CacheObj<K, V> co;
-		while (values.hasNext()) {
-			co = values.next();
-			if (co.isExpired()) {
-				values.remove();
-				onRemove(co.key, co.obj);
-				count++;
+		if (null == expirationWheel) {
+			int count = 0;
+			final Iterator<CacheObj<K, V>> values = cacheObjIter();
+			CacheObj<K, V> co;
+			while (values.hasNext()) {
+				co = values.next();
+				if (co.isExpired()) {
+					values.remove();
+					recordRemoval(co, RemovalCause.EXPIRED);
+					onRemove(co.key, co.obj);
+					count++;
+				}
 			}
+			return count;
 		}
-		return count;
+
+		return expirationWheel.advance(System.currentTimeMillis(), co -> {
+			// 对象可能已被GC回收（WeakCache）或被替换，只移除当前映射的对象
+			if (cacheMap.remove(MutableObj.of(co.key), co)) {
+				recordRemoval(co, RemovalCause.EXPIRED);
+				onRemove(co.key, co.obj);
+				return true;
+			}
+			return false;
+		});
 	}
 
 	// ---------------------------------------------------------------- auto prune
@@ -85,4 +184,23 @@ public class TimedCache<K, V> extends StampedCache<K, V> {
 		}
 	}
 
+	/**
+	 * 反序列化，时间轮不参与序列化，根据缓存对象重建
+	 *
+	 * @param in 输入流
+	 * @throws IOException            IO异常
+	 * @throws ClassNotFoundException 类未找到
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		if (false == useExpirationWheel) {
+			return;
+		}
+		this.expirationWheel = new ExpirationWheel<>(DEFAULT_TICK_MS, System.currentTimeMillis());
+		for (CacheObj<K, V> co : cacheMap.values()) {
+			if (co.ttl > 0 && co instanceof TimedCacheObj) {
+				expirationWheel.schedule((TimedCacheObj<K, V>) co);
+			}
+		}
+	}
 }
@@ -0,0 +1,44 @@
+package cn.hutool.cache.impl;
+
+/**
+ * 可加入{@link ExpirationWheel}的缓存对象，同一时间槽中的对象组成双向链表
+ *
+ * @param <K> Key类型
+ * @param <V> Value类型
+ * @author looly
+ * @since 5.8.19
+ */
+class TimedCacheObj<K, V> extends CacheObj<K, V> {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 所在时间槽，{@code null}表示未加入时间轮，时间轮不参与序列化
+	 */
+	transient ExpirationWheel.Bucket<K, V> bucket;
+	transient TimedCacheObj<K, V> prev;
+	transient TimedCacheObj<K, V> next;
+
+	/**
+	 * 构造
+	 *
+	 * @param key 键
+	 * @param obj 值
+	 * @param ttl 超时时长
+	 */
+	TimedCacheObj(K key, V obj, long ttl) {
+		super(key, obj, ttl);
+	}
+
+	/**
+	 * 计算过期时间点，即{@link #isExpired()}开始返回{@code true}的时间，溢出时返回{@link Long#MAX_VALUE}
+	 *
+	 * @return 过期时间点
+	 */
+	long expireTime() {
+		final long lastAccess = this.lastAccess;
+		if (this.ttl >= Long.MAX_VALUE - lastAccess) {
+			return Long.MAX_VALUE;
+		}
+		return lastAccess + this.ttl + 1;
+	}
+}
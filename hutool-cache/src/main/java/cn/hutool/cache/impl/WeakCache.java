@@ -11,6 +11,7 @@ import java.lang.ref.Reference;
  * 弱引用缓存<br>
  * 对于一个给定的键，其映射的存在并不阻止垃圾回收器对该键的丢弃，这就使该键成为可终止的，被终止，然后被回收。<br>
  * 丢弃某个键时，其条目从映射中有效地移除。<br>
+ * 为了不延长对象的存活时间，此缓存不使用过期时间轮，清理过期对象时遍历全部缓存。<br>
  *
  * @author Looly
  *
@@ -27,7 +28,7 @@ public class WeakCache<K, V> extends TimedCache<K, V>{
 	 * @param timeout 超时时常，单位毫秒，-1或0表示无限制
 	 */
 	public WeakCache(long timeout) {
-		super(timeout, new WeakConcurrentMap<>());
+		super(timeout, new WeakConcurrentMap<>(), false);
 	}
 
 	@Override
@@ -0,0 +1,219 @@
+package cn.hutool.cache.stats;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * 缓存统计信息快照，不可变<br>
+ * 移除对象的存活时长按照{@link #getAgeBounds()}分段统计，用于观察对象的存活时长分布，辅助调整容量和过期时长。
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+public class CacheStats implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 存活时长分段的上限（不含），单位毫秒，最后一段为不小于最后一个上限的所有对象
+	 */
+	private static final long[] AGE_BOUNDS = {1000L, 10_000L, 60_000L, 600_000L, 3600_000L};
+
+	private final long hitCount;
+	private final long missCount;
+	private final long loadSuccessCount;
+	private final long loadFailureCount;
+	private final long totalLoadTime;
+	private final long evictionCount;
+	private final long expiredCount;
+	private final long explicitCount;
+	private final long[] ageDistribution;
+
+	/**
+	 * 构造
+	 *
+	 * @param hitCount         命中数
+	 * @param missCount        未命中数
+	 * @param loadSuccessCount 加载成功数
+	 * @param loadFailureCount 加载失败数
+	 * @param totalLoadTime    总加载耗时，单位纳秒
+	 * @param evictionCount    因容量或权重被淘汰的对象数
+	 * @param expiredCount     因过期被移除的对象数
+	 * @param explicitCount    手动移除的对象数
+	 * @param ageDistribution  移除对象的存活时长分布，长度为{@link #getAgeBounds()}长度+1
+	 */
+	public CacheStats(long hitCount, long missCount, long loadSuccessCount, long loadFailureCount, long totalLoadTime,
+					  long evictionCount, long expiredCount, long explicitCount, long[] ageDistribution) {
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.loadSuccessCount = loadSuccessCount;
+		this.loadFailureCount = loadFailureCount;
+		this.totalLoadTime = totalLoadTime;
+		this.evictionCount = evictionCount;
+		this.expiredCount = expiredCount;
+		this.explicitCount = explicitCount;
+		this.ageDistribution = null == ageDistribution ? new long[getAgeSegmentCount()] : ageDistribution.clone();
+	}
+
+	/**
+	 * 只有命中和未命中数的统计信息
+	 *
+	 * @param hitCount  命中数
+	 * @param missCount 未命中数
+	 * @return CacheStats
+	 */
+	public static CacheStats of(long hitCount, long missCount) {
+		return new CacheStats(hitCount, missCount, 0, 0, 0, 0, 0, 0, null);
+	}
+
+	/**
+	 * 获取存活时长分段的上限（不含），单位毫秒，最后一段为不小于最后一个上限的所有对象
+	 *
+	 * @return 分段上限的副本
+	 */
+	public static long[] getAgeBounds() {
+		return AGE_BOUNDS.clone();
+	}
+
+	/**
+	 * 获取存活时长的分段数，即分段上限个数+1
+	 *
+	 * @return 分段数
+	 */
+	public static int getAgeSegmentCount() {
+		return AGE_BOUNDS.length + 1;
+	}
+
+	/**
+	 * 计算存活时长所在的分段
+	 *
+	 * @param age 存活时长，单位毫秒
+	 * @return 分段下标
+	 */
+	public static int ageIndex(long age) {
+		for (int i = 0; i < AGE_BOUNDS.length; i++) {
+			if (age < AGE_BOUNDS[i]) {
+				return i;
+			}
+		}
+		return AGE_BOUNDS.length;
+	}
+
+	/**
+	 * @return 命中数
+	 */
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * @return 未命中数
+	 */
+	public long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * @return 请求数，即命中数+未命中数
+	 */
+	public long getRequestCount() {
+		return hitCount + missCount;
+	}
+
+	/**
+	 * @return 命中率，无请求时为1.0
+	 */
+	public double getHitRate() {
+		final long requestCount = getRequestCount();
+		return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+	}
+
+	/**
+	 * @return 加载成功数
+	 */
+	public long getLoadSuccessCount() {
+		return loadSuccessCount;
+	}
+
+	/**
+	 * @return 加载失败数
+	 */
+	public long getLoadFailureCount() {
+		return loadFailureCount;
+	}
+
+	/**
+	 * @return 总加载耗时，单位纳秒
+	 */
+	public long getTotalLoadTime() {
+		return totalLoadTime;
+	}
+
+	/**
+	 * @return 平均加载耗时，单位纳秒，无加载时为0
+	 */
+	public double getAverageLoadPenalty() {
+		final long loadCount = loadSuccessCount + loadFailureCount;
+		return loadCount == 0 ? 0.0 : (double) totalLoadTime / loadCount;
+	}
+
+	/**
+	 * @return 因容量或权重被淘汰的对象数
+	 */
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	/**
+	 * @return 因过期被移除的对象数
+	 */
+	public long getExpiredCount() {
+		return expiredCount;
+	}
+
+	/**
+	 * @return 手动移除的对象数
+	 */
+	public long getExplicitCount() {
+		return explicitCount;
+	}
+
+	/**
+	 * 获取移除对象的存活时长分布，下标i表示存活时长小于{@code getAgeBounds()[i]}（且不小于上一个上限）的对象数，
+	 * 最后一个元素为存活时长不小于最后一个上限的对象数
+	 *
+	 * @return 存活时长分布
+	 */
+	public long[] getAgeDistribution() {
+		return ageDistribution.clone();
+	}
+
+	/**
+	 * 计算与另一个快照的差值，用于计算一段时间内的统计
+	 *
+	 * @param other 较早的快照
+	 * @return 差值
+	 */
+	public CacheStats minus(CacheStats other) {
+		final long[] ages = new long[ageDistribution.length];
+		for (int i = 0; i < ages.length; i++) {
+			ages[i] = Math.max(0, ageDistribution[i] - other.ageDistribution[i]);
+		}
+		return new CacheStats(
+				Math.max(0, hitCount - other.hitCount),
+				Math.max(0, missCount - other.missCount),
+				Math.max(0, loadSuccessCount - other.loadSuccessCount),
+				Math.max(0, loadFailureCount - other.loadFailureCount),
+				Math.max(0, totalLoadTime - other.totalLoadTime),
+				Math.max(0, evictionCount - other.evictionCount),
+				Math.max(0, expiredCount - other.expiredCount),
+				Math.max(0, explicitCount - other.explicitCount),
+				ages);
+	}
+
+	@Override
+	public String toString() {
+		return "CacheStats [hitCount=" + hitCount + ", missCount=" + missCount + ", loadSuccessCount=" + loadSuccessCount
+				+ ", loadFailureCount=" + loadFailureCount + ", totalLoadTime=" + totalLoadTime + ", evictionCount=" + evictionCount
+				+ ", expiredCount=" + expiredCount + ", explicitCount=" + explicitCount + ", ageDistribution=" + Arrays.toString(ageDistribution) + "]";
+	}
+}
@@ -0,0 +1,184 @@
+package cn.hutool.cache.stats;
+
+import cn.hutool.cache.impl.AbstractCache;
+import cn.hutool.core.exceptions.UtilException;
+
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * 缓存统计JMX导出工具，将缓存的{@link CacheStats}注册为MXBean<br>
+ * 注册后的ObjectName为：{@code cn.hutool.cache:type=CacheStats,name=缓存名}
+ *
+ * <pre>
+ * final LRUCache&lt;String, String&gt; cache = CacheUtil.newLRUCache(1000);
+ * cache.setStatsCounter(new ConcurrentStatsCounter());
+ * CacheStatsExporter.register("userCache", cache);
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+public class CacheStatsExporter {
+
+	/**
+	 * ObjectName的域
+	 */
+	public static final String DOMAIN = "cn.hutool.cache";
+
+	/**
+	 * 注册缓存统计到平台MBeanServer，已存在同名注册时替换
+	 *
+	 * @param name  缓存名
+	 * @param cache 缓存
+	 * @return 注册的{@link ObjectName}
+	 * @throws UtilException JMX异常包装
+	 */
+	public static ObjectName register(String name, AbstractCache<?, ?> cache) throws UtilException {
+		final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		final ObjectName objectName = getObjectName(name);
+		try {
+			if (server.isRegistered(objectName)) {
+				server.unregisterMBean(objectName);
+			}
+			server.registerMBean(new CacheStatsBean(cache), objectName);
+		} catch (JMException e) {
+			throw new UtilException(e);
+		}
+		return objectName;
+	}
+
+	/**
+	 * 取消注册缓存统计
+	 *
+	 * @param name 缓存名
+	 * @throws UtilException JMX异常包装
+	 */
+	public static void unregister(String name) throws UtilException {
+		try {
+			ManagementFactory.getPlatformMBeanServer().unregisterMBean(getObjectName(name));
+		} catch (InstanceNotFoundException e) {
+			// ignore
+		} catch (JMException e) {
+			throw new UtilException(e);
+		}
+	}
+
+	/**
+	 * 获取缓存对应的{@link ObjectName}
+	 *
+	 * @param name 缓存名
+	 * @return {@link ObjectName}
+	 * @throws UtilException 名称不合法
+	 */
+	public static ObjectName getObjectName(String name) throws UtilException {
+		try {
+			return new ObjectName(DOMAIN + ":type=CacheStats,name=" + ObjectName.quote(name));
+		} catch (JMException e) {
+			throw new UtilException(e);
+		}
+	}
+
+	/**
+	 * {@link CacheStatsMXBean}实现，每次读取属性时只读取对应的计数<br>
+	 * 命中数和未命中数由缓存自身记录，其它计数在使用{@link ConcurrentStatsCounter}时直接读取，否则从快照中获取
+	 */
+	private static class CacheStatsBean implements CacheStatsMXBean {
+		private final AbstractCache<?, ?> cache;
+
+		CacheStatsBean(AbstractCache<?, ?> cache) {
+			this.cache = cache;
+		}
+
+		@Override
+		public int getSize() {
+			return cache.size();
+		}
+
+		@Override
+		public int getCapacity() {
+			return cache.capacity();
+		}
+
+		@Override
+		public long getWeight() {
+			return cache.getWeight();
+		}
+
+		@Override
+		public long getHitCount() {
+			return cache.getHitCount();
+		}
+
+		@Override
+		public long getMissCount() {
+			return cache.getMissCount();
+		}
+
+		@Override
+		public double getHitRate() {
+			final long hitCount = cache.getHitCount();
+			final long requestCount = hitCount + cache.getMissCount();
+			return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+		}
+
+		@Override
+		public long getLoadSuccessCount() {
+			final ConcurrentStatsCounter counter = getConcurrentCounter();
+			return null == counter ? cache.stats().getLoadSuccessCount() : counter.getLoadSuccessCount();
+		}
+
+		@Override
+		public long getLoadFailureCount() {
+			final ConcurrentStatsCounter counter = getConcurrentCounter();
+			return null == counter ? cache.stats().getLoadFailureCount() : counter.getLoadFailureCount();
+		}
+
+		@Override
+		public double getAverageLoadPenalty() {
+			final ConcurrentStatsCounter counter = getConcurrentCounter();
+			if (null == counter) {
+				return cache.stats().getAverageLoadPenalty();
+			}
+			final long loadCount = counter.getLoadSuccessCount() + counter.getLoadFailureCount();
+			return loadCount == 0 ? 0.0 : (double) counter.getTotalLoadTime() / loadCount;
+		}
+
+		@Override
+		public long getEvictionCount() {
+			final ConcurrentStatsCounter counter = getConcurrentCounter();
+			return null == counter ? cache.stats().getEvictionCount() : counter.getEvictionCount();
+		}
+
+		@Override
+		public long getExpiredCount() {
+			final ConcurrentStatsCounter counter = getConcurrentCounter();
+			return null == counter ? cache.stats().getExpiredCount() : counter.getExpiredCount();
+		}
+
+		@Override
+		public long getExplicitCount() {
+			final ConcurrentStatsCounter counter = getConcurrentCounter();
+			return null == counter ? cache.stats().getExplicitCount() : counter.getExplicitCount();
+		}
+
+		@Override
+		public long[] getAgeDistribution() {
+			final ConcurrentStatsCounter counter = getConcurrentCounter();
+			return null == counter ? cache.stats().getAgeDistribution() : counter.getAgeDistribution();
+		}
+
+		/**
+		 * 获取可直接读取单个计数的统计计数器
+		 *
+		 * @return {@link ConcurrentStatsCounter}，未设置或为其它实现时返回{@code null}
+		 */
+		private ConcurrentStatsCounter getConcurrentCounter() {
+			final StatsCounter counter = cache.getStatsCounter();
+			return counter instanceof ConcurrentStatsCounter ? (ConcurrentStatsCounter) counter : null;
+		}
+	}
+}
@@ -0,0 +1,75 @@
+package cn.hutool.cache.stats;
+
+/**
+ * 缓存统计的JMX接口，通过{@link CacheStatsExporter}注册后可在JConsole等工具或监控系统中查看
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+public interface CacheStatsMXBean {
+
+	/**
+	 * @return 缓存的对象数量
+	 */
+	int getSize();
+
+	/**
+	 * @return 缓存容量，0表示无大小限制
+	 */
+	int getCapacity();
+
+	/**
+	 * @return 当前总权重，未设置权重计算器时为0
+	 */
+	long getWeight();
+
+	/**
+	 * @return 命中数
+	 */
+	long getHitCount();
+
+	/**
+	 * @return 未命中数
+	 */
+	long getMissCount();
+
+	/**
+	 * @return 命中率
+	 */
+	double getHitRate();
+
+	/**
+	 * @return 加载成功数
+	 */
+	long getLoadSuccessCount();
+
+	/**
+	 * @return 加载失败数
+	 */
+	long getLoadFailureCount();
+
+	/**
+	 * @return 平均加载耗时，单位纳秒
+	 */
+	double getAverageLoadPenalty();
+
+	/**
+	 * @return 因容量或权重被淘汰的对象数
+	 */
+	long getEvictionCount();
+
+	/**
+	 * @return 因过期被移除的对象数
+	 */
+	long getExpiredCount();
+
+	/**
+	 * @return 手动移除的对象数
+	 */
+	long getExplicitCount();
+
+	/**
+	 * @return 移除对象的存活时长分布，分段见{@link CacheStats#getAgeBounds()}
+	 */
+	long[] getAgeDistribution();
+}
@@ -0,0 +1,144 @@
+package cn.hutool.cache.stats;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 基于{@link LongAdder}的线程安全统计计数器
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+public class ConcurrentStatsCounter implements StatsCounter, Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder loadSuccessCount = new LongAdder();
+	private final LongAdder loadFailureCount = new LongAdder();
+	private final LongAdder totalLoadTime = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+	private final LongAdder expiredCount = new LongAdder();
+	private final LongAdder explicitCount = new LongAdder();
+	private final LongAdder[] ageDistribution;
+
+	/**
+	 * 构造
+	 */
+	public ConcurrentStatsCounter() {
+		ageDistribution = new LongAdder[CacheStats.getAgeSegmentCount()];
+		for (int i = 0; i < ageDistribution.length; i++) {
+			ageDistribution[i] = new LongAdder();
+		}
+	}
+
+	@Override
+	public void recordHit() {
+		hitCount.increment();
+	}
+
+	@Override
+	public void recordMiss() {
+		missCount.increment();
+	}
+
+	@Override
+	public void recordLoadSuccess(long loadTime) {
+		loadSuccessCount.increment();
+		totalLoadTime.add(loadTime);
+	}
+
+	@Override
+	public void recordLoadFailure(long loadTime) {
+		loadFailureCount.increment();
+		totalLoadTime.add(loadTime);
+	}
+
+	@Override
+	public void recordRemoval(RemovalCause cause, long age) {
+		switch (cause) {
+			case SIZE:
+				evictionCount.increment();
+				break;
+			case EXPIRED:
+				expiredCount.increment();
+				break;
+			default:
+				explicitCount.increment();
+		}
+		ageDistribution[CacheStats.ageIndex(age)].increment();
+	}
+
+	/**
+	 * @return 命中数
+	 */
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	/**
+	 * @return 未命中数
+	 */
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	/**
+	 * @return 加载成功数
+	 */
+	public long getLoadSuccessCount() {
+		return loadSuccessCount.sum();
+	}
+
+	/**
+	 * @return 加载失败数
+	 */
+	public long getLoadFailureCount() {
+		return loadFailureCount.sum();
+	}
+
+	/**
+	 * @return 总加载耗时，单位纳秒
+	 */
+	public long getTotalLoadTime() {
+		return totalLoadTime.sum();
+	}
+
+	/**
+	 * @return 因容量或权重被淘汰的对象数
+	 */
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	/**
+	 * @return 因过期被移除的对象数
+	 */
+	public long getExpiredCount() {
+		return expiredCount.sum();
+	}
+
+	/**
+	 * @return 手动移除的对象数
+	 */
+	public long getExplicitCount() {
+		return explicitCount.sum();
+	}
+
+	/**
+	 * @return 移除对象的存活时长分布，分段见{@link CacheStats#getAgeBounds()}
+	 */
+	public long[] getAgeDistribution() {
+		final long[] ages = new long[ageDistribution.length];
+		for (int i = 0; i < ages.length; i++) {
+			ages[i] = ageDistribution[i].sum();
+		}
+		return ages;
+	}
+
+	@Override
+	public CacheStats snapshot() {
+		return new CacheStats(hitCount.sum(), missCount.sum(), loadSuccessCount.sum(), loadFailureCount.sum(),
+				totalLoadTime.sum(), evictionCount.sum(), expiredCount.sum(), explicitCount.sum(), getAgeDistribution());
+	}
+}
@@ -0,0 +1,22 @@
+package cn.hutool.cache.stats;
+
+/**
+ * 缓存对象被移除的原因
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+public enum RemovalCause {
+	/**
+	 * 手动移除
+	 */
+	EXPLICIT,
+	/**
+	 * 过期移除
+	 */
+	EXPIRED,
+	/**
+	 * 超出容量或总权重，被缓存策略淘汰
+	 */
+	SIZE
+}
@@ -0,0 +1,51 @@
+package cn.hutool.cache.stats;
+
+/**
+ * 缓存统计计数器，缓存在命中、未命中、加载和移除时回调对应方法<br>
+ * 实现需保证线程安全，且记录操作应尽量轻量，避免影响缓存性能
+ *
+ * @author looly
+ * @see ConcurrentStatsCounter
+ * @since 5.8.19
+ */
+public interface StatsCounter {
+
+	/**
+	 * 记录命中
+	 */
+	void recordHit();
+
+	/**
+	 * 记录未命中
+	 */
+	void recordMiss();
+
+	/**
+	 * 记录加载成功
+	 *
+	 * @param loadTime 加载耗时，单位纳秒
+	 */
+	void recordLoadSuccess(long loadTime);
+
+	/**
+	 * 记录加载失败
+	 *
+	 * @param loadTime 加载耗时，单位纳秒
+	 */
+	void recordLoadFailure(long loadTime);
+
+	/**
+	 * 记录对象移除
+	 *
+	 * @param cause 移除原因
+	 * @param age   对象从写入到移除的时长，单位毫秒
+	 */
+	void recordRemoval(RemovalCause cause, long age);
+
+	/**
+	 * 获取当前统计信息的快照
+	 *
+	 * @return {@link CacheStats}
+	 */
+	CacheStats snapshot();
+}
@@ -0,0 +1,7 @@
+/**
+ * 缓存统计，提供命中率、加载耗时、移除原因等统计信息及JMX导出
+ *
+ * @author looly
+ *
+ */
+package cn.hutool.cache.stats;
@@ -0,0 +1,104 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.BucketLFUCache;
+import cn.hutool.core.util.ObjectUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BucketLFUCacheTest {
+
+	@Test
+	public void evictTest() {
+		final BucketLFUCache<String, String> cache = CacheUtil.newBucketLFUCache(3);
+		cache.put("key1", "value1");
+		cache.get("key1");
+		cache.put("key2", "value2");
+		cache.get("key2");
+		cache.put("key3", "value3");
+		// key3访问最少，被淘汰
+		cache.put("key4", "value4");
+
+		Assert.assertEquals(3, cache.size());
+		Assert.assertNull(cache.get("key3"));
+		Assert.assertEquals("value1", cache.get("key1"));
+		Assert.assertEquals("value2", cache.get("key2"));
+		Assert.assertEquals("value4", cache.get("key4"));
+	}
+
+	@Test
+	public void sameFrequencyEvictOldestTest() {
+		final AtomicInteger removeCount = new AtomicInteger();
+		final BucketLFUCache<Integer, Integer> cache = CacheUtil.newBucketLFUCache(3);
+		cache.setListener((key, value) -> {
+			removeCount.incrementAndGet();
+			Assert.assertEquals(Integer.valueOf(1), key);
+		});
+		cache.put(1, 1);
+		cache.put(2, 2);
+		cache.put(3, 3);
+		cache.put(4, 4);
+
+		Assert.assertEquals(1, removeCount.get());
+		Assert.assertFalse(cache.containsKey(1));
+	}
+
+	@Test
+	public void frequencyTest() {
+		final BucketLFUCache<String, String> cache = CacheUtil.newBucketLFUCache(3);
+		cache.put("key1", "value1");
+		cache.get("key1");
+		cache.get("key1");
+		Assert.assertEquals(2, cache.getFrequency("key1"));
+
+		// 覆盖后重新计数
+		cache.put("key1", "value11");
+		Assert.assertEquals(0, cache.getFrequency("key1"));
+
+		cache.remove("key1");
+		Assert.assertEquals(-1, cache.getFrequency("key1"));
+		Assert.assertTrue(cache.isEmpty());
+	}
+
+	@Test
+	public void agingTest() {
+		final BucketLFUCache<String, String> cache = CacheUtil.newBucketLFUCache(2, 0, true);
+		cache.put("hot", "hot");
+		for (int i = 0; i < 5; i++) {
+			cache.get("hot");
+		}
+		cache.put("a", "a");
+		cache.get("a");
+		// 淘汰a，缓存年龄变为1，新对象从1开始计数
+		cache.put("b", "b");
+		Assert.assertFalse(cache.containsKey("a"));
+		Assert.assertEquals(1, cache.getFrequency("b"));
+		Assert.assertEquals(5, cache.getFrequency("hot"));
+	}
+
+	@Test
+	public void serializeTest() {
+		final BucketLFUCache<String, String> cache = CacheUtil.newBucketLFUCache(3);
+		cache.put("key1", "value1");
+		cache.get("key1");
+		cache.get("key1");
+		cache.put("key2", "value2");
+		cache.get("key2");
+		cache.put("key3", "value3");
+
+		final BucketLFUCache<String, String> cloned = ObjectUtil.cloneByStream(cache);
+		Assert.assertEquals(3, cloned.size());
+		// 访问次数随缓存一起恢复
+		Assert.assertEquals(2, cloned.getFrequency("key1"));
+		Assert.assertEquals(1, cloned.getFrequency("key2"));
+		Assert.assertEquals(0, cloned.getFrequency("key3"));
+
+		// key3访问最少，被淘汰
+		cloned.put("key4", "value4");
+		Assert.assertEquals(3, cloned.size());
+		Assert.assertFalse(cloned.containsKey("key3"));
+		Assert.assertEquals("value1", cloned.get("key1"));
+		Assert.assertEquals(3, cloned.getFrequency("key1"));
+	}
+}
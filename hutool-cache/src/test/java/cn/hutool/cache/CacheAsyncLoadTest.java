@@ -0,0 +1,133 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.TimedCache;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.ObjectUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 异步加载和写入后刷新测试
+ */
+public class CacheAsyncLoadTest {
+
+	@Test
+	public void coalesceLoadTest() throws ExecutionException, InterruptedException {
+		final TimedCache<String, String> cache = CacheUtil.newTimedCache(0);
+		final AtomicInteger loadCount = new AtomicInteger();
+		final CountDownLatch latch = new CountDownLatch(1);
+
+		final CompletableFuture<String> future1 = cache.getAsync("key", () -> {
+			loadCount.incrementAndGet();
+			latch.await();
+			return "value";
+		});
+		final CompletableFuture<String> future2 = cache.getAsync("key", () -> {
+			loadCount.incrementAndGet();
+			return "other";
+		});
+		latch.countDown();
+
+		Assert.assertEquals("value", future1.get());
+		Assert.assertEquals("value", future2.get());
+		Assert.assertEquals(1, loadCount.get());
+		Assert.assertEquals("value", cache.get("key"));
+		// 命中时直接返回已完成的结果
+		Assert.assertTrue(cache.getAsync("key", () -> "other").isDone());
+	}
+
+	@Test
+	public void loadExceptionTest() throws InterruptedException {
+		final TimedCache<String, String> cache = CacheUtil.newTimedCache(0);
+		final CompletableFuture<String> future = cache.getAsync("key", () -> {
+			throw new IllegalStateException("load error");
+		});
+		try {
+			future.get();
+			Assert.fail();
+		} catch (ExecutionException e) {
+			Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+		}
+		Assert.assertFalse(cache.containsKey("key"));
+	}
+
+	@Test
+	public void refreshAfterWriteTest() {
+		final TimedCache<String, Integer> cache = CacheUtil.newTimedCache(0);
+		cache.setRefreshAfterWrite(200).setLoadExecutor(Runnable::run);
+		final AtomicInteger version = new AtomicInteger();
+
+		Assert.assertEquals(Integer.valueOf(0), cache.get("key", version::getAndIncrement));
+		// 未到刷新时间
+		Assert.assertEquals(Integer.valueOf(0), cache.get("key", version::getAndIncrement));
+		Assert.assertEquals(1, version.get());
+
+		ThreadUtil.sleep(300);
+		// 到达刷新时间，返回旧值并刷新
+		Assert.assertEquals(Integer.valueOf(0), cache.get("key", version::getAndIncrement));
+		Assert.assertEquals(Integer.valueOf(1), cache.get("key"));
+	}
+
+	@Test
+	public void syncAndAsyncCoalesceTest() throws ExecutionException, InterruptedException {
+		final TimedCache<String, String> cache = CacheUtil.newTimedCache(0);
+		final AtomicInteger loadCount = new AtomicInteger();
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch latch = new CountDownLatch(1);
+
+		final CompletableFuture<String> future = cache.getAsync("key", () -> {
+			loadCount.incrementAndGet();
+			started.countDown();
+			latch.await();
+			return "async";
+		});
+		started.await();
+		ThreadUtil.execute(() -> {
+			ThreadUtil.sleep(100);
+			latch.countDown();
+		});
+		// 同步获取等待正在进行的异步加载，不重复加载
+		Assert.assertEquals("async", cache.get("key", () -> {
+			loadCount.incrementAndGet();
+			return "sync";
+		}));
+		Assert.assertEquals("async", future.get());
+		Assert.assertEquals(1, loadCount.get());
+	}
+
+	@Test
+	public void refreshAfterRemoveTest() {
+		final TimedCache<String, Integer> cache = CacheUtil.newTimedCache(0);
+		final List<Runnable> tasks = new ArrayList<>();
+		cache.setRefreshAfterWrite(100).setLoadExecutor(tasks::add);
+
+		Assert.assertEquals(Integer.valueOf(0), cache.get("key", () -> 0));
+		ThreadUtil.sleep(200);
+		// 触发刷新，刷新完成前移除
+		Assert.assertEquals(Integer.valueOf(0), cache.get("key", () -> 1));
+		Assert.assertEquals(1, tasks.size());
+		cache.remove("key");
+		tasks.get(0).run();
+
+		Assert.assertFalse(cache.containsKey("key"));
+	}
+
+	@Test
+	public void asyncLoadAfterDeserializeTest() throws ExecutionException, InterruptedException {
+		final TimedCache<String, String> cache = CacheUtil.newTimedCache(0);
+		cache.put("a", "1");
+		final TimedCache<String, String> cloned = ObjectUtil.cloneByStream(cache);
+		cloned.setLoadExecutor(Runnable::run);
+
+		Assert.assertEquals("1", cloned.get("a"));
+		Assert.assertEquals("2", cloned.getAsync("b", () -> "2").get());
+		Assert.assertEquals("2", cloned.get("b"));
+	}
+}
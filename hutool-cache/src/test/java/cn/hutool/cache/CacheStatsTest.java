@@ -0,0 +1,101 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.LRUCache;
+import cn.hutool.cache.impl.TimedCache;
+import cn.hutool.cache.stats.CacheStats;
+import cn.hutool.cache.stats.CacheStatsExporter;
+import cn.hutool.cache.stats.ConcurrentStatsCounter;
+import cn.hutool.core.thread.ThreadUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * 缓存统计测试
+ */
+public class CacheStatsTest {
+
+	@Test
+	public void statsTest() {
+		final LRUCache<String, String> cache = CacheUtil.newLRUCache(2);
+		cache.setStatsCounter(new ConcurrentStatsCounter());
+
+		cache.get("key1", () -> "value1");
+		cache.get("key1");
+		cache.put("key2", "value2");
+		// 淘汰key1
+		cache.put("key3", "value3");
+		cache.remove("key2");
+
+		final CacheStats stats = cache.stats();
+		Assert.assertEquals(1, stats.getHitCount());
+		Assert.assertEquals(1, stats.getMissCount());
+		Assert.assertEquals(0.5, stats.getHitRate(), 0);
+		Assert.assertEquals(1, stats.getLoadSuccessCount());
+		Assert.assertEquals(0, stats.getLoadFailureCount());
+		Assert.assertEquals(1, stats.getEvictionCount());
+		Assert.assertEquals(1, stats.getExplicitCount());
+		Assert.assertEquals(2, stats.getAgeDistribution()[0]);
+	}
+
+	@Test
+	public void expiredStatsTest() {
+		final TimedCache<String, String> cache = CacheUtil.newTimedCache(10);
+		cache.setStatsCounter(new ConcurrentStatsCounter());
+		cache.put("key1", "value1");
+		cache.put("key2", "value2");
+		ThreadUtil.sleep(20);
+
+		Assert.assertNull(cache.get("key1"));
+		cache.prune();
+
+		final CacheStats stats = cache.stats();
+		Assert.assertEquals(2, stats.getExpiredCount());
+		// 过期的get计入未命中
+		Assert.assertEquals(1, stats.getMissCount());
+	}
+
+	@Test
+	public void withoutCounterTest() {
+		final LRUCache<String, String> cache = CacheUtil.newLRUCache(2);
+		cache.put("key1", "value1");
+		cache.get("key1");
+		cache.get("key2");
+
+		final CacheStats stats = cache.stats();
+		Assert.assertEquals(1, stats.getHitCount());
+		Assert.assertEquals(1, stats.getMissCount());
+		Assert.assertEquals(0, stats.getEvictionCount());
+	}
+
+	@Test
+	public void exportTest() throws Exception {
+		final LRUCache<String, String> cache = CacheUtil.newLRUCache(10);
+		cache.setStatsCounter(new ConcurrentStatsCounter());
+		cache.put("key1", "value1");
+		cache.get("key1");
+
+		final ObjectName objectName = CacheStatsExporter.register("statsTestCache", cache);
+		try {
+			Assert.assertEquals(1L, ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, "HitCount"));
+			Assert.assertEquals(1, ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, "Size"));
+			Assert.assertEquals(1.0, ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, "HitRate"));
+			Assert.assertEquals(0L, ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, "EvictionCount"));
+		} finally {
+			CacheStatsExporter.unregister("statsTestCache");
+		}
+		Assert.assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(objectName));
+	}
+
+	@Test
+	public void ageBoundsTest() {
+		final long[] bounds = CacheStats.getAgeBounds();
+		Assert.assertEquals(bounds.length + 1, CacheStats.getAgeSegmentCount());
+		// 返回副本，修改不影响统计分段
+		bounds[0] = Long.MAX_VALUE;
+		Assert.assertEquals(1000L, CacheStats.getAgeBounds()[0]);
+		Assert.assertEquals(1, CacheStats.ageIndex(1000L));
+	}
+}
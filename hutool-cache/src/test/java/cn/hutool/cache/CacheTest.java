@@ -1,12 +1,20 @@
 package cn.hutool.cache;
 
+import cn.hutool.cache.impl.BucketLFUCache;
+import cn.hutool.cache.impl.ConcurrentLRUCache;
+import cn.hutool.cache.impl.FIFOCache;
+import cn.hutool.cache.impl.LFUCache;
+import cn.hutool.cache.impl.LRUCache;
 import cn.hutool.cache.impl.TimedCache;
 import cn.hutool.core.date.DateUnit;
 import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.ObjectUtil;
 import cn.hutool.core.util.RandomUtil;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * 缓存测试用例
  * @author Looly
@@ -121,4 +129,168 @@ public class CacheTest {
 		//取消定时清理
 		timedCache.cancelPruneSchedule();
 	}
+
+	@Test
+	public void timedCachePruneTest(){
+		final TimedCache<String, String> timedCache = CacheUtil.newTimedCache(0);
+		final AtomicInteger removeCount = new AtomicInteger();
+		timedCache.setListener((key, value) -> removeCount.incrementAndGet());
+		for (int i = 0; i < 100; i++) {
+			timedCache.put("short" + i, "value", 10);
+			timedCache.put("long" + i, "value", DateUnit.MINUTE.getMillis());
+		}
+		timedCache.put("forever", "value");
+		timedCache.put("max", "value", Long.MAX_VALUE);
+		// 替换后旧对象不再被清理
+		timedCache.put("short0", "value", DateUnit.MINUTE.getMillis());
+
+		ThreadUtil.sleep(50);
+		Assert.assertEquals(99, timedCache.prune());
+		Assert.assertEquals(99, removeCount.get());
+		Assert.assertEquals(103, timedCache.size());
+		Assert.assertTrue(timedCache.containsKey("short0"));
+		Assert.assertEquals(0, timedCache.prune());
+
+		timedCache.clear();
+		Assert.assertEquals(0, timedCache.prune());
+	}
+
+	@Test
+	public void timedCacheAccessPruneTest(){
+		final TimedCache<String, String> timedCache = CacheUtil.newTimedCache(300);
+		timedCache.put("key1", "value1");
+		timedCache.put("key2", "value2");
+		ThreadUtil.sleep(200);
+		// 访问后过期时间延后
+		timedCache.get("key1");
+		ThreadUtil.sleep(200);
+		Assert.assertEquals(1, timedCache.prune());
+		Assert.assertTrue(timedCache.containsKey("key1"));
+		Assert.assertFalse(timedCache.containsKey("key2"));
+	}
+
+	@Test
+	public void timedCacheSerializeTest(){
+		final TimedCache<String, String> timedCache = CacheUtil.newTimedCache(300);
+		final int count = 200000;
+		for (int i = 0; i < count; i++) {
+			timedCache.put("key" + i, "value" + i);
+		}
+		timedCache.put("long", "value", DateUnit.MINUTE.getMillis());
+		timedCache.put("never", "value", 0);
+
+		// 时间轮不参与序列化，大量对象时不会因递归序列化链表而栈溢出
+		final TimedCache<String, String> cloned = ObjectUtil.cloneByStream(timedCache);
+		Assert.assertEquals(count + 2, cloned.size());
+
+		// 反序列化后重建的时间轮可正常移除和清理
+		cloned.remove("key0");
+		Assert.assertEquals(count + 1, cloned.size());
+		ThreadUtil.sleep(400);
+		Assert.assertEquals(count - 1, cloned.prune());
+		Assert.assertEquals(2, cloned.size());
+		Assert.assertTrue(cloned.containsKey("long"));
+		Assert.assertTrue(cloned.containsKey("never"));
+	}
+
+	@Test
+	public void weightTest(){
+		final LRUCache<String, byte[]> lruCache = CacheUtil.newLRUCache(100);
+		lruCache.setWeigher((key, value) -> value.length, 10);
+		lruCache.put("key1", new byte[4]);
+		lruCache.put("key2", new byte[4]);
+		lruCache.get("key1");
+		// 放入后超出总权重，淘汰最久未使用的key2
+		lruCache.put("key3", new byte[4]);
+		Assert.assertEquals(8, lruCache.getWeight());
+		Assert.assertNull(lruCache.get("key2"));
+		// 需要淘汰多个对象
+		lruCache.put("key4", new byte[9]);
+		Assert.assertEquals(1, lruCache.size());
+		Assert.assertEquals(9, lruCache.getWeight());
+		// 覆盖
+		lruCache.put("key4", new byte[2]);
+		Assert.assertEquals(2, lruCache.getWeight());
+		lruCache.remove("key4");
+		Assert.assertEquals(0, lruCache.getWeight());
+
+		final FIFOCache<String, byte[]> fifoCache = CacheUtil.newFIFOCache(100);
+		fifoCache.setWeigher((key, value) -> value.length, 10);
+		fifoCache.put("key1", new byte[4]);
+		fifoCache.put("key2", new byte[4]);
+		fifoCache.put("key3", new byte[7]);
+		// 先入的key1、key2均被淘汰
+		Assert.assertFalse(fifoCache.containsKey("key1"));
+		Assert.assertFalse(fifoCache.containsKey("key2"));
+		Assert.assertEquals(7, fifoCache.getWeight());
+		fifoCache.clear();
+		Assert.assertEquals(0, fifoCache.getWeight());
+
+		final LFUCache<String, byte[]> lfuCache = CacheUtil.newLFUCache(100);
+		lfuCache.setWeigher((key, value) -> value.length, 10);
+		lfuCache.put("key1", new byte[4]);
+		lfuCache.get("key1");
+		lfuCache.put("key2", new byte[4]);
+		lfuCache.put("key3", new byte[4]);
+		Assert.assertTrue(lfuCache.containsKey("key1"));
+		Assert.assertFalse(lfuCache.containsKey("key2"));
+		Assert.assertEquals(8, lfuCache.getWeight());
+	}
+
+	@Test
+	public void weightOverwriteTest(){
+		final LRUCache<String, byte[]> lruCache = CacheUtil.newLRUCache(100);
+		lruCache.setWeigher((key, value) -> value.length, 10);
+		lruCache.put("key1", new byte[4]);
+		lruCache.put("key2", new byte[4]);
+		// 覆盖后总权重未超出，不淘汰其它对象
+		lruCache.put("key1", new byte[6]);
+		Assert.assertEquals(2, lruCache.size());
+		Assert.assertEquals(10, lruCache.getWeight());
+
+		final FIFOCache<String, byte[]> fifoCache = CacheUtil.newFIFOCache(100);
+		fifoCache.setWeigher((key, value) -> value.length, 10);
+		fifoCache.put("key1", new byte[4]);
+		fifoCache.put("key2", new byte[4]);
+		fifoCache.put("key2", new byte[6]);
+		Assert.assertTrue(fifoCache.containsKey("key1"));
+		Assert.assertEquals(10, fifoCache.getWeight());
+	}
+
+	@Test
+	public void weightOtherCacheTest(){
+		final ConcurrentLRUCache<String, byte[]> concurrentLRUCache = new ConcurrentLRUCache<>(100);
+		concurrentLRUCache.setWeigher((key, value) -> value.length, 10);
+		concurrentLRUCache.put("key1", new byte[4]);
+		concurrentLRUCache.put("key2", new byte[4]);
+		concurrentLRUCache.put("key1", new byte[6]);
+		Assert.assertEquals(2, concurrentLRUCache.size());
+		concurrentLRUCache.put("key3", new byte[4]);
+		// 最久未使用的key2被淘汰
+		Assert.assertFalse(concurrentLRUCache.containsKey("key2"));
+		Assert.assertEquals(10, concurrentLRUCache.getWeight());
+		concurrentLRUCache.put("key4", new byte[9]);
+		Assert.assertEquals(1, concurrentLRUCache.size());
+		Assert.assertEquals(9, concurrentLRUCache.getWeight());
+		concurrentLRUCache.remove("key4");
+		Assert.assertEquals(0, concurrentLRUCache.getWeight());
+
+		final BucketLFUCache<String, byte[]> bucketLFUCache = new BucketLFUCache<>(100);
+		bucketLFUCache.setWeigher((key, value) -> value.length, 10);
+		bucketLFUCache.put("key1", new byte[4]);
+		bucketLFUCache.get("key1");
+		bucketLFUCache.put("key2", new byte[4]);
+		bucketLFUCache.put("key3", new byte[4]);
+		Assert.assertTrue(bucketLFUCache.containsKey("key1"));
+		Assert.assertFalse(bucketLFUCache.containsKey("key2"));
+		Assert.assertEquals(8, bucketLFUCache.getWeight());
+		bucketLFUCache.put("key3", new byte[6]);
+		Assert.assertEquals(2, bucketLFUCache.size());
+		Assert.assertEquals(10, bucketLFUCache.getWeight());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void weightTimedCacheTest(){
+		CacheUtil.<String, byte[]>newTimedCache(100).setWeigher((key, value) -> value.length, 10);
+	}
 }
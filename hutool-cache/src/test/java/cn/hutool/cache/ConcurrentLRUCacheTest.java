@@ -0,0 +1,121 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.ConcurrentLRUCache;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.core.util.StrUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ConcurrentLRUCacheTest {
+
+	@Test
+	public void evictTest() {
+		final ConcurrentLRUCache<Integer, Integer> cache = CacheUtil.newConcurrentLRUCache(10);
+		for (int i = 0; i < 10; i++) {
+			cache.put(i, i);
+		}
+		// 访问0，此时1最久未使用
+		cache.get(0);
+		cache.put(10, 10);
+
+		Assert.assertEquals(10, cache.size());
+		Assert.assertEquals(Integer.valueOf(0), cache.get(0));
+		Assert.assertNull(cache.get(1));
+	}
+
+	@Test
+	public void readWriteTest() throws InterruptedException {
+		final ConcurrentLRUCache<Integer, Integer> cache = CacheUtil.newConcurrentLRUCache(10);
+		for (int i = 0; i < 10; i++) {
+			cache.put(i, i);
+		}
+
+		final CountDownLatch countDownLatch = new CountDownLatch(10);
+		for (int i = 0; i < 10; i++) {
+			final int finalI = i;
+			ThreadUtil.execute(() -> {
+				for (int j = 0; j < 10000; j++) {
+					cache.get(finalI);
+				}
+				countDownLatch.countDown();
+			});
+		}
+		countDownLatch.await();
+
+		final StringBuilder sb1 = new StringBuilder();
+		for (int i = 0; i < 10; i++) {
+			sb1.append(cache.get(i));
+		}
+		Assert.assertEquals("0123456789", sb1.toString());
+
+		// 新加11，此时0最久未使用，应该淘汰0
+		cache.put(11, 11);
+
+		final StringBuilder sb2 = new StringBuilder();
+		for (int i = 0; i < 10; i++) {
+			sb2.append(cache.get(i));
+		}
+		Assert.assertEquals("null123456789", sb2.toString());
+	}
+
+	@Test
+	public void listenerTest() {
+		final AtomicInteger removeCount = new AtomicInteger();
+		final ConcurrentLRUCache<String, Integer> cache = CacheUtil.newConcurrentLRUCache(3);
+		cache.setListener((key, value) -> removeCount.incrementAndGet());
+
+		for (int i = 0; i < 10; i++) {
+			cache.put(StrUtil.format("key-{}", i), i);
+		}
+		Assert.assertEquals(7, removeCount.get());
+		Assert.assertEquals(3, cache.size());
+
+		cache.remove("key-9");
+		Assert.assertEquals(8, removeCount.get());
+		Assert.assertFalse(cache.containsKey("key-9"));
+	}
+
+	@Test
+	public void concurrentPutTest() throws InterruptedException {
+		final ConcurrentLRUCache<Integer, Integer> cache = CacheUtil.newConcurrentLRUCache(100);
+		final CountDownLatch countDownLatch = new CountDownLatch(8);
+		for (int i = 0; i < 8; i++) {
+			final int base = i * 1000;
+			ThreadUtil.execute(() -> {
+				for (int j = 0; j < 1000; j++) {
+					cache.put(base + j, j);
+					cache.get(base + j / 2);
+				}
+				countDownLatch.countDown();
+			});
+		}
+		countDownLatch.await();
+		Assert.assertEquals(100, cache.size());
+	}
+
+	@Test(timeout = 5000)
+	public void serializeTest() {
+		final ConcurrentLRUCache<Integer, Integer> cache = CacheUtil.newConcurrentLRUCache(4);
+		for (int i = 0; i < 5; i++) {
+			cache.put(i, i);
+		}
+		final ConcurrentLRUCache<Integer, Integer> cloned = ObjectUtil.cloneByStream(cache);
+		Assert.assertEquals(4, cloned.size());
+
+		// 反序列化后重建访问链表，超出容量时正常淘汰
+		for (int i = 5; i < 12; i++) {
+			cloned.put(i, i);
+		}
+		Assert.assertEquals(4, cloned.size());
+		for (int i = 8; i < 12; i++) {
+			Assert.assertEquals(Integer.valueOf(i), cloned.get(i));
+		}
+		cloned.remove(11);
+		cloned.clear();
+		Assert.assertEquals(0, cloned.size());
+	}
+}
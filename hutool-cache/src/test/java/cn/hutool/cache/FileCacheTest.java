@@ -3,7 +3,18 @@ package cn.hutool.cache;
 import org.junit.Assert;
 import org.junit.Test;
 
+import cn.hutool.cache.file.DirectFileCache;
 import cn.hutool.cache.file.LFUFileCache;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.util.CharsetUtil;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 
 /**
  * 文件缓存单元测试
@@ -16,4 +27,86 @@ public class FileCacheTest {
 		LFUFileCache cache = new LFUFileCache(1000, 500, 2000);
 		Assert.assertNotNull(cache);
 	}
+
+	@Test
+	public void directFileCacheTest() {
+		final File a = FileUtil.writeUtf8String("aaaa", FileUtil.createTempFile());
+		final File b = FileUtil.writeUtf8String("bbbbbb", FileUtil.createTempFile());
+		final File c = FileUtil.writeUtf8String("cccccccc", FileUtil.createTempFile());
+		try {
+			// 小于5字节的文件读入直接内存，其它使用内存映射
+			final DirectFileCache cache = new DirectFileCache(12, 10, 0, 5);
+			final ByteBuffer bufferA = cache.getFileBuffer(a);
+			Assert.assertTrue(bufferA.isDirect());
+			Assert.assertTrue(bufferA.isReadOnly());
+			Assert.assertEquals("aaaa", CharsetUtil.CHARSET_UTF_8.decode(bufferA).toString());
+			// 每次返回独立视图
+			Assert.assertEquals(0, cache.getFileBuffer(a).position());
+
+			Assert.assertEquals("bbbbbb", CharsetUtil.CHARSET_UTF_8.decode(cache.getFileBuffer(b)).toString());
+			Assert.assertEquals(10, cache.getUsedSize());
+
+			// 加入c后超出容量，淘汰最久未使用的a
+			cache.getFileBuffer(b);
+			Assert.assertEquals("cccccccc", CharsetUtil.CHARSET_UTF_8.decode(cache.getFileBuffer(c)).toString());
+			Assert.assertEquals(1, cache.getCachedFilesCount());
+			Assert.assertEquals(8, cache.getUsedSize());
+
+			cache.clear();
+			Assert.assertEquals(0, cache.getUsedSize());
+		} finally {
+			FileUtil.del(a);
+			FileUtil.del(b);
+			FileUtil.del(c);
+		}
+	}
+
+	@Test
+	public void directFileCacheModifiedTest() {
+		final File file = FileUtil.writeUtf8String("old", FileUtil.createTempFile());
+		try {
+			final DirectFileCache cache = new DirectFileCache(100);
+			Assert.assertEquals("old", CharsetUtil.CHARSET_UTF_8.decode(cache.getFileBuffer(file)).toString());
+
+			// 文件被修改后重新加载
+			FileUtil.writeUtf8String("new content", file);
+			Assert.assertTrue(file.setLastModified(file.lastModified() + 2000));
+			Assert.assertEquals("new content", CharsetUtil.CHARSET_UTF_8.decode(cache.getFileBuffer(file)).toString());
+			Assert.assertEquals(1, cache.getCachedFilesCount());
+			Assert.assertEquals(11, cache.getUsedSize());
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Test
+	public void directFileCacheFreeTest() {
+		final File a = FileUtil.writeUtf8String("aaaa", FileUtil.createTempFile());
+		final File b = FileUtil.writeUtf8String("bbbbbb", FileUtil.createTempFile());
+		final File c = FileUtil.writeUtf8String("cccccccc", FileUtil.createTempFile());
+		try {
+			final BufferPoolMXBean directPool = ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+					.filter(pool -> "direct".equals(pool.getName())).findFirst().orElseThrow(IllegalStateException::new);
+			final long before = directPool.getTotalCapacity();
+
+			// 只通过writeTo访问的文件，淘汰后立即释放直接内存
+			final DirectFileCache cache = new DirectFileCache(12, 10, 0, 100);
+			final ByteArrayOutputStream out = new ByteArrayOutputStream();
+			final WritableByteChannel channel = Channels.newChannel(out);
+			cache.writeTo(a, channel);
+			cache.writeTo(b, channel);
+			Assert.assertEquals(before + 10, directPool.getTotalCapacity());
+
+			cache.writeTo(c, channel);
+			Assert.assertEquals("aaaabbbbbbcccccccc", new String(out.toByteArray(), CharsetUtil.CHARSET_UTF_8));
+			Assert.assertEquals(before + 8, directPool.getTotalCapacity());
+
+			cache.clear();
+			Assert.assertEquals(before, directPool.getTotalCapacity());
+		} finally {
+			FileUtil.del(a);
+			FileUtil.del(b);
+			FileUtil.del(c);
+		}
+	}
 }
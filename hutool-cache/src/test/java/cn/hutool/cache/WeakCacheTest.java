@@ -6,6 +6,8 @@ import org.junit.Assert;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import java.lang.ref.WeakReference;
+
 public class WeakCacheTest {
 
 	@Test
@@ -48,4 +50,30 @@ public class WeakCacheTest {
 			}
 		}
 	}
+
+	@Test
+	public void timeoutNotRetainedTest() throws InterruptedException {
+		// 设置了过期时长的对象在被回收后不应因过期索引而继续存活
+		final WeakCache<String, Object> cache = new WeakCache<>(100000);
+		final WeakReference<Object> ref = new WeakReference<>(new Object());
+		cache.put(new String("a"), ref.get());
+
+		for (int i = 0; i < 20 && null != ref.get(); i++) {
+			System.gc();
+			cache.size();
+			Thread.sleep(10);
+		}
+		Assert.assertNull(ref.get());
+		Assert.assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void pruneTest() throws InterruptedException {
+		final WeakCache<String, String> cache = new WeakCache<>(1);
+		final String key = "a";
+		cache.put(key, "1");
+		Thread.sleep(10);
+		Assert.assertEquals(1, cache.prune());
+		Assert.assertEquals(0, cache.size());
+	}
 }
@@ -131,6 +131,22 @@ public class BeanDesc implements Serializable {
 		return null == desc ? null : desc.getSetter();
 	}
 
+	/**
+	 * 立即为所有属性的Getter和Setter生成快速访问函数<br>
+	 * 默认情况下属性被频繁读写后自动生成，此方法用于预热，由于BeanDesc全局缓存，
+	 * 生成后{@link BeanUtil#beanToMap(Object, String...)}、{@link BeanUtil#toBean(Object, Class)}等方法均直接使用快速访问。
+	 *
+	 * @return this
+	 * @see PropDesc#enableFastAccess()
+	 * @since 5.8.19
+	 */
+	public BeanDesc enableFastAccess() {
+		for (PropDesc prop : this.propMap.values()) {
+			prop.enableFastAccess();
+		}
+		return this;
+	}
+
 	// ------------------------------------------------------------------------------------------------------ Private method start
 
 	/**
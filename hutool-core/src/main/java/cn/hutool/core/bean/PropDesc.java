@@ -2,7 +2,11 @@ package cn.hutool.core.bean;
 
 import cn.hutool.core.annotation.AnnotationUtil;
 import cn.hutool.core.annotation.PropIgnore;
+import cn.hutool.core.convert.BasicType;
 import cn.hutool.core.convert.Convert;
+import cn.hutool.core.exceptions.InvocationTargetRuntimeException;
+import cn.hutool.core.exceptions.UtilException;
+import cn.hutool.core.lang.reflect.MethodHandleUtil;
 import cn.hutool.core.util.ClassUtil;
 import cn.hutool.core.util.ModifierUtil;
 import cn.hutool.core.util.ReflectUtil;
@@ -12,6 +16,8 @@ import java.beans.Transient;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 /**
  * 属性描述，包括了字段、getter、setter和相应的方法执行
@@ -32,6 +38,30 @@ public class PropDesc {
 	 * Setter方法
 	 */
 	protected Method setter;
+	/**
+	 * 反射调用超过此次数后生成快速访问函数，与JDK反射的膨胀阈值一致，只调用少数几次的属性无需承担生成函数的开销
+	 */
+	private static final int FAST_ACCESS_THRESHOLD = 15;
+	/**
+	 * 快速访问模式下的Getter函数，{@code null}表示使用反射调用
+	 */
+	private volatile Function<Object, Object> getterFunc;
+	/**
+	 * 快速访问模式下的Setter函数，{@code null}表示使用反射调用
+	 */
+	private volatile BiConsumer<Object, Object> setterFunc;
+	/**
+	 * Getter反射调用次数，-1表示已尝试生成快速访问函数，并发下计数不精确不影响结果
+	 */
+	private int getterInvokeCount;
+	/**
+	 * Setter反射调用次数，-1表示已尝试生成快速访问函数，并发下计数不精确不影响结果
+	 */
+	private int setterInvokeCount;
+	/**
+	 * Setter参数类型（原始类型已包装），用于快速访问模式下判断值是否可直接传入
+	 */
+	private final Class<?> setterParamType;
 
 	/**
 	 * 构造<br>
@@ -45,6 +75,7 @@ public class PropDesc {
 		this.field = field;
 		this.getter = ClassUtil.setAccessible(getter);
 		this.setter = ClassUtil.setAccessible(setter);
+		this.setterParamType = (null == setter) ? null : BasicType.wrap(setter.getParameterTypes()[0]);
 	}
 
 	/**
@@ -119,6 +150,31 @@ public class PropDesc {
 		return this.setter;
 	}
 
+	/**
+	 * 立即生成快速访问函数<br>
+	 * 默认情况下，Getter或Setter通过反射调用超过一定次数后，自动使用{@link java.lang.invoke.LambdaMetafactory}生成{@link Function}和{@link BiConsumer}，
+	 * 之后{@link #getValue(Object)}和{@link #setValue(Object, Object)}接近直接调用方法的性能，此方法用于预热，跳过反射调用阶段。<br>
+	 * 无法生成时（如static方法、default方法或所在类无法访问）此属性保持使用反射调用。
+	 *
+	 * @return this
+	 * @since 5.8.19
+	 */
+	public PropDesc enableFastAccess() {
+		initGetterFunc();
+		initSetterFunc();
+		return this;
+	}
+
+	/**
+	 * 是否已生成快速访问函数，即Getter或Setter至少有一个使用生成的函数调用
+	 *
+	 * @return 是否已生成快速访问函数
+	 * @since 5.8.19
+	 */
+	public boolean isFastAccess() {
+		return null != this.getterFunc || null != this.setterFunc;
+	}
+
 	/**
 	 * 检查属性是否可读（即是否可以通过{@link #getValue(Object)}获取到值）
 	 *
@@ -151,7 +207,18 @@ public class PropDesc {
 	 * @since 4.0.5
 	 */
 	public Object getValue(Object bean) {
+		final Function<Object, Object> getterFunc = this.getterFunc;
+		if (null != getterFunc) {
+			try {
+				return getterFunc.apply(bean);
+			} catch (RuntimeException e) {
+				throw new InvocationTargetRuntimeException(e);
+			}
+		}
 		if (null != this.getter) {
+			if (this.getterInvokeCount >= 0 && ++this.getterInvokeCount > FAST_ACCESS_THRESHOLD) {
+				initGetterFunc();
+			}
 			return ReflectUtil.invoke(bean, this.getter);
 		} else if (ModifierUtil.isPublic(this.field)) {
 			return ReflectUtil.getFieldValue(bean, this.field);
@@ -222,7 +289,23 @@ public class PropDesc {
 	 * @since 4.0.5
 	 */
 	public PropDesc setValue(Object bean, Object value) {
+		final BiConsumer<Object, Object> setterFunc = this.setterFunc;
+		// 类型不匹配时交给反射调用处理转换
+		if (null != setterFunc && (null == value || this.setterParamType.isInstance(value))) {
+			if (null == value && this.setter.getParameterTypes()[0].isPrimitive()) {
+				value = ClassUtil.getDefaultValue(this.setter.getParameterTypes()[0]);
+			}
+			try {
+				setterFunc.accept(bean, value);
+			} catch (RuntimeException e) {
+				throw new InvocationTargetRuntimeException(e);
+			}
+			return this;
+		}
 		if (null != this.setter) {
+			if (this.setterInvokeCount >= 0 && ++this.setterInvokeCount > FAST_ACCESS_THRESHOLD) {
+				initSetterFunc();
+			}
 			ReflectUtil.invoke(bean, this.setter, value);
 		} else if (ModifierUtil.isPublic(this.field)) {
 			ReflectUtil.setFieldValue(bean, this.field, value);
@@ -272,6 +355,10 @@ public class PropDesc {
 			if (false == propClass.isInstance(value)) {
 				value = Convert.convertWithCheck(propClass, value, null, ignoreError);
 			}
+			// Setter参数类型与字段类型不一致时，转换为Setter参数类型
+			if (null != value && null != this.setterParamType && false == this.setterParamType.isInstance(value)) {
+				value = Convert.convertWithCheck(this.setterParamType, value, null, ignoreError);
+			}
 		}
 
 		// 属性赋值
@@ -291,6 +378,50 @@ public class PropDesc {
 
 	//------------------------------------------------------------------------------------ Private method start
 
+	/**
+	 * 生成Getter的快速访问函数，只尝试一次，失败时保持使用反射
+	 */
+	private void initGetterFunc() {
+		if (this.getterInvokeCount < 0) {
+			return;
+		}
+		this.getterInvokeCount = -1;
+		if (isFastAccessible(this.getter)) {
+			try {
+				this.getterFunc = MethodHandleUtil.createGetter(this.getter);
+			} catch (UtilException ignore) {
+				// 无法生成时使用反射
+			}
+		}
+	}
+
+	/**
+	 * 生成Setter的快速访问函数，只尝试一次，失败时保持使用反射
+	 */
+	private void initSetterFunc() {
+		if (this.setterInvokeCount < 0) {
+			return;
+		}
+		this.setterInvokeCount = -1;
+		if (isFastAccessible(this.setter)) {
+			try {
+				this.setterFunc = MethodHandleUtil.createSetter(this.setter);
+			} catch (UtilException ignore) {
+				// 无法生成时使用反射
+			}
+		}
+	}
+
+	/**
+	 * 方法是否可以生成快速访问函数，static方法和default方法（可能为代理对象）使用反射调用
+	 *
+	 * @param method 方法
+	 * @return 是否可以生成
+	 */
+	private static boolean isFastAccessible(Method method) {
+		return null != method && false == ModifierUtil.isStatic(method) && false == method.isDefault();
+	}
+
 	/**
 	 * 通过Getter和Setter方法中找到属性类型
 	 *
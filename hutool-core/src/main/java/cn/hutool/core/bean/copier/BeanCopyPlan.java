@@ -0,0 +1,187 @@
+package cn.hutool.core.bean.copier;
+
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.bean.PropDesc;
+import cn.hutool.core.map.WeakConcurrentMap;
+import cn.hutool.core.util.TypeUtil;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bean到Bean的拷贝计划<br>
+ * 对于相同的源类、目标类和拷贝选项，源和目标之间匹配的属性对是固定的，因此只在第一次拷贝时计算：
+ * <ul>
+ *     <li>按照源类、目标类（或editable）和{@link CopyOptions#planFingerprint()}缓存计划</li>
+ *     <li>计划中只保留源可读、目标可写的属性对，注解和transient检查不再重复执行</li>
+ *     <li>属性读写使用{@link PropDesc}，频繁拷贝时自动使用生成的快速访问函数</li>
+ * </ul>
+ * 属性过滤器、值转换器和值编辑器与值相关，仍在每次拷贝时执行。
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+final class BeanCopyPlan {
+
+	/**
+	 * 缓存，源类 -&gt; (目标类和选项指纹 -&gt; 拷贝计划)
+	 */
+	private static final WeakConcurrentMap<Class<?>, Map<PlanKey, BeanCopyPlan>> CACHE = new WeakConcurrentMap<>();
+
+	/**
+	 * 获取拷贝计划，选项不可缓存时每次重新计算
+	 *
+	 * @param sourceClass 源类
+	 * @param targetClass 目标类或editable类
+	 * @param copyOptions 拷贝选项
+	 * @return 拷贝计划
+	 */
+	static BeanCopyPlan get(Class<?> sourceClass, Class<?> targetClass, CopyOptions copyOptions) {
+		final int fingerprint = copyOptions.planFingerprint();
+		if (fingerprint < 0) {
+			return new BeanCopyPlan(sourceClass, targetClass, copyOptions);
+		}
+		return CACHE.computeIfAbsent(sourceClass, (key) -> new ConcurrentHashMap<>())
+				.computeIfAbsent(new PlanKey(targetClass, fingerprint),
+						(key) -> new BeanCopyPlan(sourceClass, targetClass, copyOptions));
+	}
+
+	private final PropPair[] pairs;
+
+	/**
+	 * 构造，匹配源和目标的属性
+	 *
+	 * @param sourceClass 源类
+	 * @param targetClass 目标类或editable类
+	 * @param copyOptions 拷贝选项
+	 */
+	private BeanCopyPlan(Class<?> sourceClass, Class<?> targetClass, CopyOptions copyOptions) {
+		final Map<String, PropDesc> targetPropDescMap = BeanUtil.getBeanDesc(targetClass).getPropMap(copyOptions.ignoreCase);
+		final Map<String, PropDesc> sourcePropDescMap = BeanUtil.getBeanDesc(sourceClass).getPropMap(copyOptions.ignoreCase);
+
+		final List<PropPair> pairs = new ArrayList<>(sourcePropDescMap.size());
+		sourcePropDescMap.forEach((sFieldName, sDesc) -> {
+			if (null == sFieldName || false == sDesc.isReadable(copyOptions.transientSupport)) {
+				// 字段空或不可读，跳过
+				return;
+			}
+
+			sFieldName = copyOptions.editFieldName(sFieldName);
+			// 对key做转换，转换后为null的跳过
+			if (null == sFieldName) {
+				return;
+			}
+
+			// 检查目标字段可写性
+			final PropDesc tDesc = targetPropDescMap.get(sFieldName);
+			if (null == tDesc || false == tDesc.isWritable(copyOptions.transientSupport)) {
+				// 字段不可写，跳过之
+				return;
+			}
+			pairs.add(new PropPair(sFieldName, sDesc, tDesc));
+		});
+		this.pairs = pairs.toArray(new PropPair[0]);
+	}
+
+	/**
+	 * 按照计划拷贝属性
+	 *
+	 * @param source      源Bean
+	 * @param target      目标Bean
+	 * @param targetType  目标泛型类型，用于解析泛型字段的实际类型
+	 * @param copyOptions 拷贝选项
+	 */
+	void copy(Object source, Object target, Type targetType, CopyOptions copyOptions) {
+		Object sValue;
+		for (PropPair pair : this.pairs) {
+			// 忽略不需要拷贝的 key
+			if (false == copyOptions.testKeyFilter(pair.name)) {
+				continue;
+			}
+
+			// 检查源对象属性是否过滤属性
+			sValue = pair.source.getValue(source);
+			if (false == copyOptions.testPropertyFilter(pair.source.getField(), sValue)) {
+				continue;
+			}
+
+			// 获取目标字段真实类型并转换源值
+			final Type fieldType = pair.typeVariable ? TypeUtil.getActualType(targetType, pair.fieldType) : pair.fieldType;
+			sValue = copyOptions.convertField(fieldType, sValue);
+			sValue = copyOptions.editFieldValue(pair.name, sValue);
+
+			// 目标赋值
+			pair.target.setValue(target, sValue, copyOptions.ignoreNullValue, copyOptions.ignoreError, copyOptions.override);
+		}
+	}
+
+	/**
+	 * 匹配的源属性和目标属性
+	 */
+	private static class PropPair {
+		private final String name;
+		private final PropDesc source;
+		private final PropDesc target;
+		private final Type fieldType;
+		/**
+		 * 目标字段类型是否包含泛型变量，包含时需根据目标泛型类型解析
+		 */
+		private final boolean typeVariable;
+
+		PropPair(String name, PropDesc source, PropDesc target) {
+			this.name = name;
+			this.source = source;
+			this.target = target;
+			this.fieldType = target.getFieldType();
+			this.typeVariable = hasTypeVariable(fieldType);
+		}
+
+		/**
+		 * 字段类型是否需要通过{@link TypeUtil#getActualType(Type, Type)}解析
+		 *
+		 * @param type 字段类型
+		 * @return 是否包含泛型变量
+		 */
+		private static boolean hasTypeVariable(Type type) {
+			if (type instanceof ParameterizedType) {
+				return TypeUtil.hasTypeVariable(((ParameterizedType) type).getActualTypeArguments());
+			}
+			return type instanceof TypeVariable;
+		}
+	}
+
+	/**
+	 * 缓存键，目标类和选项指纹
+	 */
+	private static class PlanKey {
+		private final Class<?> targetClass;
+		private final int fingerprint;
+
+		PlanKey(Class<?> targetClass, int fingerprint) {
+			this.targetClass = targetClass;
+			this.fingerprint = fingerprint;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			final PlanKey planKey = (PlanKey) o;
+			return fingerprint == planKey.fingerprint && targetClass == planKey.targetClass;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * targetClass.hashCode() + fingerprint;
+		}
+	}
+}
@@ -360,6 +360,20 @@ public class CopyOptions implements Serializable {
 		return (null != this.fieldNameEditor) ? this.fieldNameEditor.edit(fieldName) : fieldName;
 	}
 
+	/**
+	 * 获取影响源和目标属性匹配结果的选项指纹，用于缓存Bean拷贝计划<br>
+	 * 设置了字段名编辑器时无法判断编辑结果是否一致，返回{@code -1}表示不缓存
+	 *
+	 * @return 选项指纹，{@code -1}表示不可缓存
+	 * @since 5.8.19
+	 */
+	protected int planFingerprint() {
+		if (null != this.fieldNameEditor) {
+			return -1;
+		}
+		return (this.ignoreCase ? 1 : 0) | (this.transientSupport ? 2 : 0);
+	}
+
 	/**
 	 * 测试是否保留字段，{@code true}保留，{@code false}不保留
 	 *
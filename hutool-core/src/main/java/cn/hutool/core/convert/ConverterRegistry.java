@@ -7,6 +7,7 @@ import cn.hutool.core.lang.Opt;
 import cn.hutool.core.lang.Pair;
 import cn.hutool.core.lang.TypeReference;
 import cn.hutool.core.map.SafeConcurrentHashMap;
+import cn.hutool.core.map.WeakConcurrentMap;
 import cn.hutool.core.util.*;
 
 import java.io.Serializable;
@@ -46,6 +47,10 @@ public class ConverterRegistry implements Serializable {
 	 * 用户自定义类型转换器
 	 */
 	private volatile Map<Type, Converter<?>> customConverterMap;
+	/**
+	 * 已解析的转换器缓存，目标类 -&gt; (被转换值的类 -&gt; 转换器)，注册自定义转换器时清空
+	 */
+	private transient volatile Map<Class<?>, Map<Class<?>, Converter<?>>> resolvedConverterMap;
 
 	/**
 	 * 类级的内部类，也就是静态的成员式内部类，该内部类的实例与外部类的实例 没有绑定关系，而且只有被调用到才会装载，从而实现了延迟加载
@@ -117,6 +122,7 @@ public class ConverterRegistry implements Serializable {
 			}
 		}
 		customConverterMap.put(type, converter);
+		clearResolved();
 		return this;
 	}
 
@@ -144,6 +150,22 @@ public class ConverterRegistry implements Serializable {
 		return converter;
 	}
 
+	/**
+	 * 获得目标类型的转换器句柄，转换结果与{@link #convert(Type, Object, Object)}一致<br>
+	 * 句柄持有目标类型已解析的转换器，可获取一次后重复使用，省去每次转换时查找转换器的过程。
+	 *
+	 * @param <T>  转换的目标类型（转换器转换到的类型）
+	 * @param type 目标类型
+	 * @return 转换器句柄
+	 * @since 5.8.19
+	 */
+	public <T> Converter<T> getResolvedConverter(Type type) {
+		if (type instanceof TypeReference) {
+			type = ((TypeReference<?>) type).getType();
+		}
+		return new ResolvedConverter<>(type);
+	}
+
 	/**
 	 * 获得默认转换器
 	 *
@@ -181,6 +203,24 @@ public class ConverterRegistry implements Serializable {
 	 */
 	@SuppressWarnings("unchecked")
 	public <T> T convert(Type type, Object value, T defaultValue, boolean isCustomFirst) throws ConvertException {
+		return convert(type, value, defaultValue, isCustomFirst, null);
+	}
+
+	/**
+	 * 转换值为指定类型
+	 *
+	 * @param <T>           转换的目标类型（转换器转换到的类型）
+	 * @param type          类型目标
+	 * @param value         被转换值
+	 * @param defaultValue  默认值
+	 * @param isCustomFirst 是否自定义转换器优先
+	 * @param resolvedMap   目标类已解析的转换器，{@code null}表示从缓存中获取
+	 * @return 转换后的值
+	 * @throws ConvertException 转换器不存在
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> T convert(Type type, Object value, T defaultValue, boolean isCustomFirst,
+						  Map<Class<?>, Converter<?>> resolvedMap) throws ConvertException {
 		if (TypeUtil.isUnknown(type) && null == defaultValue) {
 			// 对于用户不指定目标类型的情况，返回原值
 			return (T) value;
@@ -196,6 +236,18 @@ public class ConverterRegistry implements Serializable {
 			type = ((TypeReference<?>) type).getType();
 		}
 
+		// 已解析的转换器，泛型类型实例每次解析都不同，只缓存Class
+		// 实现了TypeConverter的值不缓存，因此在其判断之前查找，省去对接口的instanceof检查
+		if (isCustomFirst && type instanceof Class) {
+			if (null == resolvedMap) {
+				resolvedMap = getResolvedMap((Class<?>) type);
+			}
+			final Converter<T> resolved = getResolved(resolvedMap, (Class<?>) type, value.getClass());
+			if (null != resolved) {
+				return resolved.convert(value, defaultValue);
+			}
+		}
+
 		// 自定义对象转换
 		if(value instanceof TypeConverter){
 			return ObjUtil.defaultIfNull((T) ((TypeConverter) value).convert(type, value), defaultValue);
@@ -262,6 +314,111 @@ public class ConverterRegistry implements Serializable {
 
 	// ----------------------------------------------------------- Private method start
 
+	/**
+	 * 获取目标类已解析的转换器Map
+	 *
+	 * @param type 目标类
+	 * @return 被转换值的类 -&gt; 转换器
+	 */
+	private Map<Class<?>, Converter<?>> getResolvedMap(Class<?> type) {
+		if (null == resolvedConverterMap) {
+			synchronized (this) {
+				if (null == resolvedConverterMap) {
+					resolvedConverterMap = new WeakConcurrentMap<>();
+				}
+			}
+		}
+		final Map<Class<?>, Converter<?>> resolvedMap = resolvedConverterMap.get(type);
+		if (null != resolvedMap) {
+			return resolvedMap;
+		}
+		return resolvedConverterMap.computeIfAbsent(type, (key) -> new SafeConcurrentHashMap<>());
+	}
+
+	/**
+	 * 获取已解析的转换器，未解析时解析并缓存
+	 *
+	 * @param <T>         转换的目标类型（转换器转换到的类型）
+	 * @param resolvedMap 目标类已解析的转换器
+	 * @param type        目标类
+	 * @param valueClass  被转换值的类
+	 * @return 转换器，无法解析返回{@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> Converter<T> getResolved(Map<Class<?>, Converter<?>> resolvedMap, Class<?> type, Class<?> valueClass) {
+		Converter<?> converter = resolvedMap.get(valueClass);
+		if (null == converter) {
+			converter = resolve(type, valueClass);
+			if (null != converter) {
+				resolvedMap.put(valueClass, converter);
+			}
+		}
+		return (Converter<T>) converter;
+	}
+
+	/**
+	 * 解析转换器，查找顺序与{@link #convert(Type, Object, Object, boolean)}中自定义转换器优先时一致
+	 *
+	 * @param type       目标类
+	 * @param valueClass 被转换值的类
+	 * @return 转换器，无法转换返回{@code null}
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private Converter<?> resolve(Class<?> type, Class<?> valueClass) {
+		if (TypeConverter.class.isAssignableFrom(valueClass)) {
+			// 自定义对象转换
+			return null;
+		}
+
+		final Converter<Object> converter = getConverter(type, true);
+		if (null != converter) {
+			// 默认转换器可使用快速转换，boolean依赖Boolean的转换器
+			if (null == getCustomConverter(type)
+					&& (boolean.class != type || null == getCustomConverter(Boolean.class))) {
+				final Converter<Object> fastConverter = FastConverter.of(type, valueClass, converter);
+				if (null != fastConverter) {
+					return fastConverter;
+				}
+			}
+			return converter;
+		}
+
+		// 特殊类型转换，与convertSpecial一致
+		Converter<?> special = null;
+		if (Collection.class.isAssignableFrom(type)) {
+			special = new CollectionConverter(type);
+		} else if (Map.class.isAssignableFrom(type)) {
+			special = new MapConverter(type);
+		} else if (Map.Entry.class.isAssignableFrom(type)) {
+			special = new EntryConverter(type);
+		} else if (type.isAssignableFrom(valueClass)) {
+			// 默认强转
+			special = (value, defaultValue) -> value;
+		} else if (type.isEnum()) {
+			special = new EnumConverter(type);
+		} else if (type.isArray()) {
+			special = new ArrayConverter(type);
+		}
+
+		final boolean isBean = BeanUtil.isBean(type);
+		if (null == special && false == isBean) {
+			// 无法转换，交给原有流程抛出异常
+			return null;
+		}
+		return new SpecialConverter(type, special, isBean);
+	}
+
+	/**
+	 * 清空已解析的转换器
+	 */
+	private void clearResolved() {
+		final Map<Class<?>, Map<Class<?>, Converter<?>>> resolvedConverterMap = this.resolvedConverterMap;
+		if (null != resolvedConverterMap) {
+			// 只清空内容，保证转换器句柄持有的Map依旧有效
+			resolvedConverterMap.values().forEach(Map::clear);
+		}
+	}
+
 	/**
 	 * 特殊类型转换<br>
 	 * 包括：
@@ -413,4 +570,65 @@ public class ConverterRegistry implements Serializable {
 		return this;
 	}
 	// ----------------------------------------------------------- Private method end
+
+	/**
+	 * 特殊类型和Bean的转换器，逻辑与{@link #convert(Type, Object, Object, boolean)}中特殊类型和Bean转换一致
+	 *
+	 * @param <T> 转换的目标类型
+	 */
+	private static class SpecialConverter<T> implements Converter<T> {
+		private final Class<T> type;
+		/**
+		 * 特殊类型转换器，{@code null}表示非特殊类型
+		 */
+		private final Converter<T> special;
+		private final boolean isBean;
+
+		SpecialConverter(Class<T> type, Converter<T> special, boolean isBean) {
+			this.type = type;
+			this.special = special;
+			this.isBean = isBean;
+		}
+
+		@Override
+		public T convert(Object value, T defaultValue) {
+			if (null != special) {
+				final T result = special.convert(value, defaultValue);
+				if (null != result) {
+					return result;
+				}
+			}
+
+			// 尝试转Bean
+			if (isBean) {
+				return new BeanConverter<T>(type).convert(value, defaultValue);
+			}
+
+			// 无法转换
+			throw new ConvertException("Can not Converter from [{}] to [{}]", value.getClass().getName(), type.getTypeName());
+		}
+	}
+
+	/**
+	 * 目标类型的转换器句柄
+	 *
+	 * @param <T> 转换的目标类型
+	 */
+	private class ResolvedConverter<T> implements Converter<T> {
+		private final Type type;
+		/**
+		 * 目标类已解析的转换器，目标类型非Class时为{@code null}
+		 */
+		private final Map<Class<?>, Converter<?>> resolvedMap;
+
+		ResolvedConverter(Type type) {
+			this.type = type;
+			this.resolvedMap = (type instanceof Class) ? getResolvedMap((Class<?>) type) : null;
+		}
+
+		@Override
+		public T convert(Object value, T defaultValue) {
+			return ConverterRegistry.this.convert(type, value, defaultValue, true, resolvedMap);
+		}
+	}
 }
@@ -0,0 +1,189 @@
+package cn.hutool.core.convert;
+
+import cn.hutool.core.util.NumberUtil;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * 常用类型的快速转换器<br>
+ * 对于字符串与int、long、double、boolean之间，以及数字之间的转换，直接调用JDK方法转换，
+ * 跳过默认转换器中的字符串预处理（去空白、去类型后缀、十六进制和科学计数法判断等）。<br>
+ * 只有值的格式简单到两种方式结果必然一致时才使用快速转换，其它情况、以及有默认值时交给默认转换器处理。
+ *
+ * @param <T> 转换的目标类型
+ * @author looly
+ * @since 5.8.19
+ */
+class FastConverter<T> implements Converter<T> {
+
+	private static final int INT = 1;
+	private static final int LONG = 2;
+	private static final int DOUBLE = 3;
+	private static final int BOOLEAN = 4;
+	private static final int STRING = 5;
+
+	/**
+	 * 创建快速转换器，不支持的类型组合返回{@code null}
+	 *
+	 * @param <T>              转换的目标类型
+	 * @param targetType       目标类型
+	 * @param valueClass       被转换值的类型
+	 * @param defaultConverter 目标类型的默认转换器，快速转换不适用时使用
+	 * @return 快速转换器或{@code null}
+	 */
+	static <T> FastConverter<T> of(Class<?> targetType, Class<?> valueClass, Converter<T> defaultConverter) {
+		final boolean fromString = String.class == valueClass;
+		final boolean fromNumber = isJdkNumber(valueClass);
+		final int kind;
+		if (Integer.class == targetType || int.class == targetType) {
+			kind = INT;
+		} else if (Long.class == targetType || long.class == targetType) {
+			kind = LONG;
+		} else if (Double.class == targetType || double.class == targetType) {
+			kind = DOUBLE;
+		} else if ((Boolean.class == targetType || boolean.class == targetType) && fromString) {
+			kind = BOOLEAN;
+		} else if (String.class == targetType && (fromNumber || Boolean.class == valueClass)) {
+			kind = STRING;
+		} else {
+			return null;
+		}
+		if (kind != STRING && false == fromString && false == fromNumber) {
+			return null;
+		}
+		return new FastConverter<>(kind, targetType.isAssignableFrom(valueClass), defaultConverter);
+	}
+
+	private final int kind;
+	/**
+	 * 被转换值是否已经是目标类型，创建时确定，避免每次调用{@link Class#isInstance(Object)}
+	 */
+	private final boolean instanceOfTarget;
+	private final Converter<T> defaultConverter;
+
+	/**
+	 * 构造
+	 *
+	 * @param kind             转换类型
+	 * @param instanceOfTarget 被转换值是否已经是目标类型
+	 * @param defaultConverter 默认转换器
+	 */
+	private FastConverter(int kind, boolean instanceOfTarget, Converter<T> defaultConverter) {
+		this.kind = kind;
+		this.instanceOfTarget = instanceOfTarget;
+		this.defaultConverter = defaultConverter;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public T convert(Object value, T defaultValue) throws IllegalArgumentException {
+		if (null == defaultValue && null != value) {
+			final Object result = fastConvert(value);
+			if (null != result) {
+				return (T) result;
+			}
+		}
+		return defaultConverter.convert(value, defaultValue);
+	}
+
+	/**
+	 * 快速转换
+	 *
+	 * @param value 值，非{@code null}
+	 * @return 转换结果，{@code null}表示需要使用默认转换器
+	 */
+	private Object fastConvert(Object value) {
+		if (instanceOfTarget) {
+			// 与AbstractConverter一致，已经是目标类型直接返回
+			return value;
+		}
+		switch (kind) {
+			case INT:
+				if (value instanceof Number) {
+					return ((Number) value).intValue();
+				}
+				if (isPlainNumber((String) value, false)) {
+					try {
+						return Integer.parseInt((String) value);
+					} catch (NumberFormatException e) {
+						// 溢出等情况交给默认转换器
+						return null;
+					}
+				}
+				return null;
+			case LONG:
+				if (value instanceof Number) {
+					return ((Number) value).longValue();
+				}
+				if (isPlainNumber((String) value, false)) {
+					try {
+						return Long.parseLong((String) value);
+					} catch (NumberFormatException e) {
+						return null;
+					}
+				}
+				return null;
+			case DOUBLE:
+				if (value instanceof Number) {
+					return NumberUtil.toDouble((Number) value);
+				}
+				if (isPlainNumber((String) value, true)) {
+					return Double.parseDouble((String) value);
+				}
+				return null;
+			case BOOLEAN:
+				if ("true".equals(value)) {
+					return Boolean.TRUE;
+				} else if ("false".equals(value)) {
+					return Boolean.FALSE;
+				}
+				return null;
+			case STRING:
+				return value.toString();
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * 是否为简单的十进制数字，即可选的正负号后紧跟数字，不包含空白、类型后缀、十六进制前缀和科学计数法
+	 *
+	 * @param str        字符串
+	 * @param allowPoint 是否允许一个小数点
+	 * @return 是否为简单的十进制数字
+	 */
+	private static boolean isPlainNumber(String str, boolean allowPoint) {
+		final int length = str.length();
+		int i = 0;
+		if (length > 0 && (str.charAt(0) == '-' || str.charAt(0) == '+')) {
+			i = 1;
+		}
+		boolean hasDigit = false;
+		boolean hasPoint = false;
+		char c;
+		for (; i < length; i++) {
+			c = str.charAt(i);
+			if (c >= '0' && c <= '9') {
+				hasDigit = true;
+			} else if (c == '.' && allowPoint && false == hasPoint) {
+				hasPoint = true;
+			} else {
+				return false;
+			}
+		}
+		return hasDigit;
+	}
+
+	/**
+	 * 是否为JDK中的数字类型，自定义的数字类型可能实现了{@link TypeConverter}等，不使用快速转换
+	 *
+	 * @param clazz 类
+	 * @return 是否为JDK数字类型
+	 */
+	private static boolean isJdkNumber(Class<?> clazz) {
+		return Integer.class == clazz || Long.class == clazz || Double.class == clazz
+				|| Float.class == clazz || Short.class == clazz || Byte.class == clazz
+				|| BigDecimal.class == clazz || BigInteger.class == clazz;
+	}
+}
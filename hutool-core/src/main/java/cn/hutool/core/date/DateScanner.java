@@ -0,0 +1,716 @@
+package cn.hutool.core.date;
+
+import cn.hutool.core.map.SafeConcurrentHashMap;
+
+import java.util.Calendar;
+import java.util.Map;
+import java.util.TimeZone;
+
+/**
+ * 日期字符串快速扫描器<br>
+ * 单次遍历识别并解析常见的日期格式，直接计算毫秒数，不使用正则，也不创建中间字符串。支持的格式：
+ * <ol>
+ * <li>yyyy-MM-dd、yyyy-MM-dd HH:mm、yyyy-MM-dd HH:mm:ss、yyyy-MM-dd HH:mm:ss.SSS，日期分隔符可为"-/.年月"，时间分隔符可为":时分"</li>
+ * <li>yyyyMMddHHmmss、yyyyMMddHHmmssSSS、yyyyMMdd、HHmmss</li>
+ * <li>yyyy-MM-dd'T'HH:mm、yyyy-MM-dd'T'HH:mm:ss[.SSS]，可带Z、±HH:mm或±HHmm时区</li>
+ * <li>EEE MMM dd HH:mm:ss zzz yyyy（例如：Wed Aug 01 00:00:00 CST 2012）</li>
+ * </ol>
+ * 格式不符、字段超出范围（宽容模式下需要进位）、年份早于格里高利历启用或本地时间当天有夏令时切换时扫描失败，
+ * 交给{@link DateUtil#parse(CharSequence)}原有逻辑处理，因此扫描成功时结果与原有逻辑一致。
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+final class DateScanner {
+
+	/**
+	 * 一天的毫秒数
+	 */
+	private static final long MS_DAY = 86400000L;
+	/**
+	 * 夏令时切换检查时前后扩展的毫秒数
+	 */
+	private static final long MS_MARGIN = 3 * 3600000L;
+	private static final int[] DAYS_OF_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+	private static final String[] WEEKS = {"sun", "mon", "tue", "wed", "thu", "fri", "sat"};
+	private static final String[] MONTHS = {"jan", "feb", "mar", "apr", "may", "jun", "jul", "aug", "sep", "oct", "nov", "dec"};
+
+	/**
+	 * 时区缩写（如CST）对应的偏移毫秒数，键为小写缩写压缩后的int，值为{@link Integer#MIN_VALUE}表示不支持
+	 */
+	private static final Map<Integer, Integer> ZONE_NAME_OFFSETS = new SafeConcurrentHashMap<>();
+	/**
+	 * 时区偏移分钟数对应的时区
+	 */
+	private static final Map<Integer, TimeZone> OFFSET_ZONES = new SafeConcurrentHashMap<>();
+	/**
+	 * 最近一次计算的本地日期偏移，日志等场景中大量时间戳位于同一天
+	 */
+	private static volatile DayOffset lastDayOffset;
+
+	private CharSequence str;
+	private int pos;
+	private int end;
+
+	private int year;
+	private int month;
+	private int day;
+	private int hour;
+	private int minute;
+	private int second;
+	private int millisecond;
+
+	/**
+	 * 时区，本地时间时为默认时区
+	 */
+	private TimeZone timeZone;
+	/**
+	 * 是否为固定偏移，否则按照{@link #timeZone}计算本地时间的偏移
+	 */
+	private boolean fixedOffset;
+	/**
+	 * 固定偏移的毫秒数
+	 */
+	private int offset;
+	/**
+	 * 扫描结果的毫秒数
+	 */
+	private long time;
+
+	/**
+	 * 扫描日期字符串
+	 *
+	 * @param dateStr 日期字符串
+	 * @return 是否扫描成功，失败表示需要使用原有逻辑解析
+	 */
+	boolean scan(CharSequence dateStr) {
+		if (null == dateStr) {
+			return false;
+		}
+		this.str = dateStr;
+		// 去掉两边空白
+		int start = 0;
+		int end = dateStr.length();
+		while (start < end && dateStr.charAt(start) <= ' ') {
+			start++;
+		}
+		while (end > start && dateStr.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		if (start == end) {
+			return false;
+		}
+		this.pos = start;
+		this.end = end;
+
+		final boolean matched;
+		if (isDigit(dateStr.charAt(start))) {
+			matched = scanNumeric();
+		} else {
+			matched = scanJdk();
+		}
+		return matched && computeTime();
+	}
+
+	/**
+	 * 获取扫描结果的毫秒数，仅在{@link #scan(CharSequence)}返回{@code true}时有效
+	 *
+	 * @return 毫秒数
+	 */
+	long getTime() {
+		return this.time;
+	}
+
+	/**
+	 * 获取扫描结果的时区，与原有逻辑中解析结果的时区一致
+	 *
+	 * @return 时区
+	 */
+	TimeZone getTimeZone() {
+		return this.timeZone;
+	}
+
+	// ------------------------------------------------------------------------ Private method start
+
+	/**
+	 * 扫描数字开头的格式，包括纯数字、标准格式和ISO8601格式
+	 *
+	 * @return 是否匹配
+	 */
+	private boolean scanNumeric() {
+		final int start = this.pos;
+		final int length = this.end - start;
+		if (isAllDigits(start, this.end)) {
+			return scanPure(length);
+		}
+
+		// 本地时间，与标准格式使用的时区一致
+		this.timeZone = DatePattern.NORM_DATETIME_FORMAT.getTimeZone();
+
+		// 日期部分
+		this.year = readDigits(4, 4);
+		if (this.year < 0 || false == isDateSeparator(next())) {
+			return false;
+		}
+		this.month = readDigits(1, 2);
+		if (this.month < 0 || false == isDateSeparator(next())) {
+			return false;
+		}
+		this.day = readDigits(1, 2);
+		if (this.day < 0) {
+			return false;
+		}
+		if (this.pos == this.end) {
+			// yyyy-MM-dd
+			return true;
+		}
+
+		char c = next();
+		if ('T' == c) {
+			// ISO8601只支持严格的yyyy-MM-dd
+			return 11 == this.pos - start && '-' == this.str.charAt(start + 4) && '-' == this.str.charAt(start + 7) && scanIso();
+		}
+		if ('日' == c) {
+			if (this.pos == this.end) {
+				return true;
+			}
+			c = next();
+		}
+		if (' ' != c) {
+			return false;
+		}
+
+		// 时间部分
+		this.hour = readDigits(1, 2);
+		if (this.hour < 0 || false == isTimeSeparator(next(), '时')) {
+			return false;
+		}
+		this.minute = readDigits(1, 2);
+		if (this.minute < 0) {
+			return false;
+		}
+		if (this.pos == this.end || ('分' == this.str.charAt(this.pos) && this.pos + 1 == this.end)) {
+			// yyyy-MM-dd HH:mm
+			return true;
+		}
+		if (false == isTimeSeparator(next(), '分')) {
+			return false;
+		}
+		this.second = readDigits(1, 2);
+		if (this.second < 0) {
+			return false;
+		}
+		if (this.pos == this.end || ('秒' == this.str.charAt(this.pos) && this.pos + 1 == this.end)) {
+			// yyyy-MM-dd HH:mm:ss
+			return true;
+		}
+		c = next();
+		if ('.' != c && ',' != c) {
+			return false;
+		}
+		// yyyy-MM-dd HH:mm:ss.SSS，最多6位，超出3位的部分截断
+		return readMillisecond(6) && this.pos == this.end;
+	}
+
+	/**
+	 * 扫描纯数字格式
+	 *
+	 * @param length 长度
+	 * @return 是否匹配
+	 */
+	private boolean scanPure(int length) {
+		this.timeZone = DatePattern.PURE_DATETIME_FORMAT.getTimeZone();
+		switch (length) {
+			case 14:
+				// yyyyMMddHHmmss
+			case 17:
+				// yyyyMMddHHmmssSSS
+				this.year = readDigits(4, 4);
+				this.month = readDigits(2, 2);
+				this.day = readDigits(2, 2);
+				this.hour = readDigits(2, 2);
+				this.minute = readDigits(2, 2);
+				this.second = readDigits(2, 2);
+				if (17 == length) {
+					this.millisecond = readDigits(3, 3);
+				}
+				return true;
+			case 8:
+				// yyyyMMdd
+				this.year = readDigits(4, 4);
+				this.month = readDigits(2, 2);
+				this.day = readDigits(2, 2);
+				return true;
+			case 6:
+				// HHmmss，日期为1970-01-01
+				this.year = 1970;
+				this.month = 1;
+				this.day = 1;
+				this.hour = readDigits(2, 2);
+				this.minute = readDigits(2, 2);
+				this.second = readDigits(2, 2);
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * 扫描ISO8601格式的时间部分，日期部分和'T'已读取，逻辑与{@link DateUtil#parseUTC(String)}一致
+	 *
+	 * @return 是否匹配
+	 */
+	private boolean scanIso() {
+		this.timeZone = DatePattern.UTC_SIMPLE_FORMAT.getTimeZone();
+		this.hour = readDigits(2, 2);
+		if (this.hour < 0 || ':' != next()) {
+			return false;
+		}
+		this.minute = readDigits(2, 2);
+		if (this.minute < 0) {
+			return false;
+		}
+		if (this.pos == this.end) {
+			// yyyy-MM-dd'T'HH:mm
+			return true;
+		}
+		if (':' != next()) {
+			return false;
+		}
+		this.second = readDigits(2, 2);
+		if (this.second < 0) {
+			return false;
+		}
+		if (this.pos == this.end) {
+			// yyyy-MM-dd'T'HH:mm:ss
+			return true;
+		}
+
+		char c = next();
+		int millisecondDigits = 0;
+		if ('.' == c) {
+			final int millisecondStart = this.pos;
+			if (false == readMillisecond(Integer.MAX_VALUE)) {
+				return false;
+			}
+			millisecondDigits = this.pos - millisecondStart;
+			if (this.pos == this.end) {
+				// yyyy-MM-dd'T'HH:mm:ss.SSS
+				return true;
+			}
+			c = next();
+		}
+
+		switch (c) {
+			case 'Z':
+				// 原有逻辑中带Z的格式只支持1~3位毫秒
+				if (this.pos != this.end || millisecondDigits > 3) {
+					return false;
+				}
+				this.timeZone = DatePattern.UTC_FORMAT.getTimeZone();
+				this.fixedOffset = true;
+				this.offset = 0;
+				return true;
+			case '+':
+			case '-':
+				return scanOffset('-' == c);
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * 扫描时区偏移，支持±HH:mm、±HHmm和±HH，符号已读取<br>
+	 * 原有逻辑中不带冒号的偏移只取小时部分，因此此格式只支持分钟为00
+	 *
+	 * @param negative 是否为负偏移
+	 * @return 是否匹配
+	 */
+	private boolean scanOffset(boolean negative) {
+		final int offsetHour = readDigits(2, 2);
+		if (offsetHour < 0 || offsetHour > 18) {
+			return false;
+		}
+		int offsetMinute = 0;
+		if (this.pos < this.end) {
+			final boolean hasColon = ':' == this.str.charAt(this.pos);
+			if (hasColon) {
+				this.pos++;
+			}
+			offsetMinute = readDigits(2, 2);
+			if (offsetMinute < 0 || offsetMinute > 59 || (false == hasColon && 0 != offsetMinute)) {
+				return false;
+			}
+		} else if (negative) {
+			// 原有逻辑中负偏移需带分钟
+			return false;
+		}
+		if (this.pos != this.end || (negative && 0 != offsetMinute)) {
+			return false;
+		}
+
+		int offsetMinutes = offsetHour * 60 + offsetMinute;
+		if (negative) {
+			offsetMinutes = -offsetMinutes;
+		}
+		this.timeZone = getOffsetZone(offsetMinutes);
+		this.fixedOffset = true;
+		this.offset = offsetMinutes * 60000;
+		return true;
+	}
+
+	/**
+	 * 扫描JDK的Date对象toString默认格式：EEE MMM dd HH:mm:ss zzz yyyy，只支持时区缩写（如CST）
+	 *
+	 * @return 是否匹配
+	 */
+	private boolean scanJdk() {
+		// Wed Aug 01 00:00:00 CST 2012
+		if (28 != this.end - this.pos) {
+			return false;
+		}
+		if (indexOfName(WEEKS) < 0 || ' ' != next()) {
+			return false;
+		}
+		final int monthIndex = indexOfName(MONTHS);
+		if (monthIndex < 0 || ' ' != next()) {
+			return false;
+		}
+		this.month = monthIndex + 1;
+		this.day = readDigits(2, 2);
+		if (this.day < 0 || ' ' != next()) {
+			return false;
+		}
+		this.hour = readDigits(2, 2);
+		if (this.hour < 0 || ':' != next()) {
+			return false;
+		}
+		this.minute = readDigits(2, 2);
+		if (this.minute < 0 || ':' != next()) {
+			return false;
+		}
+		this.second = readDigits(2, 2);
+		if (this.second < 0 || ' ' != next()) {
+			return false;
+		}
+
+		// 时区缩写
+		final int zoneKey = readNameKey();
+		if (zoneKey < 0 || ' ' != next()) {
+			return false;
+		}
+		this.year = readDigits(4, 4);
+		if (this.year < 0) {
+			return false;
+		}
+
+		final int zoneOffset = getZoneNameOffset(zoneKey);
+		if (Integer.MIN_VALUE == zoneOffset) {
+			return false;
+		}
+		this.timeZone = DatePattern.JDK_DATETIME_FORMAT.getTimeZone();
+		this.fixedOffset = true;
+		this.offset = zoneOffset;
+		return true;
+	}
+
+	/**
+	 * 校验各字段并计算毫秒数
+	 *
+	 * @return 是否成功
+	 */
+	private boolean computeTime() {
+		// 早于格里高利历启用的日期Calendar按照儒略历计算
+		if (this.year < 1583 || this.month < 1 || this.month > 12
+				|| this.day < 1 || this.day > lengthOfMonth(this.year, this.month)
+				|| this.hour > 23 || this.minute > 59 || this.second > 59) {
+			return false;
+		}
+
+		final long local = toEpochDay(this.year, this.month, this.day) * MS_DAY
+				+ this.hour * 3600000L + this.minute * 60000L + this.second * 1000L + this.millisecond;
+		if (this.fixedOffset) {
+			this.time = local - this.offset;
+			return true;
+		}
+
+		final int localOffset = getLocalOffset(this.timeZone, local);
+		if (Integer.MIN_VALUE == localOffset) {
+			return false;
+		}
+		this.time = local - localOffset;
+		return true;
+	}
+
+	/**
+	 * 读取下一个字符，已到结尾返回0
+	 *
+	 * @return 字符
+	 */
+	private char next() {
+		return this.pos < this.end ? this.str.charAt(this.pos++) : 0;
+	}
+
+	/**
+	 * 读取指定位数范围的数字
+	 *
+	 * @param min 最少位数
+	 * @param max 最多位数
+	 * @return 数字，位数不足返回-1
+	 */
+	private int readDigits(int min, int max) {
+		int value = 0;
+		int count = 0;
+		char c;
+		while (count < max && this.pos < this.end) {
+			c = this.str.charAt(this.pos);
+			if (false == isDigit(c)) {
+				break;
+			}
+			value = value * 10 + (c - '0');
+			this.pos++;
+			count++;
+		}
+		return count < min ? -1 : value;
+	}
+
+	/**
+	 * 读取毫秒部分，只取前3位，与原有逻辑截断超出部分一致
+	 *
+	 * @param maxDigits 最多位数
+	 * @return 是否读取成功
+	 */
+	private boolean readMillisecond(int maxDigits) {
+		int value = 0;
+		int count = 0;
+		char c;
+		while (this.pos < this.end) {
+			c = this.str.charAt(this.pos);
+			if (false == isDigit(c)) {
+				break;
+			}
+			if (count < 3) {
+				value = value * 10 + (c - '0');
+			}
+			this.pos++;
+			count++;
+		}
+		if (count < 1 || count > maxDigits) {
+			return false;
+		}
+		this.millisecond = value;
+		return true;
+	}
+
+	/**
+	 * 读取3个字母的英文缩写并查找位置，忽略大小写
+	 *
+	 * @param names 小写的缩写列表
+	 * @return 位置，未找到返回-1
+	 */
+	private int indexOfName(String[] names) {
+		final int key = readNameKey();
+		if (key < 0) {
+			return -1;
+		}
+		for (int i = 0; i < names.length; i++) {
+			if (key == toNameKey(names[i].charAt(0), names[i].charAt(1), names[i].charAt(2))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * 读取3个字母，转为小写后压缩为int
+	 *
+	 * @return 压缩后的值，非字母返回-1
+	 */
+	private int readNameKey() {
+		if (this.end - this.pos < 3) {
+			return -1;
+		}
+		final char c1 = Character.toLowerCase(this.str.charAt(this.pos));
+		final char c2 = Character.toLowerCase(this.str.charAt(this.pos + 1));
+		final char c3 = Character.toLowerCase(this.str.charAt(this.pos + 2));
+		if (false == isLowerLetter(c1) || false == isLowerLetter(c2) || false == isLowerLetter(c3)) {
+			return -1;
+		}
+		this.pos += 3;
+		return toNameKey(c1, c2, c3);
+	}
+
+	/**
+	 * 3个小写字母压缩为int
+	 *
+	 * @param c1 第一个字母
+	 * @param c2 第二个字母
+	 * @param c3 第三个字母
+	 * @return 压缩后的值
+	 */
+	private static int toNameKey(char c1, char c2, char c3) {
+		return (c1 << 16) | (c2 << 8) | c3;
+	}
+
+	/**
+	 * 获取时区缩写对应的偏移毫秒数<br>
+	 * 原有逻辑中时区缩写解析为固定的夏令时偏移加默认时区的原始偏移，因此通过解析一个参考时间获得偏移并缓存
+	 *
+	 * @param zoneKey 压缩后的时区缩写
+	 * @return 偏移毫秒数，不支持返回{@link Integer#MIN_VALUE}
+	 */
+	private static int getZoneNameOffset(int zoneKey) {
+		Integer zoneOffset = ZONE_NAME_OFFSETS.get(zoneKey);
+		if (null == zoneOffset) {
+			zoneOffset = Integer.MIN_VALUE;
+			final String zoneName = new String(new char[]{(char) (zoneKey >> 16), (char) ((zoneKey >> 8) & 0xFF), (char) (zoneKey & 0xFF)});
+			// GMT开头的时区原有逻辑中直接设置时区，不走缩写规则
+			if (false == "gmt".equals(zoneName)) {
+				final Calendar calendar = CalendarUtil.parse("Thu Jan 01 00:00:00 " + zoneName.toUpperCase() + " 1970",
+						true, DatePattern.JDK_DATETIME_FORMAT);
+				if (null != calendar && calendar.getTimeZone().hasSameRules(DatePattern.JDK_DATETIME_FORMAT.getTimeZone())) {
+					zoneOffset = (int) -calendar.getTimeInMillis();
+				}
+			}
+			ZONE_NAME_OFFSETS.put(zoneKey, zoneOffset);
+		}
+		return zoneOffset;
+	}
+
+	/**
+	 * 获取偏移分钟数对应的时区，与原有逻辑使用的"GMT±HH:mm"时区一致
+	 *
+	 * @param offsetMinutes 偏移分钟数
+	 * @return 时区
+	 */
+	private static TimeZone getOffsetZone(int offsetMinutes) {
+		TimeZone zone = OFFSET_ZONES.get(offsetMinutes);
+		if (null == zone) {
+			final int abs = Math.abs(offsetMinutes);
+			zone = TimeZone.getTimeZone(String.format("GMT%s%02d:%02d", offsetMinutes < 0 ? "-" : "+", abs / 60, abs % 60));
+			OFFSET_ZONES.put(offsetMinutes, zone);
+		}
+		return zone;
+	}
+
+	/**
+	 * 获取本地时间在指定时区的偏移<br>
+	 * 只有本地日期当天及前后没有偏移变化（夏令时切换等）时才直接计算，结果与Calendar一致
+	 *
+	 * @param zone  时区
+	 * @param local 本地时间的毫秒数
+	 * @return 偏移毫秒数，当天有偏移变化返回{@link Integer#MIN_VALUE}
+	 */
+	private static int getLocalOffset(TimeZone zone, long local) {
+		final long dayStart = Math.floorDiv(local, MS_DAY) * MS_DAY;
+		DayOffset dayOffset = lastDayOffset;
+		if (null == dayOffset || dayOffset.zone != zone || dayOffset.dayStart != dayStart) {
+			final int offset = zone.getOffset(dayStart - zone.getRawOffset());
+			final long utcStart = dayStart - offset;
+			if (zone.getOffset(utcStart - MS_MARGIN) != offset
+					|| zone.getOffset(utcStart + MS_DAY / 2) != offset
+					|| zone.getOffset(utcStart + MS_DAY + MS_MARGIN) != offset) {
+				return Integer.MIN_VALUE;
+			}
+			dayOffset = new DayOffset(zone, dayStart, offset);
+			lastDayOffset = dayOffset;
+		}
+		return dayOffset.offset;
+	}
+
+	/**
+	 * 计算格里高利历日期距1970-01-01的天数
+	 *
+	 * @param year  年
+	 * @param month 月，从1开始
+	 * @param day   日
+	 * @return 天数
+	 */
+	private static long toEpochDay(int year, int month, int day) {
+		// 3月作为一年的开始，闰日位于年末
+		final long y = month <= 2 ? year - 1 : year;
+		final long era = Math.floorDiv(y, 400);
+		final long yearOfEra = y - era * 400;
+		final long dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+		final long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+		return era * 146097 + dayOfEra - 719468;
+	}
+
+	/**
+	 * 获取月份天数
+	 *
+	 * @param year  年
+	 * @param month 月，从1开始
+	 * @return 天数
+	 */
+	private static int lengthOfMonth(int year, int month) {
+		if (2 == month && ((year % 4 == 0 && year % 100 != 0) || year % 400 == 0)) {
+			return 29;
+		}
+		return DAYS_OF_MONTH[month - 1];
+	}
+
+	/**
+	 * 指定范围内是否都为数字
+	 *
+	 * @param start 开始位置（包含）
+	 * @param end   结束位置（不包含）
+	 * @return 是否都为数字
+	 */
+	private boolean isAllDigits(int start, int end) {
+		for (int i = start; i < end; i++) {
+			if (false == isDigit(this.str.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isLowerLetter(char c) {
+		return c >= 'a' && c <= 'z';
+	}
+
+	/**
+	 * 是否为日期分隔符，与原有逻辑中替换为"-"的字符一致
+	 *
+	 * @param c 字符
+	 * @return 是否为日期分隔符
+	 */
+	private static boolean isDateSeparator(char c) {
+		return '-' == c || '/' == c || '.' == c || '年' == c || '月' == c;
+	}
+
+	/**
+	 * 是否为时间分隔符
+	 *
+	 * @param c       字符
+	 * @param chinese 对应的中文分隔符
+	 * @return 是否为时间分隔符
+	 */
+	private static boolean isTimeSeparator(char c, char chinese) {
+		return ':' == c || chinese == c;
+	}
+	// ------------------------------------------------------------------------ Private method end
+
+	/**
+	 * 本地日期的偏移
+	 */
+	private static class DayOffset {
+		private final TimeZone zone;
+		/**
+		 * 本地日期开始的毫秒数
+		 */
+		private final long dayStart;
+		private final int offset;
+
+		DayOffset(TimeZone zone, long dayStart, int offset) {
+			this.zone = zone;
+			this.dayStart = dayStart;
+			this.offset = offset;
+		}
+	}
+}
@@ -965,6 +965,13 @@ public class DateUtil extends CalendarUtil {
 		if (StrUtil.isBlank(dateCharSequence)) {
 			return null;
 		}
+
+		// 常用格式直接扫描计算
+		final DateScanner scanner = new DateScanner();
+		if (scanner.scan(dateCharSequence)) {
+			return new DateTime(scanner.getTime(), scanner.getTimeZone());
+		}
+
 		String dateStr = dateCharSequence.toString();
 		// 去掉两边空格并去掉中文日期中的“日”和“秒”，以规范长度
 		dateStr = StrUtil.removeAll(dateStr.trim(), '日', '秒');
@@ -1026,6 +1033,28 @@ public class DateUtil extends CalendarUtil {
 		throw new DateException("No format fit for date String [{}] !", dateStr);
 	}
 
+	/**
+	 * 将日期字符串转换为毫秒数，支持的格式与{@link #parse(CharSequence)}一致<br>
+	 * 常用格式单次遍历直接计算毫秒数，不创建{@link DateTime}等中间对象，适用于大量解析日志时间戳等场景
+	 *
+	 * @param dateStr 日期字符串
+	 * @return 毫秒数
+	 * @throws DateException 日期字符串为空或无法解析
+	 * @since 5.8.19
+	 */
+	public static long parseToEpochMillis(CharSequence dateStr) throws DateException {
+		final DateScanner scanner = new DateScanner();
+		if (scanner.scan(dateStr)) {
+			return scanner.getTime();
+		}
+
+		final DateTime dateTime = parse(dateStr);
+		if (null == dateTime) {
+			throw new DateException("Date String must be not blank !");
+		}
+		return dateTime.getTime();
+	}
+
 	// ------------------------------------ Parse end ----------------------------------------------
 
 	// ------------------------------------ Offset start ----------------------------------------------
@@ -2,6 +2,7 @@ package cn.hutool.core.date.format;
 
 import cn.hutool.core.date.DatePattern;
 
+import java.nio.ByteBuffer;
 import java.text.DateFormat;
 import java.text.FieldPosition;
 import java.text.Format;
@@ -328,6 +329,35 @@ public class FastDateFormat extends Format implements DateParser, DatePrinter {
 		return printer.format(calendar, buf);
 	}
 
+	/**
+	 * 格式化毫秒数到字符数组，常用格式同一秒内重复格式化不创建任何对象
+	 *
+	 * @param millis 日期毫秒数
+	 * @param buf    字符数组
+	 * @param offset 写入的开始位置
+	 * @return 写入的字符数
+	 * @throws IndexOutOfBoundsException 字符数组剩余空间不足
+	 * @see FastDatePrinter#format(long, char[], int)
+	 * @since 5.8.19
+	 */
+	public int format(final long millis, final char[] buf, final int offset) {
+		return printer.format(millis, buf, offset);
+	}
+
+	/**
+	 * 格式化毫秒数到{@link ByteBuffer}，使用UTF-8编码，常用格式同一秒内重复格式化不创建任何对象
+	 *
+	 * @param millis 日期毫秒数
+	 * @param buf    {@link ByteBuffer}
+	 * @return 写入的字节数
+	 * @throws java.nio.BufferOverflowException 剩余空间不足
+	 * @see FastDatePrinter#format(long, ByteBuffer)
+	 * @since 5.8.19
+	 */
+	public int format(final long millis, final ByteBuffer buf) {
+		return printer.format(millis, buf);
+	}
+
 	// ----------------------------------------------------------------------- Parsing
 	@Override
 	public Date parse(final String source) throws ParseException {
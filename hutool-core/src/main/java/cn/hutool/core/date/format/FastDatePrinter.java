@@ -5,6 +5,9 @@ import cn.hutool.core.map.SafeConcurrentHashMap;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.text.DateFormatSymbols;
 import java.util.ArrayList;
 import java.util.Calendar;
@@ -27,6 +30,12 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
 	private transient Rule[] rules;
 	/** 估算最大长度. */
 	private transient int mMaxLengthEstimate;
+	/** 是否可按秒缓存格式化结果，格式中无毫秒或只有一个SSS时可缓存 */
+	private transient boolean secondCacheable;
+	/** 毫秒规则（SSS）的位置，-1表示无毫秒 */
+	private transient int millisRuleIndex;
+	/** 最近一秒的格式化结果 */
+	private transient volatile SecondCache secondCache;
 
 	// Constructor
 	// -----------------------------------------------------------------------
@@ -55,6 +64,35 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
 		}
 
 		mMaxLengthEstimate = len;
+
+		// 毫秒以外的字段在同一秒内不变，格式中只有一个三位毫秒时，毫秒前后的部分可按秒缓存
+		secondCacheable = true;
+		millisRuleIndex = -1;
+		for (int i = 0; i < rules.length; i++) {
+			if (isMillisecondRule(rules[i])) {
+				if (millisRuleIndex >= 0 || false == (rules[i] instanceof PaddedNumberField && 3 == ((PaddedNumberField) rules[i]).mSize)) {
+					secondCacheable = false;
+				}
+				millisRuleIndex = i;
+			}
+		}
+	}
+
+	/**
+	 * 是否为毫秒规则
+	 *
+	 * @param rule 规则
+	 * @return 是否为毫秒规则
+	 */
+	private static boolean isMillisecondRule(Rule rule) {
+		if (rule instanceof PaddedNumberField) {
+			return Calendar.MILLISECOND == ((PaddedNumberField) rule).mField;
+		} else if (rule instanceof TwoDigitNumberField) {
+			return Calendar.MILLISECOND == ((TwoDigitNumberField) rule).mField;
+		} else if (rule instanceof UnpaddedNumberField) {
+			return Calendar.MILLISECOND == ((UnpaddedNumberField) rule).mField;
+		}
+		return false;
 	}
 
 	// Parse the pattern
@@ -307,6 +345,12 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
 
 	@Override
 	public String format(long millis) {
+		if (secondCacheable) {
+			final SecondCache cache = getSecondCache(millis);
+			final char[] chars = new char[cache.length];
+			writeTo(cache, millis, chars, 0);
+			return new String(chars);
+		}
 		final Calendar c = Calendar.getInstance(timeZone, locale);
 		c.setTimeInMillis(millis);
 		return applyRulesToString(c);
@@ -314,6 +358,9 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
 
 	@Override
 	public String format(Date date) {
+		if (secondCacheable) {
+			return format(date.getTime());
+		}
 		final Calendar c = Calendar.getInstance(timeZone, locale);
 		c.setTime(date);
 		return applyRulesToString(c);
@@ -326,6 +373,21 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
 
 	@Override
 	public <B extends Appendable> B format(long millis, B buf) {
+		if (secondCacheable) {
+			final SecondCache cache = getSecondCache(millis);
+			try {
+				buf.append(cache.prefix);
+				if (millisRuleIndex >= 0) {
+					final int millisecond = (int) Math.floorMod(millis, 1000L);
+					buf.append((char) (millisecond / 100 + '0'));
+					appendDigits(buf, millisecond % 100);
+					buf.append(cache.suffix);
+				}
+			} catch (final IOException e) {
+				throw new DateException(e);
+			}
+			return buf;
+		}
 		final Calendar c = Calendar.getInstance(timeZone, locale);
 		c.setTimeInMillis(millis);
 		return applyRules(c, buf);
@@ -333,6 +395,9 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
 
 	@Override
 	public <B extends Appendable> B format(Date date, B buf) {
+		if (secondCacheable) {
+			return format(date.getTime(), buf);
+		}
 		final Calendar c = Calendar.getInstance(timeZone, locale);
 		c.setTime(date);
 		return applyRules(c, buf);
@@ -348,6 +413,135 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
 		return applyRules(calendar, buf);
 	}
 
+	/**
+	 * 格式化毫秒数到字符数组<br>
+	 * 格式中无毫秒或毫秒为SSS时（如{@link cn.hutool.core.date.DatePattern#NORM_DATETIME_PATTERN}），按秒缓存毫秒之外的部分，
+	 * 同一秒内重复格式化不创建任何对象，适用于日志、导出等逐行格式化时间的场景
+	 *
+	 * @param millis 日期毫秒数
+	 * @param buf    字符数组
+	 * @param offset 写入的开始位置
+	 * @return 写入的字符数
+	 * @throws IndexOutOfBoundsException 字符数组剩余空间不足
+	 * @since 5.8.19
+	 */
+	public int format(long millis, char[] buf, int offset) {
+		if (secondCacheable) {
+			final SecondCache cache = getSecondCache(millis);
+			checkSpace(buf.length - offset, cache.length);
+			return writeTo(cache, millis, buf, offset);
+		}
+
+		final String str = format(millis);
+		checkSpace(buf.length - offset, str.length());
+		str.getChars(0, str.length(), buf, offset);
+		return str.length();
+	}
+
+	/**
+	 * 格式化毫秒数到{@link ByteBuffer}，使用UTF-8编码，从当前位置写入<br>
+	 * 格式中无毫秒或毫秒为SSS时（如{@link cn.hutool.core.date.DatePattern#NORM_DATETIME_PATTERN}），按秒缓存毫秒之外的部分，
+	 * 同一秒内重复格式化不创建任何对象
+	 *
+	 * @param millis 日期毫秒数
+	 * @param buf    {@link ByteBuffer}
+	 * @return 写入的字节数
+	 * @throws BufferOverflowException 剩余空间不足
+	 * @since 5.8.19
+	 */
+	public int format(long millis, ByteBuffer buf) {
+		if (false == secondCacheable) {
+			final byte[] bytes = format(millis).getBytes(StandardCharsets.UTF_8);
+			buf.put(bytes);
+			return bytes.length;
+		}
+
+		final SecondCache cache = getSecondCache(millis);
+		final int length = cache.prefixBytes.length + (millisRuleIndex >= 0 ? 3 + cache.suffixBytes.length : 0);
+		if (buf.remaining() < length) {
+			throw new BufferOverflowException();
+		}
+		buf.put(cache.prefixBytes);
+		if (millisRuleIndex >= 0) {
+			final int millisecond = (int) Math.floorMod(millis, 1000L);
+			buf.put((byte) (millisecond / 100 + '0'));
+			buf.put((byte) (millisecond / 10 % 10 + '0'));
+			buf.put((byte) (millisecond % 10 + '0'));
+			buf.put(cache.suffixBytes);
+		}
+		return length;
+	}
+
+	/**
+	 * 获取毫秒数所在秒的格式化结果，不存在时计算并替换缓存
+	 *
+	 * @param millis 日期毫秒数
+	 * @return 格式化结果
+	 */
+	private SecondCache getSecondCache(long millis) {
+		final long second = Math.floorDiv(millis, 1000L);
+		SecondCache cache = this.secondCache;
+		if (null == cache || cache.second != second) {
+			final Calendar c = Calendar.getInstance(timeZone, locale);
+			c.setTimeInMillis(millis);
+			final int prefixEnd = millisRuleIndex >= 0 ? millisRuleIndex : rules.length;
+			final StringBuilder prefix = new StringBuilder(mMaxLengthEstimate);
+			final StringBuilder suffix = new StringBuilder();
+			try {
+				for (int i = 0; i < prefixEnd; i++) {
+					rules[i].appendTo(prefix, c);
+				}
+				for (int i = prefixEnd + 1; i < rules.length; i++) {
+					rules[i].appendTo(suffix, c);
+				}
+			} catch (final IOException e) {
+				throw new DateException(e);
+			}
+			cache = new SecondCache(second, prefix.toString(), suffix.toString(), millisRuleIndex >= 0);
+			this.secondCache = cache;
+		}
+		return cache;
+	}
+
+	/**
+	 * 将缓存的格式化结果及毫秒写入字符数组
+	 *
+	 * @param cache  秒的格式化结果
+	 * @param millis 日期毫秒数
+	 * @param buf    字符数组
+	 * @param offset 写入的开始位置
+	 * @return 写入的字符数
+	 */
+	private int writeTo(SecondCache cache, long millis, char[] buf, int offset) {
+		final String prefix = cache.prefix;
+		prefix.getChars(0, prefix.length(), buf, offset);
+		if (millisRuleIndex < 0) {
+			return prefix.length();
+		}
+
+		int index = offset + prefix.length();
+		final int millisecond = (int) Math.floorMod(millis, 1000L);
+		buf[index++] = (char) (millisecond / 100 + '0');
+		buf[index++] = (char) (millisecond / 10 % 10 + '0');
+		buf[index++] = (char) (millisecond % 10 + '0');
+		final String suffix = cache.suffix;
+		suffix.getChars(0, suffix.length(), buf, index);
+		return index + suffix.length() - offset;
+	}
+
+	/**
+	 * 检查剩余空间
+	 *
+	 * @param remaining 剩余空间
+	 * @param length    需要的长度
+	 * @throws IndexOutOfBoundsException 剩余空间不足
+	 */
+	private static void checkSpace(int remaining, int length) {
+		if (remaining < length) {
+			throw new IndexOutOfBoundsException("Remaining space " + remaining + " is less than " + length);
+		}
+	}
+
 	/**
 	 * Creates a String representation of the given Calendar by applying the rules of this printer to it.
 	 *
@@ -1320,4 +1514,29 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
 			return false;
 		}
 	}
+
+	/**
+	 * 一秒内毫秒之外部分的格式化结果
+	 */
+	private static class SecondCache {
+		/** 距1970-01-01的秒数 */
+		private final long second;
+		/** 毫秒之前的部分，无毫秒时为全部 */
+		private final String prefix;
+		/** 毫秒之后的部分 */
+		private final String suffix;
+		private final byte[] prefixBytes;
+		private final byte[] suffixBytes;
+		/** 总长度，有毫秒时包括3位毫秒 */
+		private final int length;
+
+		SecondCache(long second, String prefix, String suffix, boolean hasMillisecond) {
+			this.second = second;
+			this.prefix = prefix;
+			this.suffix = suffix;
+			this.length = hasMillisecond ? prefix.length() + 3 + suffix.length() : prefix.length();
+			this.prefixBytes = prefix.getBytes(StandardCharsets.UTF_8);
+			this.suffixBytes = suffix.getBytes(StandardCharsets.UTF_8);
+		}
+	}
 }
@@ -2,13 +2,18 @@ package cn.hutool.core.lang.reflect;
 
 import cn.hutool.core.exceptions.UtilException;
 import cn.hutool.core.lang.Assert;
+import cn.hutool.core.map.WeakConcurrentMap;
 import cn.hutool.core.util.ReflectUtil;
 import cn.hutool.core.util.StrUtil;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 /**
  * 方法句柄{@link MethodHandle}封装工具类<br>
@@ -23,6 +28,15 @@ import java.lang.reflect.Method;
  */
 public class MethodHandleUtil {
 
+	/**
+	 * 方法句柄缓存，方法 -&gt; 方法句柄
+	 */
+	private static final WeakConcurrentMap<Method, MethodHandle> HANDLE_CACHE = new WeakConcurrentMap<>();
+	/**
+	 * 特殊方法句柄缓存，方法 -&gt; 方法句柄
+	 */
+	private static final WeakConcurrentMap<Method, MethodHandle> SPECIAL_HANDLE_CACHE = new WeakConcurrentMap<>();
+
 	/**
 	 * jdk8中如果直接调用{@link MethodHandles#lookup()}获取到的{@link MethodHandles.Lookup}在调用findSpecial和unreflectSpecial
 	 * 时会出现权限不够问题，抛出"no private access for invokespecial"异常，因此针对JDK8及JDK9+分别封装lookup方法。
@@ -211,11 +225,8 @@ public class MethodHandleUtil {
 	@SuppressWarnings("unchecked")
 	public static <T> T invoke(boolean isSpecial, Object obj, Method method, Object... args) {
 		Assert.notNull(method, "Method must be not null!");
-		final Class<?> declaringClass = method.getDeclaringClass();
-		final MethodHandles.Lookup lookup = lookup(declaringClass);
 		try {
-			MethodHandle handle = isSpecial ? lookup.unreflectSpecial(method, declaringClass)
-					: lookup.unreflect(method);
+			MethodHandle handle = unreflect(isSpecial, method);
 			if (null != obj) {
 				handle = handle.bindTo(obj);
 			}
@@ -224,4 +235,74 @@ public class MethodHandleUtil {
 			throw new UtilException(e);
 		}
 	}
+
+	/**
+	 * 获取方法对应的方法句柄，查找Lookup和转换方法句柄的开销较大，结果按方法缓存
+	 *
+	 * @param isSpecial 是否为特殊方法（private、static等）
+	 * @param method    方法
+	 * @return 方法句柄
+	 * @throws IllegalAccessException 无访问权限
+	 */
+	private static MethodHandle unreflect(boolean isSpecial, Method method) throws IllegalAccessException {
+		final WeakConcurrentMap<Method, MethodHandle> cache = isSpecial ? SPECIAL_HANDLE_CACHE : HANDLE_CACHE;
+		MethodHandle handle = cache.get(method);
+		if (null == handle) {
+			final Class<?> declaringClass = method.getDeclaringClass();
+			final MethodHandles.Lookup lookup = lookup(declaringClass);
+			handle = isSpecial ? lookup.unreflectSpecial(method, declaringClass) : lookup.unreflect(method);
+			cache.put(method, handle);
+		}
+		return handle;
+	}
+
+	/**
+	 * 使用{@link LambdaMetafactory}为无参的实例方法（如Getter）生成{@link Function}，调用性能接近直接调用<br>
+	 * 生成的函数参数为方法所属对象，返回值为方法返回值（原始类型自动装箱）
+	 *
+	 * @param method 无参实例方法
+	 * @return {@link Function}
+	 * @throws UtilException 生成失败，例如方法所在类无法访问
+	 * @since 5.8.19
+	 */
+	@SuppressWarnings("unchecked")
+	public static Function<Object, Object> createGetter(Method method) throws UtilException {
+		Assert.notNull(method, "Method must be not null!");
+		final MethodHandles.Lookup lookup = lookup(method.getDeclaringClass());
+		try {
+			final MethodHandle handle = lookup.unreflect(method);
+			final CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+					MethodType.methodType(Function.class),
+					MethodType.methodType(Object.class, Object.class),
+					handle, handle.type().wrap());
+			return (Function<Object, Object>) site.getTarget().invokeExact();
+		} catch (Throwable e) {
+			throw new UtilException(e, "Create getter function for [{}] error!", method);
+		}
+	}
+
+	/**
+	 * 使用{@link LambdaMetafactory}为单参数的实例方法（如Setter）生成{@link BiConsumer}，调用性能接近直接调用<br>
+	 * 生成的函数第一个参数为方法所属对象，第二个参数为方法参数（原始类型自动拆箱，因此不能传入{@code null}），返回值被忽略
+	 *
+	 * @param method 单参数实例方法
+	 * @return {@link BiConsumer}
+	 * @throws UtilException 生成失败，例如方法所在类无法访问
+	 * @since 5.8.19
+	 */
+	@SuppressWarnings("unchecked")
+	public static BiConsumer<Object, Object> createSetter(Method method) throws UtilException {
+		Assert.notNull(method, "Method must be not null!");
+		final MethodHandles.Lookup lookup = lookup(method.getDeclaringClass());
+		try {
+			final MethodHandle handle = lookup.unreflect(method);
+			final CallSite site = LambdaMetafactory.metafactory(lookup, "accept",
+					MethodType.methodType(BiConsumer.class),
+					MethodType.methodType(void.class, Object.class, Object.class),
+					handle, handle.type().wrap().changeReturnType(void.class));
+			return (BiConsumer<Object, Object>) site.getTarget().invokeExact();
+		} catch (Throwable e) {
+			throw new UtilException(e, "Create setter function for [{}] error!", method);
+		}
+	}
 }
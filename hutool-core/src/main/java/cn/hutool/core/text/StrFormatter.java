@@ -1,5 +1,6 @@
 package cn.hutool.core.text;
 
+import cn.hutool.core.map.SafeConcurrentHashMap;
 import cn.hutool.core.util.ArrayUtil;
 import cn.hutool.core.util.StrUtil;
 
@@ -12,6 +13,19 @@ import java.util.Map;
  */
 public class StrFormatter {
 
+	/**
+	 * 缓存的最大数量
+	 */
+	private static final int MAX_CACHE_SIZE = 1024;
+	/**
+	 * 默认占位符 {} 的预编译模板缓存，模板 -&gt; 预编译模板
+	 */
+	private static final Map<String, StrTemplate> TEMPLATE_CACHE = new SafeConcurrentHashMap<>();
+	/**
+	 * 使用过一次但尚未缓存的模板，再次使用时编译并缓存，满后清空
+	 */
+	private static final Map<String, Boolean> SEEN_PATTERNS = new SafeConcurrentHashMap<>();
+
 	/**
 	 * 格式化字符串<br>
 	 * 此方法只是简单将占位符 {} 按照顺序替换为参数<br>
@@ -37,6 +51,7 @@ public class StrFormatter {
 	 * 通常使用：format("this is {} for {}", "{}", "a", "b") =》 this is a for b<br>
 	 * 转义{}： format("this is \\{} for {}", "{}", "a", "b") =》 this is {} for a<br>
 	 * 转义\： format("this is \\\\{} for {}", "{}", "a", "b") =》 this is \a for b<br>
+	 * 默认占位符 {} 的模板第二次使用时编译并缓存，之后直接使用预编译模板，只使用一次的模板不编译
 	 *
 	 * @param strPattern  字符串模板
 	 * @param placeHolder 占位符，例如{}
@@ -48,6 +63,94 @@ public class StrFormatter {
 		if (StrUtil.isBlank(strPattern) || StrUtil.isBlank(placeHolder) || ArrayUtil.isEmpty(argArray)) {
 			return strPattern;
 		}
+		if (false == StrUtil.EMPTY_JSON.equals(placeHolder)) {
+			return formatDirect(strPattern, placeHolder, argArray);
+		}
+
+		StrTemplate template = TEMPLATE_CACHE.get(strPattern);
+		if (null != template) {
+			return template.format(argArray);
+		}
+		if (TEMPLATE_CACHE.size() >= MAX_CACHE_SIZE) {
+			// 缓存已满，不再编译新的模板
+			return formatDirect(strPattern, placeHolder, argArray);
+		}
+		if (null == SEEN_PATTERNS.putIfAbsent(strPattern, Boolean.TRUE)) {
+			// 首次使用，直接格式化
+			if (SEEN_PATTERNS.size() > MAX_CACHE_SIZE) {
+				SEEN_PATTERNS.clear();
+			}
+			return formatDirect(strPattern, placeHolder, argArray);
+		}
+		SEEN_PATTERNS.remove(strPattern);
+		return getTemplate(strPattern, placeHolder).format(argArray);
+	}
+
+	/**
+	 * 获取预编译模板<br>
+	 * 默认占位符 {} 的模板会被缓存，缓存数量有上限，超过后不再缓存新的模板；其它占位符每次重新编译
+	 *
+	 * @param strPattern  字符串模板
+	 * @param placeHolder 占位符
+	 * @return {@link StrTemplate}
+	 * @since 5.8.19
+	 */
+	public static StrTemplate getTemplate(String strPattern, String placeHolder) {
+		if (false == StrUtil.EMPTY_JSON.equals(placeHolder)) {
+			return StrTemplate.compile(strPattern, placeHolder);
+		}
+		StrTemplate template = TEMPLATE_CACHE.get(strPattern);
+		if (null == template) {
+			template = StrTemplate.compile(strPattern, placeHolder);
+			if (TEMPLATE_CACHE.size() < MAX_CACHE_SIZE) {
+				final StrTemplate old = TEMPLATE_CACHE.putIfAbsent(strPattern, template);
+				if (null != old) {
+					template = old;
+				}
+			}
+		}
+		return template;
+	}
+
+	/**
+	 * 格式化文本，使用 {varName} 占位<br>
+	 * map = {a: "aValue", b: "bValue"} format("{a} and {b}", map) ---=》 aValue and bValue
+	 *
+	 * @param template   文本模板，被替换的部分用 {key} 表示
+	 * @param map        参数值对
+	 * @param ignoreNull 是否忽略 {@code null} 值，忽略则 {@code null} 值对应的变量不被替换，否则替换为""
+	 * @return 格式化后的文本
+	 * @since 5.7.10
+	 */
+	public static String format(CharSequence template, Map<?, ?> map, boolean ignoreNull) {
+		if (null == template) {
+			return null;
+		}
+		if (null == map || map.isEmpty()) {
+			return template.toString();
+		}
+
+		String template2 = template.toString();
+		String value;
+		for (Map.Entry<?, ?> entry : map.entrySet()) {
+			value = StrUtil.utf8Str(entry.getValue());
+			if (null == value && ignoreNull) {
+				continue;
+			}
+			template2 = StrUtil.replace(template2, "{" + entry.getKey() + "}", value);
+		}
+		return template2;
+	}
+
+	/**
+	 * 不经预编译，逐个查找占位符并替换为参数
+	 *
+	 * @param strPattern  字符串模板
+	 * @param placeHolder 占位符
+	 * @param argArray    参数列表
+	 * @return 结果
+	 */
+	private static String formatDirect(String strPattern, String placeHolder, Object... argArray) {
 		final int strPatternLength = strPattern.length();
 		final int placeHolderLength = placeHolder.length();
 
@@ -93,34 +196,4 @@ public class StrFormatter {
 
 		return sbuf.toString();
 	}
-
-	/**
-	 * 格式化文本，使用 {varName} 占位<br>
-	 * map = {a: "aValue", b: "bValue"} format("{a} and {b}", map) ---=》 aValue and bValue
-	 *
-	 * @param template   文本模板，被替换的部分用 {key} 表示
-	 * @param map        参数值对
-	 * @param ignoreNull 是否忽略 {@code null} 值，忽略则 {@code null} 值对应的变量不被替换，否则替换为""
-	 * @return 格式化后的文本
-	 * @since 5.7.10
-	 */
-	public static String format(CharSequence template, Map<?, ?> map, boolean ignoreNull) {
-		if (null == template) {
-			return null;
-		}
-		if (null == map || map.isEmpty()) {
-			return template.toString();
-		}
-
-		String template2 = template.toString();
-		String value;
-		for (Map.Entry<?, ?> entry : map.entrySet()) {
-			value = StrUtil.utf8Str(entry.getValue());
-			if (null == value && ignoreNull) {
-				continue;
-			}
-			template2 = StrUtil.replace(template2, "{" + entry.getKey() + "}", value);
-		}
-		return template2;
-	}
 }
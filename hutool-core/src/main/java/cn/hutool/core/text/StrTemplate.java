@@ -0,0 +1,200 @@
+package cn.hutool.core.text;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.StrUtil;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 预编译的字符串模板<br>
+ * 模板规则与{@link StrFormatter#formatWith(String, String, Object...)}一致，编译时一次性切分出占位符之间的文本并处理转义，
+ * 格式化时只需拼接文本和参数，适用于反复使用的固定模板，例如日志消息：
+ * <pre>
+ * StrTemplate template = StrTemplate.compile("user {} did {}");
+ * template.format("a", "login");              // user a did login
+ * template.formatTo(builder, "b", "logout");  // 追加到已有的StringBuilder中
+ * </pre>
+ * 编译后的模板不可变，线程安全。
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+public class StrTemplate implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 原始模板，参数不足时剩余部分原样输出
+	 */
+	private final char[] pattern;
+	/**
+	 * 每个占位符之前的文本，已处理转义
+	 */
+	private final String[] segments;
+	/**
+	 * 每个占位符结束后在原始模板中的位置
+	 */
+	private final int[] ends;
+	/**
+	 * 最后一个占位符之后的文本，已处理转义
+	 */
+	private final String tail;
+
+	/**
+	 * 编译模板，使用 {} 作为占位符
+	 *
+	 * @param pattern 字符串模板
+	 * @return StrTemplate
+	 */
+	public static StrTemplate compile(String pattern) {
+		return compile(pattern, StrUtil.EMPTY_JSON);
+	}
+
+	/**
+	 * 编译模板，使用指定占位符<br>
+	 * 如果想输出占位符使用 \\转义即可，如果想输出占位符之前的 \ 使用双转义符 \\\\ 即可
+	 *
+	 * @param pattern     字符串模板
+	 * @param placeHolder 占位符，例如{}
+	 * @return StrTemplate
+	 */
+	public static StrTemplate compile(String pattern, String placeHolder) {
+		Assert.notNull(pattern, "Pattern must be not null!");
+		Assert.notBlank(placeHolder, "PlaceHolder must be not blank!");
+		final int patternLength = pattern.length();
+		final int placeHolderLength = placeHolder.length();
+
+		final List<String> segments = new ArrayList<>();
+		final List<Integer> ends = new ArrayList<>();
+		final StringBuilder segment = new StringBuilder();
+		int handledPosition = 0;
+		int delimIndex;
+		while ((delimIndex = pattern.indexOf(placeHolder, handledPosition)) > -1) {
+			if (delimIndex > 0 && pattern.charAt(delimIndex - 1) == StrUtil.C_BACKSLASH) {
+				if (delimIndex > 1 && pattern.charAt(delimIndex - 2) == StrUtil.C_BACKSLASH) {
+					// 双转义符，占位符依旧有效
+					segment.append(pattern, handledPosition, delimIndex - 1);
+				} else {
+					// 占位符被转义
+					segment.append(pattern, handledPosition, delimIndex - 1).append(placeHolder.charAt(0));
+					handledPosition = delimIndex + 1;
+					continue;
+				}
+			} else {
+				segment.append(pattern, handledPosition, delimIndex);
+			}
+			segments.add(segment.toString());
+			segment.setLength(0);
+			handledPosition = delimIndex + placeHolderLength;
+			ends.add(handledPosition);
+		}
+		segment.append(pattern, handledPosition, patternLength);
+
+		final int[] endArray = new int[ends.size()];
+		for (int i = 0; i < endArray.length; i++) {
+			endArray[i] = ends.get(i);
+		}
+		return new StrTemplate(pattern.toCharArray(), segments.toArray(new String[0]), endArray, segment.toString());
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param pattern  原始模板
+	 * @param segments 每个占位符之前的文本
+	 * @param ends     每个占位符结束后在原始模板中的位置
+	 * @param tail     最后一个占位符之后的文本
+	 */
+	private StrTemplate(char[] pattern, String[] segments, int[] ends, String tail) {
+		this.pattern = pattern;
+		this.segments = segments;
+		this.ends = ends;
+		this.tail = tail;
+	}
+
+	/**
+	 * 获取模板中有效占位符的个数
+	 *
+	 * @return 占位符个数
+	 */
+	public int getPlaceHolderCount() {
+		return this.segments.length;
+	}
+
+	/**
+	 * 按照顺序将占位符替换为参数，结果与{@link StrFormatter#formatWith(String, String, Object...)}一致<br>
+	 * 先计算结果长度，一次分配所需的空间
+	 *
+	 * @param args 参数列表
+	 * @return 结果
+	 */
+	public String format(Object... args) {
+		final int argLength = null == args ? 0 : args.length;
+		final int count = Math.min(argLength, this.segments.length);
+		final String[] argStrs = new String[count];
+		int length = 0;
+		String argStr;
+		for (int i = 0; i < count; i++) {
+			argStr = StrUtil.utf8Str(args[i]);
+			// 与StringBuilder.append(null)一致
+			argStrs[i] = null == argStr ? StrUtil.NULL : argStr;
+			length += this.segments[i].length() + argStrs[i].length();
+		}
+		length += argLength > this.segments.length ? this.tail.length() : this.pattern.length - rawPosition(count);
+
+		final StringBuilder sb = new StringBuilder(length);
+		for (int i = 0; i < count; i++) {
+			sb.append(this.segments[i]).append(argStrs[i]);
+		}
+		return appendTail(sb, argLength, count).toString();
+	}
+
+	/**
+	 * 按照顺序将占位符替换为参数，并追加到已有的{@link StringBuilder}中
+	 *
+	 * @param sb   {@link StringBuilder}
+	 * @param args 参数列表
+	 * @return 传入的{@link StringBuilder}
+	 */
+	public StringBuilder formatTo(StringBuilder sb, Object... args) {
+		final int argLength = null == args ? 0 : args.length;
+		final int count = Math.min(argLength, this.segments.length);
+		for (int i = 0; i < count; i++) {
+			sb.append(this.segments[i]).append(StrUtil.utf8Str(args[i]));
+		}
+		return appendTail(sb, argLength, count);
+	}
+
+	@Override
+	public String toString() {
+		return new String(this.pattern);
+	}
+
+	/**
+	 * 追加最后一个被替换的占位符之后的部分<br>
+	 * 参数多于占位符时，剩余的转义都会被处理；否则剩余部分原样输出
+	 *
+	 * @param sb        {@link StringBuilder}
+	 * @param argLength 参数个数
+	 * @param count     被替换的占位符个数
+	 * @return {@link StringBuilder}
+	 */
+	private StringBuilder appendTail(StringBuilder sb, int argLength, int count) {
+		if (argLength > this.segments.length) {
+			return sb.append(this.tail);
+		}
+		final int rawPosition = rawPosition(count);
+		return sb.append(this.pattern, rawPosition, this.pattern.length - rawPosition);
+	}
+
+	/**
+	 * 获取替换指定个数的占位符后，原始模板中剩余部分的起始位置
+	 *
+	 * @param count 被替换的占位符个数
+	 * @return 起始位置
+	 */
+	private int rawPosition(int count) {
+		return 0 == count ? 0 : this.ends[count - 1];
+	}
+}
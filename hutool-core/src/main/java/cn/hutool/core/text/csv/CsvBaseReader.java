@@ -3,6 +3,7 @@ package cn.hutool.core.text.csv;
 import cn.hutool.core.io.FileUtil;
 import cn.hutool.core.io.IORuntimeException;
 import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.io.file.PathUtil;
 import cn.hutool.core.lang.Assert;
 import cn.hutool.core.util.CharsetUtil;
 import cn.hutool.core.util.ObjectUtil;
@@ -17,6 +18,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * CSV文件读取器基础类，提供灵活的文件、路径中的CSV读取，一次构造可多次调用读取不同数据，参考：FastCSV
@@ -270,6 +275,96 @@ public class CsvBaseReader implements Serializable {
 		read(parse(reader), close, rowHandler);
 	}
 
+	/**
+	 * 并行读取CSV文件，返回行的{@link Stream}<br>
+	 * 文件使用内存映射读取，在记录边界处切分为多块后并行解析，适用于大文件：
+	 * <ul>
+	 *     <li>ordered为{@code true}时，结果顺序与文件中的行顺序一致</li>
+	 *     <li>ordered为{@code false}时，不保证顺序，并行处理效率更高</li>
+	 * </ul>
+	 * 编码只支持UTF-8、US-ASCII和ISO-8859-1，其它编码退化为顺序读取。
+	 *
+	 * @param path    CSV文件
+	 * @param charset 文件编码
+	 * @param ordered 是否保持行顺序
+	 * @return 行的{@link Stream}
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.19
+	 */
+	public Stream<CsvRow> parallelStream(Path path, Charset charset, boolean ordered) throws IORuntimeException {
+		return parallelStream(path, charset, ordered, CsvChunk.DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * 并行读取CSV文件并转换为Bean的{@link Stream}，标题与Bean属性的对应关系只计算一次<br>
+	 * 此方法默认识别首行为标题行，其它规则见{@link #parallelStream(Path, Charset, boolean)}。
+	 *
+	 * @param <T>     Bean类型
+	 * @param path    CSV文件
+	 * @param charset 文件编码
+	 * @param clazz   Bean类型
+	 * @param ordered 是否保持行顺序
+	 * @return Bean的{@link Stream}
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.19
+	 */
+	public <T> Stream<T> parallelStream(Path path, Charset charset, Class<T> clazz, boolean ordered) throws IORuntimeException {
+		// 此方法必须包含标题
+		this.config.setContainsHeader(true);
+
+		return parallelStream(path, charset, ordered).map(new CsvBeanMapper<>(clazz));
+	}
+
+	/**
+	 * 并行读取CSV文件，返回行的{@link Stream}
+	 *
+	 * @param path      CSV文件
+	 * @param charset   文件编码
+	 * @param ordered   是否保持行顺序
+	 * @param chunkSize 分块大小
+	 * @return 行的{@link Stream}
+	 * @throws IORuntimeException IO异常
+	 */
+	Stream<CsvRow> parallelStream(Path path, Charset charset, boolean ordered, long chunkSize) throws IORuntimeException {
+		Assert.notNull(path, "path must not be null");
+		Assert.notNull(charset, "charset must not be null");
+		final CsvReadConfig config = this.config;
+		if (false == CsvChunk.isSupported(charset, config)) {
+			// 无法按字节识别分隔符，顺序读取
+			final CsvParser csvParser = parse(PathUtil.getReader(path, charset));
+			return StreamSupport.stream(Spliterators.spliteratorUnknownSize(csvParser, Spliterator.ORDERED | Spliterator.NONNULL), false)
+					.onClose(() -> IoUtil.close(csvParser));
+		}
+
+		final List<CsvChunk> chunks = CsvChunk.split(path, config, chunkSize);
+
+		// 标题行和第一行字段数需在并行解析前确定，顺序解析开头的分块直到获得这些信息，一般只需第一块
+		final List<CsvRow> headRows = new ArrayList<>();
+		CsvRow header = null;
+		int firstLineFieldCount = -1;
+		int index = 0;
+		if (config.headerLineNo > -1 || config.errorOnDifferentFieldCount) {
+			while (index < chunks.size()) {
+				final CsvParser csvParser = chunks.get(index++).parse(charset, config, header, firstLineFieldCount);
+				read(csvParser, true, headRows::add);
+				header = csvParser.getHeaderRow();
+				firstLineFieldCount = csvParser.getFirstLineFieldCount();
+				if (false == config.errorOnDifferentFieldCount || firstLineFieldCount > -1) {
+					break;
+				}
+			}
+		}
+
+		final CsvRow finalHeader = header;
+		final int finalFirstLineFieldCount = firstLineFieldCount;
+		Stream<CsvRow> stream = chunks.subList(index, chunks.size()).parallelStream()
+				.flatMap(chunk -> chunk.stream(charset, config, finalHeader, finalFirstLineFieldCount));
+		if (false == headRows.isEmpty()) {
+			stream = Stream.concat(headRows.stream(), stream);
+		}
+		return ordered ? stream : stream.unordered();
+	}
+
 	//--------------------------------------------------------------------------------------------- Private method start
 
 	/**
@@ -0,0 +1,108 @@
+package cn.hutool.core.text.csv;
+
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.bean.PropDesc;
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.util.ReflectUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.core.util.TypeUtil;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * CSV行转Bean，标题与Bean属性的对应关系只在标题变化时计算一次<br>
+ * 结果与{@link CsvRow#toBean(Class)}一致，但不再为每行创建字段Map和查找属性。
+ *
+ * @param <T> Bean类型
+ * @author looly
+ * @since 5.8.19
+ */
+final class CsvBeanMapper<T> implements Function<CsvRow, T> {
+
+	private final Class<T> beanClass;
+	/**
+	 * 当前标题对应的映射，同一读取过程中所有行共享同一个标题Map
+	 */
+	private volatile Mapping mapping;
+
+	/**
+	 * 构造
+	 *
+	 * @param beanClass Bean类型
+	 */
+	CsvBeanMapper(Class<T> beanClass) {
+		this.beanClass = beanClass;
+	}
+
+	@Override
+	public T apply(CsvRow row) {
+		final Map<String, Integer> headerMap = row.headerMap;
+		if (null == headerMap) {
+			// 无标题时与原有逻辑一致，抛出异常
+			return row.toBean(this.beanClass);
+		}
+		Mapping mapping = this.mapping;
+		if (null == mapping || mapping.headerMap != headerMap) {
+			mapping = new Mapping(headerMap);
+			this.mapping = mapping;
+		}
+
+		final T bean = ReflectUtil.newInstanceIfPossible(this.beanClass);
+		final int[] columns = mapping.columns;
+		final PropDesc[] props = mapping.props;
+		final Type[] fieldTypes = mapping.fieldTypes;
+		String value;
+		for (int i = 0; i < columns.length; i++) {
+			value = row.get(columns[i]);
+			// 与默认CopyOptions一致：忽略转换和注入错误，null值覆盖
+			props[i].setValue(bean, null == value ? null : Convert.convertWithCheck(fieldTypes[i], value, null, true),
+					false, true, true);
+		}
+		return bean;
+	}
+
+	/**
+	 * 标题列与Bean属性的对应关系
+	 */
+	private class Mapping {
+		private final Map<String, Integer> headerMap;
+		private final int[] columns;
+		private final PropDesc[] props;
+		private final Type[] fieldTypes;
+
+		/**
+		 * 构造，按照标题顺序匹配属性，属性名不一致时尝试转驼峰后匹配
+		 *
+		 * @param headerMap 标题Map
+		 */
+		Mapping(Map<String, Integer> headerMap) {
+			this.headerMap = headerMap;
+			final Map<String, PropDesc> propMap = BeanUtil.getBeanDesc(beanClass).getPropMap(false);
+
+			final List<Integer> columns = new ArrayList<>(headerMap.size());
+			final List<PropDesc> props = new ArrayList<>(headerMap.size());
+			headerMap.forEach((name, column) -> {
+				PropDesc prop = propMap.get(name);
+				if (null == prop) {
+					prop = propMap.get(StrUtil.toCamelCase(name));
+				}
+				if (null != prop && prop.isWritable(true)) {
+					columns.add(column);
+					props.add(prop);
+				}
+			});
+
+			this.columns = new int[columns.size()];
+			this.props = props.toArray(new PropDesc[0]);
+			this.fieldTypes = new Type[this.props.length];
+			for (int i = 0; i < this.columns.length; i++) {
+				this.columns[i] = columns.get(i);
+				this.fieldTypes[i] = TypeUtil.getActualType(beanClass, this.props[i].getFieldType());
+			}
+		}
+	}
+}
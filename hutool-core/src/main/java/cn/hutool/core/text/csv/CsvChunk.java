@@ -0,0 +1,228 @@
+package cn.hutool.core.text.csv;
+
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.util.CharUtil;
+import cn.hutool.core.util.CharsetUtil;
+
+import java.io.CharArrayReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * CSV文件的内存映射分块，用于并行读取<br>
+ * 切分前先顺序扫描一遍文件字节，按照与{@link CsvParser}一致的规则识别引号、注释和换行，只在记录边界处切分，
+ * 并记录每块开始时的行号和前一个字符，使每块可以独立解析，结果与顺序解析一致。<br>
+ * 按字节识别分隔符要求编码中的ASCII字符只有单字节表示，因此只支持UTF-8、US-ASCII和ISO-8859-1。
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+final class CsvChunk {
+
+	/**
+	 * 默认分块大小：8MB
+	 */
+	static final long DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+	/**
+	 * 扫描时每次映射的大小：64MB
+	 */
+	private static final int SCAN_WINDOW_SIZE = 64 * 1024 * 1024;
+
+	/**
+	 * 分块的内存映射
+	 */
+	private final ByteBuffer buffer;
+	/**
+	 * 分块开始前的行号
+	 */
+	private final long lineNo;
+	/**
+	 * 分块开始前的字符，-1表示文本开始
+	 */
+	private final int preChar;
+
+	/**
+	 * 构造
+	 *
+	 * @param buffer  分块的内存映射
+	 * @param lineNo  分块开始前的行号
+	 * @param preChar 分块开始前的字符，-1表示文本开始
+	 */
+	private CsvChunk(ByteBuffer buffer, long lineNo, int preChar) {
+		this.buffer = buffer;
+		this.lineNo = lineNo;
+		this.preChar = preChar;
+	}
+
+	/**
+	 * 是否支持按字节切分，要求编码为UTF-8、US-ASCII或ISO-8859-1，且分隔符、包装符和注释符均为ASCII字符
+	 *
+	 * @param charset 编码
+	 * @param config  配置
+	 * @return 是否支持
+	 */
+	static boolean isSupported(Charset charset, CsvReadConfig config) {
+		if (false == (CharsetUtil.CHARSET_UTF_8.equals(charset)
+				|| StandardCharsets.US_ASCII.equals(charset)
+				|| CharsetUtil.CHARSET_ISO_8859_1.equals(charset))) {
+			return false;
+		}
+		return CharUtil.isAscii(config.fieldSeparator)
+				&& CharUtil.isAscii(config.textDelimiter)
+				&& (null == config.commentCharacter || CharUtil.isAscii(config.commentCharacter));
+	}
+
+	/**
+	 * 扫描文件并在记录边界处切分，每块大小不小于chunkSize（最后一块除外）<br>
+	 * 第一块至少包含标题行，读取到结束行后不再切分
+	 *
+	 * @param path      文件路径
+	 * @param config    配置
+	 * @param chunkSize 分块大小
+	 * @return 分块列表
+	 * @throws IORuntimeException IO异常
+	 */
+	static List<CsvChunk> split(Path path, CsvReadConfig config, long chunkSize) throws IORuntimeException {
+		final char fieldSeparator = config.fieldSeparator;
+		final char textDelimiter = config.textDelimiter;
+		final int commentCharacter = null == config.commentCharacter ? -1 : config.commentCharacter;
+
+		final List<CsvChunk> chunks = new ArrayList<>();
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			final long size = channel.size();
+			// 与CsvParser一致的扫描状态
+			int preChar = -1;
+			boolean inQuotes = false;
+			boolean inComment = false;
+			long lineNo = -1;
+			long inQuotesLineCount = 0;
+			// 当前分块的起始状态
+			long chunkStart = 0;
+			long chunkLineNo = -1;
+			int chunkPreChar = -1;
+
+			for (long windowStart = 0; windowStart < size; windowStart += SCAN_WINDOW_SIZE) {
+				final ByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, Math.min(SCAN_WINDOW_SIZE, size - windowStart));
+				final int limit = window.limit();
+				for (int i = 0; i < limit; i++) {
+					// 非ASCII字节均大于0x7F，不会与分隔符混淆
+					final int c = window.get(i) & 0xFF;
+					if (c == commentCharacter && (preChar < 0 || preChar == CharUtil.CR || preChar == CharUtil.LF)) {
+						inComment = true;
+					}
+					if (inComment) {
+						if (c == CharUtil.CR || c == CharUtil.LF) {
+							lineNo++;
+							inComment = false;
+						}
+						preChar = c;
+						continue;
+					}
+
+					if (inQuotes) {
+						if (c == textDelimiter) {
+							inQuotes = false;
+						} else if ((c == CharUtil.CR || c == CharUtil.LF) && preChar != CharUtil.CR) {
+							inQuotesLineCount++;
+						}
+					} else if (c == fieldSeparator) {
+						// 字段结束，不影响切分
+					} else if (c == textDelimiter) {
+						inQuotes = true;
+					} else if (c == CharUtil.CR || (c == CharUtil.LF && preChar != CharUtil.CR)) {
+						// 记录结束，多行内容的行数在下一行开始时计入
+						lineNo += 1 + inQuotesLineCount;
+						inQuotesLineCount = 0;
+						final long end = windowStart + i + 1;
+						if (lineNo > config.endLineNo) {
+							// 之后的行不再读取，最后一块包含此行以便解析时结束
+							chunks.add(map(channel, chunkStart, end, chunkLineNo, chunkPreChar));
+							return chunks;
+						}
+						if (end - chunkStart >= chunkSize && lineNo >= config.headerLineNo) {
+							chunks.add(map(channel, chunkStart, end, chunkLineNo, chunkPreChar));
+							chunkStart = end;
+							chunkLineNo = lineNo;
+							chunkPreChar = c;
+						}
+					}
+					preChar = c;
+				}
+			}
+			if (chunkStart < size) {
+				chunks.add(map(channel, chunkStart, size, chunkLineNo, chunkPreChar));
+			}
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+		return chunks;
+	}
+
+	/**
+	 * 创建此分块的解析器
+	 *
+	 * @param charset             编码
+	 * @param config              配置
+	 * @param header              已解析的标题行，{@code null}表示无标题或标题在此块中
+	 * @param firstLineFieldCount 已解析的第一行字段数，-1表示未知
+	 * @return {@link CsvParser}
+	 * @throws IORuntimeException 解码异常
+	 */
+	CsvParser parse(Charset charset, CsvReadConfig config, CsvRow header, int firstLineFieldCount) throws IORuntimeException {
+		final CharBuffer chars;
+		try {
+			// 与InputStreamReader一致，替换无法解码的字节
+			chars = charset.newDecoder()
+					.onMalformedInput(CodingErrorAction.REPLACE)
+					.onUnmappableCharacter(CodingErrorAction.REPLACE)
+					.decode(this.buffer.duplicate());
+		} catch (CharacterCodingException e) {
+			throw new IORuntimeException(e);
+		}
+		final CharArrayReader reader = new CharArrayReader(chars.array(), chars.arrayOffset() + chars.position(), chars.remaining());
+		return new CsvParser(reader, config, header, firstLineFieldCount, this.lineNo, this.preChar);
+	}
+
+	/**
+	 * 解析此分块为{@link Stream}
+	 *
+	 * @param charset             编码
+	 * @param config              配置
+	 * @param header              已解析的标题行，{@code null}表示无标题
+	 * @param firstLineFieldCount 已解析的第一行字段数，-1表示未知
+	 * @return 行的{@link Stream}
+	 */
+	Stream<CsvRow> stream(Charset charset, CsvReadConfig config, CsvRow header, int firstLineFieldCount) {
+		final CsvParser parser = parse(charset, config, header, firstLineFieldCount);
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(parser, Spliterator.ORDERED | Spliterator.NONNULL), false);
+	}
+
+	/**
+	 * 映射文件的指定部分为分块，映射建立后不依赖于{@link FileChannel}
+	 *
+	 * @param channel {@link FileChannel}
+	 * @param start   起始位置
+	 * @param end     结束位置（不包含）
+	 * @param lineNo  分块开始前的行号
+	 * @param preChar 分块开始前的字符
+	 * @return 分块
+	 * @throws IOException IO异常
+	 */
+	private static CsvChunk map(FileChannel channel, long start, long end, long lineNo, int preChar) throws IOException {
+		return new CsvChunk(channel.map(FileChannel.MapMode.READ_ONLY, start, end - start), lineNo, preChar);
+	}
+}
@@ -83,6 +83,25 @@ public final class CsvParser extends ComputeIter<CsvRow> implements Closeable, S
 		this.config = ObjectUtil.defaultIfNull(config, CsvReadConfig::defaultConfig);
 	}
 
+	/**
+	 * CSV解析器，从某一行的起始位置继续解析，用于分块并行读取<br>
+	 * 传入的状态需与顺序解析到此位置时的状态一致
+	 *
+	 * @param reader              Reader，从行首开始
+	 * @param config              配置
+	 * @param header              已解析的标题行，{@code null}表示无标题或标题在此块中
+	 * @param firstLineFieldCount 已解析的第一行字段数，-1表示未知
+	 * @param lineNo              上一行结束后的行号
+	 * @param preChar             上一行的结束符，-1表示文本开始
+	 */
+	CsvParser(final Reader reader, CsvReadConfig config, CsvRow header, int firstLineFieldCount, long lineNo, int preChar) {
+		this(reader, config);
+		this.header = header;
+		this.firstLineFieldCount = firstLineFieldCount;
+		this.lineNo = lineNo;
+		this.preChar = preChar;
+	}
+
 	/**
 	 * 获取头部字段列表，如果headerLineNo &lt; 0，抛出异常
 	 *
@@ -99,6 +118,24 @@ public final class CsvParser extends ComputeIter<CsvRow> implements Closeable, S
 		return header.fields;
 	}
 
+	/**
+	 * 获取标题行，未解析到标题行返回{@code null}
+	 *
+	 * @return 标题行
+	 */
+	CsvRow getHeaderRow() {
+		return this.header;
+	}
+
+	/**
+	 * 获取第一行的字段数，用于检查每行字段数是否一致，-1表示未读取到第一行
+	 *
+	 * @return 第一行的字段数
+	 */
+	int getFirstLineFieldCount() {
+		return this.firstLineFieldCount;
+	}
+
 	@Override
 	protected CsvRow computeNext() {
 		return nextRow();
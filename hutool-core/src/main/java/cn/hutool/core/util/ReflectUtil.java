@@ -11,6 +11,7 @@ import cn.hutool.core.lang.Assert;
 import cn.hutool.core.lang.Filter;
 import cn.hutool.core.lang.reflect.MethodHandleUtil;
 import cn.hutool.core.map.MapUtil;
+import cn.hutool.core.map.SafeConcurrentHashMap;
 import cn.hutool.core.map.WeakConcurrentMap;
 
 import java.lang.reflect.AccessibleObject;
@@ -26,6 +27,8 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -48,6 +51,10 @@ public class ReflectUtil {
 	 * 方法缓存
 	 */
 	private static final WeakConcurrentMap<Class<?>, Method[]> METHODS_CACHE = new WeakConcurrentMap<>();
+	/**
+	 * 方法查找结果缓存，类 -&gt; (方法名和参数类型 -&gt; 方法)，未找到的结果同样缓存
+	 */
+	private static final WeakConcurrentMap<Class<?>, Map<MethodKey, Optional<Method>>> RESOLVED_METHODS_CACHE = new WeakConcurrentMap<>();
 
 	// --------------------------------------------------------------------------------------------------------- Constructor
 
@@ -539,6 +546,29 @@ public class ReflectUtil {
 			return null;
 		}
 
+		Map<MethodKey, Optional<Method>> methodMap = RESOLVED_METHODS_CACHE.get(clazz);
+		if (null == methodMap) {
+			methodMap = RESOLVED_METHODS_CACHE.computeIfAbsent(clazz, () -> new SafeConcurrentHashMap<>());
+		}
+		Optional<Method> res = methodMap.get(new MethodKey(ignoreCase, methodName, paramTypes));
+		if (null == res) {
+			res = Optional.ofNullable(getMethodDirectly(clazz, ignoreCase, methodName, paramTypes));
+			// 复制参数类型，避免调用方修改数组影响缓存键
+			methodMap.putIfAbsent(new MethodKey(ignoreCase, methodName, ArrayUtil.clone(paramTypes)), res);
+		}
+		return res.orElse(null);
+	}
+
+	/**
+	 * 遍历类中的所有方法查找指定方法，无缓存
+	 *
+	 * @param clazz      类
+	 * @param ignoreCase 是否忽略大小写
+	 * @param methodName 方法名
+	 * @param paramTypes 参数类型
+	 * @return 方法，未找到返回{@code null}
+	 */
+	private static Method getMethodDirectly(Class<?> clazz, boolean ignoreCase, String methodName, Class<?>... paramTypes) {
 		Method res = null;
 		final Method[] methods = getMethods(clazz);
 		if (ArrayUtil.isNotEmpty(methods)) {
@@ -1191,4 +1221,40 @@ public class ReflectUtil {
 		}
 		return result;
 	}
+
+	/**
+	 * 方法查找条件，包括是否忽略大小写、方法名和参数类型
+	 */
+	private static class MethodKey {
+		private final boolean ignoreCase;
+		private final String name;
+		private final Class<?>[] paramTypes;
+		private final int hashCode;
+
+		MethodKey(boolean ignoreCase, String name, Class<?>[] paramTypes) {
+			this.ignoreCase = ignoreCase;
+			this.name = name;
+			this.paramTypes = paramTypes;
+			this.hashCode = 31 * (31 * Boolean.hashCode(ignoreCase) + name.hashCode()) + Arrays.hashCode(paramTypes);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			final MethodKey methodKey = (MethodKey) o;
+			return ignoreCase == methodKey.ignoreCase
+				&& Objects.equals(name, methodKey.name)
+				&& Arrays.equals(paramTypes, methodKey.paramTypes);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+	}
 }
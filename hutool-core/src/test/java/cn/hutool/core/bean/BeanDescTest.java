@@ -36,6 +36,45 @@ public class BeanDescTest {
 		Assert.assertSame(String.class, prop.getSetter().getParameterTypes()[0]);
 	}
 
+	@Test
+	public void fastAccessTest() {
+		// 不使用全局缓存，避免影响其它测试
+		final BeanDesc desc = new BeanDesc(User.class).enableFastAccess();
+		final PropDesc age = desc.getProp("age");
+		final PropDesc name = desc.getProp("name");
+		Assert.assertTrue(age.isFastAccess());
+
+		final User user = new User();
+		name.setValue(user, "hutool");
+		age.setValue(user, 18);
+		Assert.assertEquals("hutool", name.getValue(user));
+		Assert.assertEquals(18, age.getValue(user));
+
+		// null赋值给原始类型使用默认值
+		age.setValue(user, null);
+		Assert.assertEquals(0, user.getAge());
+		// 类型不匹配时回退到反射调用并转换类型
+		age.setValue(user, "20");
+		Assert.assertEquals(20, user.getAge());
+		age.setValue(user, 21L);
+		Assert.assertEquals(21, user.getAge());
+	}
+
+	@Test
+	public void fastAccessDefaultTest() {
+		// 不使用全局缓存，避免影响其它测试
+		final PropDesc age = new BeanDesc(User.class).getProp("age");
+		Assert.assertFalse(age.isFastAccess());
+
+		// 反射调用超过阈值后自动生成快速访问函数
+		final User user = new User();
+		for (int i = 0; i < 20; i++) {
+			age.setValue(user, i);
+			Assert.assertEquals(i, age.getValue(user));
+		}
+		Assert.assertTrue(age.isFastAccess());
+	}
+
 	@Test
 	public void propDescOfBooleanTest() {
 		BeanDesc desc = BeanUtil.getBeanDesc(User.class);
@@ -1,9 +1,11 @@
 package cn.hutool.core.bean.copier;
 
+import cn.hutool.core.date.DateUtil;
 import lombok.Data;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Date;
 import java.util.HashMap;
 
 public class BeanCopierTest {
@@ -75,6 +77,100 @@ public class BeanCopierTest {
 		Assert.assertEquals("abc", b.getValue());
 	}
 
+	/**
+	 * 相同类型和选项的拷贝复用拷贝计划，忽略属性、过滤器等逐次生效
+	 */
+	@Test
+	public void copyPlanTest() {
+		final C c = new C();
+		c.setName("hutool");
+		c.setAge("18");
+		c.setScore(null);
+
+		final D d1 = BeanCopier.create(c, new D(), CopyOptions.create()).copy();
+		Assert.assertEquals("hutool", d1.getName());
+		Assert.assertEquals(18, d1.getAge());
+		Assert.assertEquals(0, d1.getScore());
+
+		final D d2 = BeanCopier.create(c, new D(), CopyOptions.create().setIgnoreProperties("name")).copy();
+		Assert.assertNull(d2.getName());
+		Assert.assertEquals(18, d2.getAge());
+
+		final D d3 = new D();
+		d3.setScore(5);
+		BeanCopier.create(c, d3, CopyOptions.create().ignoreNullValue()
+				.setPropertiesFilter((f, v) -> false == "age".equals(f.getName()))).copy();
+		Assert.assertEquals(0, d3.getAge());
+		Assert.assertEquals(5, d3.getScore());
+
+		// 字段名编辑器不缓存计划
+		final D d4 = BeanCopier.create(c, new D(), CopyOptions.create()
+				.setFieldNameEditor(name -> "name".equals(name) ? null : name)).copy();
+		Assert.assertNull(d4.getName());
+		Assert.assertEquals(18, d4.getAge());
+	}
+
+	/**
+	 * 目标Setter参数类型与字段类型不一致时，转换为Setter参数类型
+	 */
+	@Test
+	public void copySetterTypeMismatchTest() {
+		final E e = new E();
+		e.setCount(12);
+		e.setDate("2023-05-01");
+
+		// 多次拷贝，覆盖反射调用和快速访问函数两种方式
+		for (int i = 0; i < 20; i++) {
+			final F f = BeanCopier.create(e, new F(), CopyOptions.create()).copy();
+			Assert.assertEquals(12L, f.getCount());
+			Assert.assertEquals(DateUtil.parseDate("2023-05-01"), f.getDate());
+		}
+	}
+
+	@Data
+	public static class E {
+		private Integer count;
+		private String date;
+	}
+
+	/**
+	 * Setter参数类型为字段类型的子类
+	 */
+	public static class F {
+		private Number count;
+		private Object date;
+
+		public Number getCount() {
+			return count;
+		}
+
+		public void setCount(Long count) {
+			this.count = count;
+		}
+
+		public Object getDate() {
+			return date;
+		}
+
+		public void setDate(Date date) {
+			this.date = date;
+		}
+	}
+
+	@Data
+	public static class C {
+		private String name;
+		private String age;
+		private Integer score;
+	}
+
+	@Data
+	public static class D {
+		private String name;
+		private int age;
+		private int score;
+	}
+
 	@Data
 	private static class A {
 		private String value;
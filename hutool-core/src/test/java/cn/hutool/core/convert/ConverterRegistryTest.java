@@ -31,6 +31,54 @@ public class ConverterRegistryTest {
 		Assert.assertEquals("Custom: 454553", result);
 	}
 	
+	@Test
+	public void fastConvertTest() {
+		final ConverterRegistry registry = new ConverterRegistry();
+		Assert.assertEquals(Integer.valueOf(12), registry.convert(Integer.class, "12"));
+		Assert.assertEquals(Integer.valueOf(-5), registry.convert(int.class, "-5"));
+		// 非简单数字交给默认转换器处理，结果不变
+		Assert.assertEquals(Integer.valueOf(1), registry.convert(Integer.class, "1.5"));
+		Assert.assertEquals(Integer.valueOf(16), registry.convert(Integer.class, "0x10"));
+		Assert.assertEquals(Integer.valueOf(12), registry.convert(Integer.class, " 12 "));
+		Assert.assertEquals(Long.valueOf(12), registry.convert(Long.class, "12L"));
+		Assert.assertEquals(Long.valueOf(3000000000L), registry.convert(Long.class, "3000000000"));
+		Assert.assertEquals(Double.valueOf(1.5), registry.convert(double.class, "1.5"));
+		Assert.assertEquals(Boolean.TRUE, registry.convert(boolean.class, "true"));
+		Assert.assertEquals(Boolean.TRUE, registry.convert(Boolean.class, "yes"));
+		Assert.assertEquals("12", registry.convert(String.class, 12L));
+		Assert.assertEquals(Integer.valueOf(3), registry.convert(Integer.class, 3.6D));
+		// 有默认值时结果不变
+		Assert.assertEquals(Integer.valueOf(12), registry.convert(Integer.class, "12", 1));
+	}
+
+	@Test
+	public void customAfterResolvedTest() {
+		final ConverterRegistry registry = new ConverterRegistry();
+		Assert.assertEquals("454553", registry.convert(CharSequence.class, 454553));
+
+		// 注册自定义转换器后，已解析的转换器失效
+		final Converter<CharSequence> converter = registry.getResolvedConverter(CharSequence.class);
+		registry.putCustom(CharSequence.class, new CustomConverter());
+		Assert.assertEquals("Custom: 454553", registry.convert(CharSequence.class, 454553));
+		Assert.assertEquals("Custom: 454553", converter.convert(454553, null));
+	}
+
+	@Test
+	public void resolvedConverterTest() {
+		final Converter<Integer> converter = ConverterRegistry.getInstance().getResolvedConverter(Integer.class);
+		Assert.assertEquals(Integer.valueOf(12), converter.convert("12", null));
+		Assert.assertEquals(Integer.valueOf(2), converter.convertWithCheck("abc", 2, true));
+
+		final Converter<Thread.State> enumConverter = ConverterRegistry.getInstance().getResolvedConverter(Thread.State.class);
+		Assert.assertEquals(Thread.State.NEW, enumConverter.convert("NEW", null));
+		try {
+			enumConverter.convert("abc", null);
+			Assert.fail();
+		} catch (ConvertException e) {
+			Assert.assertTrue(e.getMessage().startsWith("Can not convert abc"));
+		}
+	}
+
 	public static class CustomConverter implements Converter<CharSequence>{
 		@Override
 		public CharSequence convert(Object value, CharSequence defaultValue) throws IllegalArgumentException {
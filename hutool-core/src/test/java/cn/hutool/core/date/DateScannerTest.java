@@ -0,0 +1,125 @@
+package cn.hutool.core.date;
+
+import cn.hutool.core.date.format.DateParser;
+import cn.hutool.core.util.RandomUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * 日期快速扫描测试，结果需与按照格式解析一致
+ */
+public class DateScannerTest {
+
+	@Test
+	public void scanNormTest() {
+		assertScan("2023-05-09 12:34:56", "2023-05-09 12:34:56", DatePattern.NORM_DATETIME_FORMAT);
+		assertScan(" 2023/5/9 7:05:06 ", "2023-05-09 07:05:06", DatePattern.NORM_DATETIME_FORMAT);
+		assertScan("2023.05.09", "2023-05-09", DatePattern.NORM_DATE_FORMAT);
+		assertScan("2023-05-09 12:34", "2023-05-09 12:34", DatePattern.NORM_DATETIME_MINUTE_FORMAT);
+		assertScan("2023-05-09 12:34:56.789", "2023-05-09 12:34:56.789", DatePattern.NORM_DATETIME_MS_FORMAT);
+		assertScan("2023-05-09 12:34:56,7", "2023-05-09 12:34:56.7", DatePattern.NORM_DATETIME_MS_FORMAT);
+		assertScan("2023-05-09 12:34:56.789123", "2023-05-09 12:34:56.789", DatePattern.NORM_DATETIME_MS_FORMAT);
+		assertScan("2023年05月09日 12时34分56秒", "2023-05-09 12:34:56", DatePattern.NORM_DATETIME_FORMAT);
+		assertScan("2023年05月09日", "2023-05-09", DatePattern.NORM_DATE_FORMAT);
+		assertScan("2024-02-29 23:59:59", "2024-02-29 23:59:59", DatePattern.NORM_DATETIME_FORMAT);
+	}
+
+	@Test
+	public void scanPureTest() {
+		assertScan("20230509123456", "20230509123456", DatePattern.PURE_DATETIME_FORMAT);
+		assertScan("20230509123456789", "20230509123456789", DatePattern.PURE_DATETIME_MS_FORMAT);
+		assertScan("20230509", "20230509", DatePattern.PURE_DATE_FORMAT);
+		assertScan("123456", "123456", DatePattern.PURE_TIME_FORMAT);
+	}
+
+	@Test
+	public void scanIsoTest() {
+		assertScan("2023-05-09T12:34:56", "2023-05-09T12:34:56", DatePattern.UTC_SIMPLE_FORMAT);
+		assertScan("2023-05-09T12:34", "2023-05-09T12:34:00", DatePattern.UTC_SIMPLE_FORMAT);
+		assertScan("2023-05-09T12:34:56.99", "2023-05-09T12:34:56.99", DatePattern.UTC_SIMPLE_MS_FORMAT);
+		assertScan("2023-05-09T12:34:56Z", "2023-05-09T12:34:56Z", DatePattern.UTC_FORMAT);
+		assertScan("2023-05-09T12:34:56.789Z", "2023-05-09T12:34:56.789Z", DatePattern.UTC_MS_FORMAT);
+		assertScan("2023-05-09T12:34:56+08:00", "2023-05-09T12:34:56+08:00", DatePattern.UTC_WITH_XXX_OFFSET_FORMAT);
+		assertScan("2023-05-09T12:34:56+0800", "2023-05-09T12:34:56+08:00", DatePattern.UTC_WITH_XXX_OFFSET_FORMAT);
+		assertScan("2023-05-09T12:34:56+05:30", "2023-05-09T12:34:56+05:30", DatePattern.UTC_WITH_XXX_OFFSET_FORMAT);
+		assertScan("2023-05-09T12:34:56.789123+08:00", "2023-05-09T12:34:56.789+08:00", DatePattern.UTC_MS_WITH_XXX_OFFSET_FORMAT);
+		assertScan("2023-05-09T12:34:56-08:00", "2023-05-09T12:34:56-08:00", DatePattern.UTC_WITH_XXX_OFFSET_FORMAT);
+		assertScan("2023-05-09T12:34:56.789-0800", "2023-05-09T12:34:56.789-08:00", DatePattern.UTC_MS_WITH_XXX_OFFSET_FORMAT);
+	}
+
+	@Test
+	public void scanJdkTest() {
+		assertScan("Wed Aug 01 00:00:00 CST 2012", "Wed Aug 01 00:00:00 CST 2012", DatePattern.JDK_DATETIME_FORMAT);
+		assertScan("Wed Aug 01 00:00:00 EDT 2012", "Wed Aug 01 00:00:00 EDT 2012", DatePattern.JDK_DATETIME_FORMAT);
+		assertScan("Wed Aug 01 00:00:00 UTC 2012", "Wed Aug 01 00:00:00 UTC 2012", DatePattern.JDK_DATETIME_FORMAT);
+		// 星期与日期不一致时以日期为准
+		assertScan("Mon Aug 01 00:00:00 CST 2012", "Mon Aug 01 00:00:00 CST 2012", DatePattern.JDK_DATETIME_FORMAT);
+	}
+
+	@Test
+	public void fallbackTest() {
+		final String[] dateStrs = {
+				// 需要进位的字段
+				"2023-02-29", "2023-05-09 24:00:00", "20231301",
+				// 格里高利历启用前
+				"1500-01-01",
+				// 非严格的ISO8601和不支持的时区
+				"2023-5-9T12:34:56", "2023-05-09T12:34:56+0830", "2023-05-09T12:34:56.7891Z",
+				"Wed Aug 01 00:00:00 GMT+08:00 2012", "Tue Jun 4 16:25:15 +0800 2019",
+				// 其它格式
+				"12:34:56", "1683606896000", "2023-05"
+		};
+		for (String dateStr : dateStrs) {
+			Assert.assertFalse(dateStr, new DateScanner().scan(dateStr));
+		}
+		Assert.assertFalse(new DateScanner().scan(null));
+		Assert.assertFalse(new DateScanner().scan(" "));
+
+		// 交给原有逻辑解析
+		Assert.assertEquals(DateUtil.parse("2023-03-01", DatePattern.NORM_DATE_FORMAT), DateUtil.parse("2023-02-29"));
+		Assert.assertEquals(DateUtil.parse("Wed Aug 01 00:00:00 GMT+08:00 2012", DatePattern.JDK_DATETIME_FORMAT),
+				DateUtil.parse("Wed Aug 01 00:00:00 GMT+08:00 2012"));
+	}
+
+	@Test
+	public void randomTest() {
+		final long start = DateUtil.parse("1900-01-01", DatePattern.NORM_DATE_FORMAT).getTime();
+		final long end = DateUtil.parse("2100-01-01", DatePattern.NORM_DATE_FORMAT).getTime();
+		for (int i = 0; i < 10000; i++) {
+			final String dateStr = DateUtil.format(new DateTime(RandomUtil.randomLong(start, end)), DatePattern.NORM_DATETIME_MS_FORMAT);
+			final DateTime expected = DateUtil.parse(dateStr, DatePattern.NORM_DATETIME_MS_FORMAT);
+			Assert.assertEquals(dateStr, expected, DateUtil.parse(dateStr));
+			Assert.assertEquals(dateStr, expected.getTime(), DateUtil.parseToEpochMillis(dateStr));
+		}
+	}
+
+	@Test
+	public void parseToEpochMillisTest() {
+		Assert.assertEquals(DateUtil.parse("2023-05-09 12:34:56").getTime(), DateUtil.parseToEpochMillis("2023-05-09 12:34:56"));
+		Assert.assertEquals(1683635696789L, DateUtil.parseToEpochMillis("2023-05-09T12:34:56.789Z"));
+		// 原有逻辑解析
+		Assert.assertEquals(DateUtil.parse("12:34:56").getTime(), DateUtil.parseToEpochMillis("12:34:56"), 60 * 1000);
+	}
+
+	@Test(expected = DateException.class)
+	public void parseToEpochMillisBlankTest() {
+		DateUtil.parseToEpochMillis(" ");
+	}
+
+	/**
+	 * 断言扫描结果与按照格式解析的时间和时区一致
+	 *
+	 * @param dateStr    日期字符串
+	 * @param normalized 规范后的日期字符串
+	 * @param format     格式
+	 */
+	private static void assertScan(String dateStr, String normalized, DateParser format) {
+		final DateScanner scanner = new DateScanner();
+		Assert.assertTrue(dateStr, scanner.scan(dateStr));
+
+		final DateTime expected = DateUtil.parse(normalized, format);
+		Assert.assertEquals(dateStr, expected.getTime(), scanner.getTime());
+		Assert.assertEquals(dateStr, expected.getTimeZone().getRawOffset(), scanner.getTimeZone().getRawOffset());
+		Assert.assertEquals(dateStr, expected.toString(), DateUtil.parse(dateStr).toString());
+	}
+}
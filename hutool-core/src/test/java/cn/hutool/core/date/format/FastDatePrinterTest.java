@@ -0,0 +1,96 @@
+package cn.hutool.core.date.format;
+
+import cn.hutool.core.date.DatePattern;
+import cn.hutool.core.util.RandomUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * FastDatePrinter按秒缓存格式化测试，结果需与按Calendar格式化一致
+ */
+public class FastDatePrinterTest {
+
+	@Test
+	public void formatTest() {
+		final String[] patterns = {
+				DatePattern.NORM_DATETIME_PATTERN, DatePattern.NORM_DATETIME_MS_PATTERN, DatePattern.UTC_MS_WITH_XXX_OFFSET_PATTERN,
+				DatePattern.CHINESE_DATE_TIME_PATTERN, "yyyy-MM-dd HH:mm:ss.SSS'Z' EEE z",
+				// 不可缓存的格式
+				"yyyy-MM-dd HH:mm:ss.S", "SSS.SSS"
+		};
+		for (String pattern : patterns) {
+			final FastDatePrinter printer = new FastDatePrinter(pattern, TimeZone.getTimeZone("Asia/Shanghai"), Locale.US);
+			for (int i = 0; i < 1000; i++) {
+				// 包括1970年之前的负数毫秒
+				final long millis = RandomUtil.randomLong(-3000000000000L, 4000000000000L);
+				// 同一秒内的不同毫秒
+				assertFormat(printer, millis);
+				assertFormat(printer, millis - Math.floorMod(millis, 1000L) + RandomUtil.randomInt(1000));
+			}
+		}
+	}
+
+	@Test
+	public void formatToCharsTest() {
+		final FastDateFormat format = DatePattern.NORM_DATETIME_MS_FORMAT;
+		final long millis = 1683606896789L;
+		final char[] chars = new char[30];
+		final int length = format.format(millis, chars, 2);
+		Assert.assertEquals(23, length);
+		Assert.assertEquals(format.format(new Date(millis)), new String(chars, 2, length));
+
+		try {
+			format.format(millis, new char[30], 10);
+			Assert.fail();
+		} catch (IndexOutOfBoundsException e) {
+			// 空间不足
+		}
+	}
+
+	@Test
+	public void formatToByteBufferTest() {
+		final FastDateFormat format = FastDateFormat.getInstance(DatePattern.CHINESE_DATE_TIME_PATTERN);
+		final long millis = 1683606896789L;
+		final ByteBuffer buffer = ByteBuffer.allocate(64);
+		final int length = format.format(millis, buffer);
+		Assert.assertEquals(buffer.position(), length);
+		Assert.assertEquals(format.format(new Date(millis)), new String(buffer.array(), 0, length, StandardCharsets.UTF_8));
+
+		try {
+			format.format(millis, ByteBuffer.allocate(10));
+			Assert.fail();
+		} catch (BufferOverflowException e) {
+			// 空间不足
+		}
+	}
+
+	/**
+	 * 断言各种方式的格式化结果与按Calendar格式化一致
+	 *
+	 * @param printer {@link FastDatePrinter}
+	 * @param millis  毫秒数
+	 */
+	private static void assertFormat(FastDatePrinter printer, long millis) {
+		final Calendar calendar = Calendar.getInstance(printer.getTimeZone(), printer.getLocale());
+		calendar.setTimeInMillis(millis);
+		final String expected = printer.format(calendar);
+
+		Assert.assertEquals(expected, printer.format(millis));
+		Assert.assertEquals(expected, printer.format(new Date(millis)));
+		Assert.assertEquals(expected, printer.format(millis, new StringBuilder()).toString());
+
+		final char[] chars = new char[64];
+		Assert.assertEquals(expected, new String(chars, 1, printer.format(millis, chars, 1)));
+
+		final ByteBuffer buffer = ByteBuffer.allocate(128);
+		Assert.assertEquals(expected, new String(buffer.array(), 0, printer.format(millis, buffer), StandardCharsets.UTF_8));
+	}
+}
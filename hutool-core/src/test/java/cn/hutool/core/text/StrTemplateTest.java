@@ -0,0 +1,116 @@
+package cn.hutool.core.text;
+
+import cn.hutool.core.util.RandomUtil;
+import cn.hutool.core.util.StrUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * 预编译字符串模板测试，结果需与逐字符扫描的格式化一致
+ */
+public class StrTemplateTest {
+
+	@Test
+	public void formatTest() {
+		final StrTemplate template = StrTemplate.compile("user {} did {}");
+		Assert.assertEquals(2, template.getPlaceHolderCount());
+		Assert.assertEquals("user a did login", template.format("a", "login"));
+		Assert.assertEquals("user null did {}", template.format((Object) null));
+		Assert.assertEquals("user a did b", template.format("a", "b", "c"));
+		Assert.assertEquals("user {} did {}", template.format());
+
+		Assert.assertEquals("this is {} for a", StrTemplate.compile("this is \\{} for {}").format("a", "b"));
+		Assert.assertEquals("this is \\a for b", StrTemplate.compile("this is \\\\{} for {}").format("a", "b"));
+		Assert.assertEquals("this is a for ?", StrTemplate.compile("this is ? for \\?", "?").format("a", "b"));
+	}
+
+	@Test
+	public void formatToTest() {
+		final StringBuilder sb = new StringBuilder("[main] ");
+		final StrTemplate template = StrTemplate.compile("user {} did {}");
+		Assert.assertSame(sb, template.formatTo(sb, "a", "login"));
+		Assert.assertEquals("[main] user a did login", sb.toString());
+		template.formatTo(sb, (Object) null);
+		Assert.assertEquals("[main] user a did loginuser null did {}", sb.toString());
+	}
+
+	@Test
+	public void randomTest() {
+		final String[] placeHolders = {StrUtil.EMPTY_JSON, "?", "${}"};
+		for (int i = 0; i < 10000; i++) {
+			final String placeHolder = placeHolders[i % placeHolders.length];
+			final String pattern = RandomUtil.randomString("ab\\{}?$", RandomUtil.randomInt(16));
+			final Object[] args = new Object[RandomUtil.randomInt(5)];
+			for (int j = 0; j < args.length; j++) {
+				args[j] = RandomUtil.randomInt(3) == 0 ? null : RandomUtil.randomString(RandomUtil.randomInt(3));
+			}
+
+			final String expected = formatByScan(pattern, placeHolder, args);
+			final StrTemplate template = StrTemplate.compile(pattern, placeHolder);
+			Assert.assertEquals(pattern, expected, template.format(args));
+			Assert.assertEquals(pattern, expected, template.formatTo(new StringBuilder(), args).toString());
+			if (false == StrUtil.isBlank(pattern) && args.length > 0) {
+				Assert.assertEquals(pattern, expected, StrFormatter.formatWith(pattern, placeHolder, args));
+			}
+		}
+	}
+
+	@Test
+	public void cacheTest() {
+		final String pattern = "cache {} test";
+		Assert.assertSame(StrFormatter.getTemplate(pattern, StrUtil.EMPTY_JSON), StrFormatter.getTemplate(pattern, StrUtil.EMPTY_JSON));
+		Assert.assertNotSame(StrFormatter.getTemplate(pattern, StrUtil.EMPTY_JSON), StrFormatter.getTemplate(pattern, "?"));
+		Assert.assertEquals("cache a test", StrUtil.format(pattern, "a"));
+
+		// 首次使用直接格式化，再次使用时编译并缓存，结果一致
+		final String once = "once {} \\{} {} test" + RandomUtil.randomString(8);
+		for (int i = 0; i < 3; i++) {
+			Assert.assertEquals(formatByScan(once, StrUtil.EMPTY_JSON, "a", "b", "c"), StrUtil.format(once, "a", "b", "c"));
+		}
+	}
+
+	/**
+	 * 逐字符扫描的格式化，与预编译前的StrFormatter实现一致，作为对照
+	 *
+	 * @param strPattern  字符串模板
+	 * @param placeHolder 占位符
+	 * @param argArray    参数列表
+	 * @return 结果
+	 */
+	private static String formatByScan(String strPattern, String placeHolder, Object... argArray) {
+		if (argArray.length == 0) {
+			return strPattern;
+		}
+		final StringBuilder sbuf = new StringBuilder();
+		int handledPosition = 0;
+		int delimIndex;
+		for (int argIndex = 0; argIndex < argArray.length; argIndex++) {
+			delimIndex = strPattern.indexOf(placeHolder, handledPosition);
+			if (delimIndex == -1) {
+				if (handledPosition == 0) {
+					return strPattern;
+				}
+				sbuf.append(strPattern, handledPosition, strPattern.length());
+				return sbuf.toString();
+			}
+			if (delimIndex > 0 && strPattern.charAt(delimIndex - 1) == StrUtil.C_BACKSLASH) {
+				if (delimIndex > 1 && strPattern.charAt(delimIndex - 2) == StrUtil.C_BACKSLASH) {
+					sbuf.append(strPattern, handledPosition, delimIndex - 1);
+					sbuf.append(StrUtil.utf8Str(argArray[argIndex]));
+					handledPosition = delimIndex + placeHolder.length();
+				} else {
+					argIndex--;
+					sbuf.append(strPattern, handledPosition, delimIndex - 1);
+					sbuf.append(placeHolder.charAt(0));
+					handledPosition = delimIndex + 1;
+				}
+			} else {
+				sbuf.append(strPattern, handledPosition, delimIndex);
+				sbuf.append(StrUtil.utf8Str(argArray[argIndex]));
+				handledPosition = delimIndex + placeHolder.length();
+			}
+		}
+		sbuf.append(strPattern, handledPosition, strPattern.length());
+		return sbuf.toString();
+	}
+}
@@ -0,0 +1,150 @@
+package cn.hutool.core.text.csv;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.RandomUtil;
+import lombok.Data;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * CSV分块并行读取测试，结果需与顺序读取一致
+ */
+public class CsvChunkTest {
+
+	@Test
+	public void parallelStreamTest() {
+		final String csv = "id,name,remark\r\n"
+				+ "1,张三,\"多行\n备注\"\r\n"
+				+ "# 注释行, \"引号\n"
+				+ "2,李四,\"含\"\"引号\"\", 逗号\"\r\n"
+				+ "\n"
+				+ "3,王五,";
+		final File file = writeTemp(csv, CharsetUtil.CHARSET_UTF_8);
+		try {
+			for (int chunkSize = 1; chunkSize < 64; chunkSize++) {
+				final int size = chunkSize;
+				assertParallel(file, CharsetUtil.CHARSET_UTF_8, CsvReadConfig::defaultConfig, size);
+				assertParallel(file, CharsetUtil.CHARSET_UTF_8, () -> CsvReadConfig.defaultConfig().setContainsHeader(true), size);
+				assertParallel(file, CharsetUtil.CHARSET_UTF_8, () -> CsvReadConfig.defaultConfig().setHeaderLineNo(2).setSkipEmptyRows(false), size);
+				assertParallel(file, CharsetUtil.CHARSET_UTF_8, () -> CsvReadConfig.defaultConfig().setBeginLineNo(2).setEndLineNo(4), size);
+				assertParallel(file, CharsetUtil.CHARSET_UTF_8, () -> CsvReadConfig.defaultConfig().disableComment().setTrimField(true), size);
+			}
+
+			final List<CsvRow> rows = new CsvReader(CsvReadConfig.defaultConfig().setContainsHeader(true))
+					.parallelStream(file.toPath(), CharsetUtil.CHARSET_UTF_8, false).collect(Collectors.toList());
+			Assert.assertEquals(3, rows.size());
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Test
+	public void parallelStreamRandomTest() {
+		final String[] fields = {"", "a", "中文", "\"\"", "\"x,y\"", "\"多\n行\"", "\"\r\n\"", "\"say \"\"hi\"\"\"", " b "};
+		final String[] lineEnds = {"\n", "\r\n", "\r"};
+		for (int i = 0; i < 50; i++) {
+			final StringBuilder csv = new StringBuilder();
+			final int rowCount = RandomUtil.randomInt(1, 30);
+			for (int row = 0; row < rowCount; row++) {
+				if (RandomUtil.randomInt(10) == 0) {
+					csv.append("#comment,\"").append(RandomUtil.randomEle(lineEnds));
+					continue;
+				}
+				final int fieldCount = RandomUtil.randomInt(1, 4);
+				for (int field = 0; field < fieldCount; field++) {
+					if (field > 0) {
+						csv.append(',');
+					}
+					csv.append(RandomUtil.randomEle(fields));
+				}
+				if (row < rowCount - 1 || RandomUtil.randomBoolean()) {
+					csv.append(RandomUtil.randomEle(lineEnds));
+				}
+			}
+
+			final Charset charset = i % 2 == 0 ? CharsetUtil.CHARSET_UTF_8 : CharsetUtil.CHARSET_GBK;
+			final File file = writeTemp(csv.toString(), charset);
+			try {
+				final int chunkSize = RandomUtil.randomInt(1, 32);
+				assertParallel(file, charset, CsvReadConfig::defaultConfig, chunkSize);
+				assertParallel(file, charset, () -> CsvReadConfig.defaultConfig().setContainsHeader(true).setSkipEmptyRows(false), chunkSize);
+			} finally {
+				FileUtil.del(file);
+			}
+		}
+	}
+
+	@Test
+	public void differentFieldCountTest() {
+		final File file = writeTemp("a,b\n1,2\n3,4\n5\n", CharsetUtil.CHARSET_UTF_8);
+		try {
+			final CsvReader reader = new CsvReader(CsvReadConfig.defaultConfig().setErrorOnDifferentFieldCount(true));
+			Assert.assertThrows(IORuntimeException.class,
+					() -> reader.parallelStream(file.toPath(), CharsetUtil.CHARSET_UTF_8, true, 4).collect(Collectors.toList()));
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Test
+	public void parallelBeanStreamTest() {
+		final File file = writeTemp("姓名,gender,focus,age\n张三,男,无,33\n李四,男,好对象,23\n", CharsetUtil.CHARSET_UTF_8);
+		try {
+			final List<TestBean> beans = new CsvReader()
+					.parallelStream(file.toPath(), CharsetUtil.CHARSET_UTF_8, TestBean.class, true)
+					.collect(Collectors.toList());
+			final List<TestBean> expected = new CsvReader().read(FileUtil.getUtf8Reader(file), TestBean.class);
+			Assert.assertEquals(expected, beans);
+			Assert.assertEquals("张三", beans.get(0).getName());
+			Assert.assertEquals(Integer.valueOf(23), beans.get(1).getAge());
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Data
+	public static class TestBean {
+		@cn.hutool.core.annotation.Alias("姓名")
+		private String name;
+		private String gender;
+		private String focus;
+		private Integer age;
+	}
+
+	/**
+	 * 断言并行读取的行、行号和标题与顺序读取一致
+	 *
+	 * @param file      CSV文件
+	 * @param charset   编码
+	 * @param config    配置
+	 * @param chunkSize 分块大小
+	 */
+	private static void assertParallel(File file, Charset charset, Supplier<CsvReadConfig> config, int chunkSize) {
+		final List<CsvRow> expected = new ArrayList<>();
+		new CsvReader(config.get()).read(FileUtil.getReader(file, charset), expected::add);
+		final List<CsvRow> actual = new CsvReader(config.get())
+				.parallelStream(file.toPath(), charset, true, chunkSize).collect(Collectors.toList());
+
+		final String message = FileUtil.readString(file, charset) + " [chunkSize=" + chunkSize + "]";
+		Assert.assertEquals(message, expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertEquals(message, expected.get(i).getOriginalLineNumber(), actual.get(i).getOriginalLineNumber());
+			Assert.assertEquals(message, expected.get(i).getRawList(), actual.get(i).getRawList());
+			Assert.assertEquals(message, expected.get(i).headerMap, actual.get(i).headerMap);
+		}
+	}
+
+	private static File writeTemp(String content, Charset charset) {
+		final File file = FileUtil.createTempFile("csv-chunk", ".csv", null, true);
+		return FileUtil.writeString(content, file, charset);
+	}
+}
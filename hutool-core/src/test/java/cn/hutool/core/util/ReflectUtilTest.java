@@ -56,6 +56,23 @@ public class ReflectUtilTest {
 		Assert.assertEquals(1, method.getParameterTypes().length);
 	}
 
+	@Test
+	public void getMethodCacheTest() {
+		final Class<?>[] paramTypes = {Integer.class};
+		final Method method = ReflectUtil.getMethod(ExamInfoDict.class, "getId", paramTypes);
+		Assert.assertSame(method, ReflectUtil.getMethod(ExamInfoDict.class, "getId", Integer.class));
+		// 修改传入的参数类型数组不影响缓存
+		paramTypes[0] = String.class;
+		Assert.assertSame(method, ReflectUtil.getMethod(ExamInfoDict.class, "getId", Integer.class));
+		Assert.assertNull(ReflectUtil.getMethod(ExamInfoDict.class, "getId", paramTypes));
+
+		// 未找到的结果同样缓存
+		Assert.assertNull(ReflectUtil.getMethod(ExamInfoDict.class, "notExist"));
+		Assert.assertNull(ReflectUtil.getMethod(ExamInfoDict.class, "notExist"));
+		Assert.assertNotNull(ReflectUtil.getMethodIgnoreCase(ExamInfoDict.class, "GETID"));
+		Assert.assertNull(ReflectUtil.getMethod(ExamInfoDict.class, "GETID"));
+	}
+
 	@Test
 	public void getMethodIgnoreCaseTest() {
 		Method method = ReflectUtil.getMethodIgnoreCase(ExamInfoDict.class, "getId");
@@ -2,6 +2,7 @@ package cn.hutool.db;
 
 import cn.hutool.core.collection.CollUtil;
 import cn.hutool.core.lang.func.Func1;
+import cn.hutool.core.lang.func.VoidFunc1;
 import cn.hutool.db.dialect.Dialect;
 import cn.hutool.db.handler.*;
 import cn.hutool.db.sql.Condition;
@@ -17,10 +18,12 @@ import javax.sql.DataSource;
 import java.io.Serializable;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * 抽象数据库操作类<br>
@@ -41,6 +44,10 @@ public abstract class AbstractDb implements Serializable {
 	 * 是否大小写不敏感（默认大小写不敏感）
 	 */
 	protected boolean caseInsensitive = GlobalDbConfig.caseInsensitive;
+	/**
+	 * 流式查询时每批次获取的行数，小于等于0表示使用驱动默认值
+	 */
+	protected int fetchSize = 1000;
 	protected SqlConnRunner runner;
 
 	// ------------------------------------------------------- Constructor start
@@ -212,6 +219,70 @@ public abstract class AbstractDb implements Serializable {
 		}
 	}
 
+	/**
+	 * 流式查询，结果逐行从数据库读取并转换为{@link Entity}，不会将所有结果加载到内存中，适用于大数据量导出等场景<br>
+	 * 每批次读取的行数由{@link #setFetchSize(int)}设置，不同数据库的流式读取方式见{@link cn.hutool.db.dialect.Dialect#psForStream(Connection, SqlBuilder, int)}。<br>
+	 * 注意：
+	 * <ul>
+	 *     <li>读取结束后自动释放连接，未读取完毕时须关闭{@link Stream}（如使用try-with-resources），否则连接不会被释放，{@link Stream}可在任意线程中关闭</li>
+	 *     <li>非事务中，{@link Stream}独占一个连接，关闭前同一线程中的其它操作会从数据源获取另一个连接，因此连接池须至少有两个可用连接</li>
+	 *     <li>事务中，{@link Stream}与事务共用连接，关闭前不要执行其它操作，部分驱动（如MySQL）在流式结果集未读取完毕时不允许在同一连接上执行其它语句</li>
+	 * </ul>
+	 *
+	 * @param sql    查询语句
+	 * @param params 参数
+	 * @return 行的{@link Stream}
+	 * @throws SQLException SQL执行异常
+	 * @since 5.8.19
+	 */
+	public Stream<Entity> stream(String sql, Object... params) throws SQLException {
+		final boolean caseInsensitive = this.caseInsensitive;
+		return iter(sql, (columnCount, meta, rs) -> HandleHelper.handleRow(columnCount, meta, rs, caseInsensitive), params).toStream();
+	}
+
+	/**
+	 * 流式查询，结果逐行从数据库读取并转换为Bean，不会将所有结果加载到内存中<br>
+	 * 连接的释放规则见{@link #stream(String, Object...)}
+	 *
+	 * @param <T>       Bean类型
+	 * @param sql       查询语句
+	 * @param beanClass 元素Bean类型
+	 * @param params    参数
+	 * @return Bean的{@link Stream}
+	 * @throws SQLException SQL执行异常
+	 * @since 5.8.19
+	 */
+	public <T> Stream<T> stream(String sql, Class<T> beanClass, Object... params) throws SQLException {
+		return iter(sql, new BeanRowHandler<>(beanClass), params).toStream();
+	}
+
+	/**
+	 * 流式查询并逐行处理，结果逐行从数据库读取，不会将所有结果加载到内存中，处理结束或出现异常后释放连接<br>
+	 * 在行处理函数中调用此对象的其它方法时：
+	 * <ul>
+	 *     <li>非事务中，嵌套的操作从数据源获取另一个连接，因此连接池须至少有两个可用连接，否则会等待至超时</li>
+	 *     <li>事务中，嵌套的操作与遍历共用连接，部分驱动（如MySQL）在流式结果集未读取完毕时不允许执行其它语句</li>
+	 * </ul>
+	 *
+	 * @param sql      查询语句
+	 * @param consumer 行处理函数
+	 * @param params   参数
+	 * @throws SQLException SQL执行异常
+	 * @since 5.8.19
+	 */
+	public void forEach(String sql, VoidFunc1<Entity> consumer, Object... params) throws SQLException {
+		final boolean caseInsensitive = this.caseInsensitive;
+		try (ResultSetIter<Entity> iter = iter(sql, (columnCount, meta, rs) -> HandleHelper.handleRow(columnCount, meta, rs, caseInsensitive), params)) {
+			while (iter.hasNext()) {
+				consumer.call(iter.next());
+			}
+		} catch (SQLException | RuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new DbRuntimeException(e);
+		}
+	}
+
 	/**
 	 * 执行非查询语句<br>
 	 * 语句包括 插入、更新、删除
@@ -1060,6 +1131,19 @@ public abstract class AbstractDb implements Serializable {
 	public AbstractDb disableWrapper() {
 		return setWrapper((Wrapper) null);
 	}
+
+	/**
+	 * 设置流式查询时每批次获取的行数，默认1000，小于等于0表示使用驱动默认值<br>
+	 * MySQL在未开启useCursorFetch时始终逐行读取，忽略此值
+	 *
+	 * @param fetchSize 每批次获取的行数
+	 * @return this
+	 * @since 5.8.19
+	 */
+	public AbstractDb setFetchSize(int fetchSize) {
+		this.fetchSize = fetchSize;
+		return this;
+	}
 	// ---------------------------------------------------------------------------- Getters and Setters end
 
 	// ---------------------------------------------------------------------------- protected method start
@@ -1079,5 +1163,81 @@ public abstract class AbstractDb implements Serializable {
 			throw new DbRuntimeException("Transaction not supported for current database!");
 		}
 	}
+
+	/**
+	 * 执行流式查询，返回逐行读取的遍历器<br>
+	 * 非事务中的连接由遍历器独占，获取后即从当前线程持有的连接中移除，关闭遍历器时直接关闭此连接，因此可以在任意线程中关闭。<br>
+	 * 方言可能修改连接的自动提交状态（如PostgreSQL），关闭时先恢复原有状态再关闭连接
+	 *
+	 * @param <T>        行转换后的对象类型
+	 * @param sql        查询语句
+	 * @param rowHandler 行处理器
+	 * @param params     参数
+	 * @return {@link ResultSetIter}
+	 * @throws SQLException SQL执行异常
+	 */
+	protected <T> ResultSetIter<T> iter(String sql, RsRowHandler<T> rowHandler, Object... params) throws SQLException {
+		Connection conn = null;
+		Boolean autoCommit = null;
+		PreparedStatement ps = null;
+		ResultSet rs = null;
+		try {
+			conn = this.getConnection();
+			autoCommit = conn.getAutoCommit();
+			if (autoCommit) {
+				// 独占连接，同一线程中的其它操作获取新的连接，不会共用或关闭此连接
+				ThreadLocalConnection.INSTANCE.remove(this.ds, conn);
+			}
+			ps = this.runner.getDialect().psForStream(conn, SqlBuilder.of(sql).addParams(params), this.fetchSize);
+			rs = ps.executeQuery();
+
+			final Connection finalConn = conn;
+			final boolean finalAutoCommit = autoCommit;
+			final PreparedStatement finalPs = ps;
+			final ResultSet finalRs = rs;
+			return new ResultSetIter<>(rs, rowHandler, () -> {
+				DbUtil.close(finalRs, finalPs);
+				restoreAutoCommit(finalConn, finalAutoCommit);
+				closeIterConnection(finalConn, finalAutoCommit);
+			});
+		} catch (SQLException | RuntimeException e) {
+			DbUtil.close(rs, ps);
+			if (null == autoCommit) {
+				this.closeConnection(conn);
+			} else {
+				restoreAutoCommit(conn, autoCommit);
+				closeIterConnection(conn, autoCommit);
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * 关闭流式查询使用的连接，事务中的连接由事务负责关闭，此处忽略
+	 *
+	 * @param conn       连接
+	 * @param autoCommit 原有的自动提交状态
+	 */
+	private static void closeIterConnection(Connection conn, boolean autoCommit) {
+		if (autoCommit) {
+			DbUtil.close(conn);
+		}
+	}
+
+	/**
+	 * 恢复连接的自动提交状态，恢复为自动提交时会提交当前事务
+	 *
+	 * @param conn       连接
+	 * @param autoCommit 原有的自动提交状态
+	 */
+	private static void restoreAutoCommit(Connection conn, boolean autoCommit) {
+		try {
+			if (conn.getAutoCommit() != autoCommit) {
+				conn.setAutoCommit(autoCommit);
+			}
+		} catch (SQLException e) {
+			// ignore
+		}
+	}
 	// ---------------------------------------------------------------------------- protected method end
 }
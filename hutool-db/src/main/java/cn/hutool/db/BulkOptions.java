@@ -0,0 +1,131 @@
+package cn.hutool.db;
+
+import java.io.Serializable;
+import java.util.function.Consumer;
+
+/**
+ * 批量导入选项，用于{@link Db#bulkInsert(String, Iterable, BulkOptions)}
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+public class BulkOptions implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 默认每批次（事务）的记录数
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 1000;
+	/**
+	 * 默认每条语句插入的行数
+	 */
+	public static final int DEFAULT_ROWS_PER_STATEMENT = 100;
+
+	/**
+	 * 每批次的记录数，每批次提交一次事务
+	 */
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
+	/**
+	 * 每条多行插入语句包含的行数
+	 */
+	private int rowsPerStatement = DEFAULT_ROWS_PER_STATEMENT;
+	/**
+	 * upsert时检查唯一性的字段，为空表示只插入
+	 */
+	private String[] upsertKeys;
+	/**
+	 * 每批次提交后的回调，用于报告进度
+	 */
+	private transient Consumer<BulkResult> progressListener;
+
+	/**
+	 * 创建默认选项
+	 *
+	 * @return BulkOptions
+	 */
+	public static BulkOptions create() {
+		return new BulkOptions();
+	}
+
+	/**
+	 * 获取每批次的记录数
+	 *
+	 * @return 每批次的记录数
+	 */
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+	/**
+	 * 设置每批次的记录数，每批次提交一次事务，小于等于0时使用默认值{@value #DEFAULT_CHUNK_SIZE}
+	 *
+	 * @param chunkSize 每批次的记录数
+	 * @return this
+	 */
+	public BulkOptions setChunkSize(int chunkSize) {
+		this.chunkSize = chunkSize <= 0 ? DEFAULT_CHUNK_SIZE : chunkSize;
+		return this;
+	}
+
+	/**
+	 * 获取每条多行插入语句包含的行数
+	 *
+	 * @return 每条语句的行数
+	 */
+	public int getRowsPerStatement() {
+		return rowsPerStatement;
+	}
+
+	/**
+	 * 设置每条多行插入语句包含的行数，小于等于0时使用默认值{@value #DEFAULT_ROWS_PER_STATEMENT}<br>
+	 * 实际行数还受单条语句参数个数的限制（行数 * 字段数不超过32766）
+	 *
+	 * @param rowsPerStatement 每条语句的行数
+	 * @return this
+	 */
+	public BulkOptions setRowsPerStatement(int rowsPerStatement) {
+		this.rowsPerStatement = rowsPerStatement <= 0 ? DEFAULT_ROWS_PER_STATEMENT : rowsPerStatement;
+		return this;
+	}
+
+	/**
+	 * 获取upsert时检查唯一性的字段
+	 *
+	 * @return 字段列表，{@code null}表示只插入
+	 */
+	public String[] getUpsertKeys() {
+		return upsertKeys;
+	}
+
+	/**
+	 * 设置upsert时检查唯一性的字段，设置后使用upsert语义导入<br>
+	 * MySQL通过主键或唯一索引判断，此字段只需非空
+	 *
+	 * @param upsertKeys 检查唯一性的字段
+	 * @return this
+	 */
+	public BulkOptions setUpsertKeys(String... upsertKeys) {
+		this.upsertKeys = upsertKeys;
+		return this;
+	}
+
+	/**
+	 * 获取每批次提交后的回调
+	 *
+	 * @return 回调
+	 */
+	public Consumer<BulkResult> getProgressListener() {
+		return progressListener;
+	}
+
+	/**
+	 * 设置每批次提交后的回调，参数为截至当前批次的累计结果，用于报告进度和吞吐量
+	 *
+	 * @param progressListener 回调
+	 * @return this
+	 */
+	public BulkOptions setProgressListener(Consumer<BulkResult> progressListener) {
+		this.progressListener = progressListener;
+		return this;
+	}
+}
@@ -0,0 +1,83 @@
+package cn.hutool.db;
+
+import cn.hutool.core.util.StrUtil;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 批量导入结果，记录导入的记录数、批次数和耗时
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+public class BulkResult implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 已导入的记录数
+	 */
+	private long rowCount;
+	/**
+	 * 已提交的批次数
+	 */
+	private int chunkCount;
+	/**
+	 * 耗时，单位纳秒
+	 */
+	private long elapsedNanos;
+
+	/**
+	 * 记录一个批次完成
+	 *
+	 * @param rows         本批次的记录数
+	 * @param elapsedNanos 截至本批次的总耗时，单位纳秒
+	 */
+	void addChunk(int rows, long elapsedNanos) {
+		this.rowCount += rows;
+		this.chunkCount++;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	/**
+	 * 获取已导入的记录数
+	 *
+	 * @return 记录数
+	 */
+	public long getRowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * 获取已提交的批次数
+	 *
+	 * @return 批次数
+	 */
+	public int getChunkCount() {
+		return chunkCount;
+	}
+
+	/**
+	 * 获取耗时
+	 *
+	 * @return 耗时，单位毫秒
+	 */
+	public long getElapsedMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+	}
+
+	/**
+	 * 获取吞吐量，即每秒导入的记录数
+	 *
+	 * @return 每秒记录数
+	 */
+	public double getRowsPerSecond() {
+		return elapsedNanos <= 0 ? 0 : rowCount * 1_000_000_000D / elapsedNanos;
+	}
+
+	@Override
+	public String toString() {
+		return StrUtil.format("BulkResult [rows: {}, chunks: {}, elapsed: {}ms, rows/s: {}]",
+				rowCount, chunkCount, getElapsedMillis(), Math.round(getRowsPerSecond()));
+	}
+}
@@ -1,6 +1,8 @@
 package cn.hutool.db;
 
+import cn.hutool.core.lang.Assert;
 import cn.hutool.core.lang.func.VoidFunc1;
+import cn.hutool.core.util.StrUtil;
 import cn.hutool.db.dialect.Dialect;
 import cn.hutool.db.dialect.DialectFactory;
 import cn.hutool.db.ds.DSFactory;
@@ -11,6 +13,9 @@ import cn.hutool.log.StaticLog;
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * 数据库操作类<br>
@@ -122,6 +127,11 @@ public class Db extends AbstractDb {
 	public Db disableWrapper() {
 		return (Db)super.disableWrapper();
 	}
+
+	@Override
+	public Db setFetchSize(int fetchSize) {
+		return (Db) super.setFetchSize(fetchSize);
+	}
 	// ---------------------------------------------------------------------------- Getters and Setters end
 
 	@Override
@@ -204,7 +214,113 @@ public class Db extends AbstractDb {
 		return this;
 	}
 
+	/**
+	 * 批量导入数据，使用默认选项，见{@link #bulkInsert(String, Iterable, BulkOptions)}
+	 *
+	 * @param tableName 表名，记录未指定表名时使用此表名
+	 * @param records   记录，结构必须一致
+	 * @return 导入结果
+	 * @throws SQLException SQL异常
+	 * @since 5.8.19
+	 */
+	public BulkResult bulkInsert(String tableName, Iterable<Entity> records) throws SQLException {
+		return bulkInsert(tableName, records, null);
+	}
+
+	/**
+	 * 批量导入数据，用于大量数据的插入或upsert<br>
+	 * <ul>
+	 *     <li>逐条读取记录，每{@link BulkOptions#getChunkSize()}条作为一个批次，每批次提交一次事务，记录无需全部加载到内存中</li>
+	 *     <li>批次内的记录使用方言的多行语句（如INSERT INTO ... VALUES (...), (...)）执行，支持MySQL、PostgreSQL、H2、SQLite，其它数据库使用JDBC批量执行</li>
+	 *     <li>设置了{@link BulkOptions#setUpsertKeys(String...)}时使用upsert语义</li>
+	 * </ul>
+	 * 执行出错时回滚当前批次并抛出异常，之前已提交的批次不回滚。如果在事务中调用（如{@link #tx(VoidFunc1)}），不单独提交，由外部事务统一提交。
+	 *
+	 * @param tableName 表名，记录未指定表名时使用此表名，此时使用记录的副本，传入的记录不会被修改
+	 * @param records   记录，结构必须一致，字段以每批次的第一条为准
+	 * @param options   选项，{@code null}表示使用默认选项
+	 * @return 导入结果，包括记录数、批次数、耗时和吞吐量
+	 * @throws SQLException SQL异常
+	 * @since 5.8.19
+	 */
+	public BulkResult bulkInsert(String tableName, Iterable<Entity> records, BulkOptions options) throws SQLException {
+		Assert.notNull(records, "Records must be not null!");
+		if (null == options) {
+			options = BulkOptions.create();
+		}
+
+		final long start = System.nanoTime();
+		final BulkResult result = new BulkResult();
+		final List<Entity> chunk = new ArrayList<>(options.getChunkSize());
+		Connection conn = null;
+		Boolean autoCommit = null;
+		boolean commitPerChunk = false;
+		try {
+			conn = getConnection();
+			autoCommit = conn.getAutoCommit();
+			// 已在事务中时由外部事务提交
+			commitPerChunk = autoCommit;
+			if (commitPerChunk) {
+				conn.setAutoCommit(false);
+			}
+
+			for (Entity record : records) {
+				if (StrUtil.isBlank(record.getTableName())) {
+					// 使用副本，不修改传入的记录
+					record = record.clone().setTableName(tableName);
+				}
+				chunk.add(record);
+				if (chunk.size() >= options.getChunkSize()) {
+					flushChunk(conn, chunk, options, commitPerChunk, result, start);
+				}
+			}
+			flushChunk(conn, chunk, options, commitPerChunk, result, start);
+		} catch (SQLException | RuntimeException e) {
+			if (commitPerChunk) {
+				// 只回滚当前批次
+				quietRollback(conn);
+			}
+			throw e;
+		} finally {
+			if (commitPerChunk) {
+				// 还原事务状态
+				quietSetAutoCommit(conn, autoCommit);
+			}
+			closeConnection(conn);
+		}
+		return result;
+	}
+
 	// ---------------------------------------------------------------------------- Private method start
+	/**
+	 * 执行并提交一个批次的导入，执行后清空批次
+	 *
+	 * @param conn           Connection
+	 * @param chunk          批次中的记录
+	 * @param options        导入选项
+	 * @param commitPerChunk 是否每批次提交
+	 * @param result         导入结果
+	 * @param start          导入开始时间，单位纳秒
+	 * @throws SQLException SQL异常
+	 */
+	private void flushChunk(Connection conn, List<Entity> chunk, BulkOptions options, boolean commitPerChunk,
+							BulkResult result, long start) throws SQLException {
+		if (chunk.isEmpty()) {
+			return;
+		}
+		runner.bulkInsert(conn, chunk, options.getRowsPerStatement(), options.getUpsertKeys());
+		if (commitPerChunk) {
+			conn.commit();
+		}
+		result.addChunk(chunk.size(), System.nanoTime() - start);
+		chunk.clear();
+
+		final Consumer<BulkResult> progressListener = options.getProgressListener();
+		if (null != progressListener) {
+			progressListener.accept(result);
+		}
+	}
+
 	/**
 	 * 静默回滚事务
 	 *
@@ -1,5 +1,6 @@
 package cn.hutool.db;
 
+import cn.hutool.core.collection.CollUtil;
 import cn.hutool.core.lang.Assert;
 import cn.hutool.core.map.MapUtil;
 import cn.hutool.core.util.ArrayUtil;
@@ -18,6 +19,7 @@ import java.io.Serializable;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.List;
 
 /**
  * 提供基于方言的原始增删改查执行封装
@@ -28,6 +30,11 @@ import java.sql.SQLException;
 public class DialectRunner implements Serializable {
 	private static final long serialVersionUID = 1L;
 
+	/**
+	 * 单条语句最多的参数个数，SQLite 3.32.0起的默认上限，小于MySQL和PostgreSQL的65535
+	 */
+	private static final int MAX_PARAMS_PER_STATEMENT = 32766;
+
 	private Dialect dialect;
 	/**
 	 * 是否大小写不敏感（默认大小写不敏感）
@@ -86,6 +93,51 @@ public class DialectRunner implements Serializable {
 		}
 	}
 
+	/**
+	 * 多行批量插入或upsert数据<br>
+	 * 记录按照每条语句的行数分组，每组生成一条包含多组值的语句执行，减少语句数和网络往返；
+	 * 如果方言不支持多行语句（见{@link Dialect#isSupportMultiRow()}），插入使用JDBC批量执行，upsert逐条执行<br>
+	 * 此方法不会关闭Connection，也不会提交事务
+	 *
+	 * @param conn             数据库连接
+	 * @param records          记录列表，记录KV必须严格一致
+	 * @param rowsPerStatement 每条语句插入的行数
+	 * @param upsertKeys       upsert时检查唯一性的字段，为空表示只插入
+	 * @return 影响行数，upsert时不同数据库对更新行的计数方式不同
+	 * @throws SQLException SQL执行异常
+	 * @since 5.8.19
+	 */
+	public int bulkInsert(Connection conn, List<Entity> records, int rowsPerStatement, String... upsertKeys) throws SQLException {
+		checkConn(conn);
+		if (CollUtil.isEmpty(records)) {
+			return 0;
+		}
+
+		if (false == dialect.isSupportMultiRow()) {
+			// 方言不支持，使用默认
+			return bulkInsertEach(conn, records, upsertKeys);
+		}
+
+		final boolean isUpsert = ArrayUtil.isNotEmpty(upsertKeys);
+		// 单条语句的参数个数不能超过数据库限制
+		final int fieldCount = Math.max(1, records.get(0).size());
+		final int rows = Math.max(1, Math.min(rowsPerStatement, MAX_PARAMS_PER_STATEMENT / fieldCount));
+
+		int count = 0;
+		Entity[] group;
+		PreparedStatement ps;
+		for (int i = 0; i < records.size(); i += rows) {
+			group = records.subList(i, Math.min(i + rows, records.size())).toArray(new Entity[0]);
+			ps = isUpsert ? dialect.psForMultiUpsert(conn, upsertKeys, group) : dialect.psForMultiInsert(conn, group);
+			try {
+				count += ps.executeUpdate();
+			} finally {
+				DbUtil.close(ps);
+			}
+		}
+		return count;
+	}
+
 	/**
 	 * 更新或插入数据<br>
 	 * 此方法不会关闭Connection
@@ -378,5 +430,29 @@ public class DialectRunner implements Serializable {
 	private void checkConn(Connection conn) {
 		Assert.notNull(conn, "Connection object must be not null!");
 	}
+
+	/**
+	 * 不支持多行语句时的批量插入或upsert，插入使用JDBC批量执行，upsert逐条执行
+	 *
+	 * @param conn       数据库连接
+	 * @param records    记录列表
+	 * @param upsertKeys upsert时检查唯一性的字段，为空表示只插入
+	 * @return 影响行数
+	 * @throws SQLException SQL执行异常
+	 */
+	private int bulkInsertEach(Connection conn, List<Entity> records, String... upsertKeys) throws SQLException {
+		int count = 0;
+		if (ArrayUtil.isNotEmpty(upsertKeys)) {
+			for (Entity record : records) {
+				count += upsert(conn, record, upsertKeys);
+			}
+		} else {
+			for (int result : insert(conn, records.toArray(new Entity[0]))) {
+				// 部分驱动批量执行返回Statement.SUCCESS_NO_INFO
+				count += Math.max(result, 0);
+			}
+		}
+		return count;
+	}
 	//---------------------------------------------------------------------------- Private method start
 }
@@ -278,6 +278,11 @@ public class Session extends AbstractDb implements Closeable {
 	public Session disableWrapper() {
 		return (Session) super.disableWrapper();
 	}
+
+	@Override
+	public Session setFetchSize(int fetchSize) {
+		return (Session) super.setFetchSize(fetchSize);
+	}
 	// ---------------------------------------------------------------------------- Getters and Setters end
 
 	@Override
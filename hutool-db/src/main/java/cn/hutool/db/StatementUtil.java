@@ -145,6 +145,32 @@ public class StatementUtil {
 		return fillParams(ps, params);
 	}
 
+	/**
+	 * 创建用于流式读取的{@link PreparedStatement}，结果集为只向前、只读模式
+	 *
+	 * @param conn   数据库连接
+	 * @param sql    SQL语句，使用"?"做为占位符
+	 * @param params "?"对应参数列表或命名参数Map
+	 * @return {@link PreparedStatement}
+	 * @throws SQLException SQL异常
+	 * @since 5.8.19
+	 */
+	public static PreparedStatement prepareStatementForStream(Connection conn, String sql, Object... params) throws SQLException {
+		Assert.notBlank(sql, "Sql String must be not blank!");
+		sql = sql.trim();
+
+		if(ArrayUtil.isNotEmpty(params) && 1 == params.length && params[0] instanceof Map){
+			// 检查参数是否为命名方式的参数
+			final NamedSql namedSql = new NamedSql(sql, Convert.toMap(String.class, Object.class, params[0]));
+			sql = namedSql.getSql();
+			params = namedSql.getParams();
+		}
+
+		SqlLog.INSTANCE.log(sql, ArrayUtil.isEmpty(params) ? null : params);
+		final PreparedStatement ps = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+		return fillParams(ps, params);
+	}
+
 	/**
 	 * 创建批量操作的{@link PreparedStatement}
 	 *
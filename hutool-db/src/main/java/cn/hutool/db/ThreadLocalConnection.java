@@ -52,6 +52,24 @@ public enum ThreadLocalConnection {
 		}
 	}
 
+	/**
+	 * 移除当前线程持有的指定连接，不关闭连接<br>
+	 * 仅当数据源对应的连接为给定连接时移除，用于连接被其它对象独占后，保证当前线程后续的操作获取新的连接
+	 *
+	 * @param ds   数据源
+	 * @param conn 被移除的连接
+	 * @since 5.8.19
+	 */
+	public void remove(DataSource ds, Connection conn) {
+		GroupedConnection groupedConnection = threadLocal.get();
+		if (null != groupedConnection) {
+			groupedConnection.remove(ds, conn);
+			if (groupedConnection.isEmpty()) {
+				threadLocal.remove();
+			}
+		}
+	}
+
 	/**
 	 * 分组连接，根据不同的分组获取对应的连接，用于多数据源情况
 	 * 
@@ -102,6 +120,20 @@ public enum ThreadLocalConnection {
 			return this;
 		}
 
+		/**
+		 * 移除指定连接，不关闭连接<br>
+		 * 仅当数据源对应的连接为给定连接时移除
+		 *
+		 * @param ds   数据源
+		 * @param conn 被移除的连接
+		 * @return this
+		 * @since 5.8.19
+		 */
+		public GroupedConnection remove(DataSource ds, Connection conn) {
+			connMap.remove(ds, conn);
+			return this;
+		}
+
 		/**
 		 * 持有的连接是否为空
 		 * 
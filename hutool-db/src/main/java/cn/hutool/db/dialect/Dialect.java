@@ -2,6 +2,7 @@ package cn.hutool.db.dialect;
 
 import cn.hutool.db.Entity;
 import cn.hutool.db.Page;
+import cn.hutool.db.StatementUtil;
 import cn.hutool.db.sql.Order;
 import cn.hutool.db.sql.Query;
 import cn.hutool.db.sql.SqlBuilder;
@@ -157,6 +158,29 @@ public interface Dialect extends Serializable {
 		return psForPage(conn, sqlBuilder, null);
 	}
 
+	/**
+	 * 构建用于流式查询的{@link PreparedStatement}，结果集按批次从数据库获取，而非一次性加载到内存中<br>
+	 * 默认使用只向前、只读的结果集并设置fetchSize，不同数据库对流式读取的要求不同，方言可重写此方法，例如：
+	 * <ul>
+	 *     <li>MySQL需要设置fetchSize为{@link Integer#MIN_VALUE}逐行读取</li>
+	 *     <li>PostgreSQL需要关闭自动提交才会使用游标读取</li>
+	 * </ul>
+	 *
+	 * @param conn       数据库连接对象
+	 * @param sqlBuilder 查询语句及参数
+	 * @param fetchSize  每批次获取的行数，小于等于0表示使用驱动默认值
+	 * @return PreparedStatement
+	 * @throws SQLException SQL执行异常
+	 * @since 5.8.19
+	 */
+	default PreparedStatement psForStream(Connection conn, SqlBuilder sqlBuilder, int fetchSize) throws SQLException {
+		final PreparedStatement ps = StatementUtil.prepareStatementForStream(conn, sqlBuilder.build(), sqlBuilder.getParamValueArray());
+		if (fetchSize > 0) {
+			ps.setFetchSize(fetchSize);
+		}
+		return ps;
+	}
+
 	/**
 	 * 构建用于upsert的{@link PreparedStatement}<br>
 	 * 方言实现需实现此默认方法，如果没有实现，抛出{@link SQLException}
@@ -172,6 +196,48 @@ public interface Dialect extends Serializable {
 		throw new SQLException("Unsupported upsert operation of " + dialectName());
 	}
 
+	/**
+	 * 构建用于多行插入的{@link PreparedStatement}，多条记录生成一条包含多组值的INSERT语句，如：
+	 * <pre>
+	 *     INSERT INTO demo(a, b) VALUES (?, ?), (?, ?)
+	 * </pre>
+	 * 方言实现此方法时需同时实现{@link #isSupportMultiRow()}返回{@code true}，如果没有实现，抛出{@link SQLException}
+	 *
+	 * @param conn     数据库连接对象
+	 * @param entities 数据实体，实体的结构必须全部一致，表名和字段以第一条为准
+	 * @return PreparedStatement
+	 * @throws SQLException SQL执行异常，或方言数据不支持此操作
+	 * @since 5.8.19
+	 */
+	default PreparedStatement psForMultiInsert(Connection conn, Entity... entities) throws SQLException {
+		throw new SQLException("Unsupported multi row insert operation of " + dialectName());
+	}
+
+	/**
+	 * 构建用于多行upsert的{@link PreparedStatement}，多条记录生成一条包含多组值的upsert语句<br>
+	 * 方言实现此方法时需同时实现{@link #isSupportMultiRow()}返回{@code true}，如果没有实现，抛出{@link SQLException}
+	 *
+	 * @param conn     数据库连接对象
+	 * @param keys     查找字段，某些数据库此字段必须，如H2，某些数据库无需此字段，如MySQL（通过主键）
+	 * @param entities 数据实体，实体的结构必须全部一致，表名和字段以第一条为准
+	 * @return PreparedStatement
+	 * @throws SQLException SQL执行异常，或方言数据不支持此操作
+	 * @since 5.8.19
+	 */
+	default PreparedStatement psForMultiUpsert(Connection conn, String[] keys, Entity... entities) throws SQLException {
+		throw new SQLException("Unsupported multi row upsert operation of " + dialectName());
+	}
+
+	/**
+	 * 是否支持多行插入和多行upsert，即是否实现了{@link #psForMultiInsert(Connection, Entity...)}和{@link #psForMultiUpsert(Connection, String[], Entity...)}<br>
+	 * 不支持时批量导入使用JDBC批量插入或逐条upsert
+	 *
+	 * @return 是否支持多行语句
+	 * @since 5.8.19
+	 */
+	default boolean isSupportMultiRow() {
+		return false;
+	}
 
 	/**
 	 * 方言名
@@ -74,4 +74,33 @@ public class H2Dialect extends AnsiSqlDialect {
 
 		return StatementUtil.prepareStatement(conn, builder);
 	}
+
+	@Override
+	public PreparedStatement psForMultiInsert(Connection conn, Entity... entities) throws SQLException {
+		return StatementUtil.prepareStatement(conn, SqlBuilder.create(wrapper).insertMulti(entities));
+	}
+
+	/**
+	 * 构建用于多行upsert的{@link PreparedStatement}，生成SQL语法为：
+	 * <pre>
+	 *     MERGE INTO demo (a, b) KEY(a) VALUES (?, ?), (?, ?)
+	 * </pre>
+	 *
+	 * @param conn     数据库连接对象
+	 * @param keys     查找字段
+	 * @param entities 数据实体，实体的结构必须全部一致
+	 * @return PreparedStatement
+	 * @throws SQLException SQL执行异常
+	 * @since 5.8.19
+	 */
+	@Override
+	public PreparedStatement psForMultiUpsert(Connection conn, String[] keys, Entity... entities) throws SQLException {
+		Assert.notEmpty(keys, "Keys must be not empty for H2 MERGE SQL.");
+		return StatementUtil.prepareStatement(conn, SqlBuilder.create(wrapper).mergeMulti(keys, entities));
+	}
+
+	@Override
+	public boolean isSupportMultiRow() {
+		return true;
+	}
 }
@@ -34,6 +34,27 @@ public class MysqlDialect extends AnsiSqlDialect{
 		return DialectName.MYSQL.toString();
 	}
 
+	/**
+	 * 构建用于流式查询的{@link PreparedStatement}<br>
+	 * MySQL驱动默认一次性读取所有结果，连接参数中开启了useCursorFetch时使用游标按fetchSize分批读取，
+	 * 否则设置fetchSize为{@link Integer#MIN_VALUE}逐行读取。
+	 * 逐行读取时，结果集关闭前同一连接不能执行其它语句。
+	 *
+	 * @param conn       数据库连接对象
+	 * @param sqlBuilder 查询语句及参数
+	 * @param fetchSize  每批次获取的行数
+	 * @return PreparedStatement
+	 * @throws SQLException SQL执行异常
+	 * @since 5.8.19
+	 */
+	@Override
+	public PreparedStatement psForStream(Connection conn, SqlBuilder sqlBuilder, int fetchSize) throws SQLException {
+		final PreparedStatement ps = StatementUtil.prepareStatementForStream(conn, sqlBuilder.build(), sqlBuilder.getParamValueArray());
+		final boolean useCursorFetch = StrUtil.containsIgnoreCase(conn.getMetaData().getURL(), "useCursorFetch=true");
+		ps.setFetchSize(useCursorFetch && fetchSize > 0 ? fetchSize : Integer.MIN_VALUE);
+		return ps;
+	}
+
 	/**
 	 * 构建用于upsert的{@link PreparedStatement}<br>
 	 * MySQL通过主键方式实现Upsert，故keys无效，生成SQL语法为：
@@ -89,4 +110,45 @@ public class MysqlDialect extends AnsiSqlDialect{
 
 		return StatementUtil.prepareStatement(conn, builder);
 	}
+
+	/**
+	 * 构建用于多行插入的{@link PreparedStatement}，生成SQL语法为：
+	 * <pre>
+	 *     INSERT INTO demo(a,b) VALUES (?, ?), (?, ?);
+	 * </pre>
+	 *
+	 * @param conn     数据库连接对象
+	 * @param entities 数据实体，实体的结构必须全部一致
+	 * @return PreparedStatement
+	 * @throws SQLException SQL执行异常
+	 * @since 5.8.19
+	 */
+	@Override
+	public PreparedStatement psForMultiInsert(Connection conn, Entity... entities) throws SQLException {
+		return StatementUtil.prepareStatement(conn, SqlBuilder.create(wrapper).insertMulti(entities));
+	}
+
+	/**
+	 * 构建用于多行upsert的{@link PreparedStatement}<br>
+	 * MySQL通过主键方式实现Upsert，故keys无效，生成SQL语法为：
+	 * <pre>
+	 *     INSERT INTO demo(a,b) VALUES (?, ?), (?, ?) ON DUPLICATE KEY UPDATE a=values(a), b=values(b);
+	 * </pre>
+	 *
+	 * @param conn     数据库连接对象
+	 * @param keys     此参数无效
+	 * @param entities 数据实体，实体的结构必须全部一致
+	 * @return PreparedStatement
+	 * @throws SQLException SQL执行异常
+	 * @since 5.8.19
+	 */
+	@Override
+	public PreparedStatement psForMultiUpsert(Connection conn, String[] keys, Entity... entities) throws SQLException {
+		return StatementUtil.prepareStatement(conn, SqlBuilder.create(wrapper).insertMulti(entities).onDuplicateKeyUpdate(entities[0]));
+	}
+
+	@Override
+	public boolean isSupportMultiRow() {
+		return true;
+	}
 }
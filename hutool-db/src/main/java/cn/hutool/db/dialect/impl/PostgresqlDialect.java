@@ -31,6 +31,26 @@ public class PostgresqlDialect extends AnsiSqlDialect{
 		return DialectName.POSTGRESQL.name();
 	}
 
+	/**
+	 * 构建用于流式查询的{@link PreparedStatement}<br>
+	 * PostgreSQL只有在关闭自动提交时才使用游标按fetchSize分批读取，因此此处关闭自动提交，
+	 * 调用方需在结果集关闭后恢复连接原有的自动提交状态。
+	 *
+	 * @param conn       数据库连接对象
+	 * @param sqlBuilder 查询语句及参数
+	 * @param fetchSize  每批次获取的行数
+	 * @return PreparedStatement
+	 * @throws SQLException SQL执行异常
+	 * @since 5.8.19
+	 */
+	@Override
+	public PreparedStatement psForStream(Connection conn, SqlBuilder sqlBuilder, int fetchSize) throws SQLException {
+		if (conn.getAutoCommit()) {
+			conn.setAutoCommit(false);
+		}
+		return super.psForStream(conn, sqlBuilder, fetchSize);
+	}
+
 	@Override
 	public PreparedStatement psForUpsert(Connection conn, Entity entity, String... keys) throws SQLException {
 		Assert.notEmpty(keys, "Keys must be not empty for Postgres.");
@@ -75,4 +95,34 @@ public class PostgresqlDialect extends AnsiSqlDialect{
 
 		return StatementUtil.prepareStatement(conn, builder);
 	}
+
+	@Override
+	public PreparedStatement psForMultiInsert(Connection conn, Entity... entities) throws SQLException {
+		return StatementUtil.prepareStatement(conn, SqlBuilder.create(wrapper).insertMulti(entities));
+	}
+
+	/**
+	 * 构建用于多行upsert的{@link PreparedStatement}，生成SQL语法为：
+	 * <pre>
+	 *     INSERT INTO demo(a,b) VALUES (?, ?), (?, ?) ON CONFLICT (a) DO UPDATE SET a=EXCLUDED.a, b=EXCLUDED.b;
+	 * </pre>
+	 * 同一条语句中的记录，keys对应的值不能重复，否则执行报错
+	 *
+	 * @param conn     数据库连接对象
+	 * @param keys     检查冲突的主键或字段
+	 * @param entities 数据实体，实体的结构必须全部一致
+	 * @return PreparedStatement
+	 * @throws SQLException SQL执行异常
+	 * @since 5.8.19
+	 */
+	@Override
+	public PreparedStatement psForMultiUpsert(Connection conn, String[] keys, Entity... entities) throws SQLException {
+		Assert.notEmpty(keys, "Keys must be not empty for Postgres.");
+		return StatementUtil.prepareStatement(conn, SqlBuilder.create(wrapper).insertMulti(entities).onConflictUpdate(keys, entities[0]));
+	}
+
+	@Override
+	public boolean isSupportMultiRow() {
+		return true;
+	}
 }
@@ -1,8 +1,16 @@
 package cn.hutool.db.dialect.impl;
 
+import cn.hutool.core.lang.Assert;
+import cn.hutool.db.Entity;
+import cn.hutool.db.StatementUtil;
 import cn.hutool.db.dialect.DialectName;
+import cn.hutool.db.sql.SqlBuilder;
 import cn.hutool.db.sql.Wrapper;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
 /**
  * SqlLite3方言
  * @author loolly
@@ -19,4 +27,33 @@ public class Sqlite3Dialect extends AnsiSqlDialect{
 	public String dialectName() {
 		return DialectName.SQLITE3.name();
 	}
+
+	@Override
+	public PreparedStatement psForMultiInsert(Connection conn, Entity... entities) throws SQLException {
+		return StatementUtil.prepareStatement(conn, SqlBuilder.create(wrapper).insertMulti(entities));
+	}
+
+	/**
+	 * 构建用于多行upsert的{@link PreparedStatement}，需SQLite 3.24.0及以上版本，生成SQL语法为：
+	 * <pre>
+	 *     INSERT INTO demo([a], [b]) VALUES (?, ?), (?, ?) ON CONFLICT (a) DO UPDATE SET [a]=EXCLUDED.[a], [b]=EXCLUDED.[b]
+	 * </pre>
+	 *
+	 * @param conn     数据库连接对象
+	 * @param keys     检查冲突的主键或字段
+	 * @param entities 数据实体，实体的结构必须全部一致
+	 * @return PreparedStatement
+	 * @throws SQLException SQL执行异常
+	 * @since 5.8.19
+	 */
+	@Override
+	public PreparedStatement psForMultiUpsert(Connection conn, String[] keys, Entity... entities) throws SQLException {
+		Assert.notEmpty(keys, "Keys must be not empty for SQLite.");
+		return StatementUtil.prepareStatement(conn, SqlBuilder.create(wrapper).insertMulti(entities).onConflictUpdate(keys, entities[0]));
+	}
+
+	@Override
+	public boolean isSupportMultiRow() {
+		return true;
+	}
 }
@@ -0,0 +1,198 @@
+package cn.hutool.db.ds.pooled;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 连接池中连接的并发容器，参考HikariCP的ConcurrentBag实现<br>
+ * <ul>
+ *     <li>所有连接保存在{@link CopyOnWriteArrayList}中，借出和归还只通过CAS修改连接状态，无需加锁</li>
+ *     <li>无空闲连接时，借用线程在公平的{@link SynchronousQueue}上限时等待，归还的连接直接交给等待时间最长的线程</li>
+ * </ul>
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+final class ConnectionBag {
+
+	/**
+	 * 连接状态：空闲
+	 */
+	static final int STATE_NOT_IN_USE = 0;
+	/**
+	 * 连接状态：使用中
+	 */
+	static final int STATE_IN_USE = 1;
+	/**
+	 * 连接状态：已移除
+	 */
+	static final int STATE_REMOVED = -1;
+	/**
+	 * 连接状态：被检查任务保留，不可借出
+	 */
+	static final int STATE_RESERVED = -2;
+
+	private final CopyOnWriteArrayList<PooledConnection> sharedList = new CopyOnWriteArrayList<>();
+	/**
+	 * 公平模式，等待的线程按照先后顺序获得归还的连接
+	 */
+	private final SynchronousQueue<PooledConnection> handoffQueue = new SynchronousQueue<>(true);
+	private final AtomicInteger waiters = new AtomicInteger();
+
+	/**
+	 * 借出一个连接，无空闲连接时等待其它线程归还或新增连接
+	 *
+	 * @param timeout  等待时长，小于等于0表示不等待
+	 * @param timeUnit 时长单位
+	 * @return 连接，超时返回{@code null}
+	 * @throws InterruptedException 等待被中断
+	 */
+	PooledConnection borrow(long timeout, TimeUnit timeUnit) throws InterruptedException {
+		// 先登记为等待线程再检查空闲连接，避免检查后归还的连接未交给此线程
+		this.waiters.incrementAndGet();
+		try {
+			for (PooledConnection conn : this.sharedList) {
+				if (conn.compareAndSetState(STATE_NOT_IN_USE, STATE_IN_USE)) {
+					return conn;
+				}
+			}
+
+			long remaining = timeUnit.toNanos(timeout);
+			final long deadline = System.nanoTime() + remaining;
+			PooledConnection conn;
+			while (remaining > 0) {
+				conn = this.handoffQueue.poll(remaining, TimeUnit.NANOSECONDS);
+				if (null == conn || conn.compareAndSetState(STATE_NOT_IN_USE, STATE_IN_USE)) {
+					return conn;
+				}
+				remaining = deadline - System.nanoTime();
+			}
+			return null;
+		} finally {
+			this.waiters.decrementAndGet();
+		}
+	}
+
+	/**
+	 * 归还连接，如果有线程正在等待，直接交给等待的线程
+	 *
+	 * @param conn 连接
+	 */
+	void requite(PooledConnection conn) {
+		conn.setState(STATE_NOT_IN_USE);
+		for (int i = 0; this.waiters.get() > 0; i++) {
+			if (conn.getState() != STATE_NOT_IN_USE || this.handoffQueue.offer(conn)) {
+				// 已被其它线程取走或交给了等待线程
+				return;
+			}
+			if ((i & 0xff) == 0xff) {
+				LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(10));
+			} else {
+				Thread.yield();
+			}
+		}
+	}
+
+	/**
+	 * 新增连接，新增的连接状态需已设置好。如果新增的是空闲连接且有线程正在等待，直接交给等待的线程
+	 *
+	 * @param conn 连接
+	 */
+	void add(PooledConnection conn) {
+		this.sharedList.add(conn);
+		while (this.waiters.get() > 0 && conn.getState() == STATE_NOT_IN_USE && false == this.handoffQueue.offer(conn)) {
+			Thread.yield();
+		}
+	}
+
+	/**
+	 * 移除使用中或被保留的连接
+	 *
+	 * @param conn 连接
+	 * @return 是否移除成功
+	 */
+	boolean remove(PooledConnection conn) {
+		if (false == conn.compareAndSetState(STATE_IN_USE, STATE_REMOVED)
+				&& false == conn.compareAndSetState(STATE_RESERVED, STATE_REMOVED)) {
+			return false;
+		}
+		return this.sharedList.remove(conn);
+	}
+
+	/**
+	 * 保留空闲连接，保留后连接不会被借出，用于检查或淘汰
+	 *
+	 * @param conn 连接
+	 * @return 是否保留成功
+	 */
+	boolean reserve(PooledConnection conn) {
+		return conn.compareAndSetState(STATE_NOT_IN_USE, STATE_RESERVED);
+	}
+
+	/**
+	 * 取消保留，连接重新变为空闲
+	 *
+	 * @param conn 连接
+	 */
+	void unreserve(PooledConnection conn) {
+		if (conn.compareAndSetState(STATE_RESERVED, STATE_IN_USE)) {
+			// 通过归还流程唤醒等待的线程
+			requite(conn);
+		}
+	}
+
+	/**
+	 * 获取指定状态的连接
+	 *
+	 * @param state 状态
+	 * @return 连接列表
+	 */
+	List<PooledConnection> values(int state) {
+		final List<PooledConnection> result = new ArrayList<>();
+		for (PooledConnection conn : this.sharedList) {
+			if (conn.getState() == state) {
+				result.add(conn);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 获取指定状态的连接数
+	 *
+	 * @param state 状态
+	 * @return 连接数
+	 */
+	int getCount(int state) {
+		int count = 0;
+		for (PooledConnection conn : this.sharedList) {
+			if (conn.getState() == state) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * 获取连接总数
+	 *
+	 * @return 连接总数
+	 */
+	int size() {
+		return this.sharedList.size();
+	}
+
+	/**
+	 * 获取正在等待连接的线程数
+	 *
+	 * @return 等待线程数
+	 */
+	int getWaitingThreadCount() {
+		return this.waiters.get();
+	}
+}
@@ -22,6 +22,10 @@ public class DbConfig {
 	private int minIdle;            //最小闲置连接数
 	private int maxActive;        //最大活跃连接数
 	private long maxWait;        //获取连接的超时等待
+	private long timeBetweenEvictionRunsMillis;    //后台检查空闲连接的间隔，小于等于0表示不检查
+	private long minEvictableIdleTimeMillis = 30 * 60 * 1000L;    //空闲连接超过此时长且多于最小闲置连接数时被关闭
+	private boolean testWhileIdle = true;    //后台检查时是否验证空闲连接有效
+	private int preparedStatementCacheSize;    //每个连接缓存的PreparedStatement数，小于等于0表示不缓存
 
 	// 连接配置
 	private Properties connProps;
@@ -127,6 +131,87 @@ public class DbConfig {
 		this.maxWait = maxWait;
 	}
 
+	/**
+	 * 获取后台检查空闲连接的间隔，小于等于0表示不检查
+	 *
+	 * @return 检查间隔，单位毫秒
+	 * @since 5.8.19
+	 */
+	public long getTimeBetweenEvictionRunsMillis() {
+		return timeBetweenEvictionRunsMillis;
+	}
+
+	/**
+	 * 设置后台检查空闲连接的间隔，小于等于0表示不检查
+	 *
+	 * @param timeBetweenEvictionRunsMillis 检查间隔，单位毫秒
+	 * @since 5.8.19
+	 */
+	public void setTimeBetweenEvictionRunsMillis(long timeBetweenEvictionRunsMillis) {
+		this.timeBetweenEvictionRunsMillis = timeBetweenEvictionRunsMillis;
+	}
+
+	/**
+	 * 获取空闲连接被关闭的最小空闲时长，空闲连接多于最小闲置连接数时，超过此时长的连接被关闭
+	 *
+	 * @return 最小空闲时长，单位毫秒
+	 * @since 5.8.19
+	 */
+	public long getMinEvictableIdleTimeMillis() {
+		return minEvictableIdleTimeMillis;
+	}
+
+	/**
+	 * 设置空闲连接被关闭的最小空闲时长，空闲连接多于最小闲置连接数时，超过此时长的连接被关闭
+	 *
+	 * @param minEvictableIdleTimeMillis 最小空闲时长，单位毫秒
+	 * @since 5.8.19
+	 */
+	public void setMinEvictableIdleTimeMillis(long minEvictableIdleTimeMillis) {
+		this.minEvictableIdleTimeMillis = minEvictableIdleTimeMillis;
+	}
+
+	/**
+	 * 后台检查时是否验证空闲连接有效，无效的连接被关闭
+	 *
+	 * @return 是否验证
+	 * @since 5.8.19
+	 */
+	public boolean isTestWhileIdle() {
+		return testWhileIdle;
+	}
+
+	/**
+	 * 设置后台检查时是否验证空闲连接有效，无效的连接被关闭
+	 *
+	 * @param testWhileIdle 是否验证
+	 * @since 5.8.19
+	 */
+	public void setTestWhileIdle(boolean testWhileIdle) {
+		this.testWhileIdle = testWhileIdle;
+	}
+
+	/**
+	 * 获取每个连接缓存的{@link java.sql.PreparedStatement}数，小于等于0表示不缓存
+	 *
+	 * @return 缓存数
+	 * @since 5.8.19
+	 */
+	public int getPreparedStatementCacheSize() {
+		return preparedStatementCacheSize;
+	}
+
+	/**
+	 * 设置每个连接缓存的{@link java.sql.PreparedStatement}数，小于等于0表示不缓存<br>
+	 * 开启后，同一连接上相同SQL的语句关闭时不实际关闭，再次使用时无需重新创建和解析
+	 *
+	 * @param preparedStatementCacheSize 缓存数
+	 * @since 5.8.19
+	 */
+	public void setPreparedStatementCacheSize(int preparedStatementCacheSize) {
+		this.preparedStatementCacheSize = preparedStatementCacheSize;
+	}
+
 	public Properties getConnProps() {
 		return connProps;
 	}
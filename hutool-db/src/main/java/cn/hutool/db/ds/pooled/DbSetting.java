@@ -70,6 +70,10 @@ public class DbSetting {
 		dbConfig.setMinIdle(setting.getInt("minIdle", group, 0));
 		dbConfig.setMaxActive(setting.getInt("maxActive", group, 8));
 		dbConfig.setMaxWait(setting.getLong("maxWait", group, 6000L));
+		dbConfig.setTimeBetweenEvictionRunsMillis(setting.getLong("timeBetweenEvictionRunsMillis", group, 0L));
+		dbConfig.setMinEvictableIdleTimeMillis(setting.getLong("minEvictableIdleTimeMillis", group, 1800000L));
+		dbConfig.setTestWhileIdle(setting.getBool("testWhileIdle", group, true));
+		dbConfig.setPreparedStatementCacheSize(setting.getInt("preparedStatementCacheSize", group, 0));
 
 		// remarks等特殊配置，since 5.3.8
 		String connValue;
@@ -1,23 +1,59 @@
 package cn.hutool.db.ds.pooled;
 
+import cn.hutool.core.map.FixedLinkedHashMap;
 import cn.hutool.core.map.MapUtil;
 import cn.hutool.db.DbUtil;
+import cn.hutool.db.ds.pooled.PooledPreparedStatement.StatementKey;
 import cn.hutool.setting.dialect.Props;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * 池化
+ * 池化<br>
+ * 池中的连接每次借出时创建新的句柄（同为{@link PooledConnection}），使用者关闭句柄时归还池中连接，
+ * 句柄只归还一次，因此旧的借用者重复关闭不会影响连接之后的借用者。
+ *
  * @author Looly
  *
  */
 public class PooledConnection extends ConnectionWraper{
+
+	/**
+	 * 创建语句时未指定是否返回自增主键
+	 */
+	private static final int NO_GENERATED_KEYS = -1;
 	
 	private final PooledDataSource ds;
-	private boolean isClosed;
+	/**
+	 * 池中的连接，借出的句柄为其所属的池中连接，池中连接为其本身
+	 */
+	private final PooledConnection pooled;
+	/**
+	 * 当前借出的句柄，只用于池中连接
+	 */
+	private volatile PooledConnection handle;
+	/**
+	 * 句柄是否已关闭（归还）
+	 */
+	private final AtomicBoolean isClosed = new AtomicBoolean();
+	/**
+	 * 在连接池中的状态，见{@link ConnectionBag}，句柄为{@code null}
+	 */
+	private final AtomicInteger state;
+	/**
+	 * 最后一次归还的时间，用于淘汰长时间空闲的连接
+	 */
+	private volatile long lastAccessed = System.currentTimeMillis();
+	/**
+	 * {@link PreparedStatement}缓存，按照最近最少使用淘汰，未开启缓存时为{@code null}
+	 */
+	private final FixedLinkedHashMap<StatementKey, PooledPreparedStatement> statementCache;
 
 	/**
 	 * 构造
@@ -27,6 +63,8 @@ public class PooledConnection extends ConnectionWraper{
 	 */
 	public PooledConnection(PooledDataSource ds) throws SQLException {
 		this.ds = ds;
+		this.pooled = this;
+		this.state = new AtomicInteger(ConnectionBag.STATE_NOT_IN_USE);
 		final DbConfig config = ds.getConfig();
 
 		final Props info = new Props();
@@ -46,20 +84,61 @@ public class PooledConnection extends ConnectionWraper{
 		}
 
 		this.raw = DriverManager.getConnection(config.getUrl(), info);
+		this.statementCache = createStatementCache(config.getPreparedStatementCacheSize());
 	}
 	
 	public PooledConnection(PooledDataSource ds, Connection conn) {
 		this.ds = ds;
+		this.pooled = this;
+		this.state = new AtomicInteger(ConnectionBag.STATE_NOT_IN_USE);
 		this.raw = conn;
+		this.statementCache = createStatementCache(ds.getConfig().getPreparedStatementCacheSize());
+	}
+
+	/**
+	 * 构造借出的句柄，与池中连接共享实际连接和语句缓存
+	 *
+	 * @param pooled 池中的连接
+	 */
+	private PooledConnection(PooledConnection pooled) {
+		this.ds = pooled.ds;
+		this.pooled = pooled;
+		this.state = null;
+		this.raw = pooled.raw;
+		this.statementCache = null;
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(String sql) throws SQLException {
+		checkOpen();
+		return this.pooled.prepareCachedStatement(sql, NO_GENERATED_KEYS);
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+		checkOpen();
+		return this.pooled.prepareCachedStatement(sql, autoGeneratedKeys);
 	}
 
 	/**
-	 * 重写关闭连接，实际操作是归还到连接池中
+	 * 重写关闭连接，实际操作是归还到连接池中<br>
+	 * 每个句柄只归还一次，重复关闭或连接被再次借出后关闭旧句柄不做任何操作
 	 */
 	@Override
 	public void close() {
-		this.ds.free(this);
-		this.isClosed = true;
+		if (this.pooled == this) {
+			// 池中连接本身不直接归还，关闭当前借出的句柄
+			final PooledConnection handle = this.handle;
+			if (null != handle) {
+				handle.close();
+			}
+			return;
+		}
+		// 先标记关闭再归还，归还后连接可能立即被其它线程借出
+		if (this.isClosed.compareAndSet(false, true)) {
+			this.pooled.lastAccessed = System.currentTimeMillis();
+			this.ds.free(this.pooled);
+		}
 	}
 
 	/**
@@ -69,16 +148,21 @@ public class PooledConnection extends ConnectionWraper{
 	 */
 	@Override
 	public boolean isClosed() throws SQLException {
-		return isClosed || raw.isClosed();
+		if (this.pooled == this) {
+			final PooledConnection handle = this.handle;
+			return null == handle || handle.isClosed();
+		}
+		return this.isClosed.get() || raw.isClosed();
 	}
 	
 	/**
-	 * 打开连接
-	 * @return this
+	 * 打开连接，创建本次借出的句柄
+	 * @return 借出的句柄
 	 */
 	protected PooledConnection open() {
-		this.isClosed = false;
-		return this;
+		final PooledConnection handle = new PooledConnection(this);
+		this.handle = handle;
+		return handle;
 	}
 
 	/**
@@ -86,7 +170,201 @@ public class PooledConnection extends ConnectionWraper{
 	 * @return this
 	 */
 	protected PooledConnection release() {
+		if (null != this.statementCache) {
+			synchronized (this.statementCache) {
+				for (PooledPreparedStatement ps : this.statementCache.values()) {
+					ps.evict();
+					if (false == ps.isInUse()) {
+						ps.closeRaw();
+					}
+				}
+				this.statementCache.clear();
+			}
+		}
 		DbUtil.close(this.raw);
 		return this;
 	}
+
+	/**
+	 * 获取当前借出的句柄
+	 *
+	 * @return 句柄，未借出过返回池中连接本身
+	 */
+	PooledConnection getHandle() {
+		final PooledConnection handle = this.pooled.handle;
+		return null == handle ? this.pooled : handle;
+	}
+
+	/**
+	 * 获取缓存的{@link PreparedStatement}数
+	 *
+	 * @return 缓存数，未开启缓存返回0
+	 * @since 5.8.19
+	 */
+	public int getCachedStatementCount() {
+		final FixedLinkedHashMap<StatementKey, PooledPreparedStatement> statementCache = this.pooled.statementCache;
+		if (null == statementCache) {
+			return 0;
+		}
+		synchronized (statementCache) {
+			return statementCache.size();
+		}
+	}
+
+	/**
+	 * 归还使用完毕的{@link PreparedStatement}，可以继续使用的放回缓存，否则实际关闭
+	 *
+	 * @param ps {@link PooledPreparedStatement}
+	 */
+	void returnStatement(PooledPreparedStatement ps) {
+		if (ps.reset()) {
+			return;
+		}
+		synchronized (this.statementCache) {
+			if (this.statementCache.get(ps.getKey()) == ps) {
+				this.statementCache.remove(ps.getKey());
+			}
+		}
+		ps.closeRaw();
+	}
+
+	/**
+	 * 实际连接是否已关闭
+	 *
+	 * @return 是否已关闭
+	 * @throws SQLException SQL异常
+	 * @since 5.8.19
+	 */
+	protected boolean isRawClosed() throws SQLException {
+		return raw.isClosed();
+	}
+
+	/**
+	 * 验证实际连接是否有效
+	 *
+	 * @param timeout 等待验证的超时时间，单位秒
+	 * @return 是否有效
+	 * @since 5.8.19
+	 */
+	protected boolean isRawValid(int timeout) {
+		try {
+			return raw.isValid(timeout);
+		} catch (SQLException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * 检查句柄是否已归还，已归还的句柄不能再创建语句
+	 *
+	 * @throws SQLException 句柄已归还
+	 */
+	private void checkOpen() throws SQLException {
+		if (this.isClosed.get()) {
+			throw new SQLException("Connection is closed!");
+		}
+	}
+
+	/**
+	 * 创建{@link PreparedStatement}，开启缓存时相同SQL的语句优先从缓存中获取<br>
+	 * 缓存中的语句正在使用时（如同一SQL嵌套执行），创建不缓存的新语句
+	 *
+	 * @param sql               SQL语句
+	 * @param autoGeneratedKeys 是否返回自增主键，{@link #NO_GENERATED_KEYS}表示未指定
+	 * @return {@link PreparedStatement}
+	 * @throws SQLException SQL异常
+	 */
+	private PreparedStatement prepareCachedStatement(String sql, int autoGeneratedKeys) throws SQLException {
+		if (null == this.statementCache) {
+			return rawPrepareStatement(sql, autoGeneratedKeys);
+		}
+
+		final StatementKey key = new StatementKey(sql, autoGeneratedKeys);
+		synchronized (this.statementCache) {
+			final PooledPreparedStatement cached = this.statementCache.get(key);
+			if (null != cached) {
+				if (cached.isInUse()) {
+					return rawPrepareStatement(sql, autoGeneratedKeys);
+				}
+				return cached.borrow();
+			}
+		}
+
+		final PooledPreparedStatement ps = new PooledPreparedStatement(this, key, rawPrepareStatement(sql, autoGeneratedKeys));
+		synchronized (this.statementCache) {
+			this.statementCache.put(key, ps);
+		}
+		return ps;
+	}
+
+	/**
+	 * 使用实际连接创建{@link PreparedStatement}
+	 *
+	 * @param sql               SQL语句
+	 * @param autoGeneratedKeys 是否返回自增主键，{@link #NO_GENERATED_KEYS}表示未指定
+	 * @return {@link PreparedStatement}
+	 * @throws SQLException SQL异常
+	 */
+	private PreparedStatement rawPrepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+		return NO_GENERATED_KEYS == autoGeneratedKeys ? raw.prepareStatement(sql) : raw.prepareStatement(sql, autoGeneratedKeys);
+	}
+
+	/**
+	 * 创建{@link PreparedStatement}缓存，被淘汰的语句未在使用时立即关闭，否则在归还时关闭
+	 *
+	 * @param cacheSize 缓存数，小于等于0表示不缓存
+	 * @return 缓存，不缓存返回{@code null}
+	 */
+	private static FixedLinkedHashMap<StatementKey, PooledPreparedStatement> createStatementCache(int cacheSize) {
+		if (cacheSize <= 0) {
+			return null;
+		}
+		final FixedLinkedHashMap<StatementKey, PooledPreparedStatement> cache = new FixedLinkedHashMap<>(cacheSize);
+		cache.setRemoveListener(entry -> {
+			final PooledPreparedStatement ps = entry.getValue();
+			ps.evict();
+			if (false == ps.isInUse()) {
+				ps.closeRaw();
+			}
+		});
+		return cache;
+	}
+
+	/**
+	 * 获取最后一次归还的时间
+	 *
+	 * @return 最后一次归还的时间
+	 */
+	long getLastAccessed() {
+		return this.lastAccessed;
+	}
+
+	/**
+	 * 获取在连接池中的状态
+	 *
+	 * @return 状态
+	 */
+	int getState() {
+		return this.state.get();
+	}
+
+	/**
+	 * 设置在连接池中的状态
+	 *
+	 * @param state 状态
+	 */
+	void setState(int state) {
+		this.state.set(state);
+	}
+
+	/**
+	 * CAS修改在连接池中的状态
+	 *
+	 * @param expect 期望的当前状态
+	 * @param update 新状态
+	 * @return 是否修改成功
+	 */
+	boolean compareAndSetState(int expect, int update) {
+		return this.state.compareAndSet(expect, update);
+	}
 }
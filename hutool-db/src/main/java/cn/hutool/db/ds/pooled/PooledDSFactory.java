@@ -38,6 +38,10 @@ public class PooledDSFactory extends AbstractDSFactory {
 		dbConfig.setMinIdle(poolSetting.getInt("minIdle", 0));
 		dbConfig.setMaxActive(poolSetting.getInt("maxActive", 8));
 		dbConfig.setMaxWait(poolSetting.getLong("maxWait", 6000L));
+		dbConfig.setTimeBetweenEvictionRunsMillis(poolSetting.getLong("timeBetweenEvictionRunsMillis", 0L));
+		dbConfig.setMinEvictableIdleTimeMillis(poolSetting.getLong("minEvictableIdleTimeMillis", 1800000L));
+		dbConfig.setTestWhileIdle(poolSetting.getBool("testWhileIdle", true));
+		dbConfig.setPreparedStatementCacheSize(poolSetting.getInt("preparedStatementCacheSize", 0));
 
 		// remarks等特殊配置，since 5.3.8
 		String connValue;
@@ -1,27 +1,48 @@
 package cn.hutool.db.ds.pooled;
 
-import cn.hutool.core.collection.CollectionUtil;
 import cn.hutool.core.io.IoUtil;
 import cn.hutool.core.thread.ThreadUtil;
 import cn.hutool.core.util.StrUtil;
 import cn.hutool.db.DbRuntimeException;
 import cn.hutool.db.ds.simple.AbstractDataSource;
+import cn.hutool.log.StaticLog;
 
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * 池化数据源
+ * 池化数据源<br>
+ * 连接保存在{@link ConnectionBag}中，借出和归还无需加锁；池中无空闲连接且已达到最大活跃连接数时，
+ * 借用线程公平地限时等待，归还的连接直接交给等待的线程。<br>
+ * 配置了{@link DbConfig#getTimeBetweenEvictionRunsMillis()}时，后台线程定期关闭长时间空闲或无效的连接，并补充到最小闲置连接数。
  *
  * @author Looly
  *
  */
 public class PooledDataSource extends AbstractDataSource {
 
-	private Queue<PooledConnection> freePool;
-	private int activeCount; // 活跃连接数
+	/**
+	 * 后台检查时验证连接有效的超时时间，单位秒
+	 */
+	private static final int VALIDATION_TIMEOUT = 5;
+
+	private final ConnectionBag bag;
+	/**
+	 * 连接总数，包括正在创建的连接
+	 */
+	private final AtomicInteger totalCount = new AtomicInteger();
+	private final ScheduledThreadPoolExecutor houseKeeper;
+	private volatile boolean closed;
+
+	// 借用连接的统计信息
+	private final LongAdder borrowCount = new LongAdder();
+	private final LongAdder borrowNanos = new LongAdder();
+	private final AtomicLong maxBorrowNanos = new AtomicLong();
 
 	private final DbConfig config;
 
@@ -78,15 +99,25 @@ public class PooledDataSource extends AbstractDataSource {
 	 */
 	public PooledDataSource(DbConfig config) {
 		this.config = config;
-		freePool = new LinkedList<>();
+		this.bag = new ConnectionBag();
 		int initialSize = config.getInitialSize();
 		try {
 			while (initialSize-- > 0) {
-				freePool.offer(newConnection());
+				addConnection(ConnectionBag.STATE_NOT_IN_USE);
 			}
 		} catch (SQLException e) {
 			throw new DbRuntimeException(e);
 		}
+
+		final long evictionInterval = config.getTimeBetweenEvictionRunsMillis();
+		if (evictionInterval > 0) {
+			this.houseKeeper = new ScheduledThreadPoolExecutor(1,
+					ThreadUtil.newNamedThreadFactory("PooledDataSource-HouseKeeper-", true));
+			this.houseKeeper.setRemoveOnCancelPolicy(true);
+			this.houseKeeper.scheduleWithFixedDelay(this::evict, evictionInterval, evictionInterval, TimeUnit.MILLISECONDS);
+		} else {
+			this.houseKeeper = null;
+		}
 	}
 	// -------------------------------------------------------------------- Constructor start
 
@@ -94,7 +125,7 @@ public class PooledDataSource extends AbstractDataSource {
 	 * 从数据库连接池中获取数据库连接对象
 	 */
 	@Override
-	public synchronized Connection getConnection() throws SQLException {
+	public Connection getConnection() throws SQLException {
 		return getConnection(config.getMaxWait());
 	}
 
@@ -109,9 +140,14 @@ public class PooledDataSource extends AbstractDataSource {
 	 * @param conn 连接
 	 * @return 释放成功与否
 	 */
-	protected synchronized boolean free(PooledConnection conn) {
-		activeCount--;
-		return freePool.offer(conn);
+	protected boolean free(PooledConnection conn) {
+		if (this.closed) {
+			// 连接池已关闭，直接关闭连接
+			closeConnection(conn);
+			return false;
+		}
+		this.bag.requite(conn);
+		return true;
 	}
 
 	/**
@@ -129,27 +165,143 @@ public class PooledDataSource extends AbstractDataSource {
 	}
 
 	/**
-	 * 获取连接对象
+	 * 获取连接对象，池中无空闲连接且已达到最大活跃连接数时，等待其它线程归还连接
 	 *
 	 * @param wait 当池中无连接等待的毫秒数
 	 * @return 连接对象
 	 * @throws SQLException SQL异常
 	 */
 	public PooledConnection getConnection(long wait) throws SQLException {
+		if (this.closed) {
+			throw new SQLException("PooledDataSource is closed!");
+		}
+		final int maxActive = config.getMaxActive();
+		if (maxActive <= 0) {
+			// 超过最大使用限制
+			throw new SQLException("In used Connection is more than Max Active.");
+		}
+
+		final long start = System.nanoTime();
+		final long deadline = start + TimeUnit.MILLISECONDS.toNanos(wait);
+		PooledConnection conn;
 		try {
-			return getConnectionDirect();
-		} catch (Exception e) {
-			ThreadUtil.sleep(wait);
+			while (true) {
+				conn = this.bag.borrow(0, TimeUnit.NANOSECONDS);
+				if (null == conn) {
+					conn = addConnection(ConnectionBag.STATE_IN_USE);
+				}
+				if (null == conn) {
+					conn = this.bag.borrow(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+				}
+				if (null == conn) {
+					throw new SQLException(StrUtil.format("Wait connection timeout after {}ms, active: {}, max active: {}",
+							wait, getActiveCount(), maxActive));
+				}
+				if (false == conn.isRawClosed()) {
+					break;
+				}
+				// 实际连接已失效，移除后重新获取
+				closeConnection(conn);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLException("Interrupted while waiting for connection!", e);
 		}
-		return getConnectionDirect();
+
+		final long elapsed = System.nanoTime() - start;
+		this.borrowCount.increment();
+		this.borrowNanos.add(elapsed);
+		this.maxBorrowNanos.accumulateAndGet(elapsed, Math::max);
+		return conn.open();
+	}
+
+	// -------------------------------------------------------------------- Metrics start
+	/**
+	 * 获取使用中的连接数
+	 *
+	 * @return 使用中的连接数
+	 * @since 5.8.19
+	 */
+	public int getActiveCount() {
+		return this.bag.getCount(ConnectionBag.STATE_IN_USE);
+	}
+
+	/**
+	 * 获取空闲连接数
+	 *
+	 * @return 空闲连接数
+	 * @since 5.8.19
+	 */
+	public int getIdleCount() {
+		return this.bag.getCount(ConnectionBag.STATE_NOT_IN_USE);
+	}
+
+	/**
+	 * 获取池中的连接总数
+	 *
+	 * @return 连接总数
+	 * @since 5.8.19
+	 */
+	public int getTotalCount() {
+		return this.bag.size();
+	}
+
+	/**
+	 * 获取正在等待连接的线程数
+	 *
+	 * @return 等待线程数
+	 * @since 5.8.19
+	 */
+	public int getWaitingCount() {
+		return this.bag.getWaitingThreadCount();
+	}
+
+	/**
+	 * 获取成功借出连接的次数
+	 *
+	 * @return 借出次数
+	 * @since 5.8.19
+	 */
+	public long getBorrowCount() {
+		return this.borrowCount.sum();
+	}
+
+	/**
+	 * 获取借出连接的平均耗时，包括等待和创建连接的时间
+	 *
+	 * @return 平均耗时，单位纳秒
+	 * @since 5.8.19
+	 */
+	public long getAverageBorrowNanos() {
+		final long count = this.borrowCount.sum();
+		return count == 0 ? 0 : this.borrowNanos.sum() / count;
+	}
+
+	/**
+	 * 获取借出连接的最大耗时，包括等待和创建连接的时间
+	 *
+	 * @return 最大耗时，单位纳秒
+	 * @since 5.8.19
+	 */
+	public long getMaxBorrowNanos() {
+		return this.maxBorrowNanos.get();
 	}
+	// -------------------------------------------------------------------- Metrics end
 
 	@Override
-	synchronized public void close() {
-		if (CollectionUtil.isNotEmpty(this.freePool)) {
-			this.freePool.forEach(PooledConnection::release);
-			this.freePool.clear();
-			this.freePool = null;
+	public void close() {
+		if (this.closed) {
+			return;
+		}
+		this.closed = true;
+		if (null != this.houseKeeper) {
+			this.houseKeeper.shutdownNow();
+		}
+		// 使用中的连接在归还时关闭
+		for (PooledConnection conn : this.bag.values(ConnectionBag.STATE_NOT_IN_USE)) {
+			if (this.bag.reserve(conn)) {
+				closeConnection(conn);
+			}
 		}
 	}
 
@@ -159,28 +311,73 @@ public class PooledDataSource extends AbstractDataSource {
 	}
 
 	/**
-	 * 直接从连接池中获取连接，如果池中无连接直接抛出异常
+	 * 在未达到最大活跃连接数时创建连接并加入池中
 	 *
-	 * @return PooledConnection
+	 * @param state 新连接的状态
+	 * @return 新连接，已达到最大活跃连接数返回{@code null}
 	 * @throws SQLException SQL异常
 	 */
-	private PooledConnection getConnectionDirect() throws SQLException {
-		if (null == freePool) {
-			throw new SQLException("PooledDataSource is closed!");
-		}
+	private PooledConnection addConnection(int state) throws SQLException {
+		int total;
+		do {
+			total = this.totalCount.get();
+			if (ConnectionBag.STATE_IN_USE == state && total >= config.getMaxActive()) {
+				return null;
+			}
+		} while (false == this.totalCount.compareAndSet(total, total + 1));
 
-		final int maxActive = config.getMaxActive();
-		if (maxActive <= 0 || maxActive < this.activeCount) {
-			// 超过最大使用限制
-			throw new SQLException("In used Connection is more than Max Active.");
+		final PooledConnection conn;
+		try {
+			conn = newConnection();
+		} catch (SQLException | RuntimeException e) {
+			this.totalCount.decrementAndGet();
+			throw e;
 		}
+		conn.setState(state);
+		this.bag.add(conn);
+		return conn;
+	}
 
-		PooledConnection conn = freePool.poll();
-		if (null == conn || conn.open().isClosed()) {
-			conn = this.newConnection();
+	/**
+	 * 从池中移除使用中或被保留的连接并关闭
+	 *
+	 * @param conn 连接
+	 */
+	private void closeConnection(PooledConnection conn) {
+		if (this.bag.remove(conn)) {
+			this.totalCount.decrementAndGet();
 		}
-		activeCount++;
-		return conn;
+		conn.release();
 	}
 
+	/**
+	 * 后台检查：关闭超过最小闲置连接数且长时间空闲的连接，以及验证无效的连接，之后补充到最小闲置连接数
+	 */
+	private void evict() {
+		try {
+			final long now = System.currentTimeMillis();
+			int idleCount = getIdleCount();
+			for (PooledConnection conn : this.bag.values(ConnectionBag.STATE_NOT_IN_USE)) {
+				if (false == this.bag.reserve(conn)) {
+					// 已被借出
+					continue;
+				}
+				if ((idleCount > config.getMinIdle() && now - conn.getLastAccessed() > config.getMinEvictableIdleTimeMillis())
+						|| (config.isTestWhileIdle() && false == conn.isRawValid(VALIDATION_TIMEOUT))) {
+					closeConnection(conn);
+					idleCount--;
+				} else {
+					this.bag.unreserve(conn);
+				}
+			}
+
+			final int maxActive = config.getMaxActive();
+			while (false == this.closed && getIdleCount() < config.getMinIdle() && this.totalCount.get() < maxActive) {
+				addConnection(ConnectionBag.STATE_NOT_IN_USE);
+			}
+		} catch (Exception e) {
+			// 后台任务出现异常不影响下次执行，下次检查时重试
+			StaticLog.warn(e, "Evict idle connections error: {}", e.getMessage());
+		}
+	}
 }
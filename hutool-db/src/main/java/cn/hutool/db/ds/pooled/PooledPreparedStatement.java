@@ -0,0 +1,274 @@
+package cn.hutool.db.ds.pooled;
+
+import cn.hutool.db.DbUtil;
+import cn.hutool.db.sql.StatementWrapper;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 连接中缓存的{@link PreparedStatement}<br>
+ * 关闭时不实际关闭，而是清空参数后归还到所属连接的缓存中，同一连接再次使用相同SQL时直接复用，避免重新创建和解析。<br>
+ * 关闭时同时关闭语句打开的结果集；修改了fetchSize、maxRows、查询超时等设置的语句在关闭时实际关闭，避免影响之后的使用。
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+class PooledPreparedStatement extends StatementWrapper {
+
+	private final PooledConnection conn;
+	private final StatementKey key;
+	/**
+	 * 是否正在使用（已借出未关闭）
+	 */
+	private boolean inUse = true;
+	/**
+	 * 是否已从缓存中移除，移除后关闭时实际关闭
+	 */
+	private boolean evicted;
+	/**
+	 * 是否修改了语句设置，修改后关闭时实际关闭
+	 */
+	private boolean dirty;
+	/**
+	 * 当前打开的结果集，语句再次执行时驱动会关闭之前的结果集，因此只需记录最后一个
+	 */
+	private ResultSet resultSet;
+	/**
+	 * 当前打开的自增主键结果集
+	 */
+	private ResultSet generatedKeys;
+
+	/**
+	 * 构造
+	 *
+	 * @param conn         所属连接
+	 * @param key          缓存键
+	 * @param rawStatement 实际的{@link PreparedStatement}
+	 */
+	PooledPreparedStatement(PooledConnection conn, StatementKey key, PreparedStatement rawStatement) {
+		super(rawStatement);
+		this.conn = conn;
+		this.key = key;
+	}
+
+	/**
+	 * 归还到连接的缓存中，如果已被移除或修改了设置，则实际关闭
+	 */
+	@Override
+	public void close() throws SQLException {
+		if (false == this.inUse) {
+			// 重复关闭
+			return;
+		}
+		this.inUse = false;
+		// 结果集随语句关闭，缓存的语句须主动关闭
+		DbUtil.close(this.resultSet, this.generatedKeys);
+		this.resultSet = null;
+		this.generatedKeys = null;
+		this.conn.returnStatement(this);
+	}
+
+	@Override
+	public boolean isClosed() throws SQLException {
+		return false == this.inUse || super.isClosed();
+	}
+
+	@Override
+	public Connection getConnection() {
+		return this.conn.getHandle();
+	}
+
+	@Override
+	public ResultSet executeQuery() throws SQLException {
+		this.resultSet = super.executeQuery();
+		return this.resultSet;
+	}
+
+	@Override
+	public ResultSet getResultSet() throws SQLException {
+		final ResultSet rs = super.getResultSet();
+		if (null != rs) {
+			this.resultSet = rs;
+		}
+		return rs;
+	}
+
+	@Override
+	public boolean getMoreResults(int current) throws SQLException {
+		if (KEEP_CURRENT_RESULT == current) {
+			// 保留的结果集无法全部记录，关闭时实际关闭语句
+			this.dirty = true;
+		}
+		return super.getMoreResults(current);
+	}
+
+	@Override
+	public ResultSet getGeneratedKeys() throws SQLException {
+		this.generatedKeys = super.getGeneratedKeys();
+		return this.generatedKeys;
+	}
+
+	@Override
+	public void setFetchSize(int rows) throws SQLException {
+		this.dirty = true;
+		super.setFetchSize(rows);
+	}
+
+	@Override
+	public void setFetchDirection(int direction) throws SQLException {
+		this.dirty = true;
+		super.setFetchDirection(direction);
+	}
+
+	@Override
+	public void setMaxRows(int max) throws SQLException {
+		this.dirty = true;
+		super.setMaxRows(max);
+	}
+
+	@Override
+	public void setLargeMaxRows(long max) throws SQLException {
+		this.dirty = true;
+		super.setLargeMaxRows(max);
+	}
+
+	@Override
+	public void setMaxFieldSize(int max) throws SQLException {
+		this.dirty = true;
+		super.setMaxFieldSize(max);
+	}
+
+	@Override
+	public void setQueryTimeout(int seconds) throws SQLException {
+		this.dirty = true;
+		super.setQueryTimeout(seconds);
+	}
+
+	@Override
+	public void setEscapeProcessing(boolean enable) throws SQLException {
+		this.dirty = true;
+		super.setEscapeProcessing(enable);
+	}
+
+	@Override
+	public void setCursorName(String name) throws SQLException {
+		this.dirty = true;
+		super.setCursorName(name);
+	}
+
+	@Override
+	public void setPoolable(boolean poolable) throws SQLException {
+		this.dirty = true;
+		super.setPoolable(poolable);
+	}
+
+	@Override
+	public void closeOnCompletion() throws SQLException {
+		this.dirty = true;
+		super.closeOnCompletion();
+	}
+
+	/**
+	 * 从缓存中借出
+	 *
+	 * @return this
+	 */
+	PooledPreparedStatement borrow() {
+		this.inUse = true;
+		return this;
+	}
+
+	/**
+	 * 清空参数，准备下次使用
+	 *
+	 * @return 是否可以继续使用
+	 */
+	boolean reset() {
+		if (this.evicted || this.dirty) {
+			return false;
+		}
+		try {
+			clearParameters();
+			clearBatch();
+			clearWarnings();
+			return true;
+		} catch (SQLException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * 实际关闭语句，忽略异常
+	 */
+	void closeRaw() {
+		try {
+			super.close();
+		} catch (SQLException e) {
+			// ignore
+		}
+	}
+
+	/**
+	 * 标记为已从缓存中移除
+	 */
+	void evict() {
+		this.evicted = true;
+	}
+
+	/**
+	 * 是否正在使用
+	 *
+	 * @return 是否正在使用
+	 */
+	boolean isInUse() {
+		return this.inUse;
+	}
+
+	/**
+	 * 获取缓存键
+	 *
+	 * @return 缓存键
+	 */
+	StatementKey getKey() {
+		return this.key;
+	}
+
+	/**
+	 * 语句缓存键，由SQL和创建语句的参数组成
+	 */
+	static final class StatementKey {
+		private final String sql;
+		private final int autoGeneratedKeys;
+
+		/**
+		 * 构造
+		 *
+		 * @param sql               SQL语句
+		 * @param autoGeneratedKeys 是否返回自增主键，-1表示未指定
+		 */
+		StatementKey(String sql, int autoGeneratedKeys) {
+			this.sql = sql;
+			this.autoGeneratedKeys = autoGeneratedKeys;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (false == (o instanceof StatementKey)) {
+				return false;
+			}
+			final StatementKey that = (StatementKey) o;
+			return autoGeneratedKeys == that.autoGeneratedKeys && sql.equals(that.sql);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * sql.hashCode() + autoGeneratedKeys;
+		}
+	}
+}
@@ -0,0 +1,259 @@
+package cn.hutool.db.handler;
+
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.bean.PropDesc;
+import cn.hutool.core.convert.BasicType;
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.exceptions.InvocationTargetRuntimeException;
+import cn.hutool.core.exceptions.UtilException;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.ClassUtil;
+import cn.hutool.core.util.ReflectUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.core.util.TypeUtil;
+import cn.hutool.db.Entity;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 结果集行转Bean处理器<br>
+ * 列与Bean属性的对应关系（列索引、setter方法、读取方式）按照{@link ResultSetMetaData}只计算一次，
+ * 之后每行只需按计划读取列值并调用setter，结果与{@link HandleHelper#handleRow(int, ResultSetMetaData, ResultSet, Class)}一致。<br>
+ * 列类型与属性类型直接对应时（如BIGINT列对应Long属性）使用{@link ResultSet#getLong(int)}等方法直接读取，避免装箱和类型转换。
+ *
+ * @param <T> Bean类型
+ * @author looly
+ * @since 5.8.19
+ */
+public class BeanRowHandler<T> implements RsRowHandler<T> {
+
+	private final Class<T> beanClass;
+	/**
+	 * 是否为普通Bean，数组、集合、Entity、字符串等类型按照{@link HandleHelper}的规则处理
+	 */
+	private final boolean isBean;
+	/**
+	 * 当前元信息对应的映射计划，同一结果集的元信息不变，只计算一次
+	 */
+	private Plan plan;
+
+	/**
+	 * 构造
+	 *
+	 * @param beanClass Bean类型
+	 */
+	public BeanRowHandler(Class<T> beanClass) {
+		Assert.notNull(beanClass, "Bean Class must be not null !");
+		this.beanClass = beanClass;
+		this.isBean = false == (beanClass.isArray()
+				|| Iterable.class.isAssignableFrom(beanClass)
+				|| beanClass.isAssignableFrom(Entity.class)
+				|| String.class == beanClass);
+	}
+
+	@Override
+	public T handle(int columnCount, ResultSetMetaData meta, ResultSet rs) throws SQLException {
+		if (false == this.isBean) {
+			return HandleHelper.handleRow(columnCount, meta, rs, this.beanClass);
+		}
+
+		Plan plan = this.plan;
+		if (null == plan || plan.meta != meta) {
+			plan = new Plan(columnCount, meta);
+			this.plan = plan;
+		}
+
+		final T bean = ReflectUtil.newInstanceIfPossible(this.beanClass);
+		for (ColumnSetter setter : plan.setters) {
+			setter.set(bean, rs);
+		}
+		return bean;
+	}
+
+	/**
+	 * 列与属性的映射计划
+	 */
+	private class Plan {
+		private final ResultSetMetaData meta;
+		private final ColumnSetter[] setters;
+
+		/**
+		 * 构造，按照列名匹配属性（忽略大小写），未匹配时尝试驼峰命名风格
+		 *
+		 * @param columnCount 列数
+		 * @param meta        {@link ResultSetMetaData}
+		 * @throws SQLException 读取元信息失败
+		 */
+		Plan(int columnCount, ResultSetMetaData meta) throws SQLException {
+			this.meta = meta;
+			final Map<String, PropDesc> propMap = BeanUtil.getBeanDesc(beanClass).getPropMap(true);
+			final List<ColumnSetter> setters = new ArrayList<>(columnCount);
+			String columnLabel;
+			PropDesc pd;
+			Method setter;
+			for (int i = 1; i <= columnCount; i++) {
+				columnLabel = meta.getColumnLabel(i);
+				pd = propMap.get(columnLabel);
+				if (null == pd) {
+					// 尝试驼峰命名风格
+					pd = propMap.get(StrUtil.toCamelCase(columnLabel));
+				}
+				setter = (null == pd) ? null : pd.getSetter();
+				if (null != setter) {
+					setters.add(new ColumnSetter(i, meta.getColumnType(i), setter));
+				}
+			}
+			this.setters = setters.toArray(new ColumnSetter[0]);
+		}
+	}
+
+	/**
+	 * 单列的读取和设置方式
+	 */
+	private static class ColumnSetter {
+		private static final int GET_OBJECT = 0;
+		private static final int GET_LONG = 1;
+		private static final int GET_INT = 2;
+		private static final int GET_STRING = 3;
+		private static final int GET_DOUBLE = 4;
+		private static final int GET_BOOLEAN = 5;
+		private static final int GET_BIG_DECIMAL = 6;
+
+		private final int columnIndex;
+		private final int columnType;
+		private final Method setter;
+		private final Type targetType;
+		/**
+		 * 参数类型，原始类型转为包装类型，用于检查值是否需要转换
+		 */
+		private final Class<?> wrappedTargetClass;
+		private final boolean isPrimitive;
+		private final Object defaultValue;
+		private final int getter;
+
+		/**
+		 * 构造
+		 *
+		 * @param columnIndex 列索引，从1开始
+		 * @param columnType  列类型，见{@link Types}
+		 * @param setter      属性的setter方法
+		 */
+		ColumnSetter(int columnIndex, int columnType, Method setter) {
+			this.columnIndex = columnIndex;
+			this.columnType = columnType;
+			this.setter = ReflectUtil.setAccessible(setter);
+			this.targetType = TypeUtil.getFirstParamType(setter);
+
+			final Class<?> targetClass = setter.getParameterTypes()[0];
+			this.wrappedTargetClass = BasicType.wrap(targetClass);
+			this.isPrimitive = targetClass.isPrimitive();
+			this.defaultValue = this.isPrimitive ? ClassUtil.getDefaultValue(targetClass) : null;
+			this.getter = chooseGetter(columnType, targetClass);
+		}
+
+		/**
+		 * 读取当前行的列值并设置到Bean中
+		 *
+		 * @param bean Bean
+		 * @param rs   结果集
+		 * @throws SQLException SQL异常
+		 */
+		void set(Object bean, ResultSet rs) throws SQLException {
+			Object value;
+			switch (this.getter) {
+				case GET_LONG:
+					value = rs.getLong(this.columnIndex);
+					break;
+				case GET_INT:
+					value = rs.getInt(this.columnIndex);
+					break;
+				case GET_STRING:
+					value = rs.getString(this.columnIndex);
+					break;
+				case GET_DOUBLE:
+					value = rs.getDouble(this.columnIndex);
+					break;
+				case GET_BOOLEAN:
+					value = rs.getBoolean(this.columnIndex);
+					break;
+				case GET_BIG_DECIMAL:
+					value = rs.getBigDecimal(this.columnIndex);
+					break;
+				default:
+					value = HandleHelper.getColumnValue(rs, this.columnIndex, this.columnType, this.targetType);
+			}
+			if (GET_OBJECT != this.getter && false == this.isPrimitive && rs.wasNull()) {
+				value = null;
+			}
+			if (null == value) {
+				if (this.isPrimitive) {
+					// 参数是原始类型，而值为null时赋予默认值
+					value = this.defaultValue;
+				}
+			} else if (false == this.wrappedTargetClass.isInstance(value)) {
+				// 与ReflectUtil.invokeWithCheck一致，类型不对应时尝试转换，转换失败则使用原值
+				final Object targetValue = Convert.convertWithCheck(this.wrappedTargetClass, value, null, true);
+				if (null != targetValue) {
+					value = targetValue;
+				}
+			}
+
+			try {
+				this.setter.invoke(bean, value);
+			} catch (InvocationTargetException e) {
+				throw new InvocationTargetRuntimeException(e);
+			} catch (IllegalAccessException e) {
+				throw new UtilException(e);
+			}
+		}
+
+		/**
+		 * 根据列类型和属性类型选择读取方式，只有在类型直接对应、无需转换时使用特定类型的读取方法
+		 *
+		 * @param columnType  列类型
+		 * @param targetClass 属性类型
+		 * @return 读取方式
+		 */
+		private static int chooseGetter(int columnType, Class<?> targetClass) {
+			switch (columnType) {
+				case Types.BIGINT:
+					return (Long.class == targetClass || long.class == targetClass) ? GET_LONG : GET_OBJECT;
+				case Types.INTEGER:
+				case Types.SMALLINT:
+				case Types.TINYINT:
+					if (Long.class == targetClass || long.class == targetClass) {
+						return GET_LONG;
+					}
+					return (Integer.class == targetClass || int.class == targetClass) ? GET_INT : GET_OBJECT;
+				case Types.CHAR:
+				case Types.VARCHAR:
+				case Types.LONGVARCHAR:
+				case Types.NCHAR:
+				case Types.NVARCHAR:
+				case Types.LONGNVARCHAR:
+					return String.class == targetClass ? GET_STRING : GET_OBJECT;
+				case Types.DOUBLE:
+				case Types.FLOAT:
+					return (Double.class == targetClass || double.class == targetClass) ? GET_DOUBLE : GET_OBJECT;
+				case Types.BOOLEAN:
+				case Types.BIT:
+					return (Boolean.class == targetClass || boolean.class == targetClass) ? GET_BOOLEAN : GET_OBJECT;
+				case Types.DECIMAL:
+				case Types.NUMERIC:
+					return BigDecimal.class == targetClass ? GET_BIG_DECIMAL : GET_OBJECT;
+				default:
+					return GET_OBJECT;
+			}
+		}
+	}
+}
@@ -1,16 +1,11 @@
 package cn.hutool.db.handler;
 
-import cn.hutool.core.bean.BeanUtil;
-import cn.hutool.core.bean.PropDesc;
 import cn.hutool.core.convert.Convert;
 import cn.hutool.core.lang.Assert;
 import cn.hutool.core.util.ArrayUtil;
-import cn.hutool.core.util.ReflectUtil;
 import cn.hutool.core.util.StrUtil;
-import cn.hutool.core.util.TypeUtil;
 import cn.hutool.db.Entity;
 
-import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -19,7 +14,6 @@ import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 
 /**
  * 数据结果集处理辅助类
@@ -83,27 +77,7 @@ public class HandleHelper {
 		}
 
 		//普通bean
-		final T bean = ReflectUtil.newInstanceIfPossible(beanClass);
-		//忽略字段大小写
-		final Map<String, PropDesc> propMap = BeanUtil.getBeanDesc(beanClass).getPropMap(true);
-		String columnLabel;
-		PropDesc pd;
-		Method setter;
-		Object value;
-		for (int i = 1; i <= columnCount; i++) {
-			columnLabel = meta.getColumnLabel(i);
-			pd = propMap.get(columnLabel);
-			if(null == pd) {
-				// 尝试驼峰命名风格
-				pd = propMap.get(StrUtil.toCamelCase(columnLabel));
-			}
-			setter = (null == pd) ? null : pd.getSetter();
-			if(null != setter) {
-				value = getColumnValue(rs, i,  meta.getColumnType(i), TypeUtil.getFirstParamType(setter));
-				ReflectUtil.invokeWithCheck(bean, setter, value);
-			}
-		}
-		return bean;
+		return new BeanRowHandler<>(beanClass).handle(columnCount, meta, rs);
 	}
 
 	/**
@@ -254,15 +228,16 @@ public class HandleHelper {
 	public static <E, T extends Collection<E>> T handleRsToBeanList(ResultSet rs, T collection, Class<E> elementBeanType) throws SQLException {
 		final ResultSetMetaData meta = rs.getMetaData();
 		final int columnCount = meta.getColumnCount();
+		// 列与属性的对应关系只计算一次
+		final BeanRowHandler<E> rowHandler = new BeanRowHandler<>(elementBeanType);
 
 		while (rs.next()) {
-			collection.add(handleRow(columnCount, meta, rs, elementBeanType));
+			collection.add(rowHandler.handle(columnCount, meta, rs));
 		}
 
 		return collection;
 	}
 
-	// -------------------------------------------------------------------------------------------------------------- Private method start
 	/**
 	 * 获取字段值<br>
 	 * 针对日期时间等做单独处理判断
@@ -274,7 +249,7 @@ public class HandleHelper {
 	 * @return 字段值
 	 * @throws SQLException SQL异常
 	 */
-	private static Object getColumnValue(ResultSet rs, int columnIndex, int type, Type targetColumnType) throws SQLException {
+	static Object getColumnValue(ResultSet rs, int columnIndex, int type, Type targetColumnType) throws SQLException {
 		Object rawValue = null;
 		switch (type) {
 		case Types.TIMESTAMP:
@@ -299,5 +274,4 @@ public class HandleHelper {
 			return Convert.convert(targetColumnType, rawValue);
 		}
 	}
-	// -------------------------------------------------------------------------------------------------------------- Private method end
 }
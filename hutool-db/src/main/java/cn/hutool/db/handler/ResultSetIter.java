@@ -0,0 +1,86 @@
+package cn.hutool.db.handler;
+
+import cn.hutool.core.collection.ComputeIter;
+import cn.hutool.db.DbRuntimeException;
+
+import java.io.Closeable;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 结果集遍历器，逐行读取{@link ResultSet}并转换，不会将所有行加载到内存中<br>
+ * 遍历结束、出现异常或调用{@link #close()}时执行关闭操作，关闭操作只执行一次
+ *
+ * @param <T> 行转换后的对象类型
+ * @author looly
+ * @since 5.8.19
+ */
+public class ResultSetIter<T> extends ComputeIter<T> implements Closeable {
+
+	private final ResultSet rs;
+	private final RsRowHandler<T> rowHandler;
+	private final Runnable closeHandler;
+	private final int columnCount;
+	private final ResultSetMetaData meta;
+	private boolean closed;
+
+	/**
+	 * 构造
+	 *
+	 * @param rs           结果集
+	 * @param rowHandler   行处理器，不能返回{@code null}
+	 * @param closeHandler 关闭操作，负责关闭结果集及相关的Statement和连接
+	 * @throws SQLException 获取元信息失败
+	 */
+	public ResultSetIter(ResultSet rs, RsRowHandler<T> rowHandler, Runnable closeHandler) throws SQLException {
+		this.rs = rs;
+		this.rowHandler = rowHandler;
+		this.closeHandler = closeHandler;
+		this.meta = rs.getMetaData();
+		this.columnCount = this.meta.getColumnCount();
+	}
+
+	@Override
+	protected T computeNext() {
+		if (this.closed) {
+			return null;
+		}
+		try {
+			if (this.rs.next()) {
+				return this.rowHandler.handle(this.columnCount, this.meta, this.rs);
+			}
+		} catch (SQLException e) {
+			close();
+			throw new DbRuntimeException(e);
+		} catch (RuntimeException e) {
+			close();
+			throw e;
+		}
+		// 读取完毕自动关闭
+		close();
+		return null;
+	}
+
+	/**
+	 * 转换为{@link Stream}，{@link Stream}关闭时关闭此遍历器
+	 *
+	 * @return {@link Stream}
+	 */
+	public Stream<T> toStream() {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+				.onClose(this::close);
+	}
+
+	@Override
+	public void close() {
+		if (false == this.closed) {
+			this.closed = true;
+			this.closeHandler.run();
+		}
+	}
+}
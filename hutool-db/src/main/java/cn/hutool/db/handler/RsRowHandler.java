@@ -0,0 +1,29 @@
+package cn.hutool.db.handler;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+/**
+ * 结果集单行处理接口<br>
+ * 与{@link RsHandler}处理整个结果集不同，此接口只处理结果集的当前行，用于逐行读取的场景，元信息只获取一次
+ *
+ * @param <T> 行转换后的对象类型
+ * @author looly
+ * @since 5.8.19
+ */
+@FunctionalInterface
+public interface RsRowHandler<T> {
+
+	/**
+	 * 处理结果集的当前行<br>
+	 * 处理时不需要移动游标
+	 *
+	 * @param columnCount 列数
+	 * @param meta        {@link ResultSetMetaData}
+	 * @param rs          结果集
+	 * @return 处理后生成的对象
+	 * @throws SQLException SQL异常
+	 */
+	T handle(int columnCount, ResultSetMetaData meta, ResultSet rs) throws SQLException;
+}
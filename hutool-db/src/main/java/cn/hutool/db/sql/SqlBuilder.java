@@ -149,7 +149,8 @@ public class SqlBuilder implements Builder<String> {
 
 	/**
 	 * 插入<br>
-	 * 插入会忽略空的字段名及其对应值，但是对于有字段名对应值为{@code null}的情况不忽略
+	 * 插入会忽略空的字段名及其对应值，但是对于有字段名对应值为{@code null}的情况不忽略<br>
+	 * 相同表、字段和包装符号的SQL会被缓存，之后直接复用
 	 *
 	 * @param entity      实体
 	 * @param dialectName 方言名，用于对特殊数据库特殊处理
@@ -160,6 +161,30 @@ public class SqlBuilder implements Builder<String> {
 		// 验证
 		validateEntity(entity);
 
+		if (DialectName.ORACLE.match(dialectName) && hasNextVal(entity)) {
+			// Oracle的自增键直接写在SQL中，不缓存
+			return insertWithoutCache(entity, dialectName);
+		}
+
+		final String[] fields = getFields(entity);
+		// issue#1656@Github Phoenix兼容
+		final String type = DialectName.PHOENIX.match(dialectName) ? "UPSERT" : "INSERT";
+		final SqlCache.Key key = new SqlCache.Key(type, this.wrapper, entity.getTableName(), fields);
+		sql.append(SqlCache.get(key, () -> new SqlBuilder(this.wrapper).insertWithoutCache(entity, dialectName).build()));
+		for (String field : fields) {
+			this.paramValues.add(entity.get(field));
+		}
+		return this;
+	}
+
+	/**
+	 * 插入，不使用缓存
+	 *
+	 * @param entity      实体
+	 * @param dialectName 方言名，用于对特殊数据库特殊处理
+	 * @return 自己
+	 */
+	private SqlBuilder insertWithoutCache(Entity entity, String dialectName) {
 		final boolean isOracle = DialectName.ORACLE.match(dialectName);// 对Oracle的特殊处理
 		final StringBuilder fieldsPart = new StringBuilder();
 		final StringBuilder placeHolder = new StringBuilder();
@@ -203,6 +228,106 @@ public class SqlBuilder implements Builder<String> {
 		return this;
 	}
 
+	/**
+	 * 多行插入，生成包含多组值的一条INSERT语句，如：
+	 * <pre>
+	 *     INSERT INTO demo (a, b) VALUES (?, ?), (?, ?)
+	 * </pre>
+	 * 字段以第一条记录为准（忽略空的字段名），之后的记录按照这些字段取值，不存在的字段插入{@code null}
+	 *
+	 * @param entities 实体，表名以第一条记录为准
+	 * @return 自己
+	 * @since 5.8.19
+	 */
+	public SqlBuilder insertMulti(Entity... entities) {
+		return multiRow("INSERT", null, entities);
+	}
+
+	/**
+	 * 多行合并，用于H2的MERGE语法，生成包含多组值的一条MERGE语句，如：
+	 * <pre>
+	 *     MERGE INTO demo (a, b) KEY(a) VALUES (?, ?), (?, ?)
+	 * </pre>
+	 * 字段规则见{@link #insertMulti(Entity...)}
+	 *
+	 * @param keys     检查是否存在的字段
+	 * @param entities 实体，表名以第一条记录为准
+	 * @return 自己
+	 * @since 5.8.19
+	 */
+	public SqlBuilder mergeMulti(String[] keys, Entity... entities) {
+		if (ArrayUtil.isEmpty(keys)) {
+			throw new DbRuntimeException("Keys for merge is empty !");
+		}
+		return multiRow("MERGE", keys, entities);
+	}
+
+	/**
+	 * 追加MySQL主键或唯一键冲突时的更新语句，所有字段更新为插入的值，如：
+	 * <pre>
+	 *      ON DUPLICATE KEY UPDATE a=values(a), b=values(b)
+	 * </pre>
+	 *
+	 * @param entity 实体，使用其中非空的字段名
+	 * @return 自己
+	 * @since 5.8.19
+	 */
+	public SqlBuilder onDuplicateKeyUpdate(Entity entity) {
+		sql.append(" ON DUPLICATE KEY UPDATE ");
+		appendUpdateSet(entity, "values(", ")");
+		return this;
+	}
+
+	/**
+	 * 追加冲突时的更新语句，所有字段更新为插入的值，用于PostgreSQL和SQLite，如：
+	 * <pre>
+	 *      ON CONFLICT (a) DO UPDATE SET a=EXCLUDED.a, b=EXCLUDED.b
+	 * </pre>
+	 *
+	 * @param keys   检查冲突的主键或字段
+	 * @param entity 实体，使用其中非空的字段名
+	 * @return 自己
+	 * @since 5.8.19
+	 */
+	public SqlBuilder onConflictUpdate(String[] keys, Entity entity) {
+		if (ArrayUtil.isEmpty(keys)) {
+			throw new DbRuntimeException("Keys for conflict is empty !");
+		}
+		sql.append(" ON CONFLICT (").append(ArrayUtil.join(keys, ", ")).append(") DO UPDATE SET ");
+		appendUpdateSet(entity, "EXCLUDED.", StrUtil.EMPTY);
+		return this;
+	}
+
+	/**
+	 * 追加多组值的占位符，并按照字段顺序加入参数，如：
+	 * <pre>
+	 *     (?, ?), (?, ?)
+	 * </pre>
+	 *
+	 * @param fields   字段列表
+	 * @param entities 实体，不存在的字段值为{@code null}
+	 * @return 自己
+	 * @since 5.8.19
+	 */
+	public SqlBuilder appendValues(Collection<String> fields, Entity... entities) {
+		for (int i = 0; i < entities.length; i++) {
+			if (i > 0) {
+				sql.append(", ");
+			}
+			sql.append("(");
+			int j = 0;
+			for (String field : fields) {
+				if (j++ > 0) {
+					sql.append(", ");
+				}
+				sql.append("?");
+				this.paramValues.add(entities[i].get(field));
+			}
+			sql.append(")");
+		}
+		return this;
+	}
+
 	/**
 	 * 删除
 	 *
@@ -225,7 +350,8 @@ public class SqlBuilder implements Builder<String> {
 	}
 
 	/**
-	 * 更新
+	 * 更新<br>
+	 * 相同表、字段和包装符号的SQL会被缓存，之后直接复用
 	 *
 	 * @param entity 要更新的实体
 	 * @return 自己
@@ -234,6 +360,26 @@ public class SqlBuilder implements Builder<String> {
 		// 验证
 		validateEntity(entity);
 
+		if (false == this.paramValues.isEmpty()) {
+			return updateWithoutCache(entity);
+		}
+
+		final String[] fields = getFields(entity);
+		final SqlCache.Key key = new SqlCache.Key("UPDATE", this.wrapper, entity.getTableName(), fields);
+		sql.append(SqlCache.get(key, () -> new SqlBuilder(this.wrapper).updateWithoutCache(entity).build()));
+		for (String field : fields) {
+			this.paramValues.add(entity.get(field));
+		}
+		return this;
+	}
+
+	/**
+	 * 更新，不使用缓存
+	 *
+	 * @param entity 要更新的实体
+	 * @return 自己
+	 */
+	private SqlBuilder updateWithoutCache(Entity entity) {
 		String tableName = entity.getTableName();
 		if (null != wrapper) {
 			// 包装表名
@@ -611,6 +757,101 @@ public class SqlBuilder implements Builder<String> {
 
 	// --------------------------------------------------------------- private method start
 
+	/**
+	 * 获取实体中非空的字段名，顺序与实体中一致
+	 *
+	 * @param entity 实体
+	 * @return 字段名
+	 */
+	private static String[] getFields(Entity entity) {
+		final String[] fields = new String[entity.size()];
+		int i = 0;
+		for (String field : entity.keySet()) {
+			if (StrUtil.isNotBlank(field)) {
+				fields[i++] = field;
+			}
+		}
+		return i == fields.length ? fields : Arrays.copyOf(fields, i);
+	}
+
+	/**
+	 * 多行语句，字段以第一条记录为准
+	 *
+	 * @param type     语句类型，INSERT或MERGE
+	 * @param keys     MERGE语句检查是否存在的字段，{@code null}表示无
+	 * @param entities 实体，表名以第一条记录为准
+	 * @return 自己
+	 */
+	private SqlBuilder multiRow(String type, String[] keys, Entity... entities) {
+		if (ArrayUtil.isEmpty(entities)) {
+			throw new DbRuntimeException("Entities for multi row {} is empty !", type);
+		}
+		validateEntity(entities[0]);
+
+		final String[] fields = getFields(entities[0]);
+		String tableName = entities[0].getTableName();
+		if (null != this.wrapper) {
+			tableName = this.wrapper.wrap(tableName);
+		}
+		sql.append(type).append(" INTO ").append(tableName).append(" (");
+		appendWrappedFields(fields);
+		sql.append(")");
+		if (null != keys) {
+			sql.append(" KEY(").append(ArrayUtil.join(keys, ", ")).append(")");
+		}
+		sql.append(" VALUES ");
+		return appendValues(Arrays.asList(fields), entities);
+	}
+
+	/**
+	 * 追加更新所有字段的赋值语句，如a=values(a), b=values(b)
+	 *
+	 * @param entity      实体，使用其中非空的字段名
+	 * @param valuePrefix 值的前缀
+	 * @param valueSuffix 值的后缀
+	 */
+	private void appendUpdateSet(Entity entity, String valuePrefix, String valueSuffix) {
+		boolean isFirst = true;
+		for (String field : getFields(entity)) {
+			if (isFirst) {
+				isFirst = false;
+			} else {
+				sql.append(", ");
+			}
+			field = (null != wrapper) ? wrapper.wrap(field) : field;
+			sql.append(field).append("=").append(valuePrefix).append(field).append(valueSuffix);
+		}
+	}
+
+	/**
+	 * 追加逗号分隔的字段列表
+	 *
+	 * @param fields 字段
+	 */
+	private void appendWrappedFields(String[] fields) {
+		for (int i = 0; i < fields.length; i++) {
+			if (i > 0) {
+				sql.append(", ");
+			}
+			sql.append((null != wrapper) ? wrapper.wrap(fields[i]) : fields[i]);
+		}
+	}
+
+	/**
+	 * 实体中是否包含Oracle的自增键
+	 *
+	 * @param entity 实体
+	 * @return 是否包含
+	 */
+	private static boolean hasNextVal(Entity entity) {
+		for (Object value : entity.values()) {
+			if (OracleDialect.isNextVal(value)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * 构建组合条件<br>
 	 * 例如：name = ? AND type IN (?, ?) AND other LIKE ?
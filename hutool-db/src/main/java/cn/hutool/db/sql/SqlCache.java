@@ -0,0 +1,99 @@
+package cn.hutool.db.sql;
+
+import cn.hutool.core.map.SafeConcurrentHashMap;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 按照语句结构缓存生成的SQL<br>
+ * 同一张表、相同字段和相同包装符号的INSERT、UPDATE等语句结构相同，只有参数不同，缓存后无需重复拼接和包装字段名。<br>
+ * 缓存数量有上限，超过后不再缓存新的语句结构。
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+final class SqlCache {
+
+	/**
+	 * 缓存的最大数量
+	 */
+	private static final int MAX_SIZE = 1024;
+	private static final Map<Key, String> CACHE = new SafeConcurrentHashMap<>();
+
+	/**
+	 * 获取缓存的SQL，不存在时构建并缓存
+	 *
+	 * @param key     语句结构
+	 * @param builder SQL构建函数
+	 * @return SQL
+	 */
+	static String get(Key key, Supplier<String> builder) {
+		String sql = CACHE.get(key);
+		if (null == sql) {
+			sql = builder.get();
+			if (CACHE.size() < MAX_SIZE) {
+				CACHE.put(key, sql);
+			}
+		}
+		return sql;
+	}
+
+	/**
+	 * 语句结构，由语句类型、包装符号、表名和字段列表组成
+	 */
+	static final class Key {
+		private final String type;
+		private final Character preWrapQuote;
+		private final Character sufWrapQuote;
+		private final String tableName;
+		private final String[] fields;
+		private final int hashCode;
+
+		/**
+		 * 构造
+		 *
+		 * @param type      语句类型，如INSERT
+		 * @param wrapper   包装器，{@code null}表示不包装
+		 * @param tableName 表名
+		 * @param fields    字段列表
+		 */
+		Key(String type, Wrapper wrapper, String tableName, String[] fields) {
+			this.type = type;
+			this.preWrapQuote = (null == wrapper) ? null : wrapper.preWrapQuote();
+			this.sufWrapQuote = (null == wrapper) ? null : wrapper.sufWrapQuote();
+			this.tableName = tableName;
+			this.fields = fields;
+
+			int hash = type.hashCode();
+			hash = 31 * hash + Objects.hashCode(this.preWrapQuote);
+			hash = 31 * hash + Objects.hashCode(this.sufWrapQuote);
+			hash = 31 * hash + tableName.hashCode();
+			this.hashCode = 31 * hash + Arrays.hashCode(fields);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (false == (o instanceof Key)) {
+				return false;
+			}
+			final Key that = (Key) o;
+			return hashCode == that.hashCode
+					&& type.equals(that.type)
+					&& Objects.equals(preWrapQuote, that.preWrapQuote)
+					&& Objects.equals(sufWrapQuote, that.sufWrapQuote)
+					&& tableName.equals(that.tableName)
+					&& Arrays.equals(fields, that.fields);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+	}
+}
@@ -258,6 +258,51 @@ public class StatementWrapper implements PreparedStatement {
 		return rawStatement.isCloseOnCompletion();
 	}
 
+	@Override
+	public long getLargeUpdateCount() throws SQLException {
+		return rawStatement.getLargeUpdateCount();
+	}
+
+	@Override
+	public void setLargeMaxRows(long max) throws SQLException {
+		rawStatement.setLargeMaxRows(max);
+	}
+
+	@Override
+	public long getLargeMaxRows() throws SQLException {
+		return rawStatement.getLargeMaxRows();
+	}
+
+	@Override
+	public long[] executeLargeBatch() throws SQLException {
+		return rawStatement.executeLargeBatch();
+	}
+
+	@Override
+	public long executeLargeUpdate(String sql) throws SQLException {
+		return rawStatement.executeLargeUpdate(sql);
+	}
+
+	@Override
+	public long executeLargeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+		return rawStatement.executeLargeUpdate(sql, autoGeneratedKeys);
+	}
+
+	@Override
+	public long executeLargeUpdate(String sql, int[] columnIndexes) throws SQLException {
+		return rawStatement.executeLargeUpdate(sql, columnIndexes);
+	}
+
+	@Override
+	public long executeLargeUpdate(String sql, String[] columnNames) throws SQLException {
+		return rawStatement.executeLargeUpdate(sql, columnNames);
+	}
+
+	@Override
+	public long executeLargeUpdate() throws SQLException {
+		return rawStatement.executeLargeUpdate();
+	}
+
 	@Override
 	public <T> T unwrap(Class<T> iface) throws SQLException {
 		return rawStatement.unwrap(iface);
@@ -2,6 +2,7 @@ package cn.hutool.db.sql;
 
 import cn.hutool.core.collection.CollUtil;
 import cn.hutool.core.collection.CollectionUtil;
+import cn.hutool.core.map.SafeConcurrentHashMap;
 import cn.hutool.core.util.ArrayUtil;
 import cn.hutool.core.util.CharUtil;
 import cn.hutool.core.util.StrUtil;
@@ -10,6 +11,7 @@ import cn.hutool.db.Entity;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Map.Entry;
 
 /**
@@ -21,6 +23,11 @@ import java.util.Map.Entry;
 public class Wrapper implements Serializable {
 	private static final long serialVersionUID = 1L;
 
+	/**
+	 * 包装结果缓存的最大数量，超过后不再缓存新的字段名
+	 */
+	private static final int MAX_CACHE_SIZE = 4096;
+
 	/**
 	 * 前置包装符号
 	 */
@@ -29,6 +36,10 @@ public class Wrapper implements Serializable {
 	 * 后置包装符号
 	 */
 	private Character sufWrapQuote;
+	/**
+	 * 包装结果缓存，表名和字段名的种类有限，缓存后无需重复判断和拼接
+	 */
+	private transient Map<String, String> wrapCache;
 
 	public Wrapper() {
 	}
@@ -70,6 +81,7 @@ public class Wrapper implements Serializable {
 	 */
 	public void setPreWrapQuote(Character preWrapQuote) {
 		this.preWrapQuote = preWrapQuote;
+		this.wrapCache = null;
 	}
 
 	/**
@@ -86,9 +98,28 @@ public class Wrapper implements Serializable {
 	 */
 	public void setSufWrapQuote(Character sufWrapQuote) {
 		this.sufWrapQuote = sufWrapQuote;
+		this.wrapCache = null;
 	}
 	//--------------------------------------------------------------- Getters and Setters end
 
+	/**
+	 * 获取前置包装符号，未设置返回{@code null}
+	 *
+	 * @return 前置包装符号
+	 */
+	Character preWrapQuote() {
+		return preWrapQuote;
+	}
+
+	/**
+	 * 获取后置包装符号，未设置返回{@code null}
+	 *
+	 * @return 后置包装符号
+	 */
+	Character sufWrapQuote() {
+		return sufWrapQuote;
+	}
+
 	/**
 	 * 包装字段名<br>
 	 * 有时字段与SQL的某些关键字冲突，导致SQL出错，因此需要将字段名用单引号或者反引号包装起来，避免冲突
@@ -101,6 +132,28 @@ public class Wrapper implements Serializable {
 			return field;
 		}
 
+		Map<String, String> wrapCache = this.wrapCache;
+		if (null == wrapCache) {
+			wrapCache = new SafeConcurrentHashMap<>();
+			this.wrapCache = wrapCache;
+		}
+		String wrapped = wrapCache.get(field);
+		if (null == wrapped) {
+			wrapped = doWrap(field);
+			if (wrapCache.size() < MAX_CACHE_SIZE) {
+				wrapCache.put(field, wrapped);
+			}
+		}
+		return wrapped;
+	}
+
+	/**
+	 * 包装字段名，不使用缓存
+	 *
+	 * @param field 字段名
+	 * @return 包装后的字段名
+	 */
+	private String doWrap(String field) {
 		//如果已经包含包装的引号，返回原字符
 		if (StrUtil.isSurround(field, preWrapQuote, sufWrapQuote)) {
 			return field;
@@ -1,14 +1,21 @@
 package cn.hutool.db;
 
+import cn.hutool.core.collection.ListUtil;
 import cn.hutool.core.map.CaseInsensitiveMap;
 import cn.hutool.core.map.MapUtil;
+import cn.hutool.db.ds.pooled.DbConfig;
+import cn.hutool.db.ds.pooled.PooledDataSource;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * H2数据库单元测试
@@ -61,4 +68,116 @@ public class H2Test {
 		Entity a1=db.get("test","a",1);
 		Assert.assertEquals(Long.valueOf(111),a1.getLong("b"));
 	}
+
+	@Test
+	public void streamTest() throws SQLException {
+		final Db db = Db.use(DS_GROUP_NAME).setFetchSize(2);
+		try (Stream<Entity> stream = db.stream("select * from test where a > ? order by a", 1)) {
+			Assert.assertEquals(ListUtil.of(2, 3, 4), stream.map(entity -> entity.getInt("a")).collect(Collectors.toList()));
+		}
+
+		// 未读取完毕时关闭
+		try (Stream<Entity> stream = db.stream("select * from test order by a")) {
+			Assert.assertEquals(Integer.valueOf(1), stream.findFirst().map(entity -> entity.getInt("a")).orElse(null));
+		}
+		Assert.assertEquals(4, db.query("select * from test").size());
+	}
+
+	@Test
+	public void forEachTest() throws SQLException {
+		final AtomicInteger sum = new AtomicInteger();
+		Db.use(DS_GROUP_NAME).forEach("select a from test", entity -> sum.addAndGet(entity.getInt("a")));
+		Assert.assertEquals(10, sum.get());
+	}
+
+	@Test
+	public void streamCloseInOtherThreadTest() throws Exception {
+		final DbConfig config = new DbConfig("jdbc:h2:mem:h2_stream;DB_CLOSE_DELAY=-1", "sa", "");
+		config.setMaxActive(2);
+		final PooledDataSource ds = new PooledDataSource(config);
+		final Db db = Db.use(ds);
+		db.execute("CREATE TABLE stream_test(a INTEGER)");
+		for (int i = 0; i < 4; i++) {
+			db.insert(Entity.create("stream_test").set("a", i));
+		}
+
+		// 在其它线程中关闭，连接归还到池中
+		final Stream<Entity> stream = db.stream("select * from stream_test order by a");
+		Assert.assertEquals(Integer.valueOf(0), stream.findFirst().map(entity -> entity.getInt("a")).orElse(null));
+		Assert.assertEquals(1, ds.getActiveCount());
+		final Thread thread = new Thread(stream::close);
+		thread.start();
+		thread.join();
+		Assert.assertEquals(0, ds.getActiveCount());
+
+		// 遍历中嵌套查询使用另一个连接，不会关闭遍历中的连接
+		final AtomicInteger sum = new AtomicInteger();
+		db.forEach("select a from stream_test", entity -> sum.addAndGet((int) db.count(Entity.create("stream_test").set("a", entity.getInt("a")))));
+		Assert.assertEquals(4, sum.get());
+		Assert.assertEquals(0, ds.getActiveCount());
+		ds.close();
+	}
+
+	@Test
+	public void queryBeanTest() throws SQLException {
+		final List<TestBean> beans = Db.use(DS_GROUP_NAME).query("select a, b from test where a > ? order by a", TestBean.class, 1);
+		Assert.assertEquals(3, beans.size());
+		Assert.assertEquals(2L, beans.get(0).getA());
+		Assert.assertEquals(Integer.valueOf(21), beans.get(0).getB());
+
+		// 空值：原始类型赋默认值，包装类型为null
+		final List<TestBean> nullBeans = Db.use(DS_GROUP_NAME).query("select cast(null as integer) as a, cast(null as bigint) as b from test", TestBean.class);
+		Assert.assertEquals(0L, nullBeans.get(0).getA());
+		Assert.assertNull(nullBeans.get(0).getB());
+	}
+
+	@Test
+	public void bulkInsertTest() throws SQLException {
+		final Db db = Db.use(DS_GROUP_NAME);
+		db.execute("CREATE TABLE bulk_test(id INTEGER PRIMARY KEY, name VARCHAR(32))");
+
+		final List<Entity> records = new ArrayList<>();
+		for (int i = 0; i < 25; i++) {
+			records.add(Entity.create().set("id", i).set("name", "name" + i));
+		}
+		final AtomicInteger chunks = new AtomicInteger();
+		final BulkResult result = db.bulkInsert("bulk_test", records, BulkOptions.create()
+				.setChunkSize(10).setRowsPerStatement(4).setProgressListener(r -> chunks.incrementAndGet()));
+		Assert.assertEquals(25, result.getRowCount());
+		Assert.assertEquals(3, result.getChunkCount());
+		Assert.assertEquals(3, chunks.get());
+		Assert.assertEquals(25, db.count(Entity.create("bulk_test")));
+		// 传入的记录不被修改
+		Assert.assertNull(records.get(0).getTableName());
+
+		// upsert
+		final List<Entity> updates = new ArrayList<>();
+		for (int i = 20; i < 30; i++) {
+			updates.add(Entity.create().set("id", i).set("name", "new" + i));
+		}
+		db.bulkInsert("bulk_test", updates, BulkOptions.create().setUpsertKeys("id"));
+		Assert.assertEquals(30, db.count(Entity.create("bulk_test")));
+		Assert.assertEquals("new20", db.get("bulk_test", "id", 20).getStr("name"));
+	}
+
+	public static class TestBean {
+		private long a;
+		private Integer b;
+
+		public long getA() {
+			return a;
+		}
+
+		public void setA(long a) {
+			this.a = a;
+		}
+
+		public Integer getB() {
+			return b;
+		}
+
+		public void setB(Integer b) {
+			this.b = b;
+		}
+	}
 }
@@ -0,0 +1,177 @@
+package cn.hutool.db.ds;
+
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.db.ds.pooled.DbConfig;
+import cn.hutool.db.ds.pooled.PooledDataSource;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 池化数据源测试
+ *
+ * @author looly
+ */
+public class PooledDataSourceTest {
+
+	private static DbConfig createConfig(int maxActive) {
+		final DbConfig config = new DbConfig("jdbc:h2:mem:pooled_hutool", "sa", "");
+		config.setMaxActive(maxActive);
+		config.setMaxWait(5000);
+		return config;
+	}
+
+	@Test
+	public void concurrentBorrowTest() throws InterruptedException {
+		final PooledDataSource ds = new PooledDataSource(createConfig(4));
+		final int threadCount = 32;
+		final AtomicInteger inUse = new AtomicInteger();
+		final AtomicInteger maxInUse = new AtomicInteger();
+		final AtomicInteger errors = new AtomicInteger();
+
+		final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		final CountDownLatch latch = new CountDownLatch(threadCount);
+		for (int i = 0; i < threadCount; i++) {
+			executor.execute(() -> {
+				for (int j = 0; j < 100; j++) {
+					try (Connection conn = ds.getConnection()) {
+						maxInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+						Assert.assertFalse(conn.isClosed());
+						inUse.decrementAndGet();
+					} catch (Exception e) {
+						errors.incrementAndGet();
+					}
+				}
+				latch.countDown();
+			});
+		}
+		latch.await();
+		executor.shutdown();
+
+		Assert.assertEquals(0, errors.get());
+		Assert.assertTrue(maxInUse.get() <= 4);
+		Assert.assertTrue(ds.getTotalCount() <= 4);
+		Assert.assertEquals(0, ds.getActiveCount());
+		Assert.assertEquals(threadCount * 100, ds.getBorrowCount());
+		ds.close();
+	}
+
+	@Test
+	public void waitTimeoutTest() throws SQLException {
+		final PooledDataSource ds = new PooledDataSource(createConfig(1));
+		final Connection conn = ds.getConnection();
+		Assert.assertEquals(1, ds.getActiveCount());
+		Assert.assertThrows(SQLException.class, () -> ds.getConnection(100));
+
+		// 归还的连接直接交给等待的线程
+		ThreadUtil.execute(() -> {
+			ThreadUtil.sleep(100);
+			try {
+				conn.close();
+			} catch (SQLException e) {
+				throw new RuntimeException(e);
+			}
+		});
+		final Connection handoff = ds.getConnection(3000);
+		// 同一个池中连接，每次借出的句柄不同
+		Assert.assertEquals(1, ds.getTotalCount());
+		Assert.assertNotSame(conn, handoff);
+		Assert.assertTrue(conn.isClosed());
+		Assert.assertFalse(handoff.isClosed());
+		handoff.close();
+		Assert.assertEquals(1, ds.getIdleCount());
+		ds.close();
+	}
+
+	@Test
+	public void staleCloseTest() throws SQLException {
+		final PooledDataSource ds = new PooledDataSource(createConfig(1));
+		final Connection first = ds.getConnection();
+		first.close();
+		final Connection second = ds.getConnection();
+
+		// 旧借用者重复关闭，不能归还新借用者正在使用的连接
+		first.close();
+		Assert.assertTrue(first.isClosed());
+		Assert.assertFalse(second.isClosed());
+		Assert.assertEquals(1, ds.getActiveCount());
+		Assert.assertThrows(SQLException.class, () -> first.prepareStatement("select 1"));
+
+		second.close();
+		Assert.assertEquals(0, ds.getActiveCount());
+		Assert.assertEquals(1, ds.getIdleCount());
+		ds.close();
+	}
+
+	@Test
+	public void statementCacheTest() throws SQLException {
+		final DbConfig config = createConfig(1);
+		config.setPreparedStatementCacheSize(2);
+		final PooledDataSource ds = new PooledDataSource(config);
+		try (Connection conn = ds.getConnection()) {
+			final PreparedStatement ps = conn.prepareStatement("select 1");
+			final ResultSet rs = ps.executeQuery();
+			ps.close();
+			// 结果集随语句关闭，语句放回缓存后复用
+			Assert.assertTrue(rs.isClosed());
+			final PreparedStatement reused = conn.prepareStatement("select 1");
+			Assert.assertSame(ps, reused);
+
+			// 相同SQL的语句同时打开时，创建不缓存的新语句
+			final PreparedStatement other = conn.prepareStatement("select 1");
+			Assert.assertNotSame(reused, other);
+			final PreparedStatement otherRaw = other.unwrap(PreparedStatement.class);
+			other.close();
+			Assert.assertTrue(otherRaw.isClosed());
+			reused.close();
+			Assert.assertFalse(reused.unwrap(PreparedStatement.class).isClosed());
+
+			// 修改设置后关闭时实际关闭
+			final PreparedStatement dirty = conn.prepareStatement("select 1");
+			final PreparedStatement dirtyRaw = dirty.unwrap(PreparedStatement.class);
+			dirty.setLargeMaxRows(1);
+			dirty.close();
+			Assert.assertTrue(dirtyRaw.isClosed());
+
+			// 超出缓存数时淘汰最久未使用的语句并实际关闭
+			final PreparedStatement first = conn.prepareStatement("select 2");
+			final PreparedStatement firstRaw = first.unwrap(PreparedStatement.class);
+			first.close();
+			conn.prepareStatement("select 3").close();
+			Assert.assertFalse(firstRaw.isClosed());
+			conn.prepareStatement("select 4").close();
+			Assert.assertTrue(firstRaw.isClosed());
+		}
+		ds.close();
+	}
+
+	@Test
+	public void evictTest() throws SQLException {
+		final DbConfig config = createConfig(4);
+		config.setMinIdle(1);
+		config.setTimeBetweenEvictionRunsMillis(50);
+		config.setMinEvictableIdleTimeMillis(10);
+		final PooledDataSource ds = new PooledDataSource(config);
+
+		final Connection[] conns = new Connection[4];
+		for (int i = 0; i < conns.length; i++) {
+			conns[i] = ds.getConnection();
+		}
+		for (Connection conn : conns) {
+			conn.close();
+		}
+		Assert.assertEquals(4, ds.getTotalCount());
+
+		ThreadUtil.sleep(500);
+		Assert.assertEquals(1, ds.getTotalCount());
+		ds.close();
+	}
+}
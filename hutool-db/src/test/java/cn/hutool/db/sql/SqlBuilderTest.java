@@ -1,5 +1,6 @@
 package cn.hutool.db.sql;
 
+import cn.hutool.db.Entity;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -44,4 +45,44 @@ public class SqlBuilderTest {
 		String s1 = sqlBuilder.build();
 		Assert.assertEquals("SELECT id FROM user WHERE user LIKE '%123%'", s1);
 	}
+
+	@Test
+	public void insertMultiTest() {
+		final SqlBuilder builder = SqlBuilder.create().insertMulti(
+				Entity.create("user").set("id", 1).set("name", "a"),
+				Entity.create("user").set("name", "b").set("id", 2),
+				Entity.create("user").set("id", 3));
+		Assert.assertEquals("INSERT INTO user (id, name) VALUES (?, ?), (?, ?), (?, ?)", builder.build());
+		Assert.assertArrayEquals(new Object[]{1, "a", 2, "b", 3, null}, builder.getParamValueArray());
+	}
+
+	@Test
+	public void upsertMultiTest() {
+		final Entity[] entities = {Entity.create("user").set("id", 1).set("name", "a"), Entity.create("user").set("id", 2).set("name", "b")};
+		Assert.assertEquals("INSERT INTO `user` (`id`, `name`) VALUES (?, ?), (?, ?) ON DUPLICATE KEY UPDATE `id`=values(`id`), `name`=values(`name`)",
+				SqlBuilder.create(new Wrapper('`')).insertMulti(entities).onDuplicateKeyUpdate(entities[0]).build());
+		Assert.assertEquals("INSERT INTO user (id, name) VALUES (?, ?), (?, ?) ON CONFLICT (id) DO UPDATE SET id=EXCLUDED.id, name=EXCLUDED.name",
+				SqlBuilder.create().insertMulti(entities).onConflictUpdate(new String[]{"id"}, entities[0]).build());
+
+		final SqlBuilder merge = SqlBuilder.create().mergeMulti(new String[]{"id"}, entities);
+		Assert.assertEquals("MERGE INTO user (id, name) KEY(id) VALUES (?, ?), (?, ?)", merge.build());
+		Assert.assertArrayEquals(new Object[]{1, "a", 2, "b"}, merge.getParamValueArray());
+	}
+
+	@Test
+	public void insertCacheTest() {
+		final Wrapper wrapper = new Wrapper('`');
+		final SqlBuilder builder1 = SqlBuilder.create(wrapper).insert(Entity.create("user").set("id", 1).set("name", "a"));
+		final SqlBuilder builder2 = SqlBuilder.create(wrapper).insert(Entity.create("user").set("id", 2).set("name", "b"));
+		Assert.assertEquals("INSERT INTO `user` (`id`, `name`) VALUES (?, ?)", builder1.build());
+		Assert.assertEquals(builder1.build(), builder2.build());
+		Assert.assertArrayEquals(new Object[]{2, "b"}, builder2.getParamValueArray());
+
+		// 修改包装符号后不使用之前的缓存
+		wrapper.setPreWrapQuote('"');
+		wrapper.setSufWrapQuote('"');
+		final SqlBuilder builder3 = SqlBuilder.create(wrapper).update(Entity.create("user").set("id", 3).set("name", "c"));
+		Assert.assertEquals("UPDATE \"user\" SET \"id\" = ? , \"name\" = ? ", builder3.build());
+		Assert.assertArrayEquals(new Object[]{3, "c"}, builder3.getParamValueArray());
+	}
 }
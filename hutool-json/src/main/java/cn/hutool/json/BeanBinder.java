@@ -0,0 +1,485 @@
+package cn.hutool.json;
+
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.bean.PropDesc;
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.convert.ConverterRegistry;
+import cn.hutool.core.map.CaseInsensitiveMap;
+import cn.hutool.core.map.WeakConcurrentMap;
+import cn.hutool.core.util.ClassUtil;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.core.util.ReflectUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.core.util.TypeUtil;
+import cn.hutool.json.serialize.GlobalSerializeMapping;
+
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JSON到Bean的直接绑定器<br>
+ * 从{@link JSONTokener}读取JSON对象的键值对，直接注入到Bean的属性中，不再先构建{@link JSONObject}再转换：
+ * <ul>
+ *     <li>每个Bean类的键到属性的绑定计划（包括解析后的泛型字段类型）只计算一次并缓存</li>
+ *     <li>值为JSON对象且字段为普通Bean时，递归直接绑定</li>
+ *     <li>值为JSON数组且字段为元素是普通Bean的集合（如{@code List<User>}）时，元素直接绑定</li>
+ *     <li>其它值按照原有规则解析后使用{@link Convert}转换</li>
+ * </ul>
+ * 绑定规则（键匹配、驼峰名称查找、忽略null、忽略错误、transient）与{@link JSONObject#toBean(Type)}一致，
+ * 无法保证一致的类型（如自定义反序列化器、{@link JSONBeanParser}）不使用此绑定器。
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+final class BeanBinder {
+
+	/**
+	 * 缓存，Bean类 -&gt; (选项指纹 -&gt; 绑定计划)
+	 */
+	private static final WeakConcurrentMap<Class<?>, Map<Integer, BindPlan>> CACHE = new WeakConcurrentMap<>();
+	/**
+	 * 缓存，类 -&gt; 是否为普通Bean类
+	 */
+	private static final WeakConcurrentMap<Class<?>, Boolean> BEAN_CLASS_CACHE = new WeakConcurrentMap<>();
+
+	/**
+	 * 检查JSON字符串是否可以直接绑定到给定类型
+	 *
+	 * @param jsonStr  JSON字符串，已去除首尾空白
+	 * @param beanType Bean类型
+	 * @param config   JSON配置
+	 * @return 是否可以直接绑定
+	 */
+	static boolean isSupported(String jsonStr, Type beanType, JSONConfig config) {
+		// 检查重复键或按键排序时，JSONObject的行为依赖完整的键集合，交给JSONObject处理
+		return StrUtil.startWith(jsonStr, '{')
+				&& false == config.isCheckDuplicate()
+				&& null == config.getKeyComparator()
+				&& isBeanType(beanType);
+	}
+
+	/**
+	 * 将JSON字符串直接绑定为Bean，调用前需使用{@link #isSupported(String, Type, JSONConfig)}检查
+	 *
+	 * @param <T>       Bean类型
+	 * @param jsonStr   JSON字符串，已去除首尾空白
+	 * @param beanClass Bean类
+	 * @param config    JSON配置
+	 * @return Bean对象
+	 * @throws JSONException JSON语法错误
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> T bind(String jsonStr, Class<T> beanClass, JSONConfig config) throws JSONException {
+		final BeanBinder binder = new BeanBinder(new JSONTokener(jsonStr, config), config);
+		try {
+			return (T) binder.bindBean(beanClass, binder.beanOptions);
+		} catch (final StackOverflowError e) {
+			throw new JSONException("JSONObject depth too large to process.", e);
+		}
+	}
+
+	private final JSONTokener tokener;
+	private final JSONConfig config;
+	/**
+	 * JSON对象转Bean时使用的选项，来自JSONConfig
+	 */
+	private final Options beanOptions;
+	/**
+	 * 集合元素转Bean时使用的选项，与{@link cn.hutool.core.convert.impl.BeanConverter}默认选项一致
+	 */
+	private final Options elementOptions;
+
+	/**
+	 * 构造
+	 *
+	 * @param tokener {@link JSONTokener}
+	 * @param config  JSON配置
+	 */
+	private BeanBinder(JSONTokener tokener, JSONConfig config) {
+		this.tokener = tokener;
+		this.config = config;
+		this.beanOptions = new Options(config.isIgnoreCase(), config.isTransientSupport(),
+				config.isIgnoreNullValue(), config.isIgnoreError());
+		this.elementOptions = new Options(config.isIgnoreCase(), true, false, true);
+	}
+
+	/**
+	 * 读取JSON对象并绑定到新的Bean，逻辑与{@link JSONParser#parseTo(JSONObject, cn.hutool.core.lang.Filter)}一致
+	 *
+	 * @param beanClass Bean类
+	 * @param options   绑定选项
+	 * @return Bean对象
+	 */
+	private Object bindBean(Class<?> beanClass, Options options) {
+		final JSONTokener tokener = this.tokener;
+		if (tokener.nextClean() != '{') {
+			throw tokener.syntaxError("A JSONObject text must begin with '{'");
+		}
+
+		final BindPlan plan = BindPlan.get(beanClass, options);
+		final Object bean = ReflectUtil.newInstanceIfPossible(beanClass);
+		char prev;
+		char c;
+		String key;
+		while (true) {
+			prev = tokener.getPrevious();
+			c = tokener.nextClean();
+			switch (c) {
+				case 0:
+					throw tokener.syntaxError("A JSONObject text must end with '}'");
+				case '}':
+					return bean;
+				case '{':
+				case '[':
+					if (prev == '{') {
+						throw tokener.syntaxError("A JSONObject can not directly nest another JSONObject or JSONArray.");
+					}
+				default:
+					tokener.back();
+					key = tokener.nextValue().toString();
+			}
+
+			c = tokener.nextClean();
+			if (c != ':') {
+				throw tokener.syntaxError("Expected a ':' after a key");
+			}
+
+			bindProp(bean, plan.find(key), options);
+
+			switch (tokener.nextClean()) {
+				case ';':
+				case ',':
+					if (tokener.nextClean() == '}') {
+						// 尾后逗号
+						return bean;
+					}
+					tokener.back();
+					break;
+				case '}':
+					return bean;
+				default:
+					throw tokener.syntaxError("Expected a ',' or '}'");
+			}
+		}
+	}
+
+	/**
+	 * 读取值并注入到属性，逻辑与{@link cn.hutool.core.bean.copier.MapToBeanCopier}一致
+	 *
+	 * @param bean    Bean对象
+	 * @param binding 属性绑定，{@code null}表示无对应属性
+	 * @param options 绑定选项
+	 */
+	private void bindProp(Object bean, Binding binding, Options options) {
+		final JSONTokener tokener = this.tokener;
+		if (null == binding || false == binding.isWritable(options.transientSupport)) {
+			// 无对应属性或属性不可写，跳过值
+			tokener.nextValue();
+			return;
+		}
+
+		final char c = tokener.nextClean();
+		tokener.back();
+		Object value;
+		if ('{' == c && null != binding.beanClass && isBeanBindable(binding.beanClass)) {
+			value = bindBean(binding.beanClass, this.beanOptions);
+		} else if ('[' == c && null != binding.elementClass && isCollectionType(binding.fieldType, binding.elementClass)) {
+			value = bindCollection(binding.fieldType, binding.elementClass);
+		} else {
+			value = tokener.nextValue();
+			if (ObjectUtil.isNull(value) && config.isIgnoreNullValue()) {
+				// 与JSONObject一致，忽略null值时键不存在
+				return;
+			}
+			value = convert(binding.fieldType, JSONUtil.wrap(InternalJSONUtil.testValidity(value), config), options.ignoreError);
+		}
+		binding.desc.setValue(bean, value, options.ignoreNullValue, options.ignoreError, true);
+	}
+
+	/**
+	 * 读取JSON数组并绑定为集合，元素为JSON对象时直接绑定，其它元素按照{@link CollUtil#addAll(Collection, Object, Type)}规则转换
+	 *
+	 * @param collectionType 集合类型
+	 * @param elementClass   元素类型
+	 * @return 集合，忽略错误且转换失败时返回{@code null}
+	 */
+	private Collection<Object> bindCollection(Type collectionType, Class<?> elementClass) {
+		final JSONTokener x = this.tokener;
+		if (x.nextClean() != '[') {
+			throw x.syntaxError("A JSONArray text must start with '['");
+		}
+
+		@SuppressWarnings("unchecked")
+		final Collection<Object> collection = (Collection<Object>) CollUtil.create(TypeUtil.getClass(collectionType), elementClass);
+		RuntimeException error = null;
+		if (x.nextClean() != ']') {
+			x.back();
+			for (; ; ) {
+				if (x.nextClean() == ',') {
+					x.back();
+					collection.add(null);
+				} else {
+					x.back();
+					if ('{' == x.nextClean()) {
+						x.back();
+						collection.add(bindBean(elementClass, this.elementOptions));
+					} else {
+						x.back();
+						try {
+							collection.add(ConverterRegistry.getInstance().convert(elementClass, x.nextValue()));
+						} catch (final RuntimeException e) {
+							// 继续读取剩余元素，保证后续内容可以正常解析
+							error = e;
+						}
+					}
+				}
+				final char c = x.nextClean();
+				if (',' == c) {
+					if (x.nextClean() == ']') {
+						break;
+					}
+					x.back();
+				} else if (']' == c) {
+					break;
+				} else {
+					throw x.syntaxError("Expected a ',' or ']'");
+				}
+			}
+		}
+
+		if (null != error) {
+			if (false == config.isIgnoreError()) {
+				throw error;
+			}
+			return null;
+		}
+		return collection;
+	}
+
+	/**
+	 * 转换值，与{@link cn.hutool.core.bean.copier.CopyOptions}默认转换器一致
+	 *
+	 * @param type        目标类型
+	 * @param value       值
+	 * @param ignoreError 是否忽略错误
+	 * @return 转换后的值
+	 */
+	private static Object convert(Type type, Object value, boolean ignoreError) {
+		if (null == value) {
+			return null;
+		}
+		if (value instanceof JSONObject || value instanceof JSONArray) {
+			return ((JSON) value).toBean(ObjectUtil.defaultIfNull(type, Object.class));
+		}
+		return Convert.convertWithCheck(type, value, null, ignoreError);
+	}
+
+	// ------------------------------------------------------------------------------ type check
+
+	/**
+	 * 是否为可直接绑定的Bean类型，与{@link JSONConverter}中JSONObject转Bean的条件一致
+	 *
+	 * @param type 类型
+	 * @return 是否可直接绑定
+	 */
+	private static boolean isBeanType(Type type) {
+		if (false == type instanceof Class) {
+			return false;
+		}
+		final Class<?> clazz = (Class<?>) type;
+		return isBeanClass(clazz)
+				&& false == JSONBeanParser.class.isAssignableFrom(clazz)
+				&& isBeanBindable(clazz);
+	}
+
+	/**
+	 * Bean类是否可直接绑定，注册了自定义反序列化器或自定义转换器时按照原有规则转换
+	 *
+	 * @param beanClass Bean类
+	 * @return 是否可直接绑定
+	 */
+	private static boolean isBeanBindable(Class<?> beanClass) {
+		return null == GlobalSerializeMapping.getDeserializer(beanClass)
+				&& null == ConverterRegistry.getInstance().getCustomConverter(beanClass);
+	}
+
+	/**
+	 * 是否为可直接绑定的集合类型，与{@link ConverterRegistry}中JSONArray转集合的条件一致
+	 *
+	 * @param collectionType 集合类型
+	 * @param elementClass   元素类型
+	 * @return 是否可直接绑定
+	 */
+	private static boolean isCollectionType(Type collectionType, Class<?> elementClass) {
+		final ConverterRegistry registry = ConverterRegistry.getInstance();
+		return null == GlobalSerializeMapping.getDeserializer(collectionType)
+				&& null == registry.getCustomConverter(collectionType)
+				&& null == registry.getCustomConverter(elementClass)
+				&& null == registry.getDefaultConverter(elementClass);
+	}
+
+	/**
+	 * 是否为普通Bean类，即可实例化、有setter且非JDK、集合、Map类，结果缓存
+	 *
+	 * @param clazz 类
+	 * @return 是否为普通Bean类
+	 */
+	private static boolean isBeanClass(Class<?> clazz) {
+		return BEAN_CLASS_CACHE.computeIfAbsent(clazz, (key) -> false == key.isInterface()
+				&& false == Modifier.isAbstract(key.getModifiers())
+				&& false == key.isArray()
+				&& false == key.isEnum()
+				&& false == key.isPrimitive()
+				&& false == ClassUtil.isJdkClass(key)
+				&& false == Map.class.isAssignableFrom(key)
+				&& false == Map.Entry.class.isAssignableFrom(key)
+				&& false == Collection.class.isAssignableFrom(key)
+				&& BeanUtil.hasSetter(key)
+				&& null != ReflectUtil.getConstructor(key));
+	}
+
+	// ------------------------------------------------------------------------------ inner class
+
+	/**
+	 * 绑定选项
+	 */
+	private static class Options {
+		private final boolean ignoreCase;
+		private final boolean transientSupport;
+		private final boolean ignoreNullValue;
+		private final boolean ignoreError;
+
+		Options(boolean ignoreCase, boolean transientSupport, boolean ignoreNullValue, boolean ignoreError) {
+			this.ignoreCase = ignoreCase;
+			this.transientSupport = transientSupport;
+			this.ignoreNullValue = ignoreNullValue;
+			this.ignoreError = ignoreError;
+		}
+	}
+
+	/**
+	 * Bean类的绑定计划，JSON键 -&gt; 属性绑定
+	 */
+	private static class BindPlan {
+
+		/**
+		 * 获取绑定计划
+		 *
+		 * @param beanClass Bean类
+		 * @param options   绑定选项，只有ignoreCase影响计划
+		 * @return 绑定计划
+		 */
+		static BindPlan get(Class<?> beanClass, Options options) {
+			return CACHE.computeIfAbsent(beanClass, (key) -> new ConcurrentHashMap<>())
+					.computeIfAbsent(options.ignoreCase ? 1 : 0, (key) -> new BindPlan(beanClass, options.ignoreCase));
+		}
+
+		private final Map<String, Binding> bindings;
+
+		/**
+		 * 构造
+		 *
+		 * @param beanClass  Bean类
+		 * @param ignoreCase 是否忽略键的大小写
+		 */
+		BindPlan(Class<?> beanClass, boolean ignoreCase) {
+			final Map<String, PropDesc> propMap = BeanUtil.getBeanDesc(beanClass).getPropMap(ignoreCase);
+			final Map<String, Binding> bindings = ignoreCase ? new CaseInsensitiveMap<>(propMap.size(), 1) : new HashMap<>(propMap.size(), 1);
+			propMap.forEach((name, desc) -> bindings.put(name, new Binding(beanClass, desc)));
+			this.bindings = bindings;
+		}
+
+		/**
+		 * 查找键对应的属性绑定，尝试原名称和转驼峰名称
+		 *
+		 * @param key 键
+		 * @return 属性绑定，无对应属性返回{@code null}
+		 */
+		Binding find(String key) {
+			final Binding binding = bindings.get(key);
+			if (null != binding) {
+				return binding;
+			}
+			return bindings.get(StrUtil.toCamelCase(key));
+		}
+	}
+
+	/**
+	 * 属性绑定
+	 */
+	private static class Binding {
+		private final PropDesc desc;
+		private final boolean writable;
+		private final boolean writableWithTransient;
+		/**
+		 * 解析泛型后的字段类型
+		 */
+		private final Type fieldType;
+		/**
+		 * 字段为普通Bean时的Bean类，否则为{@code null}
+		 */
+		private final Class<?> beanClass;
+		/**
+		 * 字段为元素是普通Bean的集合时的元素类型，否则为{@code null}
+		 */
+		private final Class<?> elementClass;
+
+		Binding(Class<?> beanClass, PropDesc desc) {
+			this.desc = desc;
+			this.writable = desc.isWritable(false);
+			this.writableWithTransient = desc.isWritable(true);
+			this.fieldType = TypeUtil.getActualType(beanClass, desc.getFieldType());
+			this.beanClass = isBeanField(fieldType) ? (Class<?>) fieldType : null;
+			this.elementClass = getElementClass(fieldType);
+		}
+
+		/**
+		 * 属性是否可写
+		 *
+		 * @param transientSupport 是否检查transient
+		 * @return 是否可写
+		 */
+		boolean isWritable(boolean transientSupport) {
+			return transientSupport ? writableWithTransient : writable;
+		}
+
+		/**
+		 * 字段是否为可直接绑定的普通Bean，自定义反序列化器和自定义转换器在绑定时检查
+		 *
+		 * @param fieldType 字段类型
+		 * @return 是否为普通Bean
+		 */
+		private static boolean isBeanField(Type fieldType) {
+			return fieldType instanceof Class
+					&& isBeanClass((Class<?>) fieldType)
+					&& false == JSONBeanParser.class.isAssignableFrom((Class<?>) fieldType);
+		}
+
+		/**
+		 * 获取集合字段的Bean元素类型
+		 *
+		 * @param fieldType 字段类型
+		 * @return 元素类型，非集合或元素非普通Bean返回{@code null}
+		 */
+		private static Class<?> getElementClass(Type fieldType) {
+			if (false == fieldType instanceof ParameterizedType) {
+				return null;
+			}
+			final Class<?> rawClass = TypeUtil.getClass(fieldType);
+			if (null == rawClass || false == Collection.class.isAssignableFrom(rawClass)) {
+				return null;
+			}
+			final Type elementType = TypeUtil.getTypeArgument(fieldType);
+			if (elementType instanceof Class && isBeanClass((Class<?>) elementType)) {
+				return (Class<?>) elementType;
+			}
+			return null;
+		}
+	}
+}
@@ -120,6 +120,14 @@ public class JSONConverter implements Converter<JSON> {
 				return (T) deserializer.deserialize((JSON) value);
 			}
 
+			// 与Convert一致，目标Bean类型注册了自定义转换器时优先使用
+			if(targetType instanceof Class && false == JSON.class.isAssignableFrom((Class<?>) targetType)) {
+				final Converter<T> customConverter = ConverterRegistry.getInstance().getCustomConverter(targetType);
+				if(null != customConverter) {
+					return customConverter.convertWithCheck(value, null, ignoreError);
+				}
+			}
+
 			// issue#2212@Github
 			// 在JSONObject转Bean时，读取JSONObject本身的配置文件
 			if(value instanceof JSONGetter
@@ -0,0 +1,475 @@
+package cn.hutool.json;
+
+import cn.hutool.core.io.IoUtil;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * JSON流式读取器（拉模式），逐个读取JSON中的名称和值，而不是一次性构建完整的{@link JSONObject}或{@link JSONArray}<br>
+ * 读取过程中只保留当前的嵌套层级，因此可以使用固定的内存遍历很大的JSON文档，例如：
+ * <pre>
+ * try (JSONReader reader = JSONReader.of(FileUtil.getUtf8Reader(file))) {
+ *     reader.beginArray();
+ *     while (reader.hasNext()) {
+ *         // 每次只将一个元素转换为Bean
+ *         User user = reader.nextValue(User.class);
+ *     }
+ *     reader.endArray();
+ * }
+ * </pre>
+ * 对于对象或数组值，可以继续使用{@link #beginObject()}、{@link #beginArray()}逐层读取，
+ * 也可以调用{@link #nextValue()}将整个值读取为{@link JSONObject}或{@link JSONArray}。
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+public class JSONReader implements Closeable {
+
+	/**
+	 * JSON中的标记类型
+	 */
+	public enum Token {
+		/**
+		 * 对象开始，即{@code {}
+		 */
+		BEGIN_OBJECT,
+		/**
+		 * 对象结束，即{@code }}
+		 */
+		END_OBJECT,
+		/**
+		 * 数组开始，即{@code [}
+		 */
+		BEGIN_ARRAY,
+		/**
+		 * 数组结束，即{@code ]}
+		 */
+		END_ARRAY,
+		/**
+		 * 对象中的键
+		 */
+		NAME,
+		/**
+		 * 字符串、数字、布尔或null值
+		 */
+		VALUE,
+		/**
+		 * 文档结束
+		 */
+		END_DOCUMENT
+	}
+
+	// ---------------------------------------------------------------- 嵌套层级状态
+	/** 空数组，尚未读取元素 */
+	private static final int EMPTY_ARRAY = 1;
+	/** 已读取至少一个元素的数组 */
+	private static final int NONEMPTY_ARRAY = 2;
+	/** 空对象，尚未读取键 */
+	private static final int EMPTY_OBJECT = 3;
+	/** 已读取键，等待读取值 */
+	private static final int DANGLING_NAME = 4;
+	/** 已读取至少一个键值对的对象 */
+	private static final int NONEMPTY_OBJECT = 5;
+	/** 文档开始 */
+	private static final int EMPTY_DOCUMENT = 6;
+	/** 已读取顶层值 */
+	private static final int NONEMPTY_DOCUMENT = 7;
+
+	private final JSONTokener tokener;
+	private final Reader reader;
+	private final JSONConfig config;
+
+	/**
+	 * 嵌套层级栈
+	 */
+	private int[] stack = new int[32];
+	private int stackSize;
+	/**
+	 * 已预读的标记，{@code null}表示未预读
+	 */
+	private Token peeked;
+
+	/**
+	 * 创建JSONReader，使用默认配置
+	 *
+	 * @param reader {@link Reader}
+	 * @return JSONReader
+	 */
+	public static JSONReader of(Reader reader) {
+		return new JSONReader(reader, JSONConfig.create());
+	}
+
+	/**
+	 * 创建JSONReader，使用UTF-8编码读取流
+	 *
+	 * @param in     {@link InputStream}
+	 * @param config JSON配置
+	 * @return JSONReader
+	 */
+	public static JSONReader of(InputStream in, JSONConfig config) {
+		return new JSONReader(IoUtil.getUtf8Reader(in), config);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param reader {@link Reader}
+	 * @param config JSON配置，用于值的解析和转换
+	 */
+	public JSONReader(Reader reader, JSONConfig config) {
+		this.reader = reader;
+		this.config = null == config ? JSONConfig.create() : config;
+		this.tokener = new JSONTokener(reader, this.config);
+		this.stack[stackSize++] = EMPTY_DOCUMENT;
+	}
+
+	/**
+	 * 获取JSON配置
+	 *
+	 * @return JSON配置
+	 */
+	public JSONConfig getConfig() {
+		return this.config;
+	}
+
+	/**
+	 * 读取对象开始标记{@code {}，之后可以使用{@link #nextName()}读取键
+	 *
+	 * @throws JSONException 下一个标记不是对象开始
+	 */
+	public void beginObject() throws JSONException {
+		expect(Token.BEGIN_OBJECT);
+		push(EMPTY_OBJECT);
+		peeked = null;
+	}
+
+	/**
+	 * 读取对象结束标记{@code }}
+	 *
+	 * @throws JSONException 下一个标记不是对象结束
+	 */
+	public void endObject() throws JSONException {
+		expect(Token.END_OBJECT);
+		stackSize--;
+		peeked = null;
+	}
+
+	/**
+	 * 读取数组开始标记{@code [}，之后可以使用{@link #hasNext()}判断是否还有元素
+	 *
+	 * @throws JSONException 下一个标记不是数组开始
+	 */
+	public void beginArray() throws JSONException {
+		expect(Token.BEGIN_ARRAY);
+		push(EMPTY_ARRAY);
+		peeked = null;
+	}
+
+	/**
+	 * 读取数组结束标记{@code ]}
+	 *
+	 * @throws JSONException 下一个标记不是数组结束
+	 */
+	public void endArray() throws JSONException {
+		expect(Token.END_ARRAY);
+		stackSize--;
+		peeked = null;
+	}
+
+	/**
+	 * 当前对象或数组中是否还有元素
+	 *
+	 * @return 是否还有元素
+	 * @throws JSONException 语法错误
+	 */
+	public boolean hasNext() throws JSONException {
+		final Token token = peek();
+		return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+	}
+
+	/**
+	 * 预读下一个标记的类型，不消费此标记
+	 *
+	 * @return 标记类型
+	 * @throws JSONException 语法错误
+	 */
+	public Token peek() throws JSONException {
+		if (null == peeked) {
+			peeked = doPeek();
+		}
+		return peeked;
+	}
+
+	/**
+	 * 读取对象中的下一个键
+	 *
+	 * @return 键
+	 * @throws JSONException 下一个标记不是键
+	 */
+	public String nextName() throws JSONException {
+		expect(Token.NAME);
+		peeked = null;
+		final char c = tokener.nextClean();
+		if (c == '"' || c == '\'') {
+			return tokener.nextString(c);
+		}
+		if (c == '{' || c == '[') {
+			throw tokener.syntaxError("A JSONObject can not directly nest another JSONObject or JSONArray.");
+		}
+		// 兼容不带引号的键
+		tokener.back();
+		return tokener.nextValue().toString();
+	}
+
+	/**
+	 * 读取下一个值，值类型可以是String、Number、Boolean、{@link JSONNull}，<br>
+	 * 如果下一个值是对象或数组，则完整读取为{@link JSONObject}或{@link JSONArray}
+	 *
+	 * @return 值
+	 * @throws JSONException 下一个标记不是值
+	 */
+	public Object nextValue() throws JSONException {
+		final Token token = peek();
+		switch (token) {
+			case BEGIN_OBJECT:
+			case BEGIN_ARRAY:
+				// 预读时已消费'{'或'['，回退后完整解析
+				tokener.back();
+				// 此处不能break，继续读取值
+			case VALUE:
+				peeked = null;
+				return tokener.nextValue();
+			default:
+				throw tokener.syntaxError("Expected a value but was " + token);
+		}
+	}
+
+	/**
+	 * 读取下一个值并转换为指定类型
+	 *
+	 * @param <T>  值类型
+	 * @param type 值类型
+	 * @return 值
+	 * @throws JSONException 下一个标记不是值
+	 */
+	public <T> T nextValue(Type type) throws JSONException {
+		return JSONConverter.jsonConvert(type, nextValue(), this.config);
+	}
+
+	/**
+	 * 跳过下一个值，如果值为对象或数组，逐层跳过而不构建{@link JSONObject}或{@link JSONArray}
+	 *
+	 * @throws JSONException 语法错误
+	 */
+	public void skipValue() throws JSONException {
+		int depth = 0;
+		do {
+			switch (peek()) {
+				case BEGIN_OBJECT:
+					beginObject();
+					depth++;
+					break;
+				case BEGIN_ARRAY:
+					beginArray();
+					depth++;
+					break;
+				case END_OBJECT:
+					endObject();
+					depth--;
+					break;
+				case END_ARRAY:
+					endArray();
+					depth--;
+					break;
+				case NAME:
+					nextName();
+					break;
+				case VALUE:
+					nextValue();
+					break;
+				default:
+					return;
+			}
+		} while (depth > 0);
+	}
+
+	/**
+	 * 迭代下一个数组中的元素，每次迭代只读取并转换一个元素<br>
+	 * 迭代器在首次调用{@link Iterator#hasNext()}时读取数组开始标记，遍历结束时读取数组结束标记。
+	 *
+	 * @param <T>         元素类型
+	 * @param elementType 元素类型
+	 * @return 元素迭代器
+	 */
+	public <T> Iterator<T> arrayElements(Type elementType) {
+		return new ArrayElementIter<>(elementType);
+	}
+
+	@Override
+	public void close() throws IOException {
+		peeked = Token.END_DOCUMENT;
+		stackSize = 0;
+		this.reader.close();
+	}
+
+	@Override
+	public String toString() {
+		return "JSONReader" + tokener;
+	}
+
+	// ---------------------------------------------------------------- private method start
+
+	/**
+	 * 根据当前嵌套层级状态读取分隔符，并判断下一个标记
+	 *
+	 * @return 标记类型
+	 */
+	private Token doPeek() {
+		final int scope = stack[stackSize - 1];
+		char c;
+		switch (scope) {
+			case EMPTY_ARRAY:
+				stack[stackSize - 1] = NONEMPTY_ARRAY;
+				if (tokener.nextClean() == ']') {
+					return Token.END_ARRAY;
+				}
+				tokener.back();
+				break;
+			case NONEMPTY_ARRAY:
+				c = tokener.nextClean();
+				if (c == ']') {
+					return Token.END_ARRAY;
+				} else if (c != ',') {
+					throw tokener.syntaxError("Expected a ',' or ']'");
+				}
+				// 尾后逗号兼容，见JSONParser
+				if (tokener.nextClean() == ']') {
+					return Token.END_ARRAY;
+				}
+				tokener.back();
+				break;
+			case EMPTY_OBJECT:
+			case NONEMPTY_OBJECT:
+				if (scope == NONEMPTY_OBJECT) {
+					c = tokener.nextClean();
+					if (c == '}') {
+						return Token.END_OBJECT;
+					} else if (c != ',' && c != ';') {
+						throw tokener.syntaxError("Expected a ',' or '}'");
+					}
+				}
+				c = tokener.nextClean();
+				if (c == '}') {
+					return Token.END_OBJECT;
+				} else if (c == 0) {
+					throw tokener.syntaxError("A JSONObject text must end with '}'");
+				}
+				tokener.back();
+				stack[stackSize - 1] = DANGLING_NAME;
+				return Token.NAME;
+			case DANGLING_NAME:
+				if (tokener.nextClean() != ':') {
+					throw tokener.syntaxError("Expected a ':' after a key");
+				}
+				stack[stackSize - 1] = NONEMPTY_OBJECT;
+				break;
+			case EMPTY_DOCUMENT:
+				stack[stackSize - 1] = NONEMPTY_DOCUMENT;
+				break;
+			case NONEMPTY_DOCUMENT:
+				if (tokener.nextClean() == 0) {
+					return Token.END_DOCUMENT;
+				}
+				throw tokener.syntaxError("Expected end of document");
+			default:
+				throw new JSONException("JSONReader is closed.");
+		}
+
+		// 读取值
+		c = tokener.nextClean();
+		switch (c) {
+			case '{':
+				return Token.BEGIN_OBJECT;
+			case '[':
+				return Token.BEGIN_ARRAY;
+			case 0:
+				throw tokener.syntaxError("Unexpected end of document");
+			default:
+				tokener.back();
+				return Token.VALUE;
+		}
+	}
+
+	/**
+	 * 检查下一个标记类型
+	 *
+	 * @param expected 期望的标记类型
+	 */
+	private void expect(Token expected) {
+		final Token token = peek();
+		if (token != expected) {
+			throw tokener.syntaxError("Expected " + expected + " but was " + token);
+		}
+	}
+
+	/**
+	 * 进入新的嵌套层级
+	 *
+	 * @param scope 层级状态
+	 */
+	private void push(int scope) {
+		if (stackSize == stack.length) {
+			stack = Arrays.copyOf(stack, stackSize * 2);
+		}
+		stack[stackSize++] = scope;
+	}
+	// ---------------------------------------------------------------- private method end
+
+	/**
+	 * 数组元素迭代器
+	 *
+	 * @param <T> 元素类型
+	 */
+	private class ArrayElementIter<T> implements Iterator<T> {
+		private final Type elementType;
+		/**
+		 * 0：未开始，1：迭代中，2：结束
+		 */
+		private int state;
+
+		ArrayElementIter(Type elementType) {
+			this.elementType = elementType;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (0 == state) {
+				beginArray();
+				state = 1;
+			}
+			if (1 == state) {
+				if (JSONReader.this.hasNext()) {
+					return true;
+				}
+				endArray();
+				state = 2;
+			}
+			return false;
+		}
+
+		@Override
+		public T next() {
+			if (false == hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return nextValue(elementType);
+		}
+	}
+}
@@ -1,16 +1,21 @@
 package cn.hutool.json;
 
 import cn.hutool.core.io.IoUtil;
-import cn.hutool.core.util.StrUtil;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
-import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 
 /**
- * JSON解析器，用于将JSON字符串解析为JSONObject或者JSONArray
+ * JSON解析器，用于将JSON字符串解析为JSONObject或者JSONArray<br>
+ * 对于字符串、char[]和UTF-8的byte[]输入，直接在字符数组上按下标读取，字符串按段批量拷贝，
+ * 行号和列号只在出现错误时计算。
  *
  * @author from JSON.org
  */
@@ -38,9 +43,17 @@ public class JSONTokener {
 	 */
 	private boolean usePrevious;
 	/**
-	 * 源
+	 * 源，使用字符数组时为{@code null}
 	 */
 	private final Reader reader;
+	/**
+	 * 字符数组源，使用Reader时为{@code null}
+	 */
+	private final char[] buffer;
+	/**
+	 * 字符数组源的长度
+	 */
+	private final int bufferLength;
 
 	/**
 	 * JSON配置
@@ -57,6 +70,8 @@ public class JSONTokener {
 	 */
 	public JSONTokener(Reader reader, JSONConfig config) {
 		this.reader = reader.markSupported() ? reader : new BufferedReader(reader);
+		this.buffer = null;
+		this.bufferLength = 0;
 		this.eof = false;
 		this.usePrevious = false;
 		this.previous = 0;
@@ -83,10 +98,93 @@ public class JSONTokener {
 	 * @param config JSON配置
 	 */
 	public JSONTokener(CharSequence s, JSONConfig config) {
-		this(new StringReader(StrUtil.str(s)), config);
+		this(toChars(s), config);
+	}
+
+	/**
+	 * 从UTF-8编码的byte[]中构建
+	 *
+	 * @param utf8Bytes UTF-8编码的JSON
+	 * @param config    JSON配置
+	 * @since 5.8.19
+	 */
+	public JSONTokener(byte[] utf8Bytes, JSONConfig config) {
+		this(decodeUtf8(utf8Bytes), config);
+	}
+
+	/**
+	 * 从字符数组中构建，解析过程中不修改也不复制此数组
+	 *
+	 * @param chars  JSON字符数组
+	 * @param config JSON配置
+	 * @since 5.8.19
+	 */
+	public JSONTokener(char[] chars, JSONConfig config) {
+		this(CharBuffer.wrap(chars), config);
+	}
+
+	/**
+	 * 从字符数组中构建，只读取从0到{@link CharBuffer#limit()}的字符
+	 *
+	 * @param chars  基于数组的{@link CharBuffer}
+	 * @param config JSON配置
+	 */
+	private JSONTokener(CharBuffer chars, JSONConfig config) {
+		this.reader = null;
+		this.buffer = chars.array();
+		this.bufferLength = chars.limit();
+		this.eof = false;
+		this.usePrevious = false;
+		this.previous = 0;
+		this.index = 0;
+		this.character = 1;
+		this.line = 1;
+		this.config = config;
 	}
 	// ------------------------------------------------------------------------------------ Constructor end
 
+	/**
+	 * 将字符序列复制到字符数组，只复制一次
+	 *
+	 * @param s 字符序列
+	 * @return 基于数组的{@link CharBuffer}
+	 */
+	private static CharBuffer toChars(CharSequence s) {
+		if (s instanceof String) {
+			return CharBuffer.wrap(((String) s).toCharArray());
+		}
+		final int length = s.length();
+		final char[] chars = new char[length];
+		if (s instanceof StringBuilder) {
+			((StringBuilder) s).getChars(0, length, chars, 0);
+		} else if (s instanceof StringBuffer) {
+			((StringBuffer) s).getChars(0, length, chars, 0);
+		} else {
+			for (int i = 0; i < length; i++) {
+				chars[i] = s.charAt(i);
+			}
+		}
+		return CharBuffer.wrap(chars);
+	}
+
+	/**
+	 * 将UTF-8编码的byte[]直接解码到字符数组，不创建中间的String<br>
+	 * UTF-8解码后的字符数不超过字节数，因此按字节数分配数组，非法的字节替换为U+FFFD
+	 *
+	 * @param utf8Bytes UTF-8编码的字节
+	 * @return 基于数组的{@link CharBuffer}，limit为实际字符数
+	 */
+	private static CharBuffer decodeUtf8(byte[] utf8Bytes) {
+		final CharBuffer out = CharBuffer.allocate(utf8Bytes.length);
+		final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		decoder.decode(ByteBuffer.wrap(utf8Bytes), out, true);
+		decoder.flush(out);
+		out.flip();
+		return out;
+	}
+
 	/**
 	 * 将标记回退到第一个字符，重新开始解析新的JSON
 	 */
@@ -128,6 +226,10 @@ public class JSONTokener {
 	 * @throws JSONException JSON异常，包装IO异常
 	 */
 	public char next() throws JSONException {
+		if (null != this.buffer) {
+			return nextFromBuffer();
+		}
+
 		int c;
 		if (this.usePrevious) {
 			this.usePrevious = false;
@@ -158,6 +260,26 @@ public class JSONTokener {
 		return this.previous;
 	}
 
+	/**
+	 * 从字符数组中获取下一个字符，回退时下标已减一，因此直接重新读取即可<br>
+	 * 行号和列号在{@link #toString()}时计算
+	 *
+	 * @return 下一个字符，0表示结尾
+	 */
+	private char nextFromBuffer() {
+		this.usePrevious = false;
+		final long i = this.index++;
+		char c = 0;
+		if (i < this.bufferLength) {
+			c = this.buffer[(int) i];
+		}
+		if (c == 0) {
+			this.eof = true;
+		}
+		this.previous = c;
+		return c;
+	}
+
 	/**
 	 * Get the last character read from the input or '\0' if nothing has been read yet.
 	 *
@@ -231,6 +353,10 @@ public class JSONTokener {
 	 * @throws JSONException 出现无结束的字符串时抛出此异常
 	 */
 	public String nextString(char quote) throws JSONException {
+		if (null != this.buffer && false == this.usePrevious) {
+			return nextStringFromBuffer(quote);
+		}
+
 		char c;
 		StringBuilder sb = new StringBuilder();
 		while (true) {
@@ -241,35 +367,7 @@ public class JSONTokener {
 				case '\r':
 					throw this.syntaxError("Unterminated string");
 				case '\\':// 转义符
-					c = this.next();
-					switch (c) {
-						case 'b':
-							sb.append('\b');
-							break;
-						case 't':
-							sb.append('\t');
-							break;
-						case 'n':
-							sb.append('\n');
-							break;
-						case 'f':
-							sb.append('\f');
-							break;
-						case 'r':
-							sb.append('\r');
-							break;
-						case 'u':// Unicode符
-							sb.append((char) Integer.parseInt(this.next(4), 16));
-							break;
-						case '"':
-						case '\'':
-						case '\\':
-						case '/':
-							sb.append(c);
-							break;
-						default:
-							throw this.syntaxError("Illegal escape.");
-					}
+					appendEscape(sb);
 					break;
 				default:
 					if (c == quote) {
@@ -280,6 +378,96 @@ public class JSONTokener {
 		}
 	}
 
+	/**
+	 * 从字符数组中读取字符串，批量查找下一个引号或转义符，中间的字符整段拷贝
+	 *
+	 * @param quote 字符引号
+	 * @return 截止到引号前的字符串
+	 * @throws JSONException 出现无结束的字符串时抛出此异常
+	 */
+	private String nextStringFromBuffer(char quote) throws JSONException {
+		final char[] buffer = this.buffer;
+		final int length = this.bufferLength;
+		StringBuilder sb = null;
+		int start = (int) this.index;
+		int i = start;
+		char c;
+		while (i < length) {
+			c = buffer[i];
+			if (c == quote) {
+				this.index = i + 1;
+				this.previous = c;
+				if (null == sb) {
+					return new String(buffer, start, i - start);
+				}
+				return sb.append(buffer, start, i - start).toString();
+			}
+			switch (c) {
+				case 0:
+				case '\n':
+				case '\r':
+					this.index = i + 1;
+					this.previous = c;
+					throw this.syntaxError("Unterminated string");
+				case '\\':// 转义符
+					if (null == sb) {
+						sb = new StringBuilder(i - start + 16);
+					}
+					sb.append(buffer, start, i - start);
+					this.index = i + 1;
+					this.previous = c;
+					appendEscape(sb);
+					start = (int) this.index;
+					i = start;
+					break;
+				default:
+					i++;
+			}
+		}
+		this.index = length + 1;
+		this.previous = 0;
+		this.eof = true;
+		throw this.syntaxError("Unterminated string");
+	}
+
+	/**
+	 * 读取转义符后的字符，并将转义后的字符加入{@link StringBuilder}
+	 *
+	 * @param sb {@link StringBuilder}
+	 * @throws JSONException 非法转义符
+	 */
+	private void appendEscape(StringBuilder sb) throws JSONException {
+		final char c = this.next();
+		switch (c) {
+			case 'b':
+				sb.append('\b');
+				break;
+			case 't':
+				sb.append('\t');
+				break;
+			case 'n':
+				sb.append('\n');
+				break;
+			case 'f':
+				sb.append('\f');
+				break;
+			case 'r':
+				sb.append('\r');
+				break;
+			case 'u':// Unicode符
+				sb.append((char) Integer.parseInt(this.next(4), 16));
+				break;
+			case '"':
+			case '\'':
+			case '\\':
+			case '/':
+				sb.append(c);
+				break;
+			default:
+				throw this.syntaxError("Illegal escape.");
+		}
+	}
+
 	/**
 	 * Get the text up but not including the specified character or the end of line, whichever comes first. <br>
 	 * 获得从当前位置直到分隔符（不包括分隔符）或行尾的的所有字符。
@@ -380,6 +568,19 @@ public class JSONTokener {
 	 */
 	public char skipTo(char to) throws JSONException {
 		char c;
+		if (null != this.buffer) {
+			final long startIndex = this.index;
+			do {
+				c = this.next();
+				if (c == 0) {
+					this.index = startIndex;
+					this.eof = false;
+					return c;
+				}
+			} while (c != to);
+			this.back();
+			return c;
+		}
 		try {
 			long startIndex = this.index;
 			long startCharacter = this.character;
@@ -457,6 +658,37 @@ public class JSONTokener {
 	 */
 	@Override
 	public String toString() {
+		if (null != this.buffer) {
+			computePosition();
+		}
 		return " at " + this.index + " [character " + this.character + " line " + this.line + "]";
 	}
+
+	/**
+	 * 字符数组源在读取时不记录行号和列号，此处按照{@link #next()}的规则从头计算到当前位置
+	 */
+	private void computePosition() {
+		final int end = (int) Math.min(this.index, this.bufferLength);
+		long line = 1;
+		long character = 1;
+		char previous = 0;
+		char c;
+		for (int i = 0; i < end; i++) {
+			c = this.buffer[i];
+			if (previous == '\r') {
+				line += 1;
+				character = c == '\n' ? 0 : 1;
+			} else if (c == '\n') {
+				line += 1;
+				character = 0;
+			} else {
+				character += 1;
+			}
+			previous = c;
+		}
+		// 超出结尾的部分视为读取了0字符
+		character += this.index - end;
+		this.line = line;
+		this.character = character;
+	}
 }
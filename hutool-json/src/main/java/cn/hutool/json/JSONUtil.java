@@ -10,6 +10,7 @@ import cn.hutool.core.util.ClassUtil;
 import cn.hutool.core.util.HexUtil;
 import cn.hutool.core.util.ObjectUtil;
 import cn.hutool.core.util.StrUtil;
+import cn.hutool.json.serialize.BeanWriter;
 import cn.hutool.json.serialize.GlobalSerializeMapping;
 import cn.hutool.json.serialize.JSONArraySerializer;
 import cn.hutool.json.serialize.JSONDeserializer;
@@ -17,6 +18,7 @@ import cn.hutool.json.serialize.JSONObjectSerializer;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Reader;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.lang.reflect.Type;
@@ -286,6 +288,21 @@ public class JSONUtil {
 	public static JSONArray readJSONArray(File file, Charset charset) throws IORuntimeException {
 		return parseArray(FileReader.create(file, charset).readString());
 	}
+
+	/**
+	 * 流式读取JSON数组中的元素，每次迭代只读取并转换一个元素，适用于遍历很大的JSON数组<br>
+	 * 迭代完毕后需调用者关闭{@link Reader}
+	 *
+	 * @param <T>         元素类型
+	 * @param reader      JSON数组的{@link Reader}
+	 * @param elementType 元素类型
+	 * @return 元素迭代器
+	 * @see JSONReader
+	 * @since 5.8.19
+	 */
+	public static <T> Iterator<T> readArrayElements(Reader reader, Class<T> elementType) {
+		return JSONReader.of(reader).arrayElements(elementType);
+	}
 	// -------------------------------------------------------------------- Read end
 
 	// -------------------------------------------------------------------- toString start
@@ -368,6 +385,11 @@ public class JSONUtil {
 		if (obj instanceof CharSequence) {
 			return StrUtil.str((CharSequence) obj);
 		}
+		final JSONConfig config = ObjectUtil.defaultIfNull(jsonConfig, JSONConfig::create);
+		if (BeanWriter.isSupported(obj, config)) {
+			// 普通Bean直接写出，不构建JSONObject
+			return BeanWriter.write(obj, new StringWriter(), 0, 0, config).toString();
+		}
 		return toJsonStr(parse(obj, jsonConfig));
 	}
 
@@ -380,6 +402,12 @@ public class JSONUtil {
 	 */
 	public static void toJsonStr(Object obj, Writer writer) {
 		if (null != obj) {
+			final JSONConfig config = JSONConfig.create();
+			if (BeanWriter.isSupported(obj, config)) {
+				// 普通Bean直接写出，不构建JSONObject
+				BeanWriter.write(obj, writer, 0, 0, config);
+				return;
+			}
 			toJsonStr(parse(obj), writer);
 		}
 	}
@@ -417,7 +445,8 @@ public class JSONUtil {
 	 * @since 3.1.2
 	 */
 	public static <T> T toBean(String jsonString, Class<T> beanClass) {
-		return toBean(parseObj(jsonString), beanClass);
+		// 与new JSONObject(String)一致，字符串默认不忽略null值
+		return toBean(jsonString, JSONConfig.create().setIgnoreNullValue(false), beanClass);
 	}
 
 	/**
@@ -432,6 +461,12 @@ public class JSONUtil {
 	 * @since 5.8.0
 	 */
 	public static <T> T toBean(String jsonString, JSONConfig config, Class<T> beanClass) {
+		config = ObjectUtil.defaultIfNull(config, JSONConfig::create);
+		final String jsonStr = StrUtil.trim(jsonString);
+		if (BeanBinder.isSupported(jsonStr, beanClass, config)) {
+			// 普通Bean直接从JSON字符串绑定，不构建JSONObject
+			return BeanBinder.bind(jsonStr, beanClass, config);
+		}
 		return toBean(parseObj(jsonString, config), beanClass);
 	}
 
@@ -471,8 +506,15 @@ public class JSONUtil {
 	 * @return 实体类对象
 	 * @since 4.3.2
 	 */
+	@SuppressWarnings("unchecked")
 	public static <T> T toBean(String jsonString, Type beanType, boolean ignoreError) {
-		final JSON json = parse(jsonString, JSONConfig.create().setIgnoreError(ignoreError));
+		final JSONConfig config = JSONConfig.create().setIgnoreError(ignoreError);
+		final String jsonStr = StrUtil.trim(jsonString);
+		if (BeanBinder.isSupported(jsonStr, beanType, config)) {
+			// 普通Bean直接从JSON字符串绑定，不构建JSONObject
+			return (T) BeanBinder.bind(jsonStr, (Class<?>) beanType, config);
+		}
+		final JSON json = parse(jsonString, config);
 		if(null == json){
 			return null;
 		}
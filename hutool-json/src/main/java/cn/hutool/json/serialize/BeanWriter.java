@@ -0,0 +1,372 @@
+package cn.hutool.json.serialize;
+
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.bean.PropDesc;
+import cn.hutool.core.collection.ArrayIter;
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.lang.mutable.MutablePair;
+import cn.hutool.core.map.WeakConcurrentMap;
+import cn.hutool.core.util.ArrayUtil;
+import cn.hutool.core.util.ClassUtil;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.json.JSON;
+import cn.hutool.json.JSONArray;
+import cn.hutool.json.JSONConfig;
+import cn.hutool.json.JSONException;
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.JSONString;
+import cn.hutool.json.JSONTokener;
+import cn.hutool.json.JSONUtil;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.sql.SQLException;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.ResourceBundle;
+
+/**
+ * Bean直接写出器<br>
+ * 将Bean的属性直接写出到{@link Writer}，不再先转换为{@link JSONObject}：
+ * <ul>
+ *     <li>每个类的可读属性列表只计算一次并缓存，写出时不再经过Bean到Map的拷贝</li>
+ *     <li>属性值的包装规则与{@link JSONUtil#wrap(Object, JSONConfig)}一致，嵌套的Bean、集合、数组和Map同样直接写出，不构建{@link JSONObject}和{@link JSONArray}</li>
+ *     <li>支持{@link JSONConfig}中的日期格式、忽略null值、忽略错误、transient和键排序配置</li>
+ * </ul>
+ * 对于忽略大小写、自定义序列化器等无法保证与{@link JSONObject}输出一致的情况，{@link #isSupported(Object, JSONConfig)}返回{@code false}，
+ * 调用者应使用{@link JSONObject}方式写出。<br>
+ * 由于边读取边写出，读取属性失败时已写出的内容无法撤回：{@link JSONConfig#isIgnoreError()}为{@code true}时跳过此属性，否则抛出异常。
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+public class BeanWriter {
+
+	/**
+	 * 缓存，Bean类 -&gt; 写出器
+	 */
+	private static final WeakConcurrentMap<Class<?>, BeanWriter> CACHE = new WeakConcurrentMap<>();
+
+	/**
+	 * 检查对象是否可以直接写出，即对象为普通Bean且写出结果与{@link JSONObject}方式一致
+	 *
+	 * @param obj    对象
+	 * @param config JSON配置
+	 * @return 是否可以直接写出
+	 */
+	public static boolean isSupported(Object obj, JSONConfig config) {
+		// 忽略大小写时JSONObject的键被转为小写，交给JSONObject处理
+		return null != config && false == config.isIgnoreCase() && isBean(obj);
+	}
+
+	/**
+	 * 将Bean直接写出到Writer，调用前需使用{@link #isSupported(Object, JSONConfig)}检查
+	 *
+	 * @param bean         Bean对象
+	 * @param writer       Writer
+	 * @param indentFactor 缩进因子，定义每一级别增加的缩进量
+	 * @param indent       本级别缩进量
+	 * @param config       JSON配置
+	 * @return Writer
+	 * @throws JSONException JSON相关异常
+	 */
+	public static Writer write(Object bean, Writer writer, int indentFactor, int indent, JSONConfig config) throws JSONException {
+		of(bean.getClass()).writeBean(bean, writer, indentFactor, indent, config);
+		return writer;
+	}
+
+	/**
+	 * 获取Bean类对应的写出器
+	 *
+	 * @param beanClass Bean类
+	 * @return BeanWriter
+	 */
+	private static BeanWriter of(Class<?> beanClass) {
+		return CACHE.computeIfAbsent(beanClass, BeanWriter::new);
+	}
+
+	private final Prop[] props;
+
+	/**
+	 * 构造，读取可读属性
+	 *
+	 * @param beanClass Bean类
+	 */
+	private BeanWriter(Class<?> beanClass) {
+		final Map<String, PropDesc> propMap = BeanUtil.getBeanDesc(beanClass).getPropMap(false);
+		final List<Prop> props = new ArrayList<>(propMap.size());
+		propMap.forEach((name, desc) -> {
+			if (null != name && desc.isReadable(false)) {
+				props.add(new Prop(name, desc, false == desc.isReadable(true)));
+			}
+		});
+		this.props = props.toArray(new Prop[0]);
+	}
+
+	/**
+	 * 逐个读取Bean的属性值并写出，格式与{@link JSONObject#write(Writer, int, int)}一致
+	 *
+	 * @param bean         Bean对象
+	 * @param writer       Writer
+	 * @param indentFactor 缩进因子，定义每一级别增加的缩进量
+	 * @param indent       本级别缩进量
+	 * @param config       JSON配置
+	 */
+	private void writeBean(Object bean, Writer writer, int indentFactor, int indent, JSONConfig config) {
+		Prop[] props = this.props;
+		final Comparator<String> keyComparator = config.getKeyComparator();
+		if (null != keyComparator) {
+			props = props.clone();
+			Arrays.sort(props, (p1, p2) -> keyComparator.compare(p1.name, p2.name));
+		}
+
+		final boolean transientSupport = config.isTransientSupport();
+		final JSONWriter jsonWriter = JSONWriter.of(writer, indentFactor, indent, config).beginObj();
+		final MutablePair<Object, Object> pair = new MutablePair<>(null, null);
+		Object value;
+		for (Prop prop : props) {
+			if (transientSupport && prop.transientProp) {
+				continue;
+			}
+			try {
+				value = prop.desc.getValue(bean);
+			} catch (final Exception e) {
+				if (config.isIgnoreError()) {
+					// 忽略错误时跳过读取失败的属性
+					continue;
+				}
+				throw new JSONException(e, "Get value of [{}] error!", prop.name);
+			}
+			pair.setKey(prop.name);
+			pair.setValue(toWriteValue(testValidity(value), config));
+			jsonWriter.writeField(pair, null);
+		}
+		jsonWriter.end();
+	}
+
+	/**
+	 * 将属性值转换为写出的值，嵌套的Bean、集合、数组和Map包装为直接写出的{@link DirectValue}，
+	 * 其它值按照{@link JSONUtil#wrap(Object, JSONConfig)}规则包装
+	 *
+	 * @param value  属性值
+	 * @param config JSON配置
+	 * @return 写出的值
+	 */
+	private static Object toWriteValue(Object value, JSONConfig config) {
+		if (isBean(value)) {
+			return new BeanValue(value, config);
+		}
+		// JSON、SQLException（实现了Iterable）、byte[]（可能为JSON字节）以及自定义序列化的对象按照原有规则处理
+		if (null == value
+				|| value instanceof JSON
+				|| value instanceof SQLException
+				|| value instanceof byte[]
+				|| null != GlobalSerializeMapping.getSerializer(value.getClass())) {
+			return JSONUtil.wrap(value, config);
+		}
+		if (value instanceof Iterable || ArrayUtil.isArray(value)) {
+			return new ArrayValue(value, config);
+		}
+		if (value instanceof Map) {
+			return new MapValue((Map<?, ?>) value, config);
+		}
+		return JSONUtil.wrap(value, config);
+	}
+
+	/**
+	 * 检查值，JSON不允许非有限的数字
+	 *
+	 * @param value 值
+	 * @return 值
+	 * @throws JSONException 值为非有限的数字
+	 */
+	private static Object testValidity(Object value) throws JSONException {
+		if (false == ObjectUtil.isValidIfNumber(value)) {
+			throw new JSONException("JSON does not allow non-finite numbers.");
+		}
+		return value;
+	}
+
+	/**
+	 * 对象是否为按照{@link JSONObject}写出的普通Bean，规则与{@link JSONUtil#wrap(Object, JSONConfig)}和{@link JSONObject}构造一致
+	 *
+	 * @param obj 对象
+	 * @return 是否为普通Bean
+	 */
+	private static boolean isBean(Object obj) {
+		if (null == obj
+				|| obj instanceof JSON
+				|| obj instanceof JSONString
+				|| obj instanceof CharSequence
+				|| obj instanceof Number
+				|| obj instanceof SQLException
+				|| obj instanceof Iterable
+				|| obj instanceof Iterator
+				|| obj instanceof Map
+				|| obj instanceof Map.Entry
+				|| obj instanceof Date
+				|| obj instanceof Calendar
+				|| obj instanceof TemporalAccessor
+				|| obj instanceof Enum
+				|| obj instanceof Reader
+				|| obj instanceof InputStream
+				|| obj instanceof JSONTokener
+				|| obj instanceof ResourceBundle
+				|| ObjectUtil.isBasicType(obj)
+				|| ArrayUtil.isArray(obj)
+				|| ObjectUtil.isNull(obj)) {
+			return false;
+		}
+
+		final Class<?> clazz = obj.getClass();
+		return false == ClassUtil.isJdkClass(clazz)
+				&& null == GlobalSerializeMapping.getSerializer(clazz)
+				&& BeanUtil.isReadableBean(clazz);
+	}
+
+	/**
+	 * 可读属性
+	 */
+	private static class Prop {
+		private final String name;
+		private final PropDesc desc;
+		/**
+		 * 是否为transient属性，支持transient时跳过
+		 */
+		private final boolean transientProp;
+
+		Prop(String name, PropDesc desc, boolean transientProp) {
+			this.name = name;
+			this.desc = desc;
+			this.transientProp = transientProp;
+		}
+	}
+
+	/**
+	 * 写出时才读取的值，由{@link JSONWriter}调用写出
+	 */
+	abstract static class DirectValue {
+		/**
+		 * JSON配置
+		 */
+		protected final JSONConfig config;
+
+		DirectValue(JSONConfig config) {
+			this.config = config;
+		}
+
+		/**
+		 * 写出到Writer
+		 *
+		 * @param writer       Writer
+		 * @param indentFactor 缩进因子，定义每一级别增加的缩进量
+		 * @param indent       本级别缩进量
+		 */
+		abstract void write(Writer writer, int indentFactor, int indent);
+	}
+
+	/**
+	 * 嵌套的Bean，按照JSON对象写出
+	 */
+	private static class BeanValue extends DirectValue {
+		private final Object bean;
+
+		BeanValue(Object bean, JSONConfig config) {
+			super(config);
+			this.bean = bean;
+		}
+
+		@Override
+		void write(Writer writer, int indentFactor, int indent) {
+			of(bean.getClass()).writeBean(bean, writer, indentFactor, indent, config);
+		}
+	}
+
+	/**
+	 * 集合或数组，按照JSON数组写出，规则与{@link JSONArray#JSONArray(Object, JSONConfig)}一致
+	 */
+	private static class ArrayValue extends DirectValue {
+		private final Object source;
+
+		ArrayValue(Object source, JSONConfig config) {
+			super(config);
+			this.source = source;
+		}
+
+		@Override
+		void write(Writer writer, int indentFactor, int indent) {
+			final Iterator<?> iter = ArrayUtil.isArray(source) ? new ArrayIter<>(source) : ((Iterable<?>) source).iterator();
+			final JSONWriter jsonWriter = JSONWriter.of(writer, indentFactor, indent, config).beginArray();
+			final MutablePair<Object, Object> pair = new MutablePair<>(null, null);
+			Object next;
+			while (iter.hasNext()) {
+				next = iter.next();
+				// 检查循环引用
+				if (next != source) {
+					pair.setValue(toWriteValue(next, config));
+					jsonWriter.writeField(pair, null);
+				}
+			}
+			jsonWriter.end();
+		}
+	}
+
+	/**
+	 * Map，按照JSON对象写出，规则与{@link JSONObject#JSONObject(Object, JSONConfig)}一致
+	 */
+	private static class MapValue extends DirectValue {
+		private final Map<?, ?> map;
+
+		MapValue(Map<?, ?> map, JSONConfig config) {
+			super(config);
+			this.map = map;
+		}
+
+		@Override
+		void write(Writer writer, int indentFactor, int indent) {
+			final JSONWriter jsonWriter = JSONWriter.of(writer, indentFactor, indent, config).beginObj();
+			final MutablePair<Object, Object> pair = new MutablePair<>(null, null);
+			String key;
+			for (Map.Entry<?, ?> entry : entries()) {
+				key = Convert.toStr(entry.getKey());
+				if (null == key) {
+					continue;
+				}
+				pair.setKey(key);
+				pair.setValue(toWriteValue(testValidity(entry.getValue()), config));
+				jsonWriter.writeField(pair, null);
+			}
+			jsonWriter.end();
+		}
+
+		/**
+		 * 获取写出的键值对，有键排序规则时按照键排序
+		 *
+		 * @return 键值对
+		 */
+		@SuppressWarnings("unchecked")
+		private Iterable<Map.Entry<?, ?>> entries() {
+			final Iterable<Map.Entry<?, ?>> entries = (Iterable<Map.Entry<?, ?>>) (Iterable<?>) map.entrySet();
+			final Comparator<String> keyComparator = config.getKeyComparator();
+			if (null == keyComparator) {
+				return entries;
+			}
+			final List<Map.Entry<?, ?>> sorted = new ArrayList<>(map.size());
+			for (Map.Entry<?, ?> entry : entries) {
+				if (null != entry.getKey()) {
+					sorted.add(entry);
+				}
+			}
+			sorted.sort((e1, e2) -> keyComparator.compare(Convert.toStr(e1.getKey()), Convert.toStr(e2.getKey())));
+			return sorted;
+		}
+	}
+}
@@ -256,6 +256,8 @@ public class JSONWriter extends Writer {
 			}else if(value instanceof JSONArray){
 				((JSONArray) value).write(writer, indentFactor, indent, filter);
 			}
+		} else if (value instanceof BeanWriter.DirectValue) {
+			((BeanWriter.DirectValue) value).write(writer, indentFactor, indent);
 		} else if (value instanceof Map || value instanceof Map.Entry) {
 			new JSONObject(value).write(writer, indentFactor, indent);
 		} else if (value instanceof Iterable || value instanceof Iterator || ArrayUtil.isArray(value)) {
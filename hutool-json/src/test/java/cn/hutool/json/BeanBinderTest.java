@@ -0,0 +1,137 @@
+package cn.hutool.json;
+
+import cn.hutool.core.convert.Converter;
+import cn.hutool.core.convert.ConverterRegistry;
+import lombok.Data;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JSON直接绑定Bean测试，结果需与JSONObject方式一致
+ */
+public class BeanBinderTest {
+
+	private static final String JSON_STR = "{\"id\":1, \"user_name\":\"张三\", \"age\":\"18\", \"birthday\":\"2023-05-01 12:00:00\"," +
+			"\"unknown\":{\"a\":[1,2,{\"b\":null}]}, \"inner\":{\"name\":\"inner\", \"score\":1.5}," +
+			"\"list\":[{\"name\":\"a\"}, null, {\"name\":\"b\", \"score\":\"2\"}], \"ids\":[\"1\", 2]," +
+			"\"map\":{\"k\":{\"name\":\"c\"}}, \"set\":[{\"name\":\"d\"}], \"nullValue\":null, \"secret\":\"s\",}";
+
+	@Test
+	public void bindTest() {
+		final OuterBean bean = JSONUtil.toBean(JSON_STR, OuterBean.class);
+		Assert.assertEquals(JSONUtil.parseObj(JSON_STR).toBean(OuterBean.class), bean);
+
+		Assert.assertEquals("张三", bean.getUserName());
+		Assert.assertEquals(18, bean.getAge());
+		Assert.assertEquals("inner", bean.getInner().getName());
+		Assert.assertEquals(3, bean.getList().size());
+		Assert.assertNull(bean.getList().get(1));
+		Assert.assertEquals(2D, bean.getList().get(2).getScore(), 0);
+		Assert.assertEquals(InnerBean.class, bean.getMap().get("k").getClass());
+		Assert.assertEquals("d", bean.getSet().iterator().next().getName());
+		Assert.assertNull(bean.getSecret());
+	}
+
+	@Test
+	public void bindWithConfigTest() {
+		final String jsonStr = JSON_STR.replace("\"id\"", "\"ID\"");
+		final JSONConfig config = JSONConfig.create()
+				.setIgnoreCase(true)
+				.setIgnoreNullValue(false)
+				.setTransientSupport(false);
+		final OuterBean bean = JSONUtil.toBean(jsonStr, config, OuterBean.class);
+		Assert.assertEquals(JSONUtil.parseObj(jsonStr, config).toBean(OuterBean.class), bean);
+		Assert.assertEquals(Long.valueOf(1), bean.getId());
+		Assert.assertEquals("s", bean.getSecret());
+	}
+
+	@Test
+	public void bindGenericTest() {
+		final String jsonStr = "{\"data\":[{\"name\":\"a\"}], \"total\":1}";
+		final PageBean bean = JSONUtil.toBean(jsonStr, PageBean.class);
+		Assert.assertEquals(JSONUtil.parseObj(jsonStr).toBean(PageBean.class), bean);
+		Assert.assertEquals("a", bean.getData().get(0).getName());
+	}
+
+	@Test
+	public void bindErrorTest() {
+		final String jsonStr = "{\"id\":\"abc\", \"user_name\":\"张三\"}";
+		final OuterBean bean = JSONUtil.toBean(jsonStr, OuterBean.class, true);
+		Assert.assertNull(bean.getId());
+		Assert.assertEquals("张三", bean.getUserName());
+
+		try {
+			JSONUtil.toBean(jsonStr, OuterBean.class);
+			Assert.fail();
+		} catch (RuntimeException e) {
+			// 不忽略错误时抛出异常
+		}
+	}
+
+	@Test(expected = JSONException.class)
+	public void syntaxErrorTest() {
+		JSONUtil.toBean("{\"id\":1, \"inner\":{\"name\":\"a\"", OuterBean.class);
+	}
+
+	@Test
+	public void customConverterTest() {
+		// 字段类型注册了自定义转换器时，使用转换器而非直接绑定
+		ConverterRegistry.getInstance().putCustom(CustomBean.class,
+				(Converter<CustomBean>) (value, defaultValue) -> {
+					final CustomBean customBean = new CustomBean();
+					customBean.setName("custom:" + ((JSONObject) value).getStr("name"));
+					return customBean;
+				});
+		final String jsonStr = "{\"custom\":{\"name\":\"a\"}}";
+		final HolderBean bean = JSONUtil.toBean(jsonStr, HolderBean.class);
+		Assert.assertEquals("custom:a", bean.getCustom().getName());
+		Assert.assertEquals(JSONUtil.parseObj(jsonStr).toBean(HolderBean.class), bean);
+		Assert.assertEquals("custom:b", JSONUtil.toBean("{\"name\":\"b\"}", CustomBean.class).getName());
+	}
+
+	@Data
+	public static class OuterBean {
+		private Long id;
+		private String userName;
+		private int age;
+		private Date birthday;
+		private InnerBean inner;
+		private List<InnerBean> list;
+		private List<Long> ids;
+		private Map<String, InnerBean> map;
+		private Set<InnerBean> set;
+		private String nullValue = "default";
+		private transient String secret;
+	}
+
+	@Data
+	public static class HolderBean {
+		private CustomBean custom;
+	}
+
+	@Data
+	public static class CustomBean {
+		private String name;
+	}
+
+	@Data
+	public static class InnerBean {
+		private String name;
+		private double score;
+	}
+
+	@Data
+	public static class PageBean extends GenericBean<InnerBean> {
+		private int total;
+	}
+
+	@Data
+	public static class GenericBean<T> {
+		private List<T> data;
+	}
+}
@@ -0,0 +1,162 @@
+package cn.hutool.json;
+
+import cn.hutool.core.date.DateUtil;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.json.serialize.BeanWriter;
+import lombok.Data;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bean直接写出测试，结果需与JSONObject方式一致
+ */
+public class BeanWriterTest {
+
+	@Test
+	public void writeTest() {
+		final OuterBean bean = createBean();
+		final String jsonStr = JSONUtil.toJsonStr(bean);
+		Assert.assertEquals(new JSONObject(bean).toString(), jsonStr);
+		Assert.assertEquals("张三", JSONUtil.parseObj(jsonStr).getByPath("inner.name"));
+	}
+
+	@Test
+	public void writeWithConfigTest() {
+		final OuterBean bean = createBean();
+		bean.setName(null);
+
+		final JSONConfig config = JSONConfig.create()
+				.setDateFormat("yyyy-MM-dd HH:mm:ss")
+				.setIgnoreNullValue(false)
+				.setTransientSupport(false);
+		Assert.assertEquals(new JSONObject(bean, config).toString(), JSONUtil.toJsonStr(bean, config));
+
+		config.setIgnoreNullValue(true).setTransientSupport(true).setKeyComparator(Comparator.reverseOrder());
+		final String jsonStr = JSONUtil.toJsonStr(bean, config);
+		Assert.assertEquals(new JSONObject(bean, config).toString(), jsonStr);
+		final JSONObject jsonObject = JSONUtil.parseObj(jsonStr);
+		Assert.assertFalse(jsonObject.containsKey("name"));
+		Assert.assertFalse(jsonObject.containsKey("secret"));
+	}
+
+	@Test
+	public void writeToWriterTest() {
+		final OuterBean bean = createBean();
+		final StringWriter writer = new StringWriter();
+		JSONUtil.toJsonStr(bean, writer);
+		Assert.assertEquals(new JSONObject(bean).toString(), writer.toString());
+	}
+
+	@Test
+	public void writeNestedTest() {
+		final OuterBean bean = createBean();
+		final Map<Object, Object> map = new HashMap<>();
+		map.put("b", new int[]{1, 2});
+		map.put(3, Arrays.asList(bean.getInner(), null, Collections.singletonMap("c", 1.5D)));
+		map.put(null, "ignored");
+		map.put("a", null);
+		final List<Object> list = new ArrayList<>();
+		list.add(map);
+		list.add(new InnerBean[]{bean.getInner()});
+		list.add(Collections.singletonList(Collections.emptyList()));
+		bean.setNested(list);
+
+		JSONConfig config = JSONConfig.create().setIgnoreNullValue(false);
+		Assert.assertEquals(new JSONObject(bean, config).toString(), JSONUtil.toJsonStr(bean, config));
+		config = JSONConfig.create().setKeyComparator(Comparator.reverseOrder());
+		Assert.assertEquals(new JSONObject(bean, config).toString(), JSONUtil.toJsonStr(bean, config));
+		Assert.assertEquals(new JSONObject(bean).toStringPretty(), JSONUtil.toJsonPrettyStr(bean));
+	}
+
+	@Test
+	public void ignoreErrorTest() {
+		final ErrorBean bean = new ErrorBean();
+		bean.setName("hutool");
+		final JSONConfig config = JSONConfig.create().setIgnoreError(true);
+		Assert.assertEquals("{\"name\":\"hutool\"}", JSONUtil.toJsonStr(bean, config));
+
+		// 嵌套的Bean同样跳过读取失败的属性
+		final OuterBean outer = new OuterBean();
+		outer.setNested(Collections.singletonList(bean));
+		Assert.assertEquals("{\"state\":\"NEW\",\"score\":0,\"nested\":[{\"name\":\"hutool\"}]}",
+				JSONUtil.toJsonStr(outer, config.setKeyComparator(Comparator.reverseOrder())));
+
+		Assert.assertThrows(JSONException.class, () -> JSONUtil.toJsonStr(bean, JSONConfig.create()));
+	}
+
+	@Test
+	public void isSupportedTest() {
+		final JSONConfig config = JSONConfig.create();
+		Assert.assertTrue(BeanWriter.isSupported(createBean(), config));
+		Assert.assertFalse(BeanWriter.isSupported(new HashMap<>(), config));
+		Assert.assertFalse(BeanWriter.isSupported(new ArrayList<>(), config));
+		Assert.assertFalse(BeanWriter.isSupported(CharsetUtil.CHARSET_UTF_8, config));
+		Assert.assertFalse(BeanWriter.isSupported(createBean(), config.setIgnoreCase(true)));
+	}
+
+	private static OuterBean createBean() {
+		final InnerBean inner = new InnerBean();
+		inner.setName("张三");
+		inner.setAge(18);
+
+		final OuterBean bean = new OuterBean();
+		bean.setId(1L);
+		bean.setName("outer\"name");
+		bean.setScore(1.50D);
+		bean.setDate(DateUtil.parse("2023-05-01 12:00:00"));
+		bean.setLocalDateTime(LocalDateTime.of(2023, 5, 1, 12, 0));
+		bean.setInner(inner);
+		final List<InnerBean> list = new ArrayList<>();
+		list.add(inner);
+		list.add(null);
+		bean.setList(list);
+		final Map<String, Object> map = new HashMap<>();
+		map.put("key", inner);
+		bean.setMap(map);
+		bean.setSecret("secret");
+		return bean;
+	}
+
+	@Data
+	public static class OuterBean {
+		private Long id;
+		private String name;
+		private double score;
+		private Date date;
+		private LocalDateTime localDateTime;
+		private InnerBean inner;
+		private InnerBean nullInner;
+		private List<InnerBean> list;
+		private Map<String, Object> map;
+		private transient String secret;
+		private Thread.State state = Thread.State.NEW;
+		private List<Object> nested;
+	}
+
+	@Data
+	public static class ErrorBean {
+		private String name;
+		private String error;
+
+		public String getError() {
+			throw new IllegalStateException("error");
+		}
+	}
+
+	@Data
+	public static class InnerBean {
+		private String name;
+		private int age;
+	}
+}
@@ -0,0 +1,90 @@
+package cn.hutool.json;
+
+import cn.hutool.core.collection.ListUtil;
+import lombok.Data;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * JSONReader流式读取测试
+ */
+public class JSONReaderTest {
+
+	@Test
+	public void readObjectTest() {
+		final String json = "{\"name\":\"hutool\",\"age\":18,\"tags\":[\"a\",\"b\"],\"info\":{\"x\":1},\"empty\":null}";
+		final JSONReader reader = JSONReader.of(new StringReader(json));
+		reader.beginObject();
+		Assert.assertEquals("name", reader.nextName());
+		Assert.assertEquals("hutool", reader.nextValue());
+		Assert.assertEquals("age", reader.nextName());
+		Assert.assertEquals(18, reader.nextValue());
+
+		Assert.assertEquals("tags", reader.nextName());
+		reader.beginArray();
+		Assert.assertEquals("a", reader.nextValue());
+		Assert.assertTrue(reader.hasNext());
+		Assert.assertEquals("b", reader.nextValue());
+		Assert.assertFalse(reader.hasNext());
+		reader.endArray();
+
+		Assert.assertEquals("info", reader.nextName());
+		Assert.assertEquals(JSONReader.Token.BEGIN_OBJECT, reader.peek());
+		final Object info = reader.nextValue();
+		Assert.assertTrue(info instanceof JSONObject);
+		Assert.assertEquals(1, ((JSONObject) info).getInt("x").intValue());
+
+		Assert.assertEquals("empty", reader.nextName());
+		Assert.assertEquals(JSONNull.NULL, reader.nextValue());
+		Assert.assertFalse(reader.hasNext());
+		reader.endObject();
+		Assert.assertEquals(JSONReader.Token.END_DOCUMENT, reader.peek());
+	}
+
+	@Test
+	public void skipValueTest() {
+		final String json = "{'skip':{'a':[1,2,{'b':3}]},'keep':'v',}";
+		final JSONReader reader = JSONReader.of(new StringReader(json));
+		reader.beginObject();
+		Assert.assertEquals("skip", reader.nextName());
+		reader.skipValue();
+		Assert.assertEquals("keep", reader.nextName());
+		Assert.assertEquals("v", reader.nextValue());
+		reader.endObject();
+	}
+
+	@Test(expected = JSONException.class)
+	public void syntaxErrorTest() {
+		final JSONReader reader = JSONReader.of(new StringReader("[1 2]"));
+		reader.beginArray();
+		reader.nextValue();
+		reader.nextValue();
+	}
+
+	@Test
+	public void readArrayElementsTest() {
+		final String json = "[{\"name\":\"a\",\"age\":1},{\"name\":\"b\",\"age\":2},]";
+		final Iterator<User> iter = JSONUtil.readArrayElements(new StringReader(json), User.class);
+		final List<User> users = ListUtil.toList(iter);
+		Assert.assertEquals(2, users.size());
+		Assert.assertEquals("b", users.get(1).getName());
+		Assert.assertEquals(2, users.get(1).getAge());
+		Assert.assertFalse(iter.hasNext());
+	}
+
+	@Test
+	public void readEmptyArrayTest() {
+		final Iterator<Integer> iter = JSONUtil.readArrayElements(new StringReader(" [ ] "), Integer.class);
+		Assert.assertFalse(iter.hasNext());
+	}
+
+	@Data
+	public static class User {
+		private String name;
+		private int age;
+	}
+}
@@ -0,0 +1,85 @@
+package cn.hutool.json;
+
+import cn.hutool.core.util.StrUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JSONTokener字符数组和Reader两种读取方式测试
+ */
+public class JSONTokenerTest {
+
+	@Test
+	public void nextStringTest() {
+		final String json = "\"plain\" \"esc\\\"aped\\\\ \\u4e2d\\n end\" 'single'";
+		final JSONTokener tokener = new JSONTokener(json, JSONConfig.create());
+		Assert.assertEquals("plain", tokener.nextValue());
+		Assert.assertEquals("esc\"aped\\ 中\n end", tokener.nextValue());
+		Assert.assertEquals("single", tokener.nextValue());
+		Assert.assertFalse(tokener.more());
+
+		final JSONTokener readerTokener = new JSONTokener(new StringReader(json), JSONConfig.create());
+		Assert.assertEquals("plain", readerTokener.nextValue());
+		Assert.assertEquals("esc\"aped\\ 中\n end", readerTokener.nextValue());
+	}
+
+	@Test
+	public void utf8BytesTest() {
+		final byte[] bytes = "{\"name\":\"中文\",\"arr\":[1,2]}".getBytes(StandardCharsets.UTF_8);
+		final JSONObject json = JSONUtil.parseObj(bytes);
+		Assert.assertEquals("中文", json.getStr("name"));
+		Assert.assertEquals(2, json.getJSONArray("arr").size());
+	}
+
+	@Test
+	public void utf8BytesLengthTest() {
+		// 多字节字符解码后字符数少于字节数，只读取实际解码的字符
+		final byte[] bytes = "[\"中文😀\"] ".getBytes(StandardCharsets.UTF_8);
+		final JSONTokener tokener = new JSONTokener(bytes, JSONConfig.create());
+		Assert.assertEquals('[', tokener.nextClean());
+		Assert.assertEquals("中文😀", tokener.nextValue());
+		Assert.assertEquals(']', tokener.nextClean());
+		Assert.assertEquals(0, tokener.nextClean());
+		Assert.assertTrue(tokener.end());
+	}
+
+	@Test
+	public void charSequenceTest() {
+		final StringBuilder builder = new StringBuilder("{\"a\":\"b\"}");
+		final JSONTokener tokener = new JSONTokener(builder, JSONConfig.create());
+		final JSONObject json = new JSONObject();
+		JSONParser.of(tokener).parseTo(json, null);
+		Assert.assertEquals("b", json.getStr("a"));
+	}
+
+	@Test
+	public void positionTest() {
+		final String json = "{\"a\":1,\n\"b\":\"unterminated\n}";
+		final String message = errorMessage(new JSONTokener(json, JSONConfig.create()));
+		final String readerMessage = errorMessage(new JSONTokener(new StringReader(json), JSONConfig.create()));
+		Assert.assertEquals(readerMessage, message);
+		Assert.assertTrue(StrUtil.contains(message, "line 3"));
+	}
+
+	@Test
+	public void skipToTest() {
+		final JSONTokener tokener = new JSONTokener("abc:def", JSONConfig.create());
+		Assert.assertEquals(0, tokener.skipTo('x'));
+		Assert.assertEquals('a', tokener.next());
+		Assert.assertEquals(':', tokener.skipTo(':'));
+		Assert.assertEquals(':', tokener.next());
+	}
+
+	private static String errorMessage(JSONTokener tokener) {
+		try {
+			JSONParser.of(tokener).parseTo(new JSONObject(), null);
+		} catch (JSONException e) {
+			return e.getMessage();
+		}
+		Assert.fail();
+		return null;
+	}
+}